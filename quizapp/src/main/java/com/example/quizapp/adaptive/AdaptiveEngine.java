@@ -0,0 +1,107 @@
+package com.example.quizapp.adaptive;
+
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import com.example.quizapp.versioning.VersionCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adaptive play: each question of an attempt is the unserved one whose measured
+ * difficulty is nearest the difficulty the player answers correctly with probability
+ * app.adaptive.target-success (0.5 by default, where an answer tells the most about the
+ * player), and every answer updates both the player's ability and the question's
+ * difficulty (see {@link Rasch}).
+ *
+ * A {@link DifficultyIndex} is built on the first adaptive attempt of a quiz version, from
+ * the stored question statistics overlaid with the newest in-memory index of the quiz, so
+ * answers not yet flushed carry over to a new version. As for scoring plans, the two
+ * newest versions of each quiz are kept; an answer moves the question only in the index
+ * of the version it was played on. Indexes of older versions are not kept, so answers on
+ * them only reach the next index through the store.
+ */
+@Component
+public class AdaptiveEngine {
+
+    public static final double INITIAL_ABILITY = 0;
+
+    private static final int VERSIONS_KEPT = 2;
+
+    private final QuestionStatStore store;
+    private final QuestionStatBuffer buffer;
+    private final double targetSuccess;
+    private final VersionCache<DifficultyIndex> indexes = new VersionCache<>(VERSIONS_KEPT);
+
+    public AdaptiveEngine(QuestionStatStore store,
+                          QuestionStatBuffer buffer,
+                          @Value("${app.adaptive.target-success:0.5}") double targetSuccess) {
+        this.store = store;
+        this.buffer = buffer;
+        this.targetSuccess = targetSuccess;
+    }
+
+    /**
+     * @param served the questions the attempt has been served so far
+     * @return the next question for a player of the ability, null when every question was served
+     */
+    public QuestionSnapshot next(QuizVersion version, double ability, List<Long> served) {
+        DifficultyIndex index = indexFor(version);
+        BitSet excluded = new BitSet(index.size());
+        for (Long questionId : served) {
+            int position = index.positionOf(questionId);
+            if (position >= 0) {
+                excluded.set(position);
+            }
+        }
+        int position = index.nearest(Rasch.difficultyFor(ability, targetSuccess), excluded);
+        return position >= 0 ? version.questions().get(position) : null;
+    }
+
+    /**
+     * Records an answer: moves the question in the version's index, queues the change for
+     * the store and estimates the player's new ability.
+     *
+     * @param answered questions the player has answered before this one
+     * @param outcome  share of the question's points earned, 0 to 1
+     * @return the player's new ability; unchanged when the version does not contain the question
+     */
+    public double record(QuizVersion version, long questionId, double ability, int answered, double outcome) {
+        DifficultyIndex index = indexFor(version);
+        int position = index.positionOf(questionId);
+        if (position < 0) {
+            return ability;
+        }
+        DifficultyIndex.Observation observation = index.observe(position, ability, outcome);
+        buffer.record(questionId, observation.difficultyChange(),
+                Rasch.prior(version.questions().get(position).difficulty()));
+        return ability + Rasch.abilityRate(answered) * (outcome - observation.expected());
+    }
+
+    /**
+     * @return questions in an adaptive attempt: the pool size, or every question of the version
+     */
+    public int length(QuizVersion version) {
+        return version.isPooled() ? version.poolSize() : version.questions().size();
+    }
+
+    public DifficultyIndex indexFor(QuizVersion version) {
+        return indexes.get(version, v -> {
+            Map<Long, QuestionStat> stats = new HashMap<>(store.load(v.quizId()));
+            indexes.newest(v.quizId()).ifPresent(newest -> stats.putAll(newest.stats()));
+            return DifficultyIndex.of(v, stats);
+        });
+    }
+
+    public int size() {
+        return indexes.size();
+    }
+
+    public void clear() {
+        indexes.clear();
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.quizapp.adaptive;
+
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Questions of a quiz version ordered by measured difficulty, for choosing the next
+ * question of an adaptive attempt. Questions are addressed by their position in the
+ * version; the positions are kept sorted by difficulty in one array, with its inverse,
+ * so that the question nearest a target difficulty is a binary search away and a
+ * recorded answer moves one question a few slots instead of re-sorting.
+ *
+ * Lookups and answers take the index's lock for O(log n) plus the slots moved or
+ * skipped; answers by the players of one quiz are serialized on it.
+ */
+public class DifficultyIndex {
+
+    private final long[] questionIds;
+    private final double[] difficulty;
+    private final long[] answered;
+    // Positions by ascending difficulty, and each position's slot in it
+    private final int[] byDifficulty;
+    private final int[] slots;
+    private final Map<Long, Integer> positions;
+
+    private DifficultyIndex(long[] questionIds, double[] difficulty, long[] answered) {
+        int size = questionIds.length;
+        this.questionIds = questionIds;
+        this.difficulty = difficulty;
+        this.answered = answered;
+        this.byDifficulty = IntStream.range(0, size).boxed()
+                .sorted((a, b) -> Double.compare(difficulty[a], difficulty[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.slots = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            slots[byDifficulty[slot]] = slot;
+        }
+        this.positions = new HashMap<>(size * 2);
+        for (int position = 0; position < size; position++) {
+            positions.put(questionIds[position], position);
+        }
+    }
+
+    /**
+     * @param stats measured difficulty by question id; questions without one start at their
+     *              authored difficulty
+     */
+    public static DifficultyIndex of(QuizVersion version, Map<Long, QuestionStat> stats) {
+        List<QuestionSnapshot> questions = version.questions();
+        long[] questionIds = new long[questions.size()];
+        double[] difficulty = new double[questions.size()];
+        long[] answered = new long[questions.size()];
+        for (int position = 0; position < questions.size(); position++) {
+            QuestionSnapshot question = questions.get(position);
+            QuestionStat stat = stats.get(question.id());
+            questionIds[position] = question.id();
+            difficulty[position] = stat != null ? stat.difficulty() : Rasch.prior(question.difficulty());
+            answered[position] = stat != null ? stat.answered() : 0;
+        }
+        return new DifficultyIndex(questionIds, difficulty, answered);
+    }
+
+    /**
+     * @param excluded positions not to return, e.g. the questions already served
+     * @return position of the question whose difficulty is nearest the target, -1 when every
+     * question is excluded
+     */
+    public synchronized int nearest(double target, BitSet excluded) {
+        int above = firstSlotAtOrAbove(target);
+        int below = above - 1;
+        while (below >= 0 && excluded.get(byDifficulty[below])) {
+            below--;
+        }
+        while (above < byDifficulty.length && excluded.get(byDifficulty[above])) {
+            above++;
+        }
+        if (below < 0 && above >= byDifficulty.length) {
+            return -1;
+        }
+        if (above >= byDifficulty.length
+                || (below >= 0 && target - difficulty[byDifficulty[below]] <= difficulty[byDifficulty[above]] - target)) {
+            return byDifficulty[below];
+        }
+        return byDifficulty[above];
+    }
+
+    /**
+     * Records an answer to the question at the position by a player of the given ability:
+     * the question's difficulty moves against the outcome and the question is re-slotted.
+     *
+     * @param outcome 1 for a correct answer, 0 for a wrong one, or the share of points earned
+     */
+    public synchronized Observation observe(int position, double ability, double outcome) {
+        double expected = Rasch.expected(ability, difficulty[position]);
+        double change = -Rasch.difficultyRate(answered[position]) * (outcome - expected);
+        answered[position]++;
+        move(position, difficulty[position] + change);
+        return new Observation(expected, change);
+    }
+
+    /**
+     * @return the current difficulty of every question, for seeding the index of a newer version
+     */
+    public synchronized Map<Long, QuestionStat> stats() {
+        Map<Long, QuestionStat> stats = new HashMap<>(questionIds.length * 2);
+        for (int position = 0; position < questionIds.length; position++) {
+            stats.put(questionIds[position], new QuestionStat(questionIds[position], answered[position],
+                    difficulty[position]));
+        }
+        return stats;
+    }
+
+    public synchronized double difficulty(int position) {
+        return difficulty[position];
+    }
+
+    public synchronized long answered(int position) {
+        return answered[position];
+    }
+
+    /**
+     * @return the position of the question, -1 when the version does not contain it
+     */
+    public int positionOf(long questionId) {
+        return positions.getOrDefault(questionId, -1);
+    }
+
+    public long questionId(int position) {
+        return questionIds[position];
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    // Insertion step: shift the neighbours the new value passes over by one slot
+    private void move(int position, double value) {
+        int slot = slots[position];
+        while (slot > 0 && difficulty[byDifficulty[slot - 1]] > value) {
+            byDifficulty[slot] = byDifficulty[slot - 1];
+            slots[byDifficulty[slot]] = slot;
+            slot--;
+        }
+        while (slot < byDifficulty.length - 1 && difficulty[byDifficulty[slot + 1]] < value) {
+            byDifficulty[slot] = byDifficulty[slot + 1];
+            slots[byDifficulty[slot]] = slot;
+            slot++;
+        }
+        byDifficulty[slot] = position;
+        slots[position] = slot;
+        difficulty[position] = value;
+    }
+
+    private int firstSlotAtOrAbove(double target) {
+        int low = 0;
+        int high = byDifficulty.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (difficulty[byDifficulty[mid]] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param expected probability of a correct answer the model gave before the answer
+     * @param difficultyChange how far the question's difficulty moved
+     */
+    public record Observation(double expected, double difficultyChange) {
+    }
+}
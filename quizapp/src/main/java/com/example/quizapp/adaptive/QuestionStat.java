@@ -0,0 +1,7 @@
+package com.example.quizapp.adaptive;
+
+/**
+ * Measured difficulty of a question and the number of answers it is based on.
+ */
+public record QuestionStat(long questionId, long answered, double difficulty) {
+}
@@ -0,0 +1,115 @@
+package com.example.quizapp.adaptive;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums the difficulty changes of answered questions in memory and adds them to
+ * {@link QuestionStatStore} in batches, one row per question however many answers it got
+ * within a flush interval. Changes not yet flushed are lost if the node dies; the
+ * in-memory index keeps them until it is rebuilt.
+ */
+@Component
+public class QuestionStatBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(QuestionStatBuffer.class);
+
+    private final QuestionStatStore store;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    private final Map<Long, QuestionStatChange> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    public QuestionStatBuffer(QuestionStatStore store,
+                              @Value("${app.adaptive.stats.flush-interval:5s}") Duration flushInterval,
+                              @Value("${app.adaptive.stats.batch-size:500}") int batchSize) {
+        this.store = store;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "question-stat-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        flushSafely();
+    }
+
+    /**
+     * @param prior difficulty the question started from when it has no stored row
+     */
+    public void record(long questionId, double difficultyChange, double prior) {
+        pending.merge(questionId, new QuestionStatChange(questionId, 1, difficultyChange, prior),
+                QuestionStatBuffer::sum);
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Adds everything pending to the store. Answers arriving during the flush stay pending
+     * for the next one; on failure the drained changes are put back.
+     *
+     * @return number of questions written
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<QuestionStatChange> changes = new ArrayList<>(pending.size());
+        for (Long questionId : pending.keySet()) {
+            QuestionStatChange change = pending.remove(questionId);
+            if (change != null) {
+                changes.add(change);
+            }
+        }
+        try {
+            store.add(changes, batchSize);
+        } catch (RuntimeException e) {
+            for (QuestionStatChange change : changes) {
+                pending.merge(change.questionId(), change, QuestionStatBuffer::sum);
+            }
+            throw e;
+        }
+        return changes.size();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Question stat flush failed, {} questions pending", pending.size(), e);
+        }
+    }
+
+    private static QuestionStatChange sum(QuestionStatChange a, QuestionStatChange b) {
+        return new QuestionStatChange(a.questionId(), a.answered() + b.answered(),
+                a.difficultyChange() + b.difficultyChange(), a.prior());
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.quizapp.adaptive;
+
+/**
+ * Answers recorded for a question since the last flush and how far they moved its
+ * difficulty; prior is where a question with no stored row starts.
+ */
+public record QuestionStatChange(long questionId, long answered, double difficultyChange, double prior) {
+}
@@ -0,0 +1,76 @@
+package com.example.quizapp.adaptive;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL for {@code question_stat}. Changes are added to the stored values rather than
+ * overwriting them, so nodes recording answers to the same question do not lose each
+ * other's updates; a question's row is created by its first change.
+ */
+@Component
+public class QuestionStatStore {
+
+    private static final String SELECT_SQL =
+            "SELECT question_id, answered, difficulty FROM question_stat WHERE quiz_id = ?";
+    private static final String ADD_SQL = """
+            UPDATE question_stat SET answered = answered + ?, difficulty = difficulty + ?
+            WHERE question_id = ?""";
+    // Skips questions deleted since the answer was recorded
+    private static final String INSERT_SQL = """
+            INSERT INTO question_stat (question_id, quiz_id, answered, difficulty)
+            SELECT id, quiz_id, ?, ? FROM question WHERE id = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QuestionStatStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return measured difficulty by question id, for the questions of the quiz that have one
+     */
+    public Map<Long, QuestionStat> load(long quizId) {
+        Map<Long, QuestionStat> stats = new HashMap<>();
+        jdbcTemplate.query(SELECT_SQL,
+                rs -> {
+                    stats.put(rs.getLong(1), new QuestionStat(rs.getLong(1), rs.getLong(2), rs.getDouble(3)));
+                },
+                quizId);
+        return stats;
+    }
+
+    /**
+     * Adds the changes in JDBC batches. A question without a row gets one starting from
+     * its prior difficulty plus the change.
+     */
+    @Transactional
+    public void add(List<QuestionStatChange> changes, int batchSize) {
+        List<QuestionStatChange> missing = new ArrayList<>();
+        int[][] updated = jdbcTemplate.batchUpdate(ADD_SQL, changes, batchSize, (ps, change) -> {
+            ps.setLong(1, change.answered());
+            ps.setDouble(2, change.difficultyChange());
+            ps.setLong(3, change.questionId());
+        });
+        int i = 0;
+        for (int[] batch : updated) {
+            for (int rows : batch) {
+                if (rows == 0) {
+                    missing.add(changes.get(i));
+                }
+                i++;
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, missing, batchSize, (ps, change) -> {
+            ps.setLong(1, change.answered());
+            ps.setDouble(2, change.prior() + change.difficultyChange());
+            ps.setLong(3, change.questionId());
+        });
+    }
+}
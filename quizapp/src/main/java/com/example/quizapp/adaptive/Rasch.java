@@ -0,0 +1,64 @@
+package com.example.quizapp.adaptive;
+
+import com.example.quizapp.entity.QuestionDifficulty;
+
+/**
+ * The Rasch (one-parameter item response) model: a player of ability θ answers a question
+ * of difficulty b correctly with probability 1 / (1 + e^-(θ - b)), both on the logit scale.
+ * Estimates are updated Elo-style after each answer by rate × (outcome - expected), with a
+ * rate that shrinks as the estimate gathers answers.
+ */
+public final class Rasch {
+
+    // Player ability moves fast at first and settles within a short session
+    private static final double ABILITY_RATE = 1.0;
+    private static final double ABILITY_RATE_DECAY = 0.2;
+    // Question difficulty is shared by every player and settles over many answers
+    private static final double DIFFICULTY_RATE = 1.0;
+    private static final double DIFFICULTY_RATE_DECAY = 0.05;
+
+    private Rasch() {
+    }
+
+    /**
+     * @return probability that a player of the ability answers a question of the difficulty correctly
+     */
+    public static double expected(double ability, double difficulty) {
+        return 1 / (1 + Math.exp(difficulty - ability));
+    }
+
+    /**
+     * @return the difficulty a player of the ability answers correctly with the target probability
+     */
+    public static double difficultyFor(double ability, double targetSuccess) {
+        return ability - Math.log(targetSuccess / (1 - targetSuccess));
+    }
+
+    /**
+     * @param answered questions the player has answered before this one
+     */
+    public static double abilityRate(int answered) {
+        return ABILITY_RATE / (1 + ABILITY_RATE_DECAY * answered);
+    }
+
+    /**
+     * @param answered answers recorded for the question before this one
+     */
+    public static double difficultyRate(long answered) {
+        return DIFFICULTY_RATE / (1 + DIFFICULTY_RATE_DECAY * answered);
+    }
+
+    /**
+     * @return starting difficulty of a question nobody has answered yet, from its authored difficulty
+     */
+    public static double prior(QuestionDifficulty difficulty) {
+        if (difficulty == null) {
+            return 0;
+        }
+        return switch (difficulty) {
+            case EASY -> -1;
+            case MEDIUM -> 0;
+            case HARD -> 1;
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.quizapp.attempt;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Writes expired attempts to {@code abandoned_attempt} for analytics, one JDBC batch per call,
+ * and ends their persisted attempts.
+ */
+@Component
+public class AbandonedAttemptRecorder {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO abandoned_attempt (attempt_id, quiz_id, nickname, started_at, deadline_at, expired_at)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AnswerEventStore answerEventStore;
+
+    public AbandonedAttemptRecorder(JdbcTemplate jdbcTemplate, AnswerEventStore answerEventStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.answerEventStore = answerEventStore;
+    }
+
+    public void record(List<OpenAttempt> attempts, long expiredAt) {
+        Timestamp expired = new Timestamp(expiredAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, attempts, attempts.size(), (ps, attempt) -> {
+            ps.setString(1, attempt.id());
+            ps.setLong(2, attempt.quizId());
+            ps.setString(3, attempt.nickname());
+            ps.setTimestamp(4, new Timestamp(attempt.startedAt()));
+            ps.setTimestamp(5, attempt.isTimed() ? new Timestamp(attempt.deadlineMillis()) : null);
+            ps.setTimestamp(6, expired);
+        });
+        answerEventStore.abandon(attempts.stream().map(OpenAttempt::id).toList());
+    }
+}
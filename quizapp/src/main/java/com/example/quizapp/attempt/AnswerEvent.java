@@ -0,0 +1,8 @@
+package com.example.quizapp.attempt;
+
+/**
+ * One saved answer of an in-progress attempt, in the form encoding of the play page
+ * ("id", "id,id,..." or text).
+ */
+public record AnswerEvent(String attemptId, long questionId, String value) {
+}
@@ -0,0 +1,159 @@
+package com.example.quizapp.attempt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces answer saves in memory and writes them to {@link AnswerEventStore} in batches.
+ * Only the latest value per (attempt, question) since the last flush is written, so a
+ * player changing an answer several times within one flush interval costs one row.
+ * Saves not yet flushed are lost if the node dies. Submit and resume flush only the saves of
+ * their own attempt first, so they neither write other players' saves nor queue behind each other.
+ */
+@Component
+public class AnswerEventBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(AnswerEventBuffer.class);
+
+    private final AnswerEventStore store;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    private final Map<Key, String> pending = new ConcurrentHashMap<>();
+    // Attempts with saves drained by the flush in progress and not yet written
+    private final Set<String> flushing = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService flusher;
+
+    public AnswerEventBuffer(AnswerEventStore store,
+                             @Value("${app.attempts.answers.flush-interval:500ms}") Duration flushInterval,
+                             @Value("${app.attempts.answers.batch-size:500}") int batchSize) {
+        this.store = store;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "answer-event-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        flushSafely();
+    }
+
+    public void record(String attemptId, long questionId, String value) {
+        pending.put(new Key(attemptId, questionId), value != null ? value : "");
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Writes everything pending. Saves arriving during the flush stay pending for the next one;
+     * on failure the drained saves are put back unless a newer one arrived meanwhile.
+     *
+     * @return number of events written
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<AnswerEvent> events = new ArrayList<>(pending.size());
+        try {
+            for (Map.Entry<Key, String> entry : pending.entrySet()) {
+                Key key = entry.getKey();
+                // Marked before the save leaves pending, so flush(attemptId) knows to wait for it
+                flushing.add(key.attemptId());
+                if (pending.remove(key, entry.getValue())) {
+                    events.add(new AnswerEvent(key.attemptId(), key.questionId(), entry.getValue()));
+                }
+            }
+            append(events);
+        } finally {
+            flushing.clear();
+        }
+        return events.size();
+    }
+
+    /**
+     * Writes the pending saves of one attempt, e.g. before its answers are read back. Waits for
+     * a flush in progress only when that flush holds saves of the same attempt, which are older
+     * and must be written first.
+     *
+     * @return number of events written
+     */
+    public int flush(String attemptId) {
+        Map<Long, String> drained = drain(attemptId);
+        if (flushing.contains(attemptId)) {
+            synchronized (this) {
+                // Saves put back by a failed flush are older than the ones drained above
+                drain(attemptId).forEach(drained::putIfAbsent);
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+        List<AnswerEvent> events = new ArrayList<>(drained.size());
+        drained.forEach((questionId, value) -> events.add(new AnswerEvent(attemptId, questionId, value)));
+        append(events);
+        return events.size();
+    }
+
+    private Map<Long, String> drain(String attemptId) {
+        Map<Long, String> drained = new HashMap<>();
+        for (Map.Entry<Key, String> entry : pending.entrySet()) {
+            Key key = entry.getKey();
+            if (key.attemptId().equals(attemptId) && pending.remove(key, entry.getValue())) {
+                drained.put(key.questionId(), entry.getValue());
+            }
+        }
+        return drained;
+    }
+
+    private void append(List<AnswerEvent> events) {
+        try {
+            store.append(events, batchSize);
+        } catch (RuntimeException e) {
+            for (AnswerEvent event : events) {
+                pending.putIfAbsent(new Key(event.attemptId(), event.questionId()), event.value());
+            }
+            throw e;
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Answer event flush failed, {} saves pending", pending.size(), e);
+        }
+    }
+
+    private record Key(String attemptId, long questionId) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.quizapp.attempt;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL for attempt answers: saves are appended to {@code attempt_answer_event} in JDBC
+ * batches and never updated in place; submitting an attempt compacts its events into
+ * one {@code attempt_answer} row per question.
+ */
+@Component
+public class AnswerEventStore {
+
+    static final int MAX_VALUE_LENGTH = 4000;
+
+    private static final String INSERT_EVENT_SQL = """
+            INSERT INTO attempt_answer_event (attempt_id, question_id, answer_value, recorded_at)
+            VALUES (?, ?, ?, ?)""";
+    private static final String SELECT_EVENTS_SQL =
+            "SELECT question_id, answer_value FROM attempt_answer_event WHERE attempt_id = ? ORDER BY id";
+    private static final String DELETE_EVENTS_SQL = "DELETE FROM attempt_answer_event WHERE attempt_id = ?";
+    private static final String INSERT_ANSWER_SQL =
+            "INSERT INTO attempt_answer (attempt_id, question_id, answer_value) VALUES (?, ?, ?)";
+    private static final String SUBMIT_SQL =
+            "UPDATE quiz_attempt SET status = 'SUBMITTED', submitted_at = ? WHERE id = ? AND status = 'IN_PROGRESS'";
+    private static final String ABANDON_SQL =
+            "UPDATE quiz_attempt SET status = 'ABANDONED' WHERE id = ? AND status = 'IN_PROGRESS'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnswerEventStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void append(List<AnswerEvent> events, int batchSize) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, events, batchSize, (ps, event) -> {
+            ps.setString(1, event.attemptId());
+            ps.setLong(2, event.questionId());
+            ps.setString(3, truncate(event.value()));
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    /**
+     * Replays the attempt's events.
+     *
+     * @return the latest value per question
+     */
+    public Map<Long, String> latest(String attemptId) {
+        Map<Long, String> answers = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_EVENTS_SQL,
+                rs -> {
+                    answers.put(rs.getLong(1), rs.getString(2));
+                },
+                attemptId);
+        return answers;
+    }
+
+    /**
+     * Marks the attempt submitted, stores its final answers and drops its events.
+     *
+     * @return false when the attempt was no longer in progress; nothing is written then
+     */
+    @Transactional
+    public boolean compact(String attemptId, Map<Long, String> answers, LocalDateTime submittedAt) {
+        if (jdbcTemplate.update(SUBMIT_SQL, Timestamp.valueOf(submittedAt), attemptId) == 0) {
+            return false;
+        }
+        List<Map.Entry<Long, String>> rows = new ArrayList<>(answers.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_ANSWER_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, attemptId);
+            ps.setLong(2, row.getKey());
+            ps.setString(3, truncate(row.getValue()));
+        });
+        jdbcTemplate.update(DELETE_EVENTS_SQL, attemptId);
+        return true;
+    }
+
+    /**
+     * Marks in-progress attempts abandoned and drops their events, one batch per statement.
+     */
+    @Transactional
+    public void abandon(List<String> attemptIds) {
+        jdbcTemplate.batchUpdate(ABANDON_SQL, attemptIds, attemptIds.size(), (ps, id) -> ps.setString(1, id));
+        jdbcTemplate.batchUpdate(DELETE_EVENTS_SQL, attemptIds, attemptIds.size(), (ps, id) -> ps.setString(1, id));
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_VALUE_LENGTH ? value.substring(0, MAX_VALUE_LENGTH) : value;
+    }
+}
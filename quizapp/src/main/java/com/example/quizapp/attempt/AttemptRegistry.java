@@ -0,0 +1,164 @@
+package com.example.quizapp.attempt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Open quiz attempts of this node. Each attempt is filed in a {@link TimingWheel} at the
+ * time it counts as abandoned (time limit plus app.attempts.abandon-after, or
+ * app.attempts.untimed-expiry for untimed quizzes). One ticker thread advances the wheel
+ * and records expired attempts through {@link AbandonedAttemptRecorder} in batches.
+ *
+ * Whoever removes an attempt from the map first owns it: a submission racing its own
+ * expiry is either completed or recorded as abandoned, never both. Attempts started on
+ * another node, or before a restart, are not here; submissions then fall back to the
+ * start time kept in the session.
+ */
+@Component
+public class AttemptRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(AttemptRegistry.class);
+
+    private final AbandonedAttemptRecorder recorder;
+    private final LongSupplier clock;
+    private final TimingWheel<OpenAttempt> wheel;
+    private final long abandonAfterMillis;
+    private final long untimedExpiryMillis;
+    private final int batchSize;
+    private final Map<String, TimingWheel.Timeout<OpenAttempt>> open = new ConcurrentHashMap<>();
+    private final Counter expiredCounter;
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public AttemptRegistry(AbandonedAttemptRecorder recorder,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.attempts.tick:1s}") Duration tick,
+                           @Value("${app.attempts.abandon-after:10m}") Duration abandonAfter,
+                           @Value("${app.attempts.untimed-expiry:2h}") Duration untimedExpiry,
+                           @Value("${app.attempts.expiry-batch-size:500}") int batchSize) {
+        this(recorder, meterRegistry, System::currentTimeMillis, tick.toMillis(),
+                abandonAfter.toMillis(), untimedExpiry.toMillis(), batchSize);
+    }
+
+    AttemptRegistry(AbandonedAttemptRecorder recorder, MeterRegistry meterRegistry, LongSupplier clock,
+                    long tickMillis, long abandonAfterMillis, long untimedExpiryMillis, int batchSize) {
+        this.recorder = recorder;
+        this.clock = clock;
+        // 4 levels of 64 slots: 16.7M ticks, 194 days at one-second ticks
+        this.wheel = new TimingWheel<>(tickMillis, 4, clock.getAsLong());
+        this.abandonAfterMillis = abandonAfterMillis;
+        this.untimedExpiryMillis = untimedExpiryMillis;
+        this.batchSize = batchSize;
+        this.expiredCounter = Counter.builder("quizapp.attempts.expired")
+                .description("Attempts expired without a submission")
+                .register(meterRegistry);
+        Gauge.builder("quizapp.attempts.open", open, Map::size)
+                .description("Attempts started and not yet submitted or expired")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "attempt-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickMillis = wheel.tickMillis();
+        ticker.scheduleAtFixedRate(this::tickSafely, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * @param timeLimitSeconds the quiz's time limit, null for untimed quizzes
+     */
+    public OpenAttempt open(long quizId, int quizVersion, String nickname, Integer timeLimitSeconds) {
+        long now = clock.getAsLong();
+        boolean timed = timeLimitSeconds != null && timeLimitSeconds > 0;
+        long deadline = timed ? now + timeLimitSeconds * 1000L : 0;
+        long expiresAt = timed ? deadline + abandonAfterMillis : now + untimedExpiryMillis;
+        OpenAttempt attempt = new OpenAttempt(UUID.randomUUID().toString(), quizId, quizVersion, nickname,
+                now, deadline, expiresAt);
+
+        open.put(attempt.id(), wheel.schedule(attempt, expiresAt));
+        return attempt;
+    }
+
+    /**
+     * Ends an attempt on submission.
+     *
+     * @return the attempt, or empty when it is unknown to this node or already expired
+     */
+    public Optional<OpenAttempt> close(String attemptId) {
+        if (attemptId == null) {
+            return Optional.empty();
+        }
+        TimingWheel.Timeout<OpenAttempt> timeout = open.remove(attemptId);
+        if (timeout == null) {
+            return Optional.empty();
+        }
+        wheel.cancel(timeout);
+        return Optional.of(timeout.payload());
+    }
+
+    public int openCount() {
+        return open.size();
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.warn("Attempt expiry failed", e);
+        }
+    }
+
+    /**
+     * Advances the wheel to now and records what expired.
+     *
+     * @return number of attempts recorded as abandoned
+     */
+    int tick() {
+        long now = clock.getAsLong();
+        List<OpenAttempt> due = new ArrayList<>();
+        wheel.advance(now, due::add);
+
+        List<OpenAttempt> abandoned = new ArrayList<>(due.size());
+        for (OpenAttempt attempt : due) {
+            if (open.remove(attempt.id()) != null) {
+                abandoned.add(attempt);
+            }
+        }
+        for (int from = 0; from < abandoned.size(); from += batchSize) {
+            recorder.record(abandoned.subList(from, Math.min(abandoned.size(), from + batchSize)), now);
+        }
+        expiredCounter.increment(abandoned.size());
+        return abandoned.size();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.quizapp.attempt;
+
+import com.example.quizapp.entity.Attempt;
+import com.example.quizapp.entity.AttemptStatus;
+import com.example.quizapp.repository.AttemptRepository;
+import com.example.quizapp.scoring.QuizSubmission;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persisted attempts: created when play starts, answers saved incrementally through
+ * {@link AnswerEventBuffer}, resumable by token, and compacted when submitted.
+ */
+@Service
+public class AttemptService {
+
+    private static final int TOKEN_BYTES = 16;
+
+    private final AttemptRepository attemptRepository;
+    private final AnswerEventBuffer answerEventBuffer;
+    private final AnswerEventStore answerEventStore;
+    private final SecureRandom random = new SecureRandom();
+
+    public AttemptService(AttemptRepository attemptRepository,
+                          AnswerEventBuffer answerEventBuffer,
+                          AnswerEventStore answerEventStore) {
+        this.attemptRepository = attemptRepository;
+        this.answerEventBuffer = answerEventBuffer;
+        this.answerEventStore = answerEventStore;
+    }
+
+    /**
+     * Persists an attempt opened in the {@link AttemptRegistry}, under the same id.
+     *
+     * @param questionIds the questions drawn for the attempt, null when it has every question
+     */
+    public Attempt start(OpenAttempt open, List<Long> questionIds) {
+        Attempt attempt = new Attempt(open.id(), open.quizId(), open.nickname(), newResumeToken(),
+                new Timestamp(open.startedAt()).toLocalDateTime());
+        attempt.setQuizVersion(open.quizVersion());
+        attempt.setQuestionIds(questionIds);
+        return attemptRepository.save(attempt);
+    }
+
+    /**
+     * Persists a training attempt. Its questions are picked as it is played and only kept in
+     * the session, so it cannot be resumed by token.
+     */
+    public Attempt startAdaptive(OpenAttempt open) {
+        Attempt attempt = new Attempt(open.id(), open.quizId(), open.nickname(), newResumeToken(),
+                new Timestamp(open.startedAt()).toLocalDateTime());
+        attempt.setQuizVersion(open.quizVersion());
+        attempt.setAdaptive(true);
+        return attemptRepository.save(attempt);
+    }
+
+    public void saveAnswer(String attemptId, long questionId, String value) {
+        answerEventBuffer.record(attemptId, questionId, value);
+    }
+
+    /**
+     * @return the attempt when it exists, is still in progress and is not a training attempt
+     */
+    public Optional<Attempt> findResumable(String resumeToken) {
+        return attemptRepository.findByResumeToken(resumeToken)
+                .filter(attempt -> attempt.getStatus() == AttemptStatus.IN_PROGRESS && !attempt.isAdaptive());
+    }
+
+    /**
+     * @return the latest saved value per question, including saves not yet flushed
+     */
+    public Map<Long, String> savedAnswers(String attemptId) {
+        answerEventBuffer.flush(attemptId);
+        return answerEventStore.latest(attemptId);
+    }
+
+    /**
+     * Completes an in-progress attempt: the submitted answers override the saved ones,
+     * except where the submission left a question blank. The merged answers are stored
+     * and returned for scoring.
+     *
+     * @return the answers to score; the submission itself when there is no persisted attempt;
+     * empty when the attempt was already submitted or abandoned, and must not be scored
+     */
+    public Optional<QuizSubmission> complete(String attemptId, QuizSubmission submitted) {
+        if (attemptId == null) {
+            return Optional.of(submitted);
+        }
+        answerEventBuffer.flush(attemptId);
+        QuizSubmission answers = submitted.withSavedAnswers(
+                QuizSubmission.fromFormValues(answerEventStore.latest(attemptId)));
+        if (!answerEventStore.compact(attemptId, answers.toFormValues(), LocalDateTime.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(answers);
+    }
+
+    /**
+     * Ends an attempt without a result, e.g. a rejected late submission.
+     */
+    public void abandon(String attemptId) {
+        if (attemptId != null) {
+            answerEventStore.abandon(List.of(attemptId));
+        }
+    }
+
+    private String newResumeToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.quizapp.attempt;
+
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.LateSubmissionPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Decides whether a submission is late and what its quiz does about it. A submission is
+ * late when it arrives more than the grace period after the time limit; the grace period
+ * absorbs network and rendering delays of an on-time submit.
+ */
+@Component
+public class LateSubmissionRules {
+
+    private final LateSubmissionPolicy defaultPolicy;
+    private final long graceMillis;
+    private final int penaltyPercent;
+
+    public LateSubmissionRules(@Value("${app.attempts.late-policy:REJECT}") LateSubmissionPolicy defaultPolicy,
+                               @Value("${app.attempts.grace-period:2s}") Duration gracePeriod,
+                               @Value("${app.attempts.late-penalty-percent:50}") int penaltyPercent) {
+        this.defaultPolicy = defaultPolicy;
+        this.graceMillis = gracePeriod.toMillis();
+        this.penaltyPercent = penaltyPercent;
+    }
+
+    /**
+     * @return null when the submission is on time, otherwise the policy to apply
+     */
+    public LateSubmissionPolicy judge(QuizDTO quiz, long elapsedMillis) {
+        Integer timeLimit = quiz.getTimeLimit();
+        if (timeLimit == null || timeLimit <= 0 || elapsedMillis <= timeLimit * 1000L + graceMillis) {
+            return null;
+        }
+        return quiz.getLateSubmissionPolicy() != null ? quiz.getLateSubmissionPolicy() : defaultPolicy;
+    }
+
+    public int penalize(int score) {
+        return score * (100 - penaltyPercent) / 100;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.quizapp.attempt;
+
+/**
+ * A started quiz attempt tracked by {@link AttemptRegistry} until it is submitted or expires.
+ *
+ * @param quizVersion    the published quiz version the attempt is played and scored on
+ * @param deadlineMillis end of the time limit, or 0 for untimed quizzes
+ * @param expiresAt      when the attempt counts as abandoned
+ */
+public record OpenAttempt(String id, long quizId, int quizVersion, String nickname, long startedAt,
+                          long deadlineMillis, long expiresAt) {
+
+    public boolean isTimed() {
+        return deadlineMillis > 0;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.quizapp.attempt;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel (Varghese and Lauck): {@code levels} wheels of 64 slots,
+ * each slot of level L spanning 64^L ticks. An entry goes to the lowest level whose
+ * span covers its delay and is cascaded one level down each time the wheel above it
+ * turns, so scheduling and cancelling are O(1) and a tick only touches the entries
+ * that are due in it (plus the cascaded ones, at most once per level per entry).
+ *
+ * Entries live in intrusive doubly linked lists, one per slot; there is no thread or
+ * future per entry. Deadlines beyond the wheel's range are parked in the farthest slot
+ * and re-filed when it comes round. All methods lock the wheel, each for O(1) work except
+ * {@link #advance}, which is called from a single ticker thread.
+ *
+ * @param <T> payload handed back on expiry
+ */
+public final class TimingWheel<T> {
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final int levels;
+    private final long maxDelayTicks;
+    private final Timeout<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int levels, long originMillis) {
+        if (tickMillis <= 0 || levels < 1 || levels * SLOT_BITS > 60) {
+            throw new IllegalArgumentException("tickMillis must be positive and levels between 1 and 10");
+        }
+        this.tickMillis = tickMillis;
+        this.originMillis = originMillis;
+        this.levels = levels;
+        this.maxDelayTicks = (1L << (levels * SLOT_BITS)) - 1;
+        this.slots = new Timeout[levels][SLOTS];
+    }
+
+    /**
+     * Handle of a scheduled entry, used to cancel it.
+     */
+    public static final class Timeout<T> {
+        private final T payload;
+        private final long deadlineTick;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+        private int level = -1;
+        private int slot;
+
+        private Timeout(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        boolean isScheduled() {
+            return level >= 0;
+        }
+    }
+
+    /**
+     * Schedules {@code payload} to expire on the first tick at or after {@code deadlineMillis}.
+     * Deadlines already in the past expire on the next tick.
+     */
+    public synchronized Timeout<T> schedule(T payload, long deadlineMillis) {
+        long deadlineTick = Math.floorDiv(deadlineMillis - originMillis + tickMillis - 1, tickMillis);
+        Timeout<T> timeout = new Timeout<>(payload, Math.max(deadlineTick, currentTick + 1));
+        file(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * @return false when the entry already expired or was cancelled
+     */
+    public synchronized boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isScheduled()) {
+            return false;
+        }
+        unlink(timeout);
+        size--;
+        return true;
+    }
+
+    /**
+     * Runs every tick up to {@code nowMillis}, handing each expired payload to
+     * {@code onExpired} while the wheel is locked - keep the consumer cheap.
+     *
+     * @return number of expired entries
+     */
+    public synchronized int advance(long nowMillis, Consumer<? super T> onExpired) {
+        long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        int expired = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Timeout<T> timeout = slots[0][(int) (currentTick & MASK)];
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                unlink(timeout);
+                if (timeout.deadlineTick <= currentTick) {
+                    size--;
+                    expired++;
+                    onExpired.accept(timeout.payload);
+                } else {
+                    file(timeout); // parked beyond the wheel's range
+                }
+                timeout = next;
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public long tickMillis() {
+        return tickMillis;
+    }
+
+    // When a level's wheel completes a turn, the next slot of the level above moves down
+    private void cascade() {
+        for (int level = 1; level < levels; level++) {
+            if ((currentTick & ((1L << (level * SLOT_BITS)) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (level * SLOT_BITS)) & MASK);
+            Timeout<T> timeout = slots[level][slot];
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                unlink(timeout);
+                file(timeout);
+                timeout = next;
+            }
+        }
+    }
+
+    private void file(Timeout<T> timeout) {
+        long delay = Math.min(timeout.deadlineTick - currentTick, maxDelayTicks);
+        long fileTick = currentTick + delay;
+        int level = 0;
+        while (level < levels - 1 && delay >= (1L << ((level + 1) * SLOT_BITS))) {
+            level++;
+        }
+        int slot = (int) ((fileTick >>> (level * SLOT_BITS)) & MASK);
+        Timeout<T> head = slots[level][slot];
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][slot] = timeout;
+        timeout.level = level;
+        timeout.slot = slot;
+    }
+
+    private void unlink(Timeout<T> timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.level = -1;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.quizapp.cache;
+
+/**
+ * Kinds of cached content that can be invalidated across nodes.
+ */
+public enum CacheEntity {
+    QUIZ,
+    QUESTION,
+    ANSWER,
+    CATEGORY
+}
@@ -0,0 +1,47 @@
+package com.example.quizapp.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * Selects the cross-node invalidation transport.
+ * app.cache.invalidation.transport = postgres | polling (default) | none
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "postgres")
+    public InvalidationTransport postgresNotifyTransport(
+            JdbcTemplate jdbcTemplate,
+            DataSourceProperties dataSourceProperties,
+            @Value("${app.cache.invalidation.poll-timeout-ms:500}") int pollTimeoutMillis) {
+        return new PostgresNotifyTransport(jdbcTemplate,
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword(),
+                pollTimeoutMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "polling", matchIfMissing = true)
+    public InvalidationTransport pollingTableTransport(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.cache.invalidation.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${app.cache.invalidation.retention:PT10M}") Duration retention,
+            @Value("${app.cache.invalidation.settle:5s}") Duration settle) {
+        return new PollingTableTransport(jdbcTemplate, pollIntervalMillis, retention, settle);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "none")
+    public InvalidationTransport localOnlyTransport() {
+        return InvalidationTransport.LOCAL_ONLY;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.quizapp.cache;
+
+/**
+ * Implemented by in-process caches that must drop entries when content changes.
+ * Beans implementing this interface are picked up by {@link InvalidationBus} automatically;
+ * other instances can be added with {@link InvalidationBus#register}.
+ */
+public interface CacheInvalidationListener {
+
+    void onInvalidation(InvalidationEvent event);
+
+    /**
+     * Whether events published by this node should be delivered too.
+     * Caches that Hibernate already keeps consistent locally only need remote events.
+     */
+    default boolean acceptsLocalEvents() {
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.quizapp.cache;
+
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Category;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.entity.Quiz;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts second-level cache entries for changes made on other nodes.
+ * Local changes are already handled by Hibernate's read-write strategy.
+ */
+@Component
+public class HibernateCacheInvalidationListener implements CacheInvalidationListener {
+
+    private static final String QUIZ_QUESTIONS = Quiz.class.getName() + ".questions";
+    private static final String QUIZ_CATEGORIES = Quiz.class.getName() + ".categories";
+    private static final String QUESTION_ANSWERS = Question.class.getName() + ".answers";
+    private static final String CATEGORY_QUIZZES = Category.class.getName() + ".quizzes";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateCacheInvalidationListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        switch (event.entity()) {
+            case QUIZ -> {
+                cache.evictEntityData(Quiz.class, event.id());
+                cache.evictCollectionData(QUIZ_QUESTIONS, event.id());
+                cache.evictCollectionData(QUIZ_CATEGORIES, event.id());
+                cache.evictCollectionData(CATEGORY_QUIZZES);
+            }
+            case QUESTION -> {
+                cache.evictEntityData(Question.class, event.id());
+                cache.evictCollectionData(QUESTION_ANSWERS, event.id());
+                evictParentCollection(cache, QUIZ_QUESTIONS, event.parentId());
+            }
+            case ANSWER -> {
+                cache.evictEntityData(Answer.class, event.id());
+                evictParentCollection(cache, QUESTION_ANSWERS, event.parentId());
+            }
+            case CATEGORY -> {
+                cache.evictEntityData(Category.class, event.id());
+                cache.evictCollectionData(CATEGORY_QUIZZES, event.id());
+                cache.evictCollectionData(QUIZ_CATEGORIES);
+            }
+        }
+
+        // Query results are guarded by per-node update timestamps, so remote edits must clear them
+        cache.evictQueryRegions();
+    }
+
+    @Override
+    public boolean acceptsLocalEvents() {
+        return false;
+    }
+
+    private void evictParentCollection(Cache cache, String role, Long parentId) {
+        if (parentId != null) {
+            cache.evictCollectionData(role, parentId);
+        } else {
+            cache.evictCollectionData(role);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.quizapp.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes cache invalidation events after commit and fans them out to every
+ * registered {@link CacheInvalidationListener}, locally and on the other nodes.
+ *
+ * Local listeners are called synchronously in the afterCommit phase; the remote send
+ * runs on a dedicated thread so it gets its own connection and never joins the
+ * already committed transaction.
+ */
+@Component
+public class InvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final ObjectProvider<CacheInvalidationListener> listenerBeans;
+    private final List<CacheInvalidationListener> registeredListeners = new CopyOnWriteArrayList<>();
+    private final InvalidationTransport transport;
+    private final String nodeId;
+    private final ExecutorService sender;
+    private volatile boolean running;
+
+    public InvalidationBus(ObjectProvider<CacheInvalidationListener> listenerBeans,
+                           InvalidationTransport transport,
+                           @Value("${app.cache.invalidation.node-id:}") String nodeId) {
+        this.listenerBeans = listenerBeans;
+        this.transport = transport;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.sender = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "invalidation-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Publish an event. Inside a transaction delivery is deferred until after commit,
+     * so a rolled back edit never invalidates anything.
+     */
+    public void publish(InvalidationEvent event) {
+        InvalidationEvent stamped = event.withOrigin(nodeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(stamped);
+                }
+            });
+        } else {
+            dispatch(stamped);
+        }
+    }
+
+    /**
+     * Register a listener that is not a Spring bean.
+     */
+    public void register(CacheInvalidationListener listener) {
+        registeredListeners.add(listener);
+    }
+
+    public void unregister(CacheInvalidationListener listener) {
+        registeredListeners.remove(listener);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void dispatch(InvalidationEvent event) {
+        deliver(event, true);
+        sender.execute(() -> {
+            try {
+                transport.send(event);
+            } catch (RuntimeException e) {
+                log.warn("Could not send invalidation event {}", event, e);
+            }
+        });
+    }
+
+    private void onRemoteEvent(InvalidationEvent event) {
+        if (Objects.equals(nodeId, event.originNode())) {
+            return;
+        }
+        deliver(event, false);
+    }
+
+    private void deliver(InvalidationEvent event, boolean local) {
+        listenerBeans.orderedStream().forEach(listener -> notify(listener, event, local));
+        for (CacheInvalidationListener listener : registeredListeners) {
+            notify(listener, event, local);
+        }
+    }
+
+    private void notify(CacheInvalidationListener listener, InvalidationEvent event, boolean local) {
+        if (local && !listener.acceptsLocalEvents()) {
+            return;
+        }
+        try {
+            listener.onInvalidation(event);
+        } catch (RuntimeException e) {
+            log.warn("Cache listener {} failed on {}", listener, event, e);
+        }
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        transport.start(this::onRemoteEvent);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        transport.stop();
+        sender.shutdown();
+        try {
+            sender.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.quizapp.cache;
+
+/**
+ * Typed invalidation event published after a mutating transaction commits.
+ *
+ * @param entity     kind of entity that changed
+ * @param id         id of the changed entity
+ * @param parentId   owning quiz for questions, owning question for answers; null when unknown
+ * @param originNode node that published the event (set by the bus)
+ */
+public record InvalidationEvent(CacheEntity entity, Long id, Long parentId, String originNode) {
+
+    private static final String SEPARATOR = "|";
+
+    public static InvalidationEvent quiz(Long quizId) {
+        return new InvalidationEvent(CacheEntity.QUIZ, quizId, null, null);
+    }
+
+    public static InvalidationEvent question(Long questionId, Long quizId) {
+        return new InvalidationEvent(CacheEntity.QUESTION, questionId, quizId, null);
+    }
+
+    public static InvalidationEvent answer(Long answerId, Long questionId) {
+        return new InvalidationEvent(CacheEntity.ANSWER, answerId, questionId, null);
+    }
+
+    public static InvalidationEvent category(Long categoryId) {
+        return new InvalidationEvent(CacheEntity.CATEGORY, categoryId, null, null);
+    }
+
+    public InvalidationEvent withOrigin(String node) {
+        return new InvalidationEvent(entity, id, parentId, node);
+    }
+
+    /**
+     * Compact wire format used by the NOTIFY payload: {@code QUIZ|12||node-1}.
+     */
+    public String encode() {
+        return entity.name() + SEPARATOR
+                + (id != null ? id : "") + SEPARATOR
+                + (parentId != null ? parentId : "") + SEPARATOR
+                + (originNode != null ? originNode : "");
+    }
+
+    public static InvalidationEvent decode(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed invalidation payload: " + payload);
+        }
+        return new InvalidationEvent(
+                CacheEntity.valueOf(parts[0]),
+                parseId(parts[1]),
+                parseId(parts[2]),
+                parts[3].isEmpty() ? null : parts[3]);
+    }
+
+    private static Long parseId(String value) {
+        return value.isEmpty() ? null : Long.valueOf(value);
+    }
+}
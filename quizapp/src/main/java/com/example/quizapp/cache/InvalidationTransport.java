@@ -0,0 +1,38 @@
+package com.example.quizapp.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidation events to the other nodes of the cluster.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Send an event to all nodes. Called outside of any transaction.
+     */
+    void send(InvalidationEvent event);
+
+    /**
+     * Start receiving events; every received event (including our own) is passed to the consumer.
+     */
+    void start(Consumer<InvalidationEvent> consumer);
+
+    void stop();
+
+    /**
+     * Transport for single-node deployments - events stay in-process.
+     */
+    InvalidationTransport LOCAL_ONLY = new InvalidationTransport() {
+        @Override
+        public void send(InvalidationEvent event) {
+        }
+
+        @Override
+        public void start(Consumer<InvalidationEvent> consumer) {
+        }
+
+        @Override
+        public void stop() {
+        }
+    };
+}
@@ -0,0 +1,53 @@
+package com.example.quizapp.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Cache invalidation for writes made with plain SQL. Hibernate does not see those writes,
+ * so after commit this node's second-level cache is evicted the way
+ * {@link HibernateCacheInvalidationListener} evicts it for a change made on another node,
+ * and the event is published to the other nodes.
+ */
+@Component
+public class JdbcWriteInvalidator {
+
+    private final InvalidationBus invalidationBus;
+    private final HibernateCacheInvalidationListener cacheEvictor;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public JdbcWriteInvalidator(InvalidationBus invalidationBus,
+                                HibernateCacheInvalidationListener cacheEvictor,
+                                EntityManagerFactory entityManagerFactory) {
+        this.invalidationBus = invalidationBus;
+        this.cacheEvictor = cacheEvictor;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts and publishes after the current transaction commits, or now without one.
+     *
+     * @param entityRegions whole entity regions to evict as well, for rows not known by id
+     */
+    public void invalidate(InvalidationEvent event, Class<?>... entityRegions) {
+        Runnable evict = () -> {
+            cacheEvictor.onInvalidation(event);
+            for (Class<?> region : entityRegions) {
+                entityManagerFactory.getCache().evict(region);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+        invalidationBus.publish(event);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.quizapp.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation transport backed by a plain table that every node polls.
+ * Works on any database (H2 in tests), at the cost of up to one poll interval of latency.
+ * The cache_invalidation table is created by the V2 migration.
+ *
+ * Ids are handed out on insert, not on commit, so a row can become visible after one with a
+ * higher id. Rows are delivered as soon as they are seen, but the poll keeps reading from the
+ * first gap in the ids until the row behind it is older than the settle time; after that the
+ * gap is taken to be a rolled-back transaction.
+ */
+public class PollingTableTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(PollingTableTransport.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long pollIntervalMillis;
+    private final Duration retention;
+    private final Duration settle;
+    private ScheduledExecutorService scheduler;
+    // Every id up to here has been delivered or given up on
+    private volatile long settledId;
+    // Ids above settledId that have been delivered
+    private final Set<Long> delivered = new HashSet<>();
+    private long pollsSincePrune;
+
+    public PollingTableTransport(JdbcTemplate jdbcTemplate, long pollIntervalMillis, Duration retention,
+                                 Duration settle) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.retention = retention;
+        this.settle = settle;
+    }
+
+    @Override
+    public void send(InvalidationEvent event) {
+        String sql = """
+            INSERT INTO cache_invalidation (entity_type, entity_id, parent_id, origin_node, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+        jdbcTemplate.update(sql,
+                event.entity().name(),
+                event.id(),
+                event.parentId(),
+                event.originNode(),
+                Timestamp.from(Instant.now()));
+    }
+
+    @Override
+    public void start(Consumer<InvalidationEvent> consumer) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM cache_invalidation", Long.class);
+        settledId = maxId != null ? maxId : 0L;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> poll(consumer), pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    void poll(Consumer<InvalidationEvent> consumer) {
+        try {
+            String sql = """
+                SELECT id, entity_type, entity_id, parent_id, origin_node, created_at
+                FROM cache_invalidation WHERE id > ? ORDER BY id
+                """;
+            List<PolledEvent> rows = jdbcTemplate.query(sql, (rs, rowNum) -> new PolledEvent(
+                    rs.getLong("id"),
+                    rs.getTimestamp("created_at").toInstant(),
+                    new InvalidationEvent(
+                            CacheEntity.valueOf(rs.getString("entity_type")),
+                            rs.getObject("entity_id", Long.class),
+                            rs.getObject("parent_id", Long.class),
+                            rs.getString("origin_node"))
+            ), settledId);
+
+            for (PolledEvent row : rows) {
+                if (delivered.add(row.id())) {
+                    consumer.accept(row.event());
+                }
+            }
+            advance(rows, Instant.now().minus(settle));
+
+            if (++pollsSincePrune * pollIntervalMillis >= retention.toMillis()) {
+                pollsSincePrune = 0;
+                jdbcTemplate.update("DELETE FROM cache_invalidation WHERE created_at < ?",
+                        Timestamp.from(Instant.now().minus(retention)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Polling cache_invalidation failed", e);
+        }
+    }
+
+    // Moves settledId up to the first gap that may still be filled by a commit in flight
+    private void advance(List<PolledEvent> rows, Instant settledBefore) {
+        long settled = settledId;
+        for (PolledEvent row : rows) {
+            if (row.id() != settled + 1 && row.createdAt().isAfter(settledBefore)) {
+                break;
+            }
+            settled = row.id();
+        }
+        long newSettledId = settled;
+        delivered.removeIf(id -> id <= newSettledId);
+        settledId = newSettledId;
+    }
+
+    private record PolledEvent(long id, Instant createdAt, InvalidationEvent event) {
+    }
+}
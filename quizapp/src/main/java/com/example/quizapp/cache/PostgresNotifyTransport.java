@@ -0,0 +1,106 @@
+package com.example.quizapp.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation transport using PostgreSQL LISTEN/NOTIFY.
+ * Sends go through the pooled JdbcTemplate; the listener keeps one dedicated
+ * connection outside the pool so it never takes a slot from request traffic.
+ */
+public class PostgresNotifyTransport implements InvalidationTransport {
+
+    static final String CHANNEL = "quizapp_invalidation";
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresNotifyTransport.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollTimeoutMillis;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresNotifyTransport(JdbcTemplate jdbcTemplate, String url, String username, String password,
+                                   int pollTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+    }
+
+    @Override
+    public void send(InvalidationEvent event) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, event.encode());
+    }
+
+    @Override
+    public void start(Consumer<InvalidationEvent> consumer) {
+        running = true;
+        listenerThread = new Thread(() -> listen(consumer), "invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen(Consumer<InvalidationEvent> consumer) {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(consumer, notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("LISTEN connection lost, reconnecting", e);
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void dispatch(Consumer<InvalidationEvent> consumer, String payload) {
+        try {
+            consumer.accept(InvalidationEvent.decode(payload));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed invalidation payload '{}'", payload);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -32,7 +32,7 @@ public class QuizDataInitializer implements CommandLineRunner {
     @Override
     public void run(String... args) {
         // Check if the quiz already exists to avoid duplicates
-        if (quizRepository.findByTitleContaining("All Question Types").isEmpty()) {
+        if (quizRepository.findByTitleContainingIgnoreCase("All Question Types").isEmpty()) {
             createAllQuestionTypesQuiz();
             System.out.println("Created 'All Question Types Test Quiz' with 8 questions");
         } else {
@@ -1,5 +1,7 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.cache.InvalidationBus;
+import com.example.quizapp.cache.InvalidationEvent;
 import com.example.quizapp.dto.AnswerDTO;
 import com.example.quizapp.dto.CreateQuizRequest;
 import com.example.quizapp.dto.QuestionDTO;
@@ -7,10 +9,12 @@ import com.example.quizapp.dto.QuizDTO;
 import com.example.quizapp.entity.*;
 import com.example.quizapp.exception.ResourceNotFoundException;
 import com.example.quizapp.repository.*;
+import com.example.quizapp.service.DeletionService;
 import com.example.quizapp.service.QuestionService;
 import com.example.quizapp.service.QuizService;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
@@ -31,17 +35,23 @@ public class AdminController {
     private final AnswerRepository answerRepository;
     private final QuizService quizService;
     private final QuestionService questionService;
+    private final DeletionService deletionService;
+    private final InvalidationBus invalidationBus;
 
     public AdminController(QuizRepository quizRepository,
                           QuestionRepository questionRepository,
                           AnswerRepository answerRepository,
                           QuizService quizService,
-                          QuestionService questionService) {
+                          QuestionService questionService,
+                          DeletionService deletionService,
+                          InvalidationBus invalidationBus) {
         this.quizRepository = quizRepository;
         this.questionRepository = questionRepository;
         this.answerRepository = answerRepository;
         this.quizService = quizService;
         this.questionService = questionService;
+        this.deletionService = deletionService;
+        this.invalidationBus = invalidationBus;
     }
 
     /**
@@ -92,6 +102,10 @@ public class AdminController {
         request.setShuffleQuestions(quiz.getShuffleQuestions());
         request.setShuffleAnswers(quiz.getShuffleAnswers());
         request.setNegativePoints(quiz.getNegativePoints());
+        request.setScoringPolicy(quiz.getScoringPolicy());
+        request.setLateSubmissionPolicy(quiz.getLateSubmissionPolicy());
+        request.setPoolSize(quiz.getPoolSize());
+        request.setPoolStratifyBy(quiz.getPoolStratifyBy());
         
         model.addAttribute("quiz", request);
         model.addAttribute("quizId", id);
@@ -123,6 +137,17 @@ public class AdminController {
         return "redirect:/admin";
     }
 
+    /**
+     * Clone quiz with its questions and answers
+     */
+    @PostMapping("/quiz/{id}/clone")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public String cloneQuiz(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        QuizDTO clone = quizService.cloneQuiz(id, null);
+        redirectAttributes.addFlashAttribute("successMessage", "Quiz cloned successfully!");
+        return "redirect:/admin/quiz/" + clone.getId() + "/questions";
+    }
+
     /**
      * Manage questions for a quiz
      */
@@ -158,6 +183,7 @@ public class AdminController {
         question.setOrderIndex(questionRepository.findByQuizId(quizId).size() + 1);
         
         questionRepository.save(question);
+        invalidationBus.publish(InvalidationEvent.question(question.getId(), quizId));
         redirectAttributes.addFlashAttribute("successMessage", "Question added successfully!");
         return "redirect:/admin/quiz/" + quizId + "/questions";
     }
@@ -168,11 +194,7 @@ public class AdminController {
     @PostMapping("/questions/{id}/delete")
     @Transactional
     public String deleteQuestion(@PathVariable Long id, RedirectAttributes redirectAttributes) {
-        Question question = questionRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Question", id));
-        Long quizId = question.getQuiz().getId();
-        
-        questionRepository.delete(question);
+        Long quizId = deletionService.deleteQuestion(id);
         redirectAttributes.addFlashAttribute("successMessage", "Question deleted!");
         return "redirect:/admin/quiz/" + quizId + "/questions";
     }
@@ -196,6 +218,7 @@ public class AdminController {
         question.setPoints(points);
         
         questionRepository.save(question);
+        invalidationBus.publish(InvalidationEvent.question(id, quizId));
         redirectAttributes.addFlashAttribute("successMessage", "Question updated successfully!");
         return "redirect:/admin/quiz/" + quizId + "/questions";
     }
@@ -234,6 +257,7 @@ public class AdminController {
         answer.setQuestion(question);
         
         answerRepository.save(answer);
+        invalidationBus.publish(InvalidationEvent.answer(answer.getId(), questionId));
         redirectAttributes.addFlashAttribute("successMessage", "Answer added successfully!");
         return "redirect:/admin/questions/" + questionId + "/answers";
     }
@@ -244,11 +268,7 @@ public class AdminController {
     @PostMapping("/answers/{id}/delete")
     @Transactional
     public String deleteAnswer(@PathVariable Long id, RedirectAttributes redirectAttributes) {
-        Answer answer = answerRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Answer", id));
-        Long questionId = answer.getQuestion().getId();
-        
-        answerRepository.delete(answer);
+        Long questionId = deletionService.deleteAnswer(id);
         redirectAttributes.addFlashAttribute("successMessage", "Answer deleted!");
         return "redirect:/admin/questions/" + questionId + "/answers";
     }
@@ -1,11 +1,14 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.cache.InvalidationBus;
+import com.example.quizapp.cache.InvalidationEvent;
 import com.example.quizapp.dto.AnswerDTO;
 import com.example.quizapp.entity.Answer;
 import com.example.quizapp.entity.Question;
 import com.example.quizapp.exception.ResourceNotFoundException;
 import com.example.quizapp.repository.AnswerRepository;
 import com.example.quizapp.repository.QuestionRepository;
+import com.example.quizapp.service.DeletionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
@@ -26,10 +29,15 @@ public class AnswerController {
 
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
+    private final InvalidationBus invalidationBus;
+    private final DeletionService deletionService;
 
-    public AnswerController(AnswerRepository answerRepository, QuestionRepository questionRepository) {
+    public AnswerController(AnswerRepository answerRepository, QuestionRepository questionRepository,
+                            InvalidationBus invalidationBus, DeletionService deletionService) {
         this.answerRepository = answerRepository;
         this.questionRepository = questionRepository;
+        this.invalidationBus = invalidationBus;
+        this.deletionService = deletionService;
     }
 
     /**
@@ -82,6 +90,7 @@ public class AnswerController {
         answer.setQuestion(question);
         
         Answer saved = answerRepository.save(answer);
+        invalidationBus.publish(InvalidationEvent.answer(saved.getId(), question.getId()));
         return ResponseEntity.status(HttpStatus.CREATED).body(new AnswerDTO(saved));
     }
 
@@ -99,6 +108,7 @@ public class AnswerController {
         answer.setOrderIndex(request.getOrderIndex());
         
         Answer updated = answerRepository.save(answer);
+        invalidationBus.publish(InvalidationEvent.answer(id, answer.getQuestion() != null ? answer.getQuestion().getId() : null));
         return ResponseEntity.ok(new AnswerDTO(updated));
     }
 
@@ -108,10 +118,7 @@ public class AnswerController {
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete answer")
     public ResponseEntity<Void> deleteAnswer(@PathVariable Long id) {
-        if (!answerRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Answer", id);
-        }
-        answerRepository.deleteById(id);
+        deletionService.deleteAnswer(id);
         return ResponseEntity.noContent().build();
     }
 }
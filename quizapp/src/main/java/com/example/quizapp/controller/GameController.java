@@ -1,45 +1,88 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.adaptive.AdaptiveEngine;
+import com.example.quizapp.attempt.AttemptRegistry;
+import com.example.quizapp.attempt.AttemptService;
+import com.example.quizapp.attempt.LateSubmissionRules;
+import com.example.quizapp.attempt.OpenAttempt;
 import com.example.quizapp.dto.QuizDTO;
 import com.example.quizapp.dto.QuizResultDTO;
+import com.example.quizapp.dto.SubmissionRequest;
 import com.example.quizapp.entity.*;
+import com.example.quizapp.exception.AttemptClosedException;
+import com.example.quizapp.exception.LateSubmissionException;
 import com.example.quizapp.exception.ResourceNotFoundException;
+import com.example.quizapp.pool.QuestionPools;
 import com.example.quizapp.repository.*;
+import com.example.quizapp.results.Leaderboard;
+import com.example.quizapp.results.PendingResult;
+import com.example.quizapp.results.ResultPipeline;
+import com.example.quizapp.scoring.QuizSubmission;
+import com.example.quizapp.scoring.ScoreResult;
+import com.example.quizapp.scoring.SubmissionScorer;
 import com.example.quizapp.service.QuizService;
+import com.example.quizapp.versioning.AnswerSnapshot;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import com.example.quizapp.versioning.QuizVersions;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import jakarta.servlet.http.HttpSession;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Controller for the quiz game flow.
  * Handles: home page, playing quizzes, submitting answers, and ranking.
+ * An attempt is played and scored on the quiz version it was started on, and on the
+ * questions drawn for it when the quiz has a pool size. Adaptive (training) attempts are
+ * served one question at a time, each chosen by the {@link AdaptiveEngine}.
  */
 @Controller
 public class GameController {
 
-    private final QuizRepository quizRepository;
-    private final QuestionRepository questionRepository;
-    private final AnswerRepository answerRepository;
     private final QuizResultRepository quizResultRepository;
     private final QuizService quizService;
+    private final QuizVersions quizVersions;
+    private final QuestionPools questionPools;
+    private final AdaptiveEngine adaptiveEngine;
+    private final SubmissionScorer submissionScorer;
+    private final AttemptRegistry attemptRegistry;
+    private final LateSubmissionRules lateSubmissionRules;
+    private final AttemptService attemptService;
+    private final ResultPipeline resultPipeline;
+    private final Leaderboard leaderboard;
 
-    public GameController(QuizRepository quizRepository,
-                         QuestionRepository questionRepository,
-                         AnswerRepository answerRepository,
-                         QuizResultRepository quizResultRepository,
-                         QuizService quizService) {
-        this.quizRepository = quizRepository;
-        this.questionRepository = questionRepository;
-        this.answerRepository = answerRepository;
+    public GameController(QuizResultRepository quizResultRepository,
+                         QuizService quizService,
+                         QuizVersions quizVersions,
+                         QuestionPools questionPools,
+                         AdaptiveEngine adaptiveEngine,
+                         SubmissionScorer submissionScorer,
+                         AttemptRegistry attemptRegistry,
+                         LateSubmissionRules lateSubmissionRules,
+                         AttemptService attemptService,
+                         ResultPipeline resultPipeline,
+                         Leaderboard leaderboard) {
         this.quizResultRepository = quizResultRepository;
         this.quizService = quizService;
+        this.quizVersions = quizVersions;
+        this.questionPools = questionPools;
+        this.adaptiveEngine = adaptiveEngine;
+        this.submissionScorer = submissionScorer;
+        this.attemptRegistry = attemptRegistry;
+        this.lateSubmissionRules = lateSubmissionRules;
+        this.attemptService = attemptService;
+        this.resultPipeline = resultPipeline;
+        this.leaderboard = leaderboard;
     }
 
     /**
@@ -71,124 +114,348 @@ public class GameController {
                           @RequestParam String nickname,
                           HttpSession session,
                           Model model) {
-        QuizDTO quiz = quizService.getQuizById(quizId);
+        // Pin the attempt to the current version; later edits do not affect it
+        QuizVersion version = quizVersions.current(quizId);
+        // Draw the attempt's questions when the quiz has a pool; the draw is kept with the attempt
+        List<QuestionSnapshot> questions = questionPools.draw(version);
+        List<Long> questionIds = version.isPooled() ? questions.stream().map(QuestionSnapshot::id).toList() : null;
         
-        // Store game data in session
+        // Register the attempt for server-side expiry, persist it and store game data in session
+        OpenAttempt attempt = attemptRegistry.open(quizId, version.version(), nickname, version.timeLimit());
+        Attempt persisted = attemptService.start(attempt, questionIds);
         session.setAttribute("quizId", quizId);
+        session.setAttribute("quizVersion", version.version());
+        session.setAttribute("questionIds", questionIds);
         session.setAttribute("nickname", nickname);
-        session.setAttribute("startTime", System.currentTimeMillis());
+        session.setAttribute("attemptId", attempt.id());
+        session.setAttribute("startTime", attempt.startedAt());
         
-        // Get questions (shuffle if enabled)
-        List<Question> questions = questionRepository.findByQuizId(quizId);
-        if (quiz.getShuffleQuestions() != null && quiz.getShuffleQuestions()) {
+        return showPlayPage(version, questions, nickname, persisted.getResumeToken(), Map.of(), version.timeLimit(),
+                model);
+    }
+
+    /**
+     * Resume an in-progress attempt, e.g. on another device - restores the saved answers
+     * and continues the timer from the attempt's original start
+     */
+    @GetMapping("/play/resume/{token}")
+    public String resumeQuiz(@PathVariable String token, HttpSession session, Model model) {
+        Attempt attempt = attemptService.findResumable(token)
+                .orElseThrow(() -> new ResourceNotFoundException("Attempt", "token", token));
+        // Attempts started before versioning continue on the current version
+        QuizVersion version = attempt.getQuizVersion() != null
+                ? quizVersions.get(attempt.getQuizId(), attempt.getQuizVersion())
+                : quizVersions.current(attempt.getQuizId());
+        long startTime = Timestamp.valueOf(attempt.getStartedAt()).getTime();
+
+        session.setAttribute("quizId", attempt.getQuizId());
+        session.setAttribute("quizVersion", version.version());
+        session.setAttribute("questionIds", attempt.getQuestionIds());
+        session.setAttribute("nickname", attempt.getNickname());
+        session.setAttribute("attemptId", attempt.getId());
+        session.setAttribute("startTime", startTime);
+
+        Integer timeRemaining = null;
+        if (version.timeLimit() != null) {
+            long elapsedSeconds = (System.currentTimeMillis() - startTime) / 1000;
+            timeRemaining = (int) Math.max(0, version.timeLimit() - elapsedSeconds);
+        }
+        return showPlayPage(version, questionPools.questions(version, attempt.getQuestionIds()), attempt.getNickname(),
+                token, attemptService.savedAnswers(attempt.getId()), timeRemaining, model);
+    }
+
+    /**
+     * Begin a training attempt - one question at a time, each picked for the player's
+     * running ability estimate
+     */
+    @PostMapping("/play/{quizId}/adaptive")
+    public String playAdaptive(@PathVariable Long quizId,
+                               @RequestParam String nickname,
+                               HttpSession session,
+                               Model model) {
+        QuizVersion version = quizVersions.current(quizId);
+        QuestionSnapshot first = adaptiveEngine.next(version, AdaptiveEngine.INITIAL_ABILITY, List.of());
+        if (first == null) {
+            return "redirect:/play/" + quizId;
+        }
+
+        // Served questions are kept in the session and become the attempt's questions when scored;
+        // the persisted attempt is not resumable
+        OpenAttempt attempt = attemptRegistry.open(quizId, version.version(), nickname, version.timeLimit());
+        attemptService.startAdaptive(attempt);
+        session.setAttribute("quizId", quizId);
+        session.setAttribute("quizVersion", version.version());
+        session.setAttribute("nickname", nickname);
+        session.setAttribute("attemptId", attempt.id());
+        session.setAttribute("startTime", attempt.startedAt());
+
+        return showNextQuestion(version, List.of(), first, AdaptiveEngine.INITIAL_ABILITY, session, model);
+    }
+
+    /**
+     * Answer the current question of a training attempt (form encoding: answer_{questionId},
+     * plus the questionId it was served for). The answer updates the ability estimate and the
+     * question's difficulty; the attempt is submitted after its last question or once its time
+     * is up. An answer for another question - a repeated or back-button post - is not graded;
+     * the current question is shown again.
+     */
+    @PostMapping("/play/{quizId}/adaptive/answer")
+    public String answerAdaptive(@PathVariable Long quizId,
+                                 @RequestParam(name = "questionId", required = false) Long answeredId,
+                                 @RequestParam Map<String, String> answers,
+                                 HttpSession session,
+                                 Model model,
+                                 RedirectAttributes redirectAttributes) {
+        List<Long> served = drawnQuestions(quizId, session);
+        Double ability = (Double) session.getAttribute("ability");
+        if (served == null || served.isEmpty() || ability == null) {
+            return "redirect:/play/" + quizId;
+        }
+        QuizVersion version = pinnedVersion(quizId, Optional.empty(), session);
+        long questionId = served.get(served.size() - 1);
+        if (answeredId == null || answeredId != questionId) {
+            QuestionSnapshot current = questionPools.questions(version, List.of(questionId)).get(0);
+            return showAdaptiveQuestion(version, served.size(), current, session, model);
+        }
+
+        // Grade the current question alone; partial credit counts as a partly correct answer
+        QuizSubmission answer = QuizSubmission.fromForm(answers);
+        attemptService.saveAnswer((String) session.getAttribute("attemptId"), questionId,
+                answer.toFormValues().get(questionId));
+        ScoreResult score = submissionScorer.score(version, List.of(questionId), answer, 0);
+        double outcome = score.maxScore() > 0 ? (double) score.score() / score.maxScore() : 0;
+        ability = adaptiveEngine.record(version, questionId, ability, served.size() - 1, outcome);
+
+        Long startTime = (Long) session.getAttribute("startTime");
+        long elapsedMillis = startTime != null ? System.currentTimeMillis() - startTime : 0;
+        if (served.size() < adaptiveEngine.length(version)
+                && lateSubmissionRules.judge(version.toQuizDTO(), elapsedMillis) == null) {
+            QuestionSnapshot next = adaptiveEngine.next(version, ability, served);
+            if (next != null) {
+                return showNextQuestion(version, served, next, ability, session, model);
+            }
+        }
+        return redirectToResult(quizId, completeAttempt(quizId, answer, session), redirectAttributes);
+    }
+
+    /**
+     * Save answers of the attempt in progress (form encoding: answer_{questionId}).
+     * Called by the play page, debounced; saves are buffered and written in batches.
+     */
+    @PostMapping("/play/{quizId}/answers")
+    @ResponseBody
+    public ResponseEntity<Void> saveAnswers(@PathVariable Long quizId,
+                                            @RequestParam Map<String, String> answers,
+                                            HttpSession session) {
+        String attemptId = (String) session.getAttribute("attemptId");
+        if (attemptId == null || !quizId.equals(session.getAttribute("quizId"))) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        QuizSubmission.fromForm(answers).toFormValues()
+                .forEach((questionId, value) -> attemptService.saveAnswer(attemptId, questionId, value));
+        return ResponseEntity.noContent().build();
+    }
+
+    private String showNextQuestion(QuizVersion version, List<Long> served, QuestionSnapshot next, double ability,
+                                    HttpSession session, Model model) {
+        List<Long> questionIds = new ArrayList<>(served);
+        questionIds.add(next.id());
+        session.setAttribute("questionIds", questionIds);
+        session.setAttribute("ability", ability);
+        return showAdaptiveQuestion(version, questionIds.size(), next, session, model);
+    }
+
+    private String showAdaptiveQuestion(QuizVersion version, int position, QuestionSnapshot question,
+                                        HttpSession session, Model model) {
+        Integer timeRemaining = null;
+        Long startTime = (Long) session.getAttribute("startTime");
+        if (version.timeLimit() != null && startTime != null) {
+            long elapsedSeconds = (System.currentTimeMillis() - startTime) / 1000;
+            timeRemaining = (int) Math.max(0, version.timeLimit() - elapsedSeconds);
+        }
+        model.addAttribute("adaptive", Map.of("position", position, "length", adaptiveEngine.length(version)));
+        return showPlayPage(version, List.of(question), (String) session.getAttribute("nickname"), null, Map.of(),
+                timeRemaining, model);
+    }
+
+    private String showPlayPage(QuizVersion version, List<QuestionSnapshot> attemptQuestions, String nickname,
+                                String resumeToken, Map<Long, String> savedAnswers, Integer timeRemaining,
+                                Model model) {
+        // Questions of the attempt (shuffle if enabled)
+        List<QuestionSnapshot> questions = new ArrayList<>(attemptQuestions);
+        if (Boolean.TRUE.equals(version.shuffleQuestions())) {
             Collections.shuffle(questions);
         }
         
-        // Prepare questions with answers
+        // Prepare questions with answers, without the answer key
         List<Map<String, Object>> questionData = new ArrayList<>();
-        for (Question q : questions) {
+        for (QuestionSnapshot q : questions) {
             Map<String, Object> qData = new HashMap<>();
-            qData.put("id", q.getId());
-            qData.put("text", q.getText());
-            qData.put("type", q.getType().name());
-            qData.put("points", q.getPoints());
+            qData.put("id", q.id());
+            qData.put("text", q.text());
+            qData.put("type", q.type().name());
+            qData.put("points", q.points());
             
-            List<Answer> answers = answerRepository.findByQuestionIdOrderByOrderIndexAsc(q.getId());
-            if (quiz.getShuffleAnswers() != null && quiz.getShuffleAnswers()) {
+            List<Map<String, Object>> answers = new ArrayList<>();
+            for (AnswerSnapshot a : q.answers()) {
+                answers.add(Map.of("id", a.id(), "text", a.text()));
+            }
+            if (Boolean.TRUE.equals(version.shuffleAnswers())) {
                 Collections.shuffle(answers);
             }
             qData.put("answers", answers);
             questionData.add(qData);
         }
         
-        model.addAttribute("quiz", quiz);
+        model.addAttribute("quiz", version.toQuizDTO());
         model.addAttribute("questions", questionData);
         model.addAttribute("nickname", nickname);
-        model.addAttribute("timeLimit", quiz.getTimeLimit());
+        model.addAttribute("timeLimit", version.timeLimit());
+        model.addAttribute("timeRemaining", timeRemaining);
+        model.addAttribute("resumeToken", resumeToken);
+        model.addAttribute("savedAnswers", savedAnswers);
         
         return "game/play";
     }
 
     /**
-     * Submit quiz answers and calculate score
+     * Submit quiz answers (form encoding: answer_{questionId}) and calculate score
      */
     @PostMapping("/submit/{quizId}")
     public String submitQuiz(@PathVariable Long quizId,
                             @RequestParam Map<String, String> answers,
                             HttpSession session,
                             RedirectAttributes redirectAttributes) {
-        // Use service to get quiz data safely
-        QuizDTO quizDTO = quizService.getQuizById(quizId);
-        
+        CompletedAttempt attempt = completeAttempt(quizId, QuizSubmission.fromForm(answers), session);
+        return redirectToResult(quizId, attempt, redirectAttributes);
+    }
+
+    private String redirectToResult(Long quizId, CompletedAttempt attempt, RedirectAttributes redirectAttributes) {
+        if (attempt.closed()) {
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "This attempt was already submitted or expired - your answers were not accepted.");
+            return "redirect:/result/" + quizId;
+        }
+        if (attempt.late() == LateSubmissionPolicy.REJECT) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Time limit exceeded - your answers were not accepted.");
+            return "redirect:/result/" + quizId;
+        }
+        if (attempt.late() == LateSubmissionPolicy.PENALIZE) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Time limit exceeded - a late penalty was applied.");
+        } else if (attempt.late() != null) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Time limit exceeded!");
+        }
+        redirectAttributes.addFlashAttribute("score", attempt.result().score());
+        redirectAttributes.addFlashAttribute("maxScore", attempt.result().maxScore());
+        redirectAttributes.addFlashAttribute("nickname", attempt.result().nickname());
+        redirectAttributes.addFlashAttribute("completedAt", attempt.result().completedAt());
+
+        return "redirect:/result/" + quizId;
+    }
+
+    /**
+     * Submit quiz answers as a typed JSON body and return the scored result.
+     * The result is stored in the background, so its id is not set yet.
+     */
+    @PostMapping(value = "/submit/{quizId}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public QuizResultDTO submitQuizJson(@PathVariable Long quizId,
+                                        @RequestBody SubmissionRequest request,
+                                        HttpSession session) {
+        CompletedAttempt attempt = completeAttempt(quizId, QuizSubmission.fromRequest(request), session);
+        if (attempt.closed()) {
+            throw new AttemptClosedException(quizId);
+        }
+        if (attempt.late() == LateSubmissionPolicy.REJECT) {
+            throw new LateSubmissionException(quizId);
+        }
+        QuizResultDTO result = attempt.result().toDto();
+        result.setQuizTitle(attempt.quizTitle());
+        return result;
+    }
+
+    /**
+     * Score a parsed submission merged with the attempt's saved answers, enqueue the result
+     * and clear the game session. Late submissions are scored according to the quiz's late
+     * submission policy; rejected ones return no result, as do attempts that were already
+     * submitted (e.g. from a second device) or expired.
+     */
+    private CompletedAttempt completeAttempt(Long quizId, QuizSubmission submission, HttpSession session) {
         String nickname = (String) session.getAttribute("nickname");
-        Long startTime = (Long) session.getAttribute("startTime");
-        
+        String attemptId = (String) session.getAttribute("attemptId");
+        Optional<OpenAttempt> open = attemptRegistry.close(attemptId)
+                .filter(attempt -> attempt.quizId() == quizId);
+        // The registry's start time and version when the attempt is open on this node, else the session's
+        Long startTime = open.map(OpenAttempt::startedAt)
+                .orElse((Long) session.getAttribute("startTime"));
+        QuizVersion version = pinnedVersion(quizId, open, session);
+        List<Long> questionIds = drawnQuestions(quizId, session);
+        QuizDTO quizDTO = version.toQuizDTO();
+
         if (nickname == null) {
             nickname = "Anonymous";
         }
-        
+
         // Calculate time taken
-        int timeTaken = 0;
+        long elapsedMillis = 0;
         if (startTime != null) {
-            timeTaken = (int) ((System.currentTimeMillis() - startTime) / 1000);
+            elapsedMillis = System.currentTimeMillis() - startTime;
         }
-        
-        // Check time limit
-        if (quizDTO.getTimeLimit() != null && timeTaken > quizDTO.getTimeLimit()) {
-            redirectAttributes.addFlashAttribute("errorMessage", "Time limit exceeded!");
+        LateSubmissionPolicy late = lateSubmissionRules.judge(quizDTO, elapsedMillis);
+        if (late == LateSubmissionPolicy.REJECT) {
+            attemptService.abandon(attemptId);
+            clearGameSession(session);
+            return new CompletedAttempt(null, late, quizDTO.getTitle(), false);
         }
-        
-        // Calculate score
-        List<Question> questions = questionRepository.findByQuizId(quizId);
-        int totalScore = 0;
-        int maxScore = 0;
-        
-        for (Question question : questions) {
-            maxScore += question.getPoints();
-            String answerKey = "answer_" + question.getId();
-            String userAnswer = answers.get(answerKey);
-            
-            System.out.println("DEBUG: Question " + question.getId() + " (" + question.getText() + ")");
-            System.out.println("DEBUG: User answer: " + userAnswer);
-            
-            if (userAnswer != null && !userAnswer.isEmpty()) {
-                boolean correct = checkAnswer(question, userAnswer);
-                System.out.println("DEBUG: Correct? " + correct);
-                if (correct) {
-                    totalScore += question.getPoints();
-                } else if (quizDTO.getNegativePoints() != null && quizDTO.getNegativePoints()) {
-                    totalScore -= 1; // Deduct 1 point for wrong answer
-                }
-            } else {
-                System.out.println("DEBUG: No answer provided");
-            }
-        }
-        
-        // Ensure score doesn't go negative
-        totalScore = Math.max(0, totalScore);
-        
-        // Save result - need quiz entity for relationship
-        Quiz quizEntity = quizRepository.findById(quizId).orElse(null);
-        if (quizEntity != null) {
-            QuizResult result = new QuizResult();
-            result.setNickname(nickname);
-            result.setScore(totalScore);
-            result.setMaxScore(maxScore);
-            result.setQuiz(quizEntity);
-            result.setCompletedAt(LocalDateTime.now());
-            quizResultRepository.save(result);
+
+        // Calculate score from the submitted and saved answers
+        Optional<QuizSubmission> completed = attemptService.complete(attemptId, submission);
+        if (completed.isEmpty()) {
+            clearGameSession(session);
+            return new CompletedAttempt(null, null, quizDTO.getTitle(), true);
         }
-        
-        // Clear session
+        QuizSubmission answers = completed.get();
+        ScoreResult score = submissionScorer.score(version, questionIds, answers, elapsedMillis);
+
+        // Enqueue result - stored, ranked and counted by the result pipeline
+        int points = late == LateSubmissionPolicy.PENALIZE ? lateSubmissionRules.penalize(score.score()) : score.score();
+        PendingResult result = PendingResult.of(quizId, version.version(), nickname, points, score.maxScore());
+        resultPipeline.submit(result);
+
+        clearGameSession(session);
+        return new CompletedAttempt(result, late, quizDTO.getTitle(), false);
+    }
+
+    /**
+     * @return the version the attempt was started on; the current one when the attempt is not
+     * known, e.g. a submission without playing first
+     */
+    private QuizVersion pinnedVersion(Long quizId, Optional<OpenAttempt> open, HttpSession session) {
+        Integer version = open.map(OpenAttempt::quizVersion)
+                .orElse(quizId.equals(session.getAttribute("quizId"))
+                        ? (Integer) session.getAttribute("quizVersion")
+                        : null);
+        return version != null ? quizVersions.get(quizId, version) : quizVersions.current(quizId);
+    }
+
+    /**
+     * @return the questions drawn for the attempt, null when it has every question or is not known
+     */
+    @SuppressWarnings("unchecked")
+    private List<Long> drawnQuestions(Long quizId, HttpSession session) {
+        return quizId.equals(session.getAttribute("quizId"))
+                ? (List<Long>) session.getAttribute("questionIds")
+                : null;
+    }
+
+    private void clearGameSession(HttpSession session) {
         session.removeAttribute("quizId");
+        session.removeAttribute("quizVersion");
+        session.removeAttribute("questionIds");
+        session.removeAttribute("ability");
         session.removeAttribute("nickname");
+        session.removeAttribute("attemptId");
         session.removeAttribute("startTime");
-        
-        redirectAttributes.addFlashAttribute("score", totalScore);
-        redirectAttributes.addFlashAttribute("maxScore", maxScore);
-        redirectAttributes.addFlashAttribute("nickname", nickname);
-        
-        return "redirect:/result/" + quizId;
     }
 
     /**
@@ -198,10 +465,18 @@ public class GameController {
     public String showResult(@PathVariable Long quizId, Model model) {
         QuizDTO quiz = quizService.getQuizById(quizId);
         
-        List<QuizResult> ranking = quizResultRepository.findTop10ByQuizIdOrderByScoreDesc(quizId);
+        // The player's own result comes from the submit redirect; it may not be stored yet
+        QuizResultDTO own = null;
+        if (model.getAttribute("completedAt") instanceof LocalDateTime completedAt) {
+            own = new QuizResultDTO();
+            own.setNickname((String) model.getAttribute("nickname"));
+            own.setScore((Integer) model.getAttribute("score"));
+            own.setMaxScore((Integer) model.getAttribute("maxScore"));
+            own.setCompletedAt(completedAt);
+        }
         
         model.addAttribute("quiz", quiz);
-        model.addAttribute("ranking", ranking.stream().map(QuizResultDTO::new).toList());
+        model.addAttribute("ranking", leaderboard.top(quizId, own));
         
         return "game/result";
     }
@@ -231,68 +506,10 @@ public class GameController {
     }
 
     /**
-     * Check if user's answer is correct
+     * @param late   null when on time, otherwise the policy applied; result is null when REJECT
+     * @param closed the attempt was already submitted or expired; result is null
      */
-    private boolean checkAnswer(Question question, String userAnswer) {
-        List<Answer> correctAnswers = answerRepository.findByQuestionIdAndIsCorrectTrue(question.getId());
-        
-        System.out.println("DEBUG checkAnswer: Question type=" + question.getType());
-        System.out.println("DEBUG checkAnswer: User answer ID=" + userAnswer);
-        System.out.println("DEBUG checkAnswer: Correct answer IDs=" + correctAnswers.stream().map(a -> a.getId().toString()).toList());
-        
-        switch (question.getType()) {
-            case SINGLE_CHOICE:
-            case TRUE_FALSE:
-            case DROPDOWN:
-                // Check if selected answer ID matches correct answer
-                try {
-                    Long answerId = Long.parseLong(userAnswer);
-                    boolean match = correctAnswers.stream().anyMatch(a -> a.getId().equals(answerId));
-                    System.out.println("DEBUG checkAnswer: Match=" + match);
-                    return match;
-                } catch (NumberFormatException e) {
-                    return false;
-                }
-            
-            case MULTIPLE_CHOICE:
-                // User selects multiple answers (comma-separated IDs)
-                String[] selectedIds = userAnswer.split(",");
-                Set<Long> selectedSet = Arrays.stream(selectedIds)
-                        .map(String::trim)
-                        .filter(s -> !s.isEmpty())
-                        .map(Long::parseLong)
-                        .collect(Collectors.toSet());
-                Set<Long> correctSet = correctAnswers.stream()
-                        .map(Answer::getId)
-                        .collect(Collectors.toSet());
-                return selectedSet.equals(correctSet);
-            
-            case SHORT_ANSWER:
-            case FILL_BLANK:
-                // Compare text (case-insensitive)
-                return correctAnswers.stream()
-                        .anyMatch(a -> a.getText().equalsIgnoreCase(userAnswer.trim()));
-            
-            case SORTING:
-            case MATCHING:
-                // For sorting/matching, check if order matches expected
-                String[] parts = userAnswer.split(",");
-                List<Long> correctOrder = correctAnswers.stream()
-                        .sorted(Comparator.comparingInt(a -> a.getOrderIndex() != null ? a.getOrderIndex() : 0))
-                        .map(Answer::getId)
-                        .toList();
-                try {
-                    List<Long> userOrder = Arrays.stream(parts)
-                            .map(String::trim)
-                            .map(Long::parseLong)
-                            .toList();
-                    return userOrder.equals(correctOrder);
-                } catch (NumberFormatException e) {
-                    return false;
-                }
-            
-            default:
-                return false;
-        }
+    private record CompletedAttempt(PendingResult result, LateSubmissionPolicy late, String quizTitle,
+                                    boolean closed) {
     }
 }
@@ -1,5 +1,7 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.cache.InvalidationBus;
+import com.example.quizapp.cache.InvalidationEvent;
 import com.example.quizapp.dto.QuestionDTO;
 import com.example.quizapp.entity.Question;
 import com.example.quizapp.entity.Quiz;
@@ -7,6 +9,7 @@ import com.example.quizapp.entity.QuestionType;
 import com.example.quizapp.exception.ResourceNotFoundException;
 import com.example.quizapp.repository.QuestionRepository;
 import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.service.DeletionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
@@ -27,10 +30,15 @@ public class QuestionController {
 
     private final QuestionRepository questionRepository;
     private final QuizRepository quizRepository;
+    private final InvalidationBus invalidationBus;
+    private final DeletionService deletionService;
 
-    public QuestionController(QuestionRepository questionRepository, QuizRepository quizRepository) {
+    public QuestionController(QuestionRepository questionRepository, QuizRepository quizRepository,
+                              InvalidationBus invalidationBus, DeletionService deletionService) {
         this.questionRepository = questionRepository;
         this.quizRepository = quizRepository;
+        this.invalidationBus = invalidationBus;
+        this.deletionService = deletionService;
     }
 
     /**
@@ -82,9 +90,12 @@ public class QuestionController {
         question.setType(request.getType() != null ? request.getType() : QuestionType.SINGLE_CHOICE);
         question.setPoints(request.getPoints() != null ? request.getPoints() : 1);
         question.setOrderIndex(request.getOrderIndex());
+        question.setScoringPolicy(request.getScoringPolicy());
+        question.setDifficulty(request.getDifficulty());
         question.setQuiz(quiz);
         
         Question saved = questionRepository.save(question);
+        invalidationBus.publish(InvalidationEvent.question(saved.getId(), quiz.getId()));
         return ResponseEntity.status(HttpStatus.CREATED).body(new QuestionDTO(saved));
     }
 
@@ -101,8 +112,11 @@ public class QuestionController {
         question.setType(request.getType());
         question.setPoints(request.getPoints());
         question.setOrderIndex(request.getOrderIndex());
+        question.setScoringPolicy(request.getScoringPolicy());
+        question.setDifficulty(request.getDifficulty());
         
         Question updated = questionRepository.save(question);
+        invalidationBus.publish(InvalidationEvent.question(id, question.getQuiz() != null ? question.getQuiz().getId() : null));
         return ResponseEntity.ok(new QuestionDTO(updated));
     }
 
@@ -112,10 +126,7 @@ public class QuestionController {
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete question")
     public ResponseEntity<Void> deleteQuestion(@PathVariable Long id) {
-        if (!questionRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Question", id);
-        }
-        questionRepository.deleteById(id);
+        deletionService.deleteQuestion(id);
         return ResponseEntity.noContent().build();
     }
 }
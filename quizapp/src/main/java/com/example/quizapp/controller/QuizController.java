@@ -1,7 +1,14 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.dto.CategoryBrowseDTO;
 import com.example.quizapp.dto.CreateQuizRequest;
 import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.dto.QuizDiscoveryDTO;
+import com.example.quizapp.dto.QuizDiscoveryRequest;
+import com.example.quizapp.search.CategoryMatch;
+import com.example.quizapp.service.CategoryBrowseService;
+import com.example.quizapp.service.QuizDiscoveryService;
+import com.example.quizapp.service.QuizSearchService;
 import com.example.quizapp.service.QuizService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,9 +31,16 @@ import java.util.List;
 public class QuizController {
 
     private final QuizService quizService;
+    private final QuizSearchService quizSearchService;
+    private final CategoryBrowseService categoryBrowseService;
+    private final QuizDiscoveryService quizDiscoveryService;
 
-    public QuizController(QuizService quizService) {
+    public QuizController(QuizService quizService, QuizSearchService quizSearchService,
+                          CategoryBrowseService categoryBrowseService, QuizDiscoveryService quizDiscoveryService) {
         this.quizService = quizService;
+        this.quizSearchService = quizSearchService;
+        this.categoryBrowseService = categoryBrowseService;
+        this.quizDiscoveryService = quizDiscoveryService;
     }
 
     /**
@@ -48,12 +62,51 @@ public class QuizController {
     }
 
     /**
-     * GET /api/v1/quizzes/search - Search quizzes by title
+     * GET /api/v1/quizzes/search - Ranked search over titles, descriptions, categories and questions.
+     * "title" is still accepted in place of "q" for older clients.
      */
     @GetMapping("/search")
-    @Operation(summary = "Search quizzes", description = "Search quizzes by title")
-    public ResponseEntity<List<QuizDTO>> searchQuizzes(@RequestParam String title) {
-        return ResponseEntity.ok(quizService.searchQuizzes(title));
+    @Operation(summary = "Search quizzes", description = "Ranked, paged search over quiz text")
+    public ResponseEntity<Page<QuizDTO>> searchQuizzes(@RequestParam(required = false) String q,
+                                                       @RequestParam(required = false) String title,
+                                                       @RequestParam(defaultValue = "0") int page,
+                                                       @RequestParam(defaultValue = "20") int size) {
+        String query = q != null ? q : title;
+        return ResponseEntity.ok(quizSearchService.search(query, page, size));
+    }
+
+    /**
+     * GET /api/v1/quizzes/search/suggest - Title autocomplete
+     */
+    @GetMapping("/search/suggest")
+    @Operation(summary = "Suggest quiz titles", description = "Autocomplete for the search box")
+    public ResponseEntity<List<String>> suggestTitles(@RequestParam String prefix,
+                                                      @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(quizSearchService.suggest(prefix, limit));
+    }
+
+    /**
+     * GET /api/v1/quizzes/browse - Newest quizzes in all (or any) of the given categories,
+     * with the number of matches per category
+     */
+    @GetMapping("/browse")
+    @Operation(summary = "Browse quizzes by category", description = "Paged category filter with per-category counts")
+    public ResponseEntity<CategoryBrowseDTO> browseQuizzes(@RequestParam(name = "category", required = false) List<Long> categoryIds,
+                                                           @RequestParam(defaultValue = "ALL") CategoryMatch match,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(categoryBrowseService.browse(categoryIds, match, page, size));
+    }
+
+    /**
+     * GET /api/v1/quizzes/discover - Any combination of category, time limit, negative points,
+     * question count and play count filters, sorted by NEWEST, MOST_PLAYED or HIGHEST_AVERAGE,
+     * with facet counts
+     */
+    @GetMapping("/discover")
+    @Operation(summary = "Discover quizzes", description = "Faceted, paged quiz discovery from the in-memory catalog")
+    public ResponseEntity<QuizDiscoveryDTO> discoverQuizzes(QuizDiscoveryRequest request) {
+        return ResponseEntity.ok(quizDiscoveryService.discover(request));
     }
 
     /**
@@ -66,6 +119,16 @@ public class QuizController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * POST /api/v1/quizzes/{id}/clone - Copy a quiz with its questions and answers
+     */
+    @PostMapping("/{id}/clone")
+    @Operation(summary = "Clone quiz", description = "Creates a copy of a quiz with its categories, questions and answers")
+    public ResponseEntity<QuizDTO> cloneQuiz(@PathVariable Long id, @RequestParam(required = false) String title) {
+        QuizDTO created = quizService.cloneQuiz(id, title);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
     /**
      * PUT /api/v1/quizzes/{id} - Update a quiz
      */
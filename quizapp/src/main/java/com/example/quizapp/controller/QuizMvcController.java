@@ -1,7 +1,10 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.dto.CategoryBrowseDTO;
 import com.example.quizapp.dto.CreateQuizRequest;
 import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.search.CategoryMatch;
+import com.example.quizapp.service.CategoryBrowseService;
 import com.example.quizapp.service.QuizService;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -12,6 +15,8 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.util.List;
+
 /**
  * MVC Controller for Thymeleaf views.
  * Demonstrates @Controller, Model, @ModelAttribute, th:each, th:object, th:errors.
@@ -21,9 +26,11 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class QuizMvcController {
 
     private final QuizService quizService;
+    private final CategoryBrowseService categoryBrowseService;
 
-    public QuizMvcController(QuizService quizService) {
+    public QuizMvcController(QuizService quizService, CategoryBrowseService categoryBrowseService) {
         this.quizService = quizService;
+        this.categoryBrowseService = categoryBrowseService;
     }
 
     /**
@@ -34,6 +41,20 @@ public class QuizMvcController {
         return "redirect:/admin";
     }
 
+    /**
+     * Browse quizzes by category, newest first
+     */
+    @GetMapping("/browse")
+    public String browseQuizzes(@RequestParam(name = "category", required = false) List<Long> categoryIds,
+                                @RequestParam(defaultValue = "ALL") CategoryMatch match,
+                                @RequestParam(defaultValue = "0") int page,
+                                Model model) {
+        CategoryBrowseDTO browse = categoryBrowseService.browse(categoryIds, match, page, 12);
+        model.addAttribute("browse", browse);
+        model.addAttribute("selected", categoryIds != null ? categoryIds : List.of());
+        return "quiz/browse";
+    }
+
     /**
      * Show quiz details
      */
@@ -84,6 +105,10 @@ public class QuizMvcController {
         request.setShuffleQuestions(quiz.getShuffleQuestions());
         request.setShuffleAnswers(quiz.getShuffleAnswers());
         request.setNegativePoints(quiz.getNegativePoints());
+        request.setScoringPolicy(quiz.getScoringPolicy());
+        request.setLateSubmissionPolicy(quiz.getLateSubmissionPolicy());
+        request.setPoolSize(quiz.getPoolSize());
+        request.setPoolStratifyBy(quiz.getPoolStratifyBy());
         
         model.addAttribute("quiz", request);
         model.addAttribute("quizId", id);
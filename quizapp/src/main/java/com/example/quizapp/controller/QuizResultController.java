@@ -1,20 +1,26 @@
 package com.example.quizapp.controller;
 
 import com.example.quizapp.dto.QuizResultDTO;
-import com.example.quizapp.entity.Quiz;
 import com.example.quizapp.entity.QuizResult;
 import com.example.quizapp.exception.ResourceNotFoundException;
-import com.example.quizapp.repository.QuizRepository;
 import com.example.quizapp.repository.QuizResultRepository;
+import com.example.quizapp.results.ResultChangeBatch;
+import com.example.quizapp.results.ResultChangeFeed;
+import com.example.quizapp.service.QuizResultService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST Controller for QuizResult (ranking) operations.
@@ -24,12 +30,19 @@ import java.util.List;
 @Tag(name = "Quiz Results", description = "Quiz results and ranking API")
 public class QuizResultController {
 
+    private static final int MAX_CHANGES = 1000;
+    private static final int MAX_WAIT_SECONDS = 60;
+
     private final QuizResultRepository resultRepository;
-    private final QuizRepository quizRepository;
+    private final QuizResultService resultService;
+    private final ResultChangeFeed changeFeed;
 
-    public QuizResultController(QuizResultRepository resultRepository, QuizRepository quizRepository) {
+    public QuizResultController(QuizResultRepository resultRepository,
+                                QuizResultService resultService,
+                                ResultChangeFeed changeFeed) {
         this.resultRepository = resultRepository;
-        this.quizRepository = quizRepository;
+        this.resultService = resultService;
+        this.changeFeed = changeFeed;
     }
 
     /**
@@ -42,6 +55,21 @@ public class QuizResultController {
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * GET /api/v1/results/changes?after={seq} - Result inserts and deletes after seq, in seq order.
+     * Waits up to wait seconds for the first change when there is none yet; pass the returned
+     * next as after in the following request. 410 when retention removed changes after seq.
+     */
+    @GetMapping("/changes")
+    @Operation(summary = "Get result changes after a sequence number (long-poll)")
+    public DeferredResult<ResultChangeBatch> getChanges(@RequestParam(defaultValue = "0") long after,
+                                                        @RequestParam(defaultValue = "100") int limit,
+                                                        @RequestParam(defaultValue = "30") int wait) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_CHANGES));
+        int boundedWait = Math.max(0, Math.min(wait, MAX_WAIT_SECONDS));
+        return changeFeed.poll(after, boundedLimit, Duration.ofSeconds(boundedWait));
+    }
+
     /**
      * GET /api/v1/results/{id} - Get result by ID
      */
@@ -82,17 +110,7 @@ public class QuizResultController {
     @PostMapping
     @Operation(summary = "Submit quiz result")
     public ResponseEntity<QuizResultDTO> submitResult(@RequestBody QuizResultDTO request) {
-        Quiz quiz = quizRepository.findById(request.getQuizId())
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz", request.getQuizId()));
-        
-        QuizResult result = new QuizResult();
-        result.setNickname(request.getNickname());
-        result.setScore(request.getScore());
-        result.setMaxScore(request.getMaxScore());
-        result.setQuiz(quiz);
-        
-        QuizResult saved = resultRepository.save(result);
-        return ResponseEntity.status(HttpStatus.CREATED).body(new QuizResultDTO(saved));
+        return ResponseEntity.status(HttpStatus.CREATED).body(resultService.submitResult(request));
     }
 
     /**
@@ -101,10 +119,19 @@ public class QuizResultController {
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete result")
     public ResponseEntity<Void> deleteResult(@PathVariable Long id) {
-        if (!resultRepository.existsById(id)) {
-            throw new ResourceNotFoundException("QuizResult", id);
-        }
-        resultRepository.deleteById(id);
+        resultService.deleteResult(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * DELETE /api/v1/results/quiz/{quizId}?before={dateTime} - Delete a quiz's results completed before a time
+     */
+    @DeleteMapping("/quiz/{quizId}")
+    @Operation(summary = "Delete results of a quiz completed before a time")
+    public ResponseEntity<Map<String, Integer>> deleteResultsByQuiz(
+            @PathVariable Long quizId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before) {
+        int deleted = resultService.deleteResultsBefore(quizId, before);
+        return ResponseEntity.ok(Map.of("deleted", deleted));
+    }
 }
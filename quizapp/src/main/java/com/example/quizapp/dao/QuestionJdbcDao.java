@@ -0,0 +1,53 @@
+package com.example.quizapp.dao;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JdbcTemplate-based DAO for deleting questions and answers without loading them.
+ */
+@Repository
+public class QuestionJdbcDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QuestionJdbcDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return the quiz of the question, empty when the question does not exist
+     */
+    public Optional<Long> findQuizId(Long questionId) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT quiz_id FROM question WHERE id = ?", Long.class, questionId);
+        return ids.stream().findFirst();
+    }
+
+    /**
+     * @return the question of the answer, empty when the answer does not exist
+     */
+    public Optional<Long> findQuestionIdOfAnswer(Long answerId) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT question_id FROM answer WHERE id = ?", Long.class, answerId);
+        return ids.stream().findFirst();
+    }
+
+    /**
+     * Delete a question and its answers with one statement each.
+     *
+     * @return number of questions deleted (0 or 1)
+     */
+    public int deleteWithAnswers(Long questionId) {
+        jdbcTemplate.update("DELETE FROM answer WHERE question_id = ?", questionId);
+        return jdbcTemplate.update("DELETE FROM question WHERE id = ?", questionId);
+    }
+
+    /**
+     * @return number of answers deleted (0 or 1)
+     */
+    public int deleteAnswer(Long answerId) {
+        return jdbcTemplate.update("DELETE FROM answer WHERE id = ?", answerId);
+    }
+}
@@ -2,8 +2,11 @@ package com.example.quizapp.dao;
 
 import com.example.quizapp.entity.Quiz;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +17,61 @@ import java.util.Optional;
 @Repository
 public class QuizJdbcDao {
 
+    // Dependency order; attempt_answer rows go with quiz_attempt and question_stat rows with question (ON DELETE CASCADE)
+    private static final List<String> DELETE_QUIZ_CHILDREN_SQL = List.of(
+            "DELETE FROM answer WHERE question_id IN (SELECT id FROM question WHERE quiz_id = ?)",
+            "DELETE FROM question WHERE quiz_id = ?",
+            "DELETE FROM quiz_result WHERE quiz_id = ?",
+            "DELETE FROM quiz_result_archive WHERE quiz_id = ?",
+            "DELETE FROM quiz_categories WHERE quiz_id = ?",
+            "DELETE FROM attempt_answer_event WHERE attempt_id IN (SELECT id FROM quiz_attempt WHERE quiz_id = ?)",
+            "DELETE FROM quiz_attempt WHERE quiz_id = ?",
+            "DELETE FROM answer_revision WHERE question_id IN (SELECT question_id FROM question_revision WHERE quiz_id = ?)",
+            "DELETE FROM question_revision WHERE quiz_id = ?",
+            "DELETE FROM quiz_version_question WHERE quiz_id = ?",
+            "DELETE FROM quiz_version WHERE quiz_id = ?");
+    private static final List<String> DELETE_ALL_CHILDREN_SQL = List.of(
+            "DELETE FROM answer",
+            "DELETE FROM question",
+            "DELETE FROM quiz_result",
+            "DELETE FROM quiz_result_archive",
+            "DELETE FROM quiz_categories",
+            "DELETE FROM attempt_answer_event",
+            "DELETE FROM quiz_attempt",
+            "DELETE FROM answer_revision",
+            "DELETE FROM question_revision",
+            "DELETE FROM quiz_version_question",
+            "DELETE FROM quiz_version");
+
+    private static final String CLONE_QUIZ_SQL = """
+            INSERT INTO quiz (title, description, time_limit, shuffle_questions, shuffle_answers,
+                              negative_points, scoring_policy, late_submission_policy, pool_size, pool_stratify_by,
+                              created_at, updated_at)
+            SELECT COALESCE(?, LEFT(title, 248) || ' (copy)'), description, time_limit, shuffle_questions, shuffle_answers,
+                   negative_points, scoring_policy, late_submission_policy, pool_size, pool_stratify_by,
+                   CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM quiz WHERE id = ?
+            """;
+    private static final String CLONE_CATEGORIES_SQL = """
+            INSERT INTO quiz_categories (quiz_id, category_id)
+            SELECT ?, category_id FROM quiz_categories WHERE quiz_id = ?
+            """;
+    private static final String CLONE_QUESTIONS_SQL = """
+            INSERT INTO question (text, type, points, order_index, scoring_policy, difficulty, quiz_id)
+            SELECT text, type, points, order_index, scoring_policy, difficulty, ?
+            FROM question WHERE quiz_id = ? ORDER BY id
+            """;
+    // The copies get ids in the order of their sources, so the n-th question of one quiz maps to the n-th of the other
+    private static final String CLONE_ANSWERS_SQL = """
+            INSERT INTO answer (text, is_correct, order_index, question_id)
+            SELECT a.text, a.is_correct, a.order_index, dst.id
+            FROM answer a
+            JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS n FROM question WHERE quiz_id = ?) src
+              ON a.question_id = src.id
+            JOIN (SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS n FROM question WHERE quiz_id = ?) dst
+              ON dst.n = src.n
+            """;
+
     private final JdbcTemplate jdbcTemplate;
     private final QuizRowMapper quizRowMapper;
 
@@ -125,10 +183,57 @@ public class QuizJdbcDao {
     }
 
     /**
-     * Delete all quizzes.
+     * Delete a quiz and everything that belongs to it with one set-based statement per
+     * table, children first. Nothing is loaded, unlike removing the Quiz entity, which
+     * cascades through every question, answer and result in the persistence context.
+     * Runs in the caller's transaction.
+     *
+     * @return number of quizzes deleted (0 or 1)
+     */
+    public int deleteWithChildren(Long id) {
+        for (String sql : DELETE_QUIZ_CHILDREN_SQL) {
+            jdbcTemplate.update(sql, id);
+        }
+        return jdbcTemplate.update("DELETE FROM quiz WHERE id = ?", id);
+    }
+
+    /**
+     * Deep-copy a quiz with its category links, questions and answers using one
+     * INSERT ... SELECT per table, so the copy costs four statements however many
+     * questions the quiz has. Results, attempts and published versions are not copied.
+     * Runs in the caller's transaction, which should be REPEATABLE READ so that all four
+     * statements see the same source questions.
+     *
+     * @param title title of the copy; null for the source's title with " (copy)"
+     * @return id of the new quiz, or empty when the source quiz does not exist
+     */
+    public Optional<Long> cloneWithChildren(Long sourceId, String title) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(CLONE_QUIZ_SQL, new String[] {"id"});
+            ps.setString(1, title);
+            ps.setLong(2, sourceId);
+            return ps;
+        }, keyHolder);
+        if (inserted == 0) {
+            return Optional.empty();
+        }
+        Long cloneId = keyHolder.getKeyAs(Long.class);
+
+        jdbcTemplate.update(CLONE_CATEGORIES_SQL, cloneId, sourceId);
+        jdbcTemplate.update(CLONE_QUESTIONS_SQL, cloneId, sourceId);
+        jdbcTemplate.update(CLONE_ANSWERS_SQL, sourceId, cloneId);
+        return Optional.of(cloneId);
+    }
+
+    /**
+     * Delete all quizzes and everything that belongs to them, children first.
+     * Bypasses the result change feed and the second-level cache; meant for resets.
      */
     public int deleteAll() {
-        String sql = "DELETE FROM quiz";
-        return jdbcTemplate.update(sql);
+        for (String sql : DELETE_ALL_CHILDREN_SQL) {
+            jdbcTemplate.update(sql);
+        }
+        return jdbcTemplate.update("DELETE FROM quiz");
     }
 }
@@ -1,6 +1,9 @@
 package com.example.quizapp.dao;
 
+import com.example.quizapp.entity.LateSubmissionPolicy;
+import com.example.quizapp.entity.PoolStratification;
 import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.entity.ScoringPolicyType;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
@@ -29,6 +32,14 @@ public class QuizRowMapper implements RowMapper<Quiz> {
         quiz.setShuffleQuestions(rs.getBoolean("shuffle_questions"));
         quiz.setShuffleAnswers(rs.getBoolean("shuffle_answers"));
         quiz.setNegativePoints(rs.getBoolean("negative_points"));
+
+        String scoringPolicy = rs.getString("scoring_policy");
+        quiz.setScoringPolicy(scoringPolicy != null ? ScoringPolicyType.valueOf(scoringPolicy) : null);
+        String latePolicy = rs.getString("late_submission_policy");
+        quiz.setLateSubmissionPolicy(latePolicy != null ? LateSubmissionPolicy.valueOf(latePolicy) : null);
+        quiz.setPoolSize(rs.getObject("pool_size", Integer.class));
+        String stratifyBy = rs.getString("pool_stratify_by");
+        quiz.setPoolStratifyBy(stratifyBy != null ? PoolStratification.valueOf(stratifyBy) : null);
         
         // Handle timestamps
         java.sql.Timestamp createdAt = rs.getTimestamp("created_at");
@@ -0,0 +1,9 @@
+package com.example.quizapp.datasource;
+
+/**
+ * Target pools of the read/write routing DataSource.
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
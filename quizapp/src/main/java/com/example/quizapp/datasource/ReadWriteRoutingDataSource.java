@@ -0,0 +1,65 @@
+package com.example.quizapp.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the route is chosen after
+ * the transaction's read-only flag has been set.
+ *
+ * Reads fall back to the primary when the replica is lagging or when the current
+ * client wrote recently (read-your-writes).
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long readYourWritesWindowMillis;
+    private final Counter writes;
+    private final Counter replicaReads;
+    private final Counter pinnedReads;
+    private final Counter laggingReads;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, Duration readYourWritesWindow,
+                                      MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+        this.writes = routeCounter(meterRegistry, DataSourceRoute.PRIMARY, "write");
+        this.replicaReads = routeCounter(meterRegistry, DataSourceRoute.REPLICA, "read");
+        this.pinnedReads = routeCounter(meterRegistry, DataSourceRoute.PRIMARY, "read-your-writes");
+        this.laggingReads = routeCounter(meterRegistry, DataSourceRoute.PRIMARY, "replica-lag");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.markWrite(readYourWritesWindowMillis);
+            }
+            writes.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            pinnedReads.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            laggingReads.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        replicaReads.increment();
+        return DataSourceRoute.REPLICA;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, DataSourceRoute route, String reason) {
+        return Counter.builder("quizapp.datasource.route")
+                .description("Connections handed out by the routing DataSource")
+                .tag("route", route.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
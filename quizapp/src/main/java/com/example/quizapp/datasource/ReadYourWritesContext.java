@@ -0,0 +1,63 @@
+package com.example.quizapp.datasource;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Per-thread read-your-writes state.
+ * After a client writes, its reads are pinned to the primary until the replica has
+ * had time to catch up, so e.g. a player sees the result they just submitted.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    /**
+     * Start tracking for the current request.
+     *
+     * @param pinnedUntilMillis epoch millis until which reads must use the primary (0 if not pinned)
+     * @param onWrite           called with the new pin deadline the first time this request writes
+     */
+    public static void begin(long pinnedUntilMillis, LongConsumer onWrite) {
+        CURRENT.set(new State(pinnedUntilMillis, onWrite));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        State state = CURRENT.get();
+        return state != null && state.pinnedUntilMillis > System.currentTimeMillis();
+    }
+
+    /**
+     * Record that the current thread opened a write transaction.
+     */
+    static void markWrite(long windowMillis) {
+        State state = CURRENT.get();
+        if (state == null) {
+            return;
+        }
+        state.pinnedUntilMillis = System.currentTimeMillis() + windowMillis;
+        if (!state.written) {
+            state.written = true;
+            if (state.onWrite != null) {
+                state.onWrite.accept(state.pinnedUntilMillis);
+            }
+        }
+    }
+
+    private static final class State {
+        private long pinnedUntilMillis;
+        private boolean written;
+        private final LongConsumer onWrite;
+
+        private State(long pinnedUntilMillis, LongConsumer onWrite) {
+            this.pinnedUntilMillis = pinnedUntilMillis;
+            this.onWrite = onWrite;
+        }
+    }
+}
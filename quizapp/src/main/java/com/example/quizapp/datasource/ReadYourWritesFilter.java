@@ -0,0 +1,59 @@
+package com.example.quizapp.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Carries the read-your-writes pin between requests in a cookie.
+ * A cookie rather than the HTTP session keeps anonymous players stateless;
+ * tampering with it can only send that client's reads to the primary.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "rw-primary-until";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadYourWritesContext.begin(readPin(request), pinnedUntil -> writePin(request, response, pinnedUntil));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private long readPin(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+
+    private void writePin(HttpServletRequest request, HttpServletResponse response, long pinnedUntil) {
+        if (response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(pinnedUntil));
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (pinnedUntil - System.currentTimeMillis() + 999) / 1000));
+        response.addCookie(cookie);
+    }
+}
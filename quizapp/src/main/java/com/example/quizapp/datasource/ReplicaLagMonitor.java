@@ -0,0 +1,97 @@
+package com.example.quizapp.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures replication lag on the replica.
+ * The replica is only used while the last check succeeded and the lag is within the limit;
+ * until the first check runs, reads stay on the primary.
+ */
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean usable;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+        Gauge.builder("quizapp.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * Run the lag query now and update the replica state.
+     */
+    public void refresh() {
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            lagSeconds = lag != null ? lag : 0.0;
+            boolean withinLimit = lagSeconds * 1000 <= maxLag.toMillis();
+            if (usable && !withinLimit) {
+                log.warn("Replica lag {}s exceeds {}; routing reads to primary", lagSeconds, maxLag);
+            }
+            usable = withinLimit;
+        } catch (RuntimeException e) {
+            if (usable) {
+                log.warn("Replica lag check failed; routing reads to primary", e);
+            }
+            lagSeconds = Double.NaN;
+            usable = false;
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
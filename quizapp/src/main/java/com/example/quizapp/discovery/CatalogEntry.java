@@ -0,0 +1,12 @@
+package com.example.quizapp.discovery;
+
+import java.util.List;
+
+/**
+ * One quiz of a discovery page, read from the catalog.
+ *
+ * @param averageScore average score in percent of the max score, null when nobody has played
+ */
+public record CatalogEntry(long quizId, String title, String description, Integer timeLimit, boolean negativePoints,
+                           int questionCount, List<String> categories, int plays, Double averageScore) {
+}
@@ -0,0 +1,17 @@
+package com.example.quizapp.discovery;
+
+import java.util.Map;
+
+/**
+ * Facet counts of a discovery query. Each facet counts the quizzes that pass every other
+ * filter, so it shows what selecting one of its values would return; categories combined
+ * with {@link com.example.quizapp.search.CategoryMatch#ALL} count the matches themselves,
+ * since selecting another category narrows them.
+ *
+ * @param categories    quizzes per category id; selected categories are included even at 0
+ * @param categoryNames names of the counted categories
+ * @param questionCount quizzes per {@link QuizCatalog#QUESTION_BUCKETS} bucket, by lower bound
+ */
+public record CatalogFacets(Map<Long, Integer> categories, Map<Long, String> categoryNames, int timed, int untimed,
+                            int negativePoints, int noNegativePoints, Map<Integer, Integer> questionCount) {
+}
@@ -0,0 +1,131 @@
+package com.example.quizapp.discovery;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Reads quiz metadata for the discovery catalog with plain JDBC.
+ * Like SearchDocumentLoader, quizzes are loaded in id ranges and each range's question
+ * counts and result statistics come from one grouped query per table.
+ */
+@Component
+public class CatalogLoader {
+
+    private static final String QUIZ_COLUMNS = "SELECT id, title, description, time_limit, negative_points FROM quiz";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void loadAll(int batchSize, Consumer<CatalogRow> consumer) {
+        long lastId = 0;
+        while (true) {
+            Map<Long, RowBuilder> batch = new LinkedHashMap<>();
+            jdbcTemplate.query(QUIZ_COLUMNS + " WHERE id > ? ORDER BY id LIMIT ?",
+                    rs -> {
+                        RowBuilder builder = new RowBuilder(rs.getLong("id"), rs.getString("title"),
+                                rs.getString("description"), rs.getObject("time_limit", Integer.class),
+                                rs.getBoolean("negative_points"));
+                        batch.put(builder.quizId, builder);
+                    }, lastId, batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Long> ids = new ArrayList<>(batch.keySet());
+            lastId = ids.get(ids.size() - 1);
+            loadRange(batch, ids.get(0), lastId).forEach(consumer);
+        }
+    }
+
+    public Optional<CatalogRow> load(long quizId) {
+        Map<Long, RowBuilder> single = new LinkedHashMap<>();
+        jdbcTemplate.query(QUIZ_COLUMNS + " WHERE id = ?",
+                rs -> {
+                    single.put(quizId, new RowBuilder(quizId, rs.getString("title"), rs.getString("description"),
+                            rs.getObject("time_limit", Integer.class), rs.getBoolean("negative_points")));
+                }, quizId);
+        if (single.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(loadRange(single, quizId, quizId).get(0));
+    }
+
+    public void loadCategoryNames(BiConsumer<Long, String> consumer) {
+        jdbcTemplate.query("SELECT id, name FROM category", rs -> {
+            consumer.accept(rs.getLong("id"), rs.getString("name"));
+        });
+    }
+
+    public Optional<String> categoryName(long categoryId) {
+        return jdbcTemplate.queryForList("SELECT name FROM category WHERE id = ?", String.class, categoryId)
+                .stream().findFirst();
+    }
+
+    private List<CatalogRow> loadRange(Map<Long, RowBuilder> batch, long fromId, long toId) {
+        jdbcTemplate.query("""
+            SELECT quiz_id, COUNT(*) AS questions FROM question
+            WHERE quiz_id BETWEEN ? AND ? GROUP BY quiz_id
+            """, rs -> {
+            RowBuilder builder = batch.get(rs.getLong("quiz_id"));
+            if (builder != null) {
+                builder.questionCount = rs.getInt("questions");
+            }
+        }, fromId, toId);
+
+        // Archived results still count as plays
+        String resultsSql = """
+            SELECT quiz_id, COUNT(*) AS plays,
+                   COUNT(CASE WHEN max_score > 0 THEN 1 END) AS scored,
+                   SUM(CASE WHEN max_score > 0 THEN CAST(score AS DOUBLE PRECISION) / max_score ELSE 0 END) AS ratio_sum
+            FROM (SELECT quiz_id, score, max_score FROM quiz_result WHERE quiz_id BETWEEN ? AND ?
+                  UNION ALL
+                  SELECT quiz_id, score, max_score FROM quiz_result_archive WHERE quiz_id BETWEEN ? AND ?) r
+            GROUP BY quiz_id
+            """;
+        jdbcTemplate.query(resultsSql, rs -> {
+            RowBuilder builder = batch.get(rs.getLong("quiz_id"));
+            if (builder != null) {
+                builder.plays = rs.getInt("plays");
+                builder.scored = rs.getInt("scored");
+                builder.scoreRatioSum = rs.getDouble("ratio_sum");
+            }
+        }, fromId, toId, fromId, toId);
+
+        return batch.values().stream().map(RowBuilder::build).toList();
+    }
+
+    private static final class RowBuilder {
+        private final long quizId;
+        private final String title;
+        private final String description;
+        private final Integer timeLimit;
+        private final boolean negativePoints;
+        private int questionCount;
+        private int plays;
+        private int scored;
+        private double scoreRatioSum;
+
+        private RowBuilder(long quizId, String title, String description, Integer timeLimit, boolean negativePoints) {
+            this.quizId = quizId;
+            this.title = title;
+            this.description = description;
+            this.timeLimit = timeLimit;
+            this.negativePoints = negativePoints;
+        }
+
+        private CatalogRow build() {
+            return new CatalogRow(quizId, title, description, timeLimit, negativePoints, questionCount,
+                    plays, scored, scoreRatioSum);
+        }
+    }
+}
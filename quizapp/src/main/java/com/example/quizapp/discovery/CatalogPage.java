@@ -0,0 +1,9 @@
+package com.example.quizapp.discovery;
+
+import java.util.List;
+
+/**
+ * One page of a discovery query plus the total number of matches and the facet counts.
+ */
+public record CatalogPage(List<CatalogEntry> entries, long total, CatalogFacets facets) {
+}
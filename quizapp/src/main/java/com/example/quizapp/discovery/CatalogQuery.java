@@ -0,0 +1,16 @@
+package com.example.quizapp.discovery;
+
+import com.example.quizapp.search.CategoryMatch;
+
+/**
+ * Filters, order and page of a discovery query. Null filters and an empty category list
+ * match everything.
+ *
+ * @param categoryIds    categories to filter by, combined with {@code match}
+ * @param timed          true for quizzes with a time limit, false for those without
+ * @param negativePoints true for quizzes that deduct points for wrong answers
+ */
+public record CatalogQuery(long[] categoryIds, CategoryMatch match, Boolean timed, Boolean negativePoints,
+                           Integer minQuestions, Integer maxQuestions, Integer minPlays,
+                           QuizSort sort, int page, int size) {
+}
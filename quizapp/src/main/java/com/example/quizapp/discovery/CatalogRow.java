@@ -0,0 +1,15 @@
+package com.example.quizapp.discovery;
+
+/**
+ * Everything discovery needs about one quiz, as loaded from the database.
+ *
+ * Category links are not part of it; discovery reads them from the category index.
+ *
+ * @param timeLimit     seconds, null when untimed
+ * @param plays         stored results, archived ones included
+ * @param scored        results with a positive max score, the ones the average is over
+ * @param scoreRatioSum sum of score / max score over the scored results
+ */
+public record CatalogRow(long quizId, String title, String description, Integer timeLimit, boolean negativePoints,
+                         int questionCount, int plays, int scored, double scoreRatioSum) {
+}
@@ -0,0 +1,385 @@
+package com.example.quizapp.discovery;
+
+import com.example.quizapp.search.CategoryIndex;
+import com.example.quizapp.search.CategoryMatch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar in-memory snapshot of quiz metadata for discovery queries.
+ *
+ * Each quiz is a row, rows are kept in quiz id order and every field is its own array, so
+ * a query is one pass over a few primitive arrays. The pass records for each row which
+ * filters it fails; a row failing none is a match, and a row failing only one filter still
+ * counts towards that filter's facet. Category links are not kept here: the filter and its
+ * facet come from the {@link CategoryIndex} that serves category browsing, whose sorted
+ * quiz ids are merged with the rows by quiz id.
+ *
+ * Updates overwrite a row in place, removals leave a tombstone; callers rebuild the catalog
+ * once {@link #needsCompaction()} reports too many tombstones.
+ */
+public class QuizCatalog {
+
+    /** Lower bounds of the question count facet buckets; the last bucket is open-ended */
+    public static final int[] QUESTION_BUCKETS = {0, 6, 11, 21};
+
+    private static final int CATEGORY = 1;
+    private static final int TIMED = 2;
+    private static final int NEGATIVE = 4;
+    private static final int QUESTIONS = 8;
+    private static final int PLAYS = 16;
+
+    private static final int UNTIMED = -1;
+    private static final int[] NO_ROWS = new int[0];
+    private static final double MAX_TOMBSTONE_RATIO = 0.25;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] quizIds = new long[16];
+    private String[] titles = new String[16];
+    private String[] descriptions = new String[16];
+    private int[] timeLimits = new int[16];
+    private int[] questionCounts = new int[16];
+    private int[] plays = new int[16];
+    private int[] scored = new int[16];
+    private double[] scoreRatioSums = new double[16];
+    private final BitSet negativePoints = new BitSet();
+    private final BitSet live = new BitSet();
+    private int rows;
+    private int tombstones;
+
+    private final Map<Long, Integer> rowByQuiz = new HashMap<>();
+    private final Map<Long, String> categoryNames = new HashMap<>();
+
+    /**
+     * Adds a quiz or replaces its row.
+     */
+    public void put(CatalogRow row) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = rowByQuiz.get(row.quizId());
+            int index = existing != null ? existing : insertRow(row.quizId());
+            titles[index] = row.title();
+            descriptions[index] = row.description();
+            timeLimits[index] = row.timeLimit() != null ? row.timeLimit() : UNTIMED;
+            questionCounts[index] = row.questionCount();
+            plays[index] = row.plays();
+            scored[index] = row.scored();
+            scoreRatioSums[index] = row.scoreRatioSum();
+            negativePoints.set(index, row.negativePoints());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return whether the quiz was in the catalog
+     */
+    public boolean remove(long quizId) {
+        lock.writeLock().lock();
+        try {
+            Integer index = rowByQuiz.remove(quizId);
+            if (index == null) {
+                return false;
+            }
+            live.clear(index);
+            titles[index] = null;
+            descriptions[index] = null;
+            tombstones++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts a stored result towards the quiz's plays and average; unknown quizzes are ignored.
+     */
+    public void addResult(long quizId, int score, int maxScore) {
+        lock.writeLock().lock();
+        try {
+            Integer index = rowByQuiz.get(quizId);
+            if (index == null) {
+                return;
+            }
+            plays[index]++;
+            if (maxScore > 0) {
+                scored[index]++;
+                scoreRatioSums[index] += (double) score / maxScore;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putCategoryName(long categoryId, String name) {
+        lock.writeLock().lock();
+        try {
+            categoryNames.put(categoryId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeCategoryName(long categoryId) {
+        lock.writeLock().lock();
+        try {
+            categoryNames.remove(categoryId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param categories current category links, for the category filter, its facet and the
+     *                   category names of the returned entries
+     */
+    public CatalogPage query(CatalogQuery query, CategoryIndex categories) {
+        lock.readLock().lock();
+        try {
+            return queryLocked(query, categories);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowByQuiz.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return tombstones > 1000 && tombstones > rows * MAX_TOMBSTONE_RATIO;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private CatalogPage queryLocked(CatalogQuery query, CategoryIndex categories) {
+        boolean filterCategories = query.categoryIds() != null && query.categoryIds().length > 0;
+        boolean all = query.match() != CategoryMatch.ANY;
+        long[] inCategories = filterCategories
+                ? categories.match(query.categoryIds(), all ? CategoryMatch.ALL : CategoryMatch.ANY)
+                : null;
+        int nextInCategories = 0;
+        int minQuestions = query.minQuestions() != null ? query.minQuestions() : Integer.MIN_VALUE;
+        int maxQuestions = query.maxQuestions() != null ? query.maxQuestions() : Integer.MAX_VALUE;
+        int minPlays = query.minPlays() != null ? query.minPlays() : Integer.MIN_VALUE;
+
+        int[] matched = new int[64];
+        int matches = 0;
+        // Quizzes the category facet is counted over, ascending like the rows
+        long[] categoryFacetQuizzes = new long[64];
+        int categoryFacetSize = 0;
+        int timed = 0;
+        int untimed = 0;
+        int negative = 0;
+        int noNegative = 0;
+        int[] bucketCounts = new int[QUESTION_BUCKETS.length];
+
+        for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+            long quizId = quizIds[row];
+            int failed = 0;
+            if (filterCategories) {
+                while (nextInCategories < inCategories.length && inCategories[nextInCategories] < quizId) {
+                    nextInCategories++;
+                }
+                if (nextInCategories == inCategories.length || inCategories[nextInCategories] != quizId) {
+                    failed |= CATEGORY;
+                }
+            }
+            boolean rowTimed = timeLimits[row] != UNTIMED;
+            if (query.timed() != null && rowTimed != query.timed()) {
+                failed |= TIMED;
+            }
+            boolean rowNegative = negativePoints.get(row);
+            if (query.negativePoints() != null && rowNegative != query.negativePoints()) {
+                failed |= NEGATIVE;
+            }
+            int questionCount = questionCounts[row];
+            if (questionCount < minQuestions || questionCount > maxQuestions) {
+                failed |= QUESTIONS;
+            }
+            if (plays[row] < minPlays) {
+                failed |= PLAYS;
+            }
+
+            if (failed == 0) {
+                if (matches == matched.length) {
+                    matched = Arrays.copyOf(matched, matches * 2);
+                }
+                matched[matches++] = row;
+            }
+            if (failed == 0 || (failed == CATEGORY && !all)) {
+                if (categoryFacetSize == categoryFacetQuizzes.length) {
+                    categoryFacetQuizzes = Arrays.copyOf(categoryFacetQuizzes, categoryFacetSize * 2);
+                }
+                categoryFacetQuizzes[categoryFacetSize++] = quizId;
+            }
+            if ((failed & ~TIMED) == 0) {
+                if (rowTimed) {
+                    timed++;
+                } else {
+                    untimed++;
+                }
+            }
+            if ((failed & ~NEGATIVE) == 0) {
+                if (rowNegative) {
+                    negative++;
+                } else {
+                    noNegative++;
+                }
+            }
+            if ((failed & ~QUESTIONS) == 0) {
+                bucketCounts[bucket(questionCount)]++;
+            }
+        }
+
+        Map<Long, Integer> categoryCounts =
+                new HashMap<>(categories.counts(Arrays.copyOf(categoryFacetQuizzes, categoryFacetSize)));
+        Map<Long, String> names = new HashMap<>();
+        categoryCounts.keySet().forEach(categoryId ->
+                names.put(categoryId, categoryNames.getOrDefault(categoryId, String.valueOf(categoryId))));
+        // Selected categories stay in the facet so they can be deselected
+        if (query.categoryIds() != null) {
+            for (long categoryId : query.categoryIds()) {
+                if (categoryNames.containsKey(categoryId) && categoryCounts.putIfAbsent(categoryId, 0) == null) {
+                    names.put(categoryId, categoryNames.get(categoryId));
+                }
+            }
+        }
+        Map<Integer, Integer> questionBuckets = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < QUESTION_BUCKETS.length; bucket++) {
+            questionBuckets.put(QUESTION_BUCKETS[bucket], bucketCounts[bucket]);
+        }
+        CatalogFacets facets =
+                new CatalogFacets(categoryCounts, names, timed, untimed, negative, noNegative, questionBuckets);
+
+        List<CatalogEntry> entries = new ArrayList<>();
+        for (int row : page(matched, matches, query.sort(), query.page(), query.size())) {
+            entries.add(entry(row, categories.categoriesOf(quizIds[row])));
+        }
+        return new CatalogPage(entries, matches, facets);
+    }
+
+    // Rows of the requested page, in order
+    private int[] page(int[] matched, int matches, QuizSort sort, int page, int size) {
+        long from = (long) page * size;
+        if (from >= matches) {
+            return NO_ROWS;
+        }
+        int to = (int) Math.min(matches, from + size);
+        int[] result = new int[to - (int) from];
+        if (sort == null || sort == QuizSort.NEWEST) {
+            // Rows are in id order, so newest first reads the matches from the end
+            for (int i = 0; i < result.length; i++) {
+                result[i] = matched[matches - 1 - (int) from - i];
+            }
+            return result;
+        }
+        // Sort key in the high half, row in the low half: descending order breaks ties by newer row
+        long[] keys = new long[matches];
+        for (int i = 0; i < matches; i++) {
+            int row = matched[i];
+            keys[i] = ((long) sortKey(row, sort) << 32) | row;
+        }
+        long[] top = TopK.largest(keys, to);
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) top[(int) from + i];
+        }
+        return result;
+    }
+
+    private int sortKey(int row, QuizSort sort) {
+        if (sort == QuizSort.MOST_PLAYED) {
+            return plays[row];
+        }
+        // Unplayed quizzes below every average, including 0%
+        return scored[row] == 0 ? 0 : 1 + (int) Math.round(scoreRatioSums[row] / scored[row] * 1_000_000);
+    }
+
+    private CatalogEntry entry(int row, long[] categoryIds) {
+        List<String> names = new ArrayList<>(categoryIds.length);
+        for (long categoryId : categoryIds) {
+            String name = categoryNames.get(categoryId);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        Double average = scored[row] == 0 ? null : 100.0 * scoreRatioSums[row] / scored[row];
+        return new CatalogEntry(quizIds[row], titles[row], descriptions[row],
+                timeLimits[row] == UNTIMED ? null : timeLimits[row], negativePoints.get(row),
+                questionCounts[row], names, plays[row], average);
+    }
+
+    private static int bucket(int questionCount) {
+        int bucket = 0;
+        while (bucket + 1 < QUESTION_BUCKETS.length && questionCount >= QUESTION_BUCKETS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    // Quiz ids only grow, so a new quiz normally appends; an older id is shifted into place
+    private int insertRow(long quizId) {
+        if (rows == quizIds.length) {
+            grow();
+        }
+        int index = rows;
+        while (index > 0 && quizIds[index - 1] > quizId) {
+            index--;
+        }
+        if (index < rows) {
+            shiftRight(index);
+        }
+        quizIds[index] = quizId;
+        live.set(index);
+        rowByQuiz.put(quizId, index);
+        rows++;
+        return index;
+    }
+
+    private void shiftRight(int index) {
+        int count = rows - index;
+        System.arraycopy(quizIds, index, quizIds, index + 1, count);
+        System.arraycopy(titles, index, titles, index + 1, count);
+        System.arraycopy(descriptions, index, descriptions, index + 1, count);
+        System.arraycopy(timeLimits, index, timeLimits, index + 1, count);
+        System.arraycopy(questionCounts, index, questionCounts, index + 1, count);
+        System.arraycopy(plays, index, plays, index + 1, count);
+        System.arraycopy(scored, index, scored, index + 1, count);
+        System.arraycopy(scoreRatioSums, index, scoreRatioSums, index + 1, count);
+        for (int row = rows - 1; row >= index; row--) {
+            negativePoints.set(row + 1, negativePoints.get(row));
+            live.set(row + 1, live.get(row));
+            if (live.get(row + 1)) {
+                rowByQuiz.put(quizIds[row + 1], row + 1);
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = quizIds.length * 2;
+        quizIds = Arrays.copyOf(quizIds, capacity);
+        titles = Arrays.copyOf(titles, capacity);
+        descriptions = Arrays.copyOf(descriptions, capacity);
+        timeLimits = Arrays.copyOf(timeLimits, capacity);
+        questionCounts = Arrays.copyOf(questionCounts, capacity);
+        plays = Arrays.copyOf(plays, capacity);
+        scored = Arrays.copyOf(scored, capacity);
+        scoreRatioSums = Arrays.copyOf(scoreRatioSums, capacity);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.quizapp.discovery;
+
+import com.example.quizapp.cache.CacheInvalidationListener;
+import com.example.quizapp.cache.InvalidationEvent;
+import com.example.quizapp.results.PendingResult;
+import com.example.quizapp.search.QuizCategoryIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Owns the discovery catalog: builds it once the application is ready, reloads single
+ * quizzes from invalidation events and counts results as {@code ResultPipeline} stores
+ * them on this node. Results stored by other nodes are picked up by the periodic rebuild.
+ * Category links come from {@link QuizCategoryIndex}, which keeps them current itself;
+ * only category names are held here.
+ *
+ * Like {@link com.example.quizapp.search.QuizSearchIndex}, a rebuild fills a fresh
+ * {@link QuizCatalog} and swaps it in; quizzes changed while it was loading are reloaded
+ * after the swap.
+ */
+@Component
+public class QuizCatalogIndex implements CacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizCatalogIndex.class);
+
+    private final CatalogLoader loader;
+    private final QuizCategoryIndex categoryIndex;
+    private final int batchSize;
+    private final long refreshIntervalMillis;
+    private final Object rebuildLock = new Object();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private ScheduledExecutorService rebuildExecutor;
+    private volatile QuizCatalog catalog = new QuizCatalog();
+    private Set<Long> changedDuringRebuild;
+
+    public QuizCatalogIndex(CatalogLoader loader,
+                            QuizCategoryIndex categoryIndex,
+                            @Value("${app.discovery.batch-size:5000}") int batchSize,
+                            @Value("${app.discovery.refresh-interval:10m}") Duration refreshInterval) {
+        this.loader = loader;
+        this.categoryIndex = categoryIndex;
+        this.batchSize = batchSize;
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+    }
+
+    @PostConstruct
+    void start() {
+        rebuildExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "quiz-catalog-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        rebuildExecutor.scheduleWithFixedDelay(this::rebuildSafely, refreshIntervalMillis, refreshIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (rebuildExecutor != null) {
+            rebuildExecutor.shutdownNow();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        synchronized (rebuildLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        QuizCatalog fresh = new QuizCatalog();
+        loader.loadCategoryNames(fresh::putCategoryName);
+        loader.loadAll(batchSize, fresh::put);
+
+        Set<Long> changed;
+        synchronized (rebuildLock) {
+            catalog = fresh;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        }
+        changed.forEach(this::reloadQuiz);
+        log.info("Quiz catalog built: {} quizzes in {} ms", fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public CatalogPage query(CatalogQuery query) {
+        return catalog.query(query, categoryIndex.current());
+    }
+
+    /**
+     * Counts results stored on this node; called after they are committed.
+     */
+    public void offer(List<PendingResult> results) {
+        QuizCatalog current;
+        synchronized (rebuildLock) {
+            current = catalog;
+            // The fresh catalog may have read these quizzes before the results committed
+            if (changedDuringRebuild != null) {
+                results.forEach(result -> changedDuringRebuild.add(result.quizId()));
+            }
+        }
+        for (PendingResult result : results) {
+            current.addResult(result.quizId(), result.score(), result.maxScore());
+        }
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        switch (event.entity()) {
+            case QUIZ -> reloadQuiz(event.id());
+            case QUESTION -> {
+                // Deletes carry no parent; the question count is corrected by the next rebuild
+                if (event.parentId() != null) {
+                    reloadQuiz(event.parentId());
+                }
+            }
+            case CATEGORY -> {
+                QuizCatalog current = catalog;
+                loader.categoryName(event.id()).ifPresentOrElse(name -> current.putCategoryName(event.id(), name),
+                        () -> current.removeCategoryName(event.id()));
+            }
+            case ANSWER -> {
+                // Answers are not in the catalog
+            }
+        }
+    }
+
+    void reloadQuiz(long quizId) {
+        synchronized (rebuildLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(quizId);
+            }
+        }
+        QuizCatalog current = catalog;
+        loader.load(quizId).ifPresentOrElse(current::put, () -> current.remove(quizId));
+
+        if (current.needsCompaction() && rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuildSafely();
+                } finally {
+                    rebuildScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("Quiz catalog rebuild failed", e);
+        }
+    }
+}
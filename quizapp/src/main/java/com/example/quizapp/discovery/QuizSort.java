@@ -0,0 +1,11 @@
+package com.example.quizapp.discovery;
+
+/**
+ * Result order for quiz discovery; ties go to the newer quiz.
+ */
+public enum QuizSort {
+    NEWEST,
+    MOST_PLAYED,
+    /** Highest average score ratio first; quizzes nobody has played come last */
+    HIGHEST_AVERAGE
+}
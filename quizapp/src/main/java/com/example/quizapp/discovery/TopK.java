@@ -0,0 +1,72 @@
+package com.example.quizapp.discovery;
+
+import java.util.Arrays;
+
+/**
+ * Selects the largest values of a long array without sorting all of it.
+ */
+final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * @return the {@code k} largest values, largest first
+     */
+    static long[] largest(long[] values, int k) {
+        int n = Math.min(k, values.length);
+        if (n == 0) {
+            return new long[0];
+        }
+        if (n > values.length / 4) {
+            long[] sorted = values.clone();
+            Arrays.sort(sorted);
+            long[] result = new long[n];
+            for (int i = 0; i < n; i++) {
+                result[i] = sorted[sorted.length - 1 - i];
+            }
+            return result;
+        }
+
+        // Min-heap of the n largest seen so far; its root is the one to beat
+        long[] heap = Arrays.copyOf(values, n);
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(heap, i, n);
+        }
+        for (int i = n; i < values.length; i++) {
+            if (values[i] > heap[0]) {
+                heap[0] = values[i];
+                siftDown(heap, 0, n);
+            }
+        }
+        // Pop the minimum into the back until the heap is empty: largest first
+        for (int size = n - 1; size > 0; size--) {
+            long min = heap[0];
+            heap[0] = heap[size];
+            heap[size] = min;
+            siftDown(heap, 0, size);
+        }
+        return heap;
+    }
+
+    private static void siftDown(long[] heap, int index, int size) {
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && heap[left] < heap[smallest]) {
+                smallest = left;
+            }
+            if (right < size && heap[right] < heap[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            long swap = heap[index];
+            heap[index] = heap[smallest];
+            heap[smallest] = swap;
+            index = smallest;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.quizapp.dto;
+
+import com.example.quizapp.search.CategoryMatch;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * DTO for a category browse result: one page of quizzes plus the count of matching
+ * quizzes in every category.
+ */
+public class CategoryBrowseDTO {
+
+    private Page<QuizDTO> quizzes;
+    private List<CategoryCountDTO> categories;
+    private CategoryMatch match;
+
+    // Constructors
+    public CategoryBrowseDTO() {
+    }
+
+    public CategoryBrowseDTO(Page<QuizDTO> quizzes, List<CategoryCountDTO> categories, CategoryMatch match) {
+        this.quizzes = quizzes;
+        this.categories = categories;
+        this.match = match;
+    }
+
+    // Getters and Setters
+    public Page<QuizDTO> getQuizzes() { return quizzes; }
+    public void setQuizzes(Page<QuizDTO> quizzes) { this.quizzes = quizzes; }
+
+    public List<CategoryCountDTO> getCategories() { return categories; }
+    public void setCategories(List<CategoryCountDTO> categories) { this.categories = categories; }
+
+    public CategoryMatch getMatch() { return match; }
+    public void setMatch(CategoryMatch match) { this.match = match; }
+}
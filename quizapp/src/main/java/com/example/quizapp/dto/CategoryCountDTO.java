@@ -0,0 +1,36 @@
+package com.example.quizapp.dto;
+
+/**
+ * DTO for one category of the browse page: how many quizzes of the current result it has.
+ */
+public class CategoryCountDTO {
+
+    private Long id;
+    private String name;
+    private Integer quizCount;
+    private Boolean selected;
+
+    // Constructors
+    public CategoryCountDTO() {
+    }
+
+    public CategoryCountDTO(Long id, String name, Integer quizCount, Boolean selected) {
+        this.id = id;
+        this.name = name;
+        this.quizCount = quizCount;
+        this.selected = selected;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public Integer getQuizCount() { return quizCount; }
+    public void setQuizCount(Integer quizCount) { this.quizCount = quizCount; }
+
+    public Boolean getSelected() { return selected; }
+    public void setSelected(Boolean selected) { this.selected = selected; }
+}
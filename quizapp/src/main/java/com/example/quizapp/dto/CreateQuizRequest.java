@@ -1,5 +1,9 @@
 package com.example.quizapp.dto;
 
+import com.example.quizapp.entity.LateSubmissionPolicy;
+import com.example.quizapp.entity.PoolStratification;
+import com.example.quizapp.entity.ScoringPolicyType;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -19,6 +23,12 @@ public class CreateQuizRequest {
     private Boolean shuffleQuestions = false;
     private Boolean shuffleAnswers = false;
     private Boolean negativePoints = false;
+    private ScoringPolicyType scoringPolicy;
+    private LateSubmissionPolicy lateSubmissionPolicy;
+
+    @Min(value = 1, message = "Questions per attempt must be at least 1")
+    private Integer poolSize;
+    private PoolStratification poolStratifyBy;
 
     // Constructors
     public CreateQuizRequest() {
@@ -47,4 +57,16 @@ public class CreateQuizRequest {
 
     public Boolean getNegativePoints() { return negativePoints; }
     public void setNegativePoints(Boolean negativePoints) { this.negativePoints = negativePoints; }
+
+    public ScoringPolicyType getScoringPolicy() { return scoringPolicy; }
+    public void setScoringPolicy(ScoringPolicyType scoringPolicy) { this.scoringPolicy = scoringPolicy; }
+
+    public LateSubmissionPolicy getLateSubmissionPolicy() { return lateSubmissionPolicy; }
+    public void setLateSubmissionPolicy(LateSubmissionPolicy lateSubmissionPolicy) { this.lateSubmissionPolicy = lateSubmissionPolicy; }
+
+    public Integer getPoolSize() { return poolSize; }
+    public void setPoolSize(Integer poolSize) { this.poolSize = poolSize; }
+
+    public PoolStratification getPoolStratifyBy() { return poolStratifyBy; }
+    public void setPoolStratifyBy(PoolStratification poolStratifyBy) { this.poolStratifyBy = poolStratifyBy; }
 }
@@ -0,0 +1,37 @@
+package com.example.quizapp.dto;
+
+/**
+ * DTO for one value of a discovery facet: the parameter value that selects it, a label and
+ * how many quizzes selecting it would return.
+ */
+public class FacetCountDTO {
+
+    private String value;
+    private String label;
+    private Integer count;
+    private Boolean selected;
+
+    // Constructors
+    public FacetCountDTO() {
+    }
+
+    public FacetCountDTO(String value, String label, Integer count, Boolean selected) {
+        this.value = value;
+        this.label = label;
+        this.count = count;
+        this.selected = selected;
+    }
+
+    // Getters and Setters
+    public String getValue() { return value; }
+    public void setValue(String value) { this.value = value; }
+
+    public String getLabel() { return label; }
+    public void setLabel(String label) { this.label = label; }
+
+    public Integer getCount() { return count; }
+    public void setCount(Integer count) { this.count = count; }
+
+    public Boolean getSelected() { return selected; }
+    public void setSelected(Boolean selected) { this.selected = selected; }
+}
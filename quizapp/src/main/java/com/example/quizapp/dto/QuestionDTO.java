@@ -1,7 +1,9 @@
 package com.example.quizapp.dto;
 
 import com.example.quizapp.entity.Question;
+import com.example.quizapp.entity.QuestionDifficulty;
 import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.entity.ScoringPolicyType;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -14,6 +16,8 @@ public class QuestionDTO {
     private String text;
     private QuestionType type;
     private Integer points;
+    private ScoringPolicyType scoringPolicy;
+    private QuestionDifficulty difficulty;
     private Integer orderIndex;
     private Long quizId;
     private List<AnswerDTO> answers;
@@ -26,6 +30,8 @@ public class QuestionDTO {
         this.text = question.getText();
         this.type = question.getType();
         this.points = question.getPoints();
+        this.scoringPolicy = question.getScoringPolicy();
+        this.difficulty = question.getDifficulty();
         this.orderIndex = question.getOrderIndex();
         this.quizId = question.getQuiz() != null ? question.getQuiz().getId() : null;
         this.answers = question.getAnswers() != null 
@@ -46,6 +52,12 @@ public class QuestionDTO {
     public Integer getPoints() { return points; }
     public void setPoints(Integer points) { this.points = points; }
 
+    public ScoringPolicyType getScoringPolicy() { return scoringPolicy; }
+    public void setScoringPolicy(ScoringPolicyType scoringPolicy) { this.scoringPolicy = scoringPolicy; }
+
+    public QuestionDifficulty getDifficulty() { return difficulty; }
+    public void setDifficulty(QuestionDifficulty difficulty) { this.difficulty = difficulty; }
+
     public Integer getOrderIndex() { return orderIndex; }
     public void setOrderIndex(Integer orderIndex) { this.orderIndex = orderIndex; }
 
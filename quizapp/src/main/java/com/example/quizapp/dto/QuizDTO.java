@@ -1,6 +1,9 @@
 package com.example.quizapp.dto;
 
 import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.entity.LateSubmissionPolicy;
+import com.example.quizapp.entity.PoolStratification;
+import com.example.quizapp.entity.ScoringPolicyType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
@@ -18,6 +21,10 @@ public class QuizDTO {
     private Boolean shuffleQuestions;
     private Boolean shuffleAnswers;
     private Boolean negativePoints;
+    private ScoringPolicyType scoringPolicy;
+    private LateSubmissionPolicy lateSubmissionPolicy;
+    private Integer poolSize;
+    private PoolStratification poolStratifyBy;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Integer questionCount;
@@ -35,6 +42,10 @@ public class QuizDTO {
         this.shuffleQuestions = quiz.getShuffleQuestions();
         this.shuffleAnswers = quiz.getShuffleAnswers();
         this.negativePoints = quiz.getNegativePoints();
+        this.scoringPolicy = quiz.getScoringPolicy();
+        this.lateSubmissionPolicy = quiz.getLateSubmissionPolicy();
+        this.poolSize = quiz.getPoolSize();
+        this.poolStratifyBy = quiz.getPoolStratifyBy();
         this.createdAt = quiz.getCreatedAt();
         this.updatedAt = quiz.getUpdatedAt();
         this.questionCount = quiz.getQuestions() != null ? quiz.getQuestions().size() : 0;
@@ -65,6 +76,18 @@ public class QuizDTO {
     public Boolean getNegativePoints() { return negativePoints; }
     public void setNegativePoints(Boolean negativePoints) { this.negativePoints = negativePoints; }
 
+    public ScoringPolicyType getScoringPolicy() { return scoringPolicy; }
+    public void setScoringPolicy(ScoringPolicyType scoringPolicy) { this.scoringPolicy = scoringPolicy; }
+
+    public LateSubmissionPolicy getLateSubmissionPolicy() { return lateSubmissionPolicy; }
+    public void setLateSubmissionPolicy(LateSubmissionPolicy lateSubmissionPolicy) { this.lateSubmissionPolicy = lateSubmissionPolicy; }
+
+    public Integer getPoolSize() { return poolSize; }
+    public void setPoolSize(Integer poolSize) { this.poolSize = poolSize; }
+
+    public PoolStratification getPoolStratifyBy() { return poolStratifyBy; }
+    public void setPoolStratifyBy(PoolStratification poolStratifyBy) { this.poolStratifyBy = poolStratifyBy; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -0,0 +1,32 @@
+package com.example.quizapp.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for a discovery result: one page of quizzes plus counts per facet value, keyed by
+ * facet name (category, timed, negativePoints, questionCount).
+ */
+public class QuizDiscoveryDTO {
+
+    private Page<QuizSummaryDTO> quizzes;
+    private Map<String, List<FacetCountDTO>> facets;
+
+    // Constructors
+    public QuizDiscoveryDTO() {
+    }
+
+    public QuizDiscoveryDTO(Page<QuizSummaryDTO> quizzes, Map<String, List<FacetCountDTO>> facets) {
+        this.quizzes = quizzes;
+        this.facets = facets;
+    }
+
+    // Getters and Setters
+    public Page<QuizSummaryDTO> getQuizzes() { return quizzes; }
+    public void setQuizzes(Page<QuizSummaryDTO> quizzes) { this.quizzes = quizzes; }
+
+    public Map<String, List<FacetCountDTO>> getFacets() { return facets; }
+    public void setFacets(Map<String, List<FacetCountDTO>> facets) { this.facets = facets; }
+}
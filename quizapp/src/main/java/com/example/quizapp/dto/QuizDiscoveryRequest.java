@@ -0,0 +1,54 @@
+package com.example.quizapp.dto;
+
+import com.example.quizapp.discovery.QuizSort;
+import com.example.quizapp.search.CategoryMatch;
+
+import java.util.List;
+
+/**
+ * DTO for discovery query parameters; every filter is optional.
+ */
+public class QuizDiscoveryRequest {
+
+    private List<Long> category;
+    private CategoryMatch match = CategoryMatch.ALL;
+    private Boolean timed;
+    private Boolean negativePoints;
+    private Integer minQuestions;
+    private Integer maxQuestions;
+    private Integer minPlays;
+    private QuizSort sort = QuizSort.NEWEST;
+    private int page = 0;
+    private int size = 20;
+
+    // Getters and Setters
+    public List<Long> getCategory() { return category; }
+    public void setCategory(List<Long> category) { this.category = category; }
+
+    public CategoryMatch getMatch() { return match; }
+    public void setMatch(CategoryMatch match) { this.match = match; }
+
+    public Boolean getTimed() { return timed; }
+    public void setTimed(Boolean timed) { this.timed = timed; }
+
+    public Boolean getNegativePoints() { return negativePoints; }
+    public void setNegativePoints(Boolean negativePoints) { this.negativePoints = negativePoints; }
+
+    public Integer getMinQuestions() { return minQuestions; }
+    public void setMinQuestions(Integer minQuestions) { this.minQuestions = minQuestions; }
+
+    public Integer getMaxQuestions() { return maxQuestions; }
+    public void setMaxQuestions(Integer maxQuestions) { this.maxQuestions = maxQuestions; }
+
+    public Integer getMinPlays() { return minPlays; }
+    public void setMinPlays(Integer minPlays) { this.minPlays = minPlays; }
+
+    public QuizSort getSort() { return sort; }
+    public void setSort(QuizSort sort) { this.sort = sort; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
@@ -14,6 +14,7 @@ public class QuizResultDTO {
     private Integer maxScore;
     private LocalDateTime completedAt;
     private Long quizId;
+    private Integer quizVersion;
     private String quizTitle;
 
     public QuizResultDTO() {
@@ -25,6 +26,7 @@ public class QuizResultDTO {
         this.score = result.getScore();
         this.maxScore = result.getMaxScore();
         this.completedAt = result.getCompletedAt();
+        this.quizVersion = result.getQuizVersion();
         // Safely access quiz properties - they may be lazy loaded
         try {
             if (result.getQuiz() != null) {
@@ -57,6 +59,9 @@ public class QuizResultDTO {
     public Long getQuizId() { return quizId; }
     public void setQuizId(Long quizId) { this.quizId = quizId; }
 
+    public Integer getQuizVersion() { return quizVersion; }
+    public void setQuizVersion(Integer quizVersion) { this.quizVersion = quizVersion; }
+
     public String getQuizTitle() { return quizTitle; }
     public void setQuizTitle(String quizTitle) { this.quizTitle = quizTitle; }
 }
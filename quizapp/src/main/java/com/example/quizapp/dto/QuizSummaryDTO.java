@@ -0,0 +1,65 @@
+package com.example.quizapp.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a quiz in discovery results, built from the in-memory catalog rather than the entity.
+ */
+public class QuizSummaryDTO {
+
+    private Long id;
+    private String title;
+    private String description;
+    private Integer timeLimit;
+    private Boolean negativePoints;
+    private Integer questionCount;
+    private List<String> categories;
+    private Integer plays;
+    private Double averageScore;
+
+    // Constructors
+    public QuizSummaryDTO() {
+    }
+
+    public QuizSummaryDTO(Long id, String title, String description, Integer timeLimit, Boolean negativePoints,
+                          Integer questionCount, List<String> categories, Integer plays, Double averageScore) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.timeLimit = timeLimit;
+        this.negativePoints = negativePoints;
+        this.questionCount = questionCount;
+        this.categories = categories;
+        this.plays = plays;
+        this.averageScore = averageScore;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Integer getTimeLimit() { return timeLimit; }
+    public void setTimeLimit(Integer timeLimit) { this.timeLimit = timeLimit; }
+
+    public Boolean getNegativePoints() { return negativePoints; }
+    public void setNegativePoints(Boolean negativePoints) { this.negativePoints = negativePoints; }
+
+    public Integer getQuestionCount() { return questionCount; }
+    public void setQuestionCount(Integer questionCount) { this.questionCount = questionCount; }
+
+    public List<String> getCategories() { return categories; }
+    public void setCategories(List<String> categories) { this.categories = categories; }
+
+    public Integer getPlays() { return plays; }
+    public void setPlays(Integer plays) { this.plays = plays; }
+
+    /** Average score in percent of the max score; null when nobody has played */
+    public Double getAverageScore() { return averageScore; }
+    public void setAverageScore(Double averageScore) { this.averageScore = averageScore; }
+}
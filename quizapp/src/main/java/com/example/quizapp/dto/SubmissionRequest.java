@@ -0,0 +1,52 @@
+package com.example.quizapp.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Typed JSON body for POST /submit/{quizId}.
+ * Example: {"answers":[{"questionId":3,"answerIds":[11,12]},{"questionId":4,"text":"Paris"}]}
+ * answerIds holds the selected ids, or the chosen order for SORTING/MATCHING questions.
+ */
+public class SubmissionRequest {
+
+    private List<AnswerEntry> answers = new ArrayList<>();
+
+    public SubmissionRequest() {
+    }
+
+    public SubmissionRequest(List<AnswerEntry> answers) {
+        this.answers = answers;
+    }
+
+    public List<AnswerEntry> getAnswers() { return answers; }
+    public void setAnswers(List<AnswerEntry> answers) { this.answers = answers; }
+
+    /**
+     * Answer to one question: either answerIds or text.
+     */
+    public static class AnswerEntry {
+
+        private Long questionId;
+        private long[] answerIds;
+        private String text;
+
+        public AnswerEntry() {
+        }
+
+        public AnswerEntry(Long questionId, long[] answerIds, String text) {
+            this.questionId = questionId;
+            this.answerIds = answerIds;
+            this.text = text;
+        }
+
+        public Long getQuestionId() { return questionId; }
+        public void setQuestionId(Long questionId) { this.questionId = questionId; }
+
+        public long[] getAnswerIds() { return answerIds; }
+        public void setAnswerIds(long[] answerIds) { this.answerIds = answerIds; }
+
+        public String getText() { return text; }
+        public void setText(String text) { this.text = text; }
+    }
+}
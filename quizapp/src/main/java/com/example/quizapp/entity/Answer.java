@@ -2,6 +2,8 @@ package com.example.quizapp.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Answer entity representing possible answers for a question.
@@ -9,6 +11,8 @@ import jakarta.persistence.*;
 @Entity
 @JsonIgnoreProperties({"question"})
 @Table(name = "answer")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "answer")
 public class Answer {
 
     @Id
@@ -0,0 +1,153 @@
+package com.example.quizapp.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A quiz attempt persisted while it is played, so it can be resumed from another
+ * device by its resume token. The answers are not mapped here: saves are appended
+ * to attempt_answer_event and compacted into attempt_answer on submit.
+ */
+@Entity
+@Table(name = "quiz_attempt")
+public class Attempt {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "quiz_id", nullable = false)
+    private Long quizId;
+
+    // The published quiz version the attempt is played on, null for attempts started before versioning
+    @Column(name = "quiz_version")
+    private Integer quizVersion;
+
+    // Question ids drawn from the quiz's pool, comma-separated; null when the attempt has every question
+    @Column(name = "question_ids", columnDefinition = "TEXT")
+    private String questionIds;
+
+    // Training attempt: questions are picked one at a time, so it cannot be resumed
+    @Column(nullable = false)
+    private boolean adaptive;
+
+    @Column(nullable = false)
+    private String nickname;
+
+    @Column(name = "resume_token", nullable = false, unique = true, length = 32)
+    private String resumeToken;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private AttemptStatus status = AttemptStatus.IN_PROGRESS;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;
+
+    // Constructors
+    public Attempt() {
+    }
+
+    public Attempt(String id, Long quizId, String nickname, String resumeToken, LocalDateTime startedAt) {
+        this.id = id;
+        this.quizId = quizId;
+        this.nickname = nickname;
+        this.resumeToken = resumeToken;
+        this.startedAt = startedAt;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public void setQuizId(Long quizId) {
+        this.quizId = quizId;
+    }
+
+    public Integer getQuizVersion() {
+        return quizVersion;
+    }
+
+    public void setQuizVersion(Integer quizVersion) {
+        this.quizVersion = quizVersion;
+    }
+
+    /**
+     * @return the questions drawn for the attempt, null when it has every question of its version
+     */
+    public List<Long> getQuestionIds() {
+        if (questionIds == null || questionIds.isEmpty()) {
+            return null;
+        }
+        return Arrays.stream(questionIds.split(",")).map(Long::valueOf).toList();
+    }
+
+    public void setQuestionIds(List<Long> questionIds) {
+        this.questionIds = questionIds != null
+                ? questionIds.stream().map(String::valueOf).collect(Collectors.joining(","))
+                : null;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public void setNickname(String nickname) {
+        this.nickname = nickname;
+    }
+
+    public String getResumeToken() {
+        return resumeToken;
+    }
+
+    public void setResumeToken(String resumeToken) {
+        this.resumeToken = resumeToken;
+    }
+
+    public AttemptStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AttemptStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+}
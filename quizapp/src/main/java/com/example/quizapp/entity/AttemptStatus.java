@@ -0,0 +1,10 @@
+package com.example.quizapp.entity;
+
+/**
+ * Lifecycle of a persisted {@link Attempt}.
+ */
+public enum AttemptStatus {
+    IN_PROGRESS,    // Answers are being saved; resumable by token
+    SUBMITTED,      // Scored; answers compacted into attempt_answer
+    ABANDONED       // Expired without a submission, or rejected as late
+}
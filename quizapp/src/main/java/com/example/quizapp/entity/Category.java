@@ -2,6 +2,8 @@ package com.example.quizapp.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -11,6 +13,8 @@ import java.util.Set;
 @Entity
 @JsonIgnoreProperties({"quizzes"})
 @Table(name = "category")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 public class Category {
 
     @Id
@@ -24,6 +28,7 @@ public class Category {
     private String description;
 
     @ManyToMany(mappedBy = "categories")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category.quizzes")
     private Set<Quiz> quizzes = new HashSet<>();
 
     // Constructors
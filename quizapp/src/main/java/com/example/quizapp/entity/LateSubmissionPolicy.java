@@ -0,0 +1,10 @@
+package com.example.quizapp.entity;
+
+/**
+ * What happens to answers submitted after a quiz's time limit (plus the grace period).
+ */
+public enum LateSubmissionPolicy {
+    ACCEPT,     // Score as usual, only tell the player
+    PENALIZE,   // Score reduced by app.attempts.late-penalty-percent
+    REJECT      // Not scored, no result saved
+}
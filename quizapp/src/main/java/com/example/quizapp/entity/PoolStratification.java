@@ -0,0 +1,11 @@
+package com.example.quizapp.entity;
+
+/**
+ * How a quiz with a question pool spreads its draw over the bank. Each group gets its
+ * share of the drawn questions in proportion to its share of the bank.
+ */
+public enum PoolStratification {
+    NONE,        // Uniform over the whole bank
+    DIFFICULTY,  // By QuestionDifficulty; unrated questions are a group of their own
+    TYPE         // By QuestionType
+}
@@ -2,6 +2,8 @@ package com.example.quizapp.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,6 +13,8 @@ import java.util.List;
 @Entity
 @JsonIgnoreProperties({"quiz", "answers"})
 @Table(name = "question")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "question")
 public class Question {
 
     @Id
@@ -27,6 +31,14 @@ public class Question {
     @Column(nullable = false)
     private Integer points = 1;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scoring_policy", length = 32)
+    private ScoringPolicyType scoringPolicy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private QuestionDifficulty difficulty;
+
     @Column(name = "order_index")
     private Integer orderIndex;
 
@@ -35,6 +47,7 @@ public class Question {
     private Quiz quiz;
 
     @OneToMany(mappedBy = "question", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "question.answers")
     private List<Answer> answers = new ArrayList<>();
 
     // Constructors
@@ -96,6 +109,22 @@ public class Question {
         this.points = points;
     }
 
+    public ScoringPolicyType getScoringPolicy() {
+        return scoringPolicy;
+    }
+
+    public void setScoringPolicy(ScoringPolicyType scoringPolicy) {
+        this.scoringPolicy = scoringPolicy;
+    }
+
+    public QuestionDifficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(QuestionDifficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+
     public Integer getOrderIndex() {
         return orderIndex;
     }
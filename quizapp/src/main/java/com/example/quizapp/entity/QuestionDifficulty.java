@@ -0,0 +1,11 @@
+package com.example.quizapp.entity;
+
+/**
+ * Difficulty an author gives a question. Question pools can draw from each difficulty
+ * in proportion to the bank; null on a question means "not rated".
+ */
+public enum QuestionDifficulty {
+    EASY,
+    MEDIUM,
+    HARD
+}
@@ -2,6 +2,8 @@ package com.example.quizapp.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -14,6 +16,8 @@ import java.util.Set;
 @Entity
 @JsonIgnoreProperties({"questions", "results"})
 @Table(name = "quiz")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "quiz")
 public class Quiz {
 
     @Id
@@ -38,6 +42,22 @@ public class Quiz {
     @Column(name = "negative_points")
     private Boolean negativePoints = false;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scoring_policy", length = 32)
+    private ScoringPolicyType scoringPolicy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "late_submission_policy", length = 16)
+    private LateSubmissionPolicy lateSubmissionPolicy;
+
+    // Questions drawn per attempt from the bank; null means every question
+    @Column(name = "pool_size")
+    private Integer poolSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "pool_stratify_by", length = 16)
+    private PoolStratification poolStratifyBy;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -45,12 +65,14 @@ public class Quiz {
     private LocalDateTime updatedAt = LocalDateTime.now();
 
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "quiz.questions")
     private List<Question> questions = new ArrayList<>();
 
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<QuizResult> results = new ArrayList<>();
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "quiz.categories")
     @JoinTable(
         name = "quiz_categories",
         joinColumns = @JoinColumn(name = "quiz_id"),
@@ -154,6 +176,38 @@ public class Quiz {
         this.negativePoints = negativePoints;
     }
 
+    public ScoringPolicyType getScoringPolicy() {
+        return scoringPolicy;
+    }
+
+    public void setScoringPolicy(ScoringPolicyType scoringPolicy) {
+        this.scoringPolicy = scoringPolicy;
+    }
+
+    public LateSubmissionPolicy getLateSubmissionPolicy() {
+        return lateSubmissionPolicy;
+    }
+
+    public void setLateSubmissionPolicy(LateSubmissionPolicy lateSubmissionPolicy) {
+        this.lateSubmissionPolicy = lateSubmissionPolicy;
+    }
+
+    public Integer getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(Integer poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public PoolStratification getPoolStratifyBy() {
+        return poolStratifyBy;
+    }
+
+    public void setPoolStratifyBy(PoolStratification poolStratifyBy) {
+        this.poolStratifyBy = poolStratifyBy;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
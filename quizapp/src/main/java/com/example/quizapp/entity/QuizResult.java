@@ -32,6 +32,10 @@ public class QuizResult {
     @JoinColumn(name = "quiz_id", nullable = false)
     private Quiz quiz;
 
+    // The quiz version the result was scored on, null for results from before versioning
+    @Column(name = "quiz_version")
+    private Integer quizVersion;
+
     // Constructors
     public QuizResult() {
     }
@@ -99,4 +103,12 @@ public class QuizResult {
     public void setQuiz(Quiz quiz) {
         this.quiz = quiz;
     }
+
+    public Integer getQuizVersion() {
+        return quizVersion;
+    }
+
+    public void setQuizVersion(Integer quizVersion) {
+        this.quizVersion = quizVersion;
+    }
 }
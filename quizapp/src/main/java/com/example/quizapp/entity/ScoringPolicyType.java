@@ -0,0 +1,12 @@
+package com.example.quizapp.entity;
+
+/**
+ * How a question's points are awarded. Set on a quiz as its default and optionally
+ * overridden per question; null on a question means "as the quiz".
+ */
+public enum ScoringPolicyType {
+    ALL_OR_NOTHING,             // Full points only for a fully correct answer
+    PROPORTIONAL,               // Share of the points for a partly correct answer
+    NEGATIVE_PER_WRONG_CHOICE,  // Wrong choices cancel right ones and may go below zero
+    TIME_DECAYED                // Full points early, down to half at the time limit
+}
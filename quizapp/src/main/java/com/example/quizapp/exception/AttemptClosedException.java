@@ -0,0 +1,11 @@
+package com.example.quizapp.exception;
+
+/**
+ * Exception thrown when answers are submitted for an attempt that was already submitted or has expired.
+ */
+public class AttemptClosedException extends RuntimeException {
+
+    public AttemptClosedException(Long quizId) {
+        super(String.format("Attempt at quiz %d was already submitted or expired, answers were not accepted", quizId));
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.quizapp.exception;
+
+/**
+ * Exception thrown when answers arrive after the quiz's time limit and the quiz rejects them.
+ */
+public class LateSubmissionException extends RuntimeException {
+
+    public LateSubmissionException(Long quizId) {
+        super(String.format("Time limit of quiz %d exceeded, answers were not accepted", quizId));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.quizapp.exception;
+
+/**
+ * Exception thrown when a change feed consumer asks for changes that retention has already removed.
+ */
+public class ResultChangesExpiredException extends RuntimeException {
+
+    public ResultChangesExpiredException(long after, long purgedThrough) {
+        super(String.format("Changes after %d are no longer retained; reload /api/v1/results, "
+                + "then continue from after=%d", after, purgedThrough));
+    }
+}
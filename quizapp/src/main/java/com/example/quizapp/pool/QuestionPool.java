@@ -0,0 +1,138 @@
+package com.example.quizapp.pool;
+
+import com.example.quizapp.entity.PoolStratification;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * The question bank of a quiz version as arrays of positions in {@link QuizVersion#questions()},
+ * one array per stratum. Drawing k questions is Floyd's sampling over those arrays, O(k) in
+ * time and memory however large the bank is; nothing is copied or shuffled. Immutable and
+ * shared between requests; {@link QuestionPools} keeps one per quiz version.
+ */
+public final class QuestionPool {
+
+    private final int size;
+    private final int[][] strata;
+    private final Map<Long, Integer> positions;
+
+    private QuestionPool(int size, int[][] strata, Map<Long, Integer> positions) {
+        this.size = size;
+        this.strata = strata;
+        this.positions = positions;
+    }
+
+    /**
+     * Groups the version's questions by its stratification; one stratum for NONE or none set.
+     */
+    public static QuestionPool of(QuizVersion version) {
+        PoolStratification stratifyBy = Objects.requireNonNullElse(version.poolStratifyBy(), PoolStratification.NONE);
+        List<QuestionSnapshot> questions = version.questions();
+        Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        Map<Long, Integer> positions = new HashMap<>(questions.size() * 2);
+
+        for (int i = 0; i < questions.size(); i++) {
+            QuestionSnapshot question = questions.get(i);
+            Object group = switch (stratifyBy) {
+                case NONE -> stratifyBy;
+                case DIFFICULTY -> Objects.requireNonNullElse(question.difficulty(), stratifyBy);
+                case TYPE -> question.type();
+            };
+            groups.computeIfAbsent(group, key -> new ArrayList<>()).add(i);
+            positions.put(question.id(), i);
+        }
+
+        int[][] strata = groups.values().stream()
+                .map(group -> group.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+        return new QuestionPool(questions.size(), strata, positions);
+    }
+
+    /**
+     * Draws distinct questions, each stratum getting its share of {@code count} in proportion to
+     * its share of the bank (largest remainder for the rounding).
+     *
+     * @return positions in the version's question list, ascending; every position when count covers the bank
+     */
+    public int[] draw(int count, RandomGenerator random) {
+        if (count >= size) {
+            int[] all = new int[size];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+
+        int[] quotas = quotas(count);
+        int[] drawn = new int[count];
+        int next = 0;
+        for (int s = 0; s < strata.length; s++) {
+            for (int index : sample(strata[s].length, quotas[s], random)) {
+                drawn[next++] = strata[s][index];
+            }
+        }
+        Arrays.sort(drawn);
+        return drawn;
+    }
+
+    /**
+     * @return the position of the question in the version, -1 when the version does not contain it
+     */
+    public int positionOf(long questionId) {
+        Integer position = positions.get(questionId);
+        return position != null ? position : -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int strataCount() {
+        return strata.length;
+    }
+
+    private int[] quotas(int count) {
+        int[] quotas = new int[strata.length];
+        long[] remainders = new long[strata.length];
+        int assigned = 0;
+        for (int s = 0; s < strata.length; s++) {
+            long share = (long) count * strata[s].length;
+            quotas[s] = (int) (share / size);
+            remainders[s] = share % size;
+            assigned += quotas[s];
+        }
+        // The floors leave fewer than strata.length questions; they go to the largest remainders
+        for (; assigned < count; assigned++) {
+            int largest = 0;
+            for (int s = 1; s < strata.length; s++) {
+                if (remainders[s] > remainders[largest]) {
+                    largest = s;
+                }
+            }
+            quotas[largest]++;
+            remainders[largest] = -1;
+        }
+        return quotas;
+    }
+
+    // Floyd: k distinct indices out of n with k random numbers and no array of n
+    private static Set<Integer> sample(int n, int k, RandomGenerator random) {
+        Set<Integer> chosen = new HashSet<>(k * 2);
+        for (int j = n - k; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            if (!chosen.add(t)) {
+                chosen.add(j);
+            }
+        }
+        return chosen;
+    }
+}
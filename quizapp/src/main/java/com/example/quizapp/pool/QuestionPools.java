@@ -0,0 +1,66 @@
+package com.example.quizapp.pool;
+
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import com.example.quizapp.versioning.VersionCache;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Question draws for attempts on quizzes with a pool size. The {@link QuestionPool} of a
+ * version is built on its first draw; versions never change, so pools are never
+ * invalidated. As for scoring plans, the two newest versions of each quiz are kept.
+ */
+@Component
+public class QuestionPools {
+
+    private static final int VERSIONS_KEPT = 2;
+
+    private final VersionCache<QuestionPool> pools = new VersionCache<>(VERSIONS_KEPT);
+
+    /**
+     * @return the questions of a new attempt in quiz order: a draw of the pool size, or every
+     * question of the version when it has no pool
+     */
+    public List<QuestionSnapshot> draw(QuizVersion version) {
+        if (!version.isPooled()) {
+            return version.questions();
+        }
+        int[] positions = poolFor(version).draw(version.poolSize(), ThreadLocalRandom.current());
+        List<QuestionSnapshot> drawn = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            drawn.add(version.questions().get(position));
+        }
+        return drawn;
+    }
+
+    /**
+     * @param questionIds the questions drawn for an attempt, null when it has every question
+     * @return those questions in the order given; ids the version does not contain are skipped
+     */
+    public List<QuestionSnapshot> questions(QuizVersion version, List<Long> questionIds) {
+        if (questionIds == null) {
+            return version.questions();
+        }
+        QuestionPool pool = poolFor(version);
+        List<QuestionSnapshot> questions = new ArrayList<>(questionIds.size());
+        for (Long questionId : questionIds) {
+            int position = pool.positionOf(questionId);
+            if (position >= 0) {
+                questions.add(version.questions().get(position));
+            }
+        }
+        return questions;
+    }
+
+    public QuestionPool poolFor(QuizVersion version) {
+        return pools.get(version, QuestionPool::of);
+    }
+
+    public int size() {
+        return pools.size();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.quizapp.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many requests run a DB-heavy endpoint at once.
+ * Callers beyond the limit wait up to the queue timeout for a slot and are
+ * then turned away, so a flood can hold at most maxConcurrent pool connections.
+ */
+public class ConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long queueTimeoutNanos;
+
+    public ConcurrencyLimiter(int maxConcurrent, Duration queueTimeout) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be positive");
+        }
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+    }
+
+    /**
+     * Waits up to the queue timeout for a slot; every successful call must be paired with {@link #exit()}.
+     */
+    public boolean tryEnter() throws InterruptedException {
+        return permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void exit() {
+        permits.release();
+    }
+
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.quizapp.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+import java.time.Duration;
+
+/**
+ * Rate limiting and admission control for POST /submit/{quizId} and POST /api/v1/results.
+ * Policies are set under app.ratelimit; app.ratelimit.enabled=false removes the filter.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.ratelimit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.ratelimit.stripes:16384}") int stripes,
+            @Value("${app.ratelimit.per-client.permits-per-second:2}") double clientRate,
+            @Value("${app.ratelimit.per-client.burst:10}") int clientBurst,
+            @Value("${app.ratelimit.per-quiz.permits-per-second:50}") double quizRate,
+            @Value("${app.ratelimit.per-quiz.burst:200}") int quizBurst,
+            @Value("${app.ratelimit.concurrency.max:4}") int maxConcurrent,
+            @Value("${app.ratelimit.concurrency.queue-timeout:200ms}") Duration queueTimeout) {
+        RateLimitFilter filter = new RateLimitFilter(
+                new TokenBucketLimiter(stripes, clientRate, clientBurst),
+                new TokenBucketLimiter(stripes, quizRate, quizBurst),
+                new ConcurrencyLimiter(maxConcurrent, queueTimeout),
+                meterRegistry);
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/submit/*", "/api/v1/results");
+        // Ahead of the session filter, so rejected requests never touch the session store
+        registration.setOrder(SessionRepositoryFilter.DEFAULT_ORDER - 10);
+        return registration;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.quizapp.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for the unauthenticated write endpoints (quiz submissions).
+ * A request must get a permit from the per-client bucket, from the per-quiz bucket
+ * when the quiz is in the path, and then a slot from the concurrency limiter.
+ * Rejections are answered with 429 and Retry-After before any session or DB work;
+ * permits taken before a later check rejects the request are given back.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String SUBMIT_PREFIX = "/submit/";
+
+    private final TokenBucketLimiter perClient;
+    private final TokenBucketLimiter perQuiz;
+    private final ConcurrencyLimiter admission;
+    private final Counter clientRejections;
+    private final Counter quizRejections;
+    private final Counter concurrencyRejections;
+
+    public RateLimitFilter(TokenBucketLimiter perClient, TokenBucketLimiter perQuiz, ConcurrencyLimiter admission,
+                           MeterRegistry meterRegistry) {
+        this.perClient = perClient;
+        this.perQuiz = perQuiz;
+        this.admission = admission;
+        this.clientRejections = rejections(meterRegistry, "client");
+        this.quizRejections = rejections(meterRegistry, "quiz");
+        this.concurrencyRejections = rejections(meterRegistry, "concurrency");
+        Gauge.builder("quizapp.ratelimit.in.flight", admission, ConcurrencyLimiter::inFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Behind a proxy the client address comes from X-Forwarded-For via server.forward-headers-strategy
+        String client = request.getRemoteAddr();
+        long waitNanos = perClient.tryAcquire(client);
+        if (waitNanos > 0) {
+            reject(response, waitNanos, clientRejections);
+            return;
+        }
+
+        Long quizId = quizIdOf(request.getServletPath());
+        if (quizId != null) {
+            waitNanos = perQuiz.tryAcquire(quizId);
+            if (waitNanos > 0) {
+                perClient.release(client);
+                reject(response, waitNanos, quizRejections);
+                return;
+            }
+        }
+
+        boolean admitted;
+        try {
+            admitted = admission.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            perClient.release(client);
+            if (quizId != null) {
+                perQuiz.release(quizId);
+            }
+            reject(response, TimeUnit.SECONDS.toNanos(1), concurrencyRejections);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admission.exit();
+        }
+    }
+
+    static Long quizIdOf(String path) {
+        if (path == null || !path.startsWith(SUBMIT_PREFIX)) {
+            return null;
+        }
+        String id = path.substring(SUBMIT_PREFIX.length());
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos, Counter counter) throws IOException {
+        counter.increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many requests, retry in " + retryAfterSeconds + " s");
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("quizapp.ratelimit.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.quizapp.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket over a fixed array of striped buckets.
+ * Each bucket is a single long - the theoretical arrival time of the next permit
+ * (GCRA form of the token bucket) - updated with CAS, so there is no per-key map,
+ * no eviction and no lock. Keys that hash to the same stripe share a bucket, which
+ * only ever makes the limit stricter for them; size the stripe count well above
+ * the expected number of concurrently active keys.
+ */
+public class TokenBucketLimiter {
+
+    private final AtomicLongArray theoreticalArrival;
+    private final int mask;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final long origin;
+
+    public TokenBucketLimiter(int stripes, double permitsPerSecond, int burst) {
+        this(stripes, permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucketLimiter(int stripes, double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (stripes < 1 || permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("stripes, permitsPerSecond and burst must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.theoreticalArrival = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.nanoClock = nanoClock;
+        // Stored times are relative to construction so a zeroed stripe means "full bucket"
+        this.origin = nanoClock.getAsLong() - burstNanos;
+    }
+
+    /**
+     * Takes one permit for the key.
+     *
+     * @return 0 if the permit was granted, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(Object key) {
+        int stripe = stripeOf(key);
+        long now = nanoClock.getAsLong() - origin;
+        while (true) {
+            long arrival = theoreticalArrival.get(stripe);
+            long next = Math.max(arrival, now) + emissionIntervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(stripe, arrival, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Gives back a permit taken by {@link #tryAcquire} for a request that was turned away
+     * later; never credits more than a full bucket.
+     */
+    public void release(Object key) {
+        int stripe = stripeOf(key);
+        long now = nanoClock.getAsLong() - origin;
+        while (true) {
+            long arrival = theoreticalArrival.get(stripe);
+            long previous = Math.max(arrival - emissionIntervalNanos, now);
+            if (previous >= arrival || theoreticalArrival.compareAndSet(stripe, arrival, previous)) {
+                return;
+            }
+        }
+    }
+
+    int stripeOf(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.quizapp.repository;
 
 import com.example.quizapp.entity.Answer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -23,9 +26,17 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     Page<Answer> findByQuestionId(Long questionId, Pageable pageable);
 
     // Find correct answers for a question
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     List<Answer> findByQuestionIdAndIsCorrectTrue(Long questionId);
 
     // Find answers ordered by orderIndex
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     List<Answer> findByQuestionIdOrderByOrderIndexAsc(Long questionId);
 
     // Count correct answers for a question
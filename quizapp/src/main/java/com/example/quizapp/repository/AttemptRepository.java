@@ -0,0 +1,16 @@
+package com.example.quizapp.repository;
+
+import com.example.quizapp.entity.Attempt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * JPA Repository for persisted quiz attempts.
+ */
+@Repository
+public interface AttemptRepository extends JpaRepository<Attempt, String> {
+
+    Optional<Attempt> findByResumeToken(String resumeToken);
+}
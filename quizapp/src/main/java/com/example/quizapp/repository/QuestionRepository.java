@@ -2,10 +2,13 @@ package com.example.quizapp.repository;
 
 import com.example.quizapp.entity.Question;
 import com.example.quizapp.entity.QuestionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,6 +21,10 @@ import java.util.List;
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     // Find questions by quiz ID
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     List<Question> findByQuizId(Long quizId);
 
     // Pagination support for questions by quiz
@@ -27,6 +34,10 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByType(QuestionType type);
 
     // Find questions by quiz ordered by orderIndex
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     List<Question> findByQuizIdOrderByOrderIndexAsc(Long quizId);
 
     // Custom query - count questions in a quiz
@@ -1,10 +1,13 @@
 package com.example.quizapp.repository;
 
 import com.example.quizapp.entity.Quiz;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,16 +22,32 @@ public interface QuizRepository extends JpaRepository<Quiz, Long> {
     // Custom query method - findBy...
     List<Quiz> findByTitleContainingIgnoreCase(String title);
 
-    // Pagination support
+    // Pagination support (catalog listing - served from the query cache)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     Page<Quiz> findAll(Pageable pageable);
 
     // Custom @Query - find quizzes by category name
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     @Query("SELECT DISTINCT q FROM Quiz q JOIN q.categories c WHERE c.name = :categoryName")
     List<Quiz> findByCategory(@Param("categoryName") String categoryName);
 
     // Find quizzes with time limit
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     List<Quiz> findByTimeLimitIsNotNull();
 
     // Find quizzes with negative points enabled
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "catalog-queries")
+    })
     List<Quiz> findByNegativePointsTrue();
 }
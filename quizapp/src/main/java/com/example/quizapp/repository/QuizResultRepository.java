@@ -4,10 +4,12 @@ import com.example.quizapp.entity.QuizResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -35,4 +37,9 @@ public interface QuizResultRepository extends JpaRepository<QuizResult, Long> {
     // Custom query - count attempts for a quiz
     @Query("SELECT COUNT(r) FROM QuizResult r WHERE r.quiz.id = :quizId")
     Long countAttemptsByQuizId(@Param("quizId") Long quizId);
+
+    // Bulk delete - one statement, no entities loaded
+    @Modifying
+    @Query("DELETE FROM QuizResult r WHERE r.quiz.id = :quizId AND r.completedAt < :before")
+    int deleteByQuizIdCompletedBefore(@Param("quizId") Long quizId, @Param("before") LocalDateTime before);
 }
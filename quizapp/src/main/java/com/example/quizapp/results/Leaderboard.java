@@ -0,0 +1,107 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.cache.CacheEntity;
+import com.example.quizapp.cache.CacheInvalidationListener;
+import com.example.quizapp.cache.InvalidationEvent;
+import com.example.quizapp.dto.QuizResultDTO;
+import com.example.quizapp.repository.QuizResultRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Top 10 per quiz for the result page. Boards are loaded from quiz_result, updated in
+ * place by {@link ResultPipeline} as results are stored on this node, and reloaded after
+ * the ttl so results stored by other nodes show up too.
+ */
+@Component
+public class Leaderboard implements CacheInvalidationListener {
+
+    static final int SIZE = 10;
+
+    // Same order as findTop10ByQuizIdOrderByScoreDesc; earlier results keep their place on ties
+    private static final Comparator<QuizResultDTO> RANKING = Comparator.comparing(QuizResultDTO::getScore).reversed();
+
+    private final QuizResultRepository quizResultRepository;
+    private final long ttlMillis;
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+
+    public Leaderboard(QuizResultRepository quizResultRepository,
+                       @Value("${app.results.leaderboard.ttl:5s}") Duration ttl) {
+        this.quizResultRepository = quizResultRepository;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    public List<QuizResultDTO> top(Long quizId) {
+        long now = System.currentTimeMillis();
+        Board board = boards.get(quizId);
+        if (board == null || now - board.loadedAt() > ttlMillis) {
+            List<QuizResultDTO> entries = quizResultRepository.findTop10ByQuizIdOrderByScoreDesc(quizId).stream()
+                    .map(QuizResultDTO::new)
+                    .toList();
+            board = new Board(entries, now);
+            boards.put(quizId, board);
+        }
+        return board.entries();
+    }
+
+    /**
+     * The board including the player's own result, which may still be in the outbox.
+     */
+    public List<QuizResultDTO> top(Long quizId, QuizResultDTO own) {
+        List<QuizResultDTO> entries = top(quizId);
+        return own != null ? ranked(entries, own) : entries;
+    }
+
+    /**
+     * Adds stored results to the boards that are loaded; others load them from the database.
+     */
+    public void offer(List<PendingResult> results) {
+        for (PendingResult result : results) {
+            boards.computeIfPresent(result.quizId(),
+                    (quizId, board) -> new Board(ranked(board.entries(), result.toDto()), board.loadedAt()));
+        }
+    }
+
+    public void evict(Long quizId) {
+        if (quizId != null) {
+            boards.remove(quizId);
+        }
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        if (event.entity() == CacheEntity.QUIZ) {
+            evict(event.id());
+        }
+    }
+
+    // The results have no id before they are stored: nickname, score and completion time identify them
+    private static List<QuizResultDTO> ranked(List<QuizResultDTO> entries, QuizResultDTO result) {
+        for (QuizResultDTO entry : entries) {
+            if (Objects.equals(entry.getNickname(), result.getNickname())
+                    && Objects.equals(entry.getScore(), result.getScore())
+                    && Objects.equals(entry.getCompletedAt(), result.getCompletedAt())) {
+                return entries;
+            }
+        }
+        if (entries.size() >= SIZE && RANKING.compare(result, entries.get(entries.size() - 1)) >= 0) {
+            return entries;
+        }
+        List<QuizResultDTO> ranked = new ArrayList<>(entries.size() + 1);
+        ranked.addAll(entries);
+        ranked.add(result);
+        ranked.sort(RANKING);
+        return List.copyOf(ranked.subList(0, Math.min(SIZE, ranked.size())));
+    }
+
+    private record Board(List<QuizResultDTO> entries, long loadedAt) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.dto.QuizResultDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * A scored submission waiting in {@code result_outbox} to become a quiz_result row.
+ *
+ * @param id          outbox row id, null until the row has been read back from the outbox
+ * @param quizVersion the quiz version the submission was scored on, null when unknown
+ */
+public record PendingResult(Long id, long quizId, Integer quizVersion, String nickname, int score, int maxScore,
+                            LocalDateTime completedAt) {
+
+    public static PendingResult of(long quizId, String nickname, int score, int maxScore) {
+        return of(quizId, null, nickname, score, maxScore);
+    }
+
+    public static PendingResult of(long quizId, Integer quizVersion, String nickname, int score, int maxScore) {
+        return new PendingResult(null, quizId, quizVersion, nickname, score, maxScore, LocalDateTime.now());
+    }
+
+    /**
+     * @return the result as the ranking shows it; the quiz_result id is not known yet
+     */
+    public QuizResultDTO toDto() {
+        QuizResultDTO dto = new QuizResultDTO();
+        dto.setNickname(nickname);
+        dto.setScore(score);
+        dto.setMaxScore(maxScore);
+        dto.setCompletedAt(completedAt);
+        dto.setQuizId(quizId);
+        dto.setQuizVersion(quizVersion);
+        return dto;
+    }
+}
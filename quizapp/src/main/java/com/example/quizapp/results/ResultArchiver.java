@@ -0,0 +1,121 @@
+package com.example.quizapp.results;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves quiz results older than app.results.archive.after from quiz_result to
+ * quiz_result_archive, so the table the leaderboards, statistics and result pages read
+ * stays the size of the recent results. Each chunk of ids is copied and deleted in its own
+ * transaction: locks are held for one chunk, and a failed run resumes where it stopped.
+ *
+ * Archiving is not a change of the result, so it is not written to quiz_result_change;
+ * consumers of the change feed keep archived results until a quiz delete removes them.
+ */
+@Component
+public class ResultArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultArchiver.class);
+
+    private static final String CHUNK_SQL =
+            "SELECT id FROM quiz_result WHERE completed_at < ? ORDER BY id LIMIT ?";
+    private static final String COPY_SQL = """
+            INSERT INTO quiz_result_archive (id, nickname, score, max_score, completed_at, quiz_id, quiz_version,
+                                             archived_at)
+            SELECT id, nickname, score, max_score, completed_at, quiz_id, quiz_version, ?
+            FROM quiz_result WHERE id BETWEEN ? AND ? AND completed_at < ?""";
+    private static final String DELETE_SQL =
+            "DELETE FROM quiz_result WHERE id BETWEEN ? AND ? AND completed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration after;
+    private final int batchSize;
+    private final long intervalMillis;
+    private ScheduledExecutorService scheduler;
+
+    public ResultArchiver(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.results.archive.after:365d}") Duration after,
+                          @Value("${app.results.archive.batch-size:5000}") int batchSize,
+                          @Value("${app.results.archive.interval:1h}") Duration interval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.after = after;
+        this.batchSize = batchSize;
+        this.intervalMillis = interval.toMillis();
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "result-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::archiveSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void archiveSafely() {
+        try {
+            int archived = archive(LocalDateTime.now().minus(after));
+            if (archived > 0) {
+                log.info("Archived {} quiz results", archived);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Archiving quiz results failed", e);
+        }
+    }
+
+    /**
+     * Archives every result completed before the cutoff, one chunk per transaction.
+     *
+     * @return number of results archived
+     */
+    public int archive(LocalDateTime cutoff) {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        int total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Integer archived = transactionTemplate.execute(status -> archiveChunk(before));
+            if (archived == null || archived == 0) {
+                break;
+            }
+            total += archived;
+        }
+        return total;
+    }
+
+    private int archiveChunk(Timestamp before) {
+        List<Long> ids = jdbcTemplate.queryForList(CHUNK_SQL, Long.class, before, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // The range may hold ids that are not old enough; completed_at filters them out again
+        long first = ids.get(0);
+        long last = ids.get(ids.size() - 1);
+        jdbcTemplate.update(COPY_SQL, Timestamp.valueOf(LocalDateTime.now()), first, last, before);
+        return jdbcTemplate.update(DELETE_SQL, first, last, before);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.quizapp.results;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the quiz_result change feed: the result as it was inserted or deleted.
+ *
+ * @param seq position in the feed; increases with every change
+ */
+public record ResultChange(long seq, Type type, long resultId, long quizId, String nickname, int score,
+                           Integer maxScore, LocalDateTime completedAt, LocalDateTime changedAt) {
+
+    public enum Type {
+        INSERT,
+        DELETE
+    }
+}
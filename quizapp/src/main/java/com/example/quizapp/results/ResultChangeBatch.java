@@ -0,0 +1,15 @@
+package com.example.quizapp.results;
+
+import java.util.List;
+
+/**
+ * A page of the change feed.
+ *
+ * @param next the {@code after} value for the next request
+ */
+public record ResultChangeBatch(List<ResultChange> changes, long next) {
+
+    public static ResultChangeBatch empty(long after) {
+        return new ResultChangeBatch(List.of(), after);
+    }
+}
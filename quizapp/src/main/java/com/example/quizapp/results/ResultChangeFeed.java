@@ -0,0 +1,172 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.exception.ResultChangesExpiredException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-poll reads of quiz_result_change. A consumer that is caught up is parked instead of
+ * re-querying: one thread checks the last seq once per poll interval while anyone waits and
+ * answers every parked consumer that is behind it. The same thread applies retention.
+ *
+ * Seqs are handed out when a change is written, not when it commits, so a change can appear
+ * after one with a higher seq. A batch therefore stops at a gap in the seqs until the row
+ * behind the gap is older than the settle time; after that the gap is taken to be a
+ * rolled-back transaction.
+ */
+@Component
+public class ResultChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultChangeFeed.class);
+
+    private final ResultChangeLog changeLog;
+    private final long pollIntervalMillis;
+    private final Duration settle;
+    private final Duration retention;
+    private final long retentionIntervalMillis;
+    private final int purgeBatchSize;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private ScheduledExecutorService scheduler;
+
+    public ResultChangeFeed(ResultChangeLog changeLog,
+                            @Value("${app.results.changes.poll-interval:250ms}") Duration pollInterval,
+                            @Value("${app.results.changes.settle:5s}") Duration settle,
+                            @Value("${app.results.changes.retention:7d}") Duration retention,
+                            @Value("${app.results.changes.retention-interval:1h}") Duration retentionInterval,
+                            @Value("${app.results.changes.purge-batch-size:1000}") int purgeBatchSize) {
+        this.changeLog = changeLog;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.settle = settle;
+        this.retention = retention;
+        this.retentionIntervalMillis = retentionInterval.toMillis();
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "result-change-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::purgeSafely, retentionIntervalMillis, retentionIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * @throws ResultChangesExpiredException when changes after {@code after} were removed by retention
+     */
+    public ResultChangeBatch read(long after, int limit) {
+        long purgedThrough = changeLog.purgedThrough();
+        if (after < purgedThrough) {
+            throw new ResultChangesExpiredException(after, purgedThrough);
+        }
+        return settled(after, changeLog.after(after, limit), LocalDateTime.now().minus(settle));
+    }
+
+    /**
+     * Answers at once when there are changes or the timeout is zero, otherwise when changes
+     * arrive or after {@code timeout} with an empty batch.
+     */
+    public DeferredResult<ResultChangeBatch> poll(long after, int limit, Duration timeout) {
+        DeferredResult<ResultChangeBatch> result = new DeferredResult<>(timeout.toMillis(), ResultChangeBatch.empty(after));
+        ResultChangeBatch batch = read(after, limit);
+        // A zero async timeout would mean no timeout at all
+        if (!batch.changes().isEmpty() || timeout.isZero()) {
+            result.setResult(batch);
+            return result;
+        }
+        Waiter waiter = new Waiter(after, limit, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        return result;
+    }
+
+    int waiting() {
+        return waiters.size();
+    }
+
+    private void pollSafely() {
+        try {
+            wakeWaiters();
+        } catch (RuntimeException e) {
+            log.warn("Polling quiz_result_change failed", e);
+        }
+    }
+
+    /**
+     * Answers the parked consumers that are behind the last seq.
+     *
+     * @return number of consumers answered
+     */
+    int wakeWaiters() {
+        if (waiters.isEmpty()) {
+            return 0;
+        }
+        long last = changeLog.lastSeq();
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settle);
+        int answered = 0;
+        for (Waiter waiter : new ArrayList<>(waiters)) {
+            if (waiter.after() >= last || waiter.result().isSetOrExpired()) {
+                continue;
+            }
+            ResultChangeBatch batch = settled(waiter.after(), changeLog.after(waiter.after(), waiter.limit()), settledBefore);
+            if (!batch.changes().isEmpty() && waiter.result().setResult(batch)) {
+                answered++;
+            }
+        }
+        return answered;
+    }
+
+    private void purgeSafely() {
+        try {
+            int purged = changeLog.purge(LocalDateTime.now().minus(retention), purgeBatchSize);
+            if (purged > 0) {
+                log.info("Removed {} result changes older than {}", purged, retention);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Result change retention failed", e);
+        }
+    }
+
+    // Cuts the batch at the first gap in seqs that may still be filled by a commit in flight
+    static ResultChangeBatch settled(long after, List<ResultChange> changes, LocalDateTime settledBefore) {
+        long expected = after + 1;
+        int end = 0;
+        for (ResultChange change : changes) {
+            if (change.seq() != expected && change.changedAt().isAfter(settledBefore)) {
+                break;
+            }
+            expected = change.seq() + 1;
+            end++;
+        }
+        List<ResultChange> ready = end == changes.size() ? changes : changes.subList(0, end);
+        return new ResultChangeBatch(List.copyOf(ready), end == 0 ? after : ready.get(end - 1).seq());
+    }
+
+    private record Waiter(long after, int limit, DeferredResult<ResultChangeBatch> result) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.quizapp.results;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes and reads quiz_result_change. The record methods copy the quiz_result rows
+ * themselves, so they must run in the transaction that inserts the rows (after the insert)
+ * or deletes them (before the delete); they refuse to run outside one.
+ */
+@Component
+public class ResultChangeLog {
+
+    private static final String RECORD_SQL = """
+            INSERT INTO quiz_result_change
+                (change_type, result_id, quiz_id, nickname, score, max_score, completed_at, changed_at)
+            SELECT ?, id, quiz_id, nickname, score, max_score, completed_at, ?
+            FROM quiz_result""";
+    private static final String SELECT_SQL = """
+            SELECT seq, change_type, result_id, quiz_id, nickname, score, max_score, completed_at, changed_at
+            FROM quiz_result_change WHERE seq > ? ORDER BY seq LIMIT ?""";
+    private static final String PURGED_THROUGH_SQL =
+            "SELECT purged_through FROM quiz_result_change_retention WHERE id = 1";
+    // Never moves backwards when two nodes run retention at once
+    private static final String ADVANCE_PURGED_THROUGH_SQL =
+            "UPDATE quiz_result_change_retention SET purged_through = ? WHERE id = 1 AND purged_through < ?";
+    private static final String PURGE_SQL = """
+            DELETE FROM quiz_result_change WHERE seq IN (
+                SELECT seq FROM quiz_result_change WHERE seq <= ? ORDER BY seq LIMIT ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ResultChangeLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordInserts(List<Long> resultIds) {
+        record(ResultChange.Type.INSERT, resultIds);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletes(List<Long> resultIds) {
+        record(ResultChange.Type.DELETE, resultIds);
+    }
+
+    /**
+     * Records the deletion of every result of a quiz that is about to be deleted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int recordQuizDeleted(Long quizId) {
+        return jdbcTemplate.update(RECORD_SQL + " WHERE quiz_id = ? ORDER BY id",
+                ResultChange.Type.DELETE.name(), Timestamp.valueOf(LocalDateTime.now()), quizId);
+    }
+
+    /**
+     * Records the deletion of a quiz's results completed before {@code before}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int recordDeletesBefore(Long quizId, LocalDateTime before) {
+        return jdbcTemplate.update(RECORD_SQL + " WHERE quiz_id = ? AND completed_at < ? ORDER BY id",
+                ResultChange.Type.DELETE.name(), Timestamp.valueOf(LocalDateTime.now()), quizId,
+                Timestamp.valueOf(before));
+    }
+
+    private void record(ResultChange.Type type, List<Long> resultIds) {
+        if (resultIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(RECORD_SQL + " WHERE id = ?", resultIds, resultIds.size(), (ps, resultId) -> {
+            ps.setString(1, type.name());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, resultId);
+        });
+    }
+
+    /**
+     * @return up to {@code limit} changes with a seq above {@code after}, in seq order
+     */
+    public List<ResultChange> after(long after, int limit) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new ResultChange(
+                rs.getLong("seq"),
+                ResultChange.Type.valueOf(rs.getString("change_type")),
+                rs.getLong("result_id"),
+                rs.getLong("quiz_id"),
+                rs.getString("nickname"),
+                rs.getInt("score"),
+                rs.getObject("max_score", Integer.class),
+                rs.getTimestamp("completed_at").toLocalDateTime(),
+                rs.getTimestamp("changed_at").toLocalDateTime()), after, limit);
+    }
+
+    /**
+     * @return the highest seq recorded, or the retention watermark when retention has
+     * emptied the table, so a cursor taken from it is never reported as expired
+     */
+    public long lastSeq() {
+        Long last = jdbcTemplate.queryForObject("SELECT MAX(seq) FROM quiz_result_change", Long.class);
+        return Math.max(last != null ? last : 0L, purgedThrough());
+    }
+
+    public long purgedThrough() {
+        Long purged = jdbcTemplate.queryForObject(PURGED_THROUGH_SQL, Long.class);
+        return purged != null ? purged : 0L;
+    }
+
+    /**
+     * Deletes changes recorded before {@code cutoff}, {@code batchSize} rows per statement.
+     * The watermark is raised first, so a consumer is told it fell behind rather than
+     * silently skipping rows that are being deleted.
+     *
+     * @return number of changes deleted
+     */
+    public int purge(LocalDateTime cutoff, int batchSize) {
+        Long through = jdbcTemplate.queryForObject(
+                "SELECT MAX(seq) FROM quiz_result_change WHERE changed_at < ?", Long.class, Timestamp.valueOf(cutoff));
+        if (through == null) {
+            return 0;
+        }
+        jdbcTemplate.update(ADVANCE_PURGED_THROUGH_SQL, through, through);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, through, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+        return purged;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.quizapp.results;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Durable queue between the submit request and {@link ResultPipeline}. Submit inserts a
+ * row and returns; the pipeline claims rows with a lease (so several nodes can drain the
+ * same table), and deletes each row in the same transaction that inserts its quiz_result.
+ * A crash before that commit leaves the row to be claimed again once the lease runs out.
+ * The same transaction records the inserts in {@link ResultChangeLog}.
+ */
+@Component
+public class ResultOutbox {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO result_outbox (quiz_id, quiz_version, nickname, score, max_score, completed_at)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+    // The lease condition is repeated outside the subquery so a concurrent claimer re-checks it
+    private static final String CLAIM_SQL = """
+            UPDATE result_outbox SET claimed_by = ?, claimed_until = ?
+            WHERE (claimed_until IS NULL OR claimed_until < ?)
+              AND id IN (SELECT id FROM result_outbox
+                         WHERE claimed_until IS NULL OR claimed_until < ?
+                         ORDER BY id LIMIT ?)""";
+    private static final String SELECT_CLAIMED_SQL = """
+            SELECT id, quiz_id, quiz_version, nickname, score, max_score, completed_at
+            FROM result_outbox WHERE claimed_by = ? ORDER BY id""";
+    private static final String DELETE_SQL = "DELETE FROM result_outbox WHERE id = ?";
+    // Results of quizzes deleted in the meantime are dropped instead of failing the batch
+    private static final String INSERT_RESULT_SQL = """
+            INSERT INTO quiz_result (nickname, score, max_score, completed_at, quiz_version, quiz_id)
+            SELECT ?, ?, ?, ?, ?, id FROM quiz WHERE id = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResultChangeLog changeLog;
+
+    public ResultOutbox(JdbcTemplate jdbcTemplate, ResultChangeLog changeLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeLog = changeLog;
+    }
+
+    public void enqueue(PendingResult result) {
+        jdbcTemplate.update(INSERT_SQL, result.quizId(), result.quizVersion(), result.nickname(), result.score(),
+                result.maxScore(), Timestamp.valueOf(result.completedAt()));
+    }
+
+    /**
+     * Claims up to {@code limit} unclaimed (or expired) rows, oldest first.
+     */
+    public List<PendingResult> claim(int limit, long leaseMillis) {
+        String token = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        Timestamp current = new Timestamp(now);
+        int claimed = jdbcTemplate.update(CLAIM_SQL, token, new Timestamp(now + leaseMillis), current, current, limit);
+        if (claimed == 0) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_CLAIMED_SQL, (rs, rowNum) -> new PendingResult(
+                rs.getLong("id"),
+                rs.getLong("quiz_id"),
+                rs.getObject("quiz_version", Integer.class),
+                rs.getString("nickname"),
+                rs.getInt("score"),
+                rs.getInt("max_score"),
+                rs.getTimestamp("completed_at").toLocalDateTime()), token);
+    }
+
+    /**
+     * Deletes the claimed rows and inserts their results in one transaction. Rows already
+     * consumed by another node after a lease expiry are skipped.
+     *
+     * @return the results that were stored
+     */
+    @Transactional
+    public List<PendingResult> consume(List<PendingResult> claimed) {
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+        int[][] deleted = jdbcTemplate.batchUpdate(DELETE_SQL, claimed, claimed.size(),
+                (ps, result) -> ps.setLong(1, result.id()));
+        return store(affected(claimed, Arrays.stream(deleted).flatMapToInt(Arrays::stream).toArray()));
+    }
+
+    /**
+     * Inserts results directly, without the outbox.
+     *
+     * @return the results that were stored
+     */
+    @Transactional
+    public List<PendingResult> store(List<PendingResult> results) {
+        if (results.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        int[] inserted = jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_RESULT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingResult result = results.get(i);
+                        ps.setString(1, result.nickname());
+                        ps.setInt(2, result.score());
+                        ps.setInt(3, result.maxScore());
+                        ps.setTimestamp(4, Timestamp.valueOf(result.completedAt()));
+                        ps.setObject(5, result.quizVersion(), Types.INTEGER);
+                        ps.setLong(6, result.quizId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return results.size();
+                    }
+                }, keys);
+        // One key per inserted row; maps are case-insensitive, PostgreSQL returns every column
+        changeLog.recordInserts(keys.getKeyList().stream()
+                .map(key -> ((Number) key.get("id")).longValue())
+                .toList());
+        return affected(results, inserted);
+    }
+
+    // Rows whose statement changed something; drivers may report SUCCESS_NO_INFO (-2)
+    private static List<PendingResult> affected(List<PendingResult> results, int[] counts) {
+        List<PendingResult> affected = new ArrayList<>(results.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                affected.add(results.get(i));
+            }
+        }
+        return affected;
+    }
+}
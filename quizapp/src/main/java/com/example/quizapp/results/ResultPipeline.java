@@ -0,0 +1,213 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.discovery.QuizCatalogIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Everything after scoring a submission. Submit only enqueues into {@link ResultOutbox};
+ * a dispatcher thread claims outbox batches and runs them through two bounded stages:
+ * <ol>
+ *     <li>persist - quiz_result inserts and outbox deletes in one transaction</li>
+ *     <li>publish - leaderboard and discovery catalog updates and result metrics (score ratio,
+ *     submit-to-stored lag)</li>
+ * </ol>
+ * The dispatcher only claims a batch when the persist stage has room, and a full publish
+ * stage runs its work on the persist thread, so a slow database holds results in the outbox
+ * instead of in memory. With {@code app.results.pipeline.async=false} results are stored on
+ * the request thread, as before the outbox.
+ */
+@Component
+public class ResultPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultPipeline.class);
+
+    private final ResultOutbox outbox;
+    private final Leaderboard leaderboard;
+    private final QuizCatalogIndex quizCatalog;
+    private final boolean async;
+    private final int batchSize;
+    private final int persistThreads;
+    private final int queueCapacity;
+    private final long pollIntervalMillis;
+    private final long leaseMillis;
+    private final Semaphore wakeUp = new Semaphore(0);
+    private final Counter storedCounter;
+    private final DistributionSummary scoreRatio;
+    private final Timer storeLag;
+    private ThreadPoolExecutor persistStage;
+    private ThreadPoolExecutor publishStage;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    public ResultPipeline(ResultOutbox outbox,
+                          Leaderboard leaderboard,
+                          QuizCatalogIndex quizCatalog,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.results.pipeline.async:true}") boolean async,
+                          @Value("${app.results.pipeline.batch-size:200}") int batchSize,
+                          @Value("${app.results.pipeline.persist-threads:2}") int persistThreads,
+                          @Value("${app.results.pipeline.queue-capacity:4}") int queueCapacity,
+                          @Value("${app.results.pipeline.poll-interval:1s}") Duration pollInterval,
+                          @Value("${app.results.pipeline.lease:30s}") Duration lease) {
+        this.outbox = outbox;
+        this.leaderboard = leaderboard;
+        this.quizCatalog = quizCatalog;
+        this.async = async;
+        this.batchSize = batchSize;
+        this.persistThreads = persistThreads;
+        this.queueCapacity = queueCapacity;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.leaseMillis = lease.toMillis();
+        this.storedCounter = Counter.builder("quizapp.results.stored")
+                .description("Quiz results stored from submissions")
+                .register(meterRegistry);
+        this.scoreRatio = DistributionSummary.builder("quizapp.results.score.ratio")
+                .description("Score as a percentage of the maximum score")
+                .baseUnit("percent")
+                .register(meterRegistry);
+        this.storeLag = Timer.builder("quizapp.results.store.lag")
+                .description("Time from submit until the result is stored")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!async) {
+            return;
+        }
+        persistStage = new ThreadPoolExecutor(persistThreads, persistThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threads("result-persist"), new ThreadPoolExecutor.AbortPolicy());
+        publishStage = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity * 4), threads("result-publish"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        running = true;
+        dispatcher = threads("result-dispatcher").newThread(this::dispatch);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+            persistStage.shutdown();
+            persistStage.awaitTermination(5, TimeUnit.SECONDS);
+            publishStage.shutdown();
+            publishStage.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Durably accepts a scored result; it is stored and published in the background.
+     */
+    public void submit(PendingResult result) {
+        if (!async) {
+            publish(outbox.store(List.of(result)));
+            return;
+        }
+        outbox.enqueue(result);
+        wakeUp.release();
+    }
+
+    /**
+     * Claims and stores outbox batches on the calling thread until the outbox is empty.
+     *
+     * @return number of results stored
+     */
+    public int drain() {
+        int stored = 0;
+        List<PendingResult> batch;
+        while (!(batch = outbox.claim(batchSize, leaseMillis)).isEmpty()) {
+            List<PendingResult> consumed = outbox.consume(batch);
+            publish(consumed);
+            stored += consumed.size();
+        }
+        return stored;
+    }
+
+    private void dispatch() {
+        while (running) {
+            try {
+                if (persistStage.getQueue().remainingCapacity() > 0) {
+                    List<PendingResult> batch = outbox.claim(batchSize, leaseMillis);
+                    if (!batch.isEmpty()) {
+                        persistStage.execute(() -> persist(batch));
+                        continue;
+                    }
+                }
+                // Woken by submit, or polls for rows from other nodes and expired leases
+                if (wakeUp.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS)) {
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RejectedExecutionException e) {
+                // Claimed rows are picked up again when their lease expires
+                log.warn("Result persist stage rejected a batch", e);
+            } catch (RuntimeException e) {
+                log.warn("Claiming results from the outbox failed", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void persist(List<PendingResult> batch) {
+        try {
+            List<PendingResult> stored = outbox.consume(batch);
+            publishStage.execute(() -> publish(stored));
+        } catch (RuntimeException e) {
+            log.warn("Storing {} results failed; they stay in the outbox", batch.size(), e);
+        }
+    }
+
+    private void publish(List<PendingResult> stored) {
+        leaderboard.offer(stored);
+        quizCatalog.offer(stored);
+        LocalDateTime now = LocalDateTime.now();
+        for (PendingResult result : stored) {
+            if (result.maxScore() > 0) {
+                scoreRatio.record(100.0 * result.score() / result.maxScore());
+            }
+            storeLag.record(Duration.between(result.completedAt(), now));
+        }
+        storedCounter.increment(stored.size());
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory threads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.quizapp.scoring;
+
+import java.util.Arrays;
+
+/**
+ * Allocation-free comparisons between submitted answer ids and a question's key.
+ * Keys are sorted long[]; orders are expressed as ranks (position in the correct order).
+ * Scratch space for the O(n log n) inversion count is a per-thread buffer that only
+ * grows, so steady-state scoring allocates nothing.
+ */
+final class AnswerSets {
+
+    private static final ThreadLocal<int[][]> SCRATCH =
+            ThreadLocal.withInitial(() -> new int[][] {new int[64], new int[64]});
+
+    private AnswerSets() {
+    }
+
+    /**
+     * Sorts {@code selected} in place and counts distinct ids that are / are not in {@code sortedKey}.
+     *
+     * @return hits in the high 32 bits, misses in the low 32 bits
+     */
+    static long hitsAndMisses(long[] selected, long[] sortedKey) {
+        Arrays.sort(selected);
+        int hits = 0;
+        int misses = 0;
+        int k = 0;
+        for (int i = 0; i < selected.length; i++) {
+            long id = selected[i];
+            if (i > 0 && id == selected[i - 1]) {
+                continue;
+            }
+            while (k < sortedKey.length && sortedKey[k] < id) {
+                k++;
+            }
+            if (k < sortedKey.length && sortedKey[k] == id) {
+                hits++;
+            } else {
+                misses++;
+            }
+        }
+        return ((long) hits << 32) | misses;
+    }
+
+    static int hits(long hitsAndMisses) {
+        return (int) (hitsAndMisses >>> 32);
+    }
+
+    static int misses(long hitsAndMisses) {
+        return (int) hitsAndMisses;
+    }
+
+    /**
+     * Kendall tau distance between the submitted order and the correct order: the number
+     * of answer pairs submitted in the wrong relative order.
+     *
+     * @param submitted ids in submitted order
+     * @param sortedKey the key ids, sorted
+     * @param rankOfSorted rank (position in the correct order) of each id in {@code sortedKey}
+     * @return the distance, or -1 if the submission is not a permutation of the key
+     */
+    static long kendallTauDistance(long[] submitted, long[] sortedKey, int[] rankOfSorted) {
+        int n = submitted.length;
+        if (n != sortedKey.length) {
+            return -1;
+        }
+        int[][] scratch = scratch(n);
+        int[] ranks = scratch[0];
+        int[] buffer = scratch[1];
+        // buffer doubles as a "rank already seen" marker before the merge sort needs it
+        Arrays.fill(buffer, 0, n, 0);
+        for (int i = 0; i < n; i++) {
+            int index = Arrays.binarySearch(sortedKey, submitted[i]);
+            if (index < 0) {
+                return -1;
+            }
+            int rank = rankOfSorted[index];
+            if (buffer[rank] != 0) {
+                return -1;
+            }
+            buffer[rank] = 1;
+            ranks[i] = rank;
+        }
+        return countInversions(ranks, buffer, n);
+    }
+
+    // Bottom-up merge sort over ranks[0..n), counting inversions; no recursion, no allocation
+    private static long countInversions(int[] ranks, int[] buffer, int n) {
+        long inversions = 0;
+        int[] from = ranks;
+        int[] to = buffer;
+        for (int width = 1; width < n; width <<= 1) {
+            for (int left = 0; left < n; left += width << 1) {
+                int mid = Math.min(left + width, n);
+                int right = Math.min(left + (width << 1), n);
+                int i = left;
+                int j = mid;
+                int out = left;
+                while (i < mid && j < right) {
+                    if (from[i] <= from[j]) {
+                        to[out++] = from[i++];
+                    } else {
+                        // every remaining element of the left run is greater than from[j]
+                        inversions += mid - i;
+                        to[out++] = from[j++];
+                    }
+                }
+                while (i < mid) {
+                    to[out++] = from[i++];
+                }
+                while (j < right) {
+                    to[out++] = from[j++];
+                }
+            }
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+        return inversions;
+    }
+
+    private static int[][] scratch(int n) {
+        int[][] scratch = SCRATCH.get();
+        if (scratch[0].length < n) {
+            int size = Integer.highestOneBit(n - 1) << 1;
+            scratch[0] = new int[size];
+            scratch[1] = new int[size];
+        }
+        return scratch;
+    }
+}
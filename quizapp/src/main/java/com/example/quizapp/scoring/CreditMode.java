@@ -0,0 +1,11 @@
+package com.example.quizapp.scoring;
+
+/**
+ * How much of a question's points a partly correct answer earns.
+ */
+public enum CreditMode {
+    /** Full points only for a fully correct answer. */
+    ALL_OR_NOTHING,
+    /** Per-choice credit for MULTIPLE_CHOICE, Kendall tau for SORTING, per-item for MATCHING. */
+    PARTIAL
+}
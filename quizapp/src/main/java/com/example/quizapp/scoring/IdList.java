@@ -0,0 +1,73 @@
+package com.example.quizapp.scoring;
+
+/**
+ * Parser for the form encoding of answer ids ("12" or "12,7,31").
+ * Walks the characters once and fills a long[] directly - no split, no boxing.
+ */
+public final class IdList {
+
+    private static final long[] EMPTY = new long[0];
+    // Any 18-digit number fits in a long
+    private static final int MAX_DIGITS = 18;
+
+    private IdList() {
+    }
+
+    /**
+     * @return the ids in submitted order (empty segments and surrounding spaces are ignored),
+     *         or null if any segment is not a number
+     */
+    public static long[] parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        int length = value.length();
+        int count = 0;
+        boolean inNumber = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (!inNumber) {
+                    count++;
+                    inNumber = true;
+                }
+            } else if (c == ',') {
+                inNumber = false;
+            } else if (c != ' ') {
+                return null;
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+
+        long[] ids = new long[count];
+        int index = -1;
+        int digits = 0;
+        inNumber = false;
+        boolean spaceAfterDigits = false;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (!inNumber) {
+                    index++;
+                    digits = 0;
+                    inNumber = true;
+                } else if (spaceAfterDigits) {
+                    // "1 2" is not a single id
+                    return null;
+                }
+                if (++digits > MAX_DIGITS) {
+                    return null;
+                }
+                ids[index] = ids[index] * 10 + (c - '0');
+            } else if (c == ',') {
+                inNumber = false;
+                spaceAfterDigits = false;
+            } else if (inNumber) {
+                spaceAfterDigits = true;
+            }
+        }
+        return ids;
+    }
+}
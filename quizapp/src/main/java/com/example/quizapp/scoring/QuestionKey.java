@@ -0,0 +1,153 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.QuestionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The correct answers of one question in the shape the checks need:
+ * sorted ids for membership and set equality, ids in orderIndex order for
+ * SORTING/MATCHING, and the normalized accepted texts for text questions.
+ * Choice checks work on primitive arrays (see {@link AnswerSets}), text checks
+ * on a {@link TextMatcher}.
+ */
+public final class QuestionKey {
+
+    private final QuestionType type;
+    private final long[] sortedIds;
+    private final int[] rankOfSorted;
+    private final long[] orderedIds;
+    private final TextMatcher texts;
+
+    private QuestionKey(QuestionType type, long[] sortedIds, int[] rankOfSorted, long[] orderedIds, TextMatcher texts) {
+        this.type = type;
+        this.sortedIds = sortedIds;
+        this.rankOfSorted = rankOfSorted;
+        this.orderedIds = orderedIds;
+        this.texts = texts;
+    }
+
+    public static QuestionKey of(QuestionType type, List<Answer> correctAnswers) {
+        return of(type, correctAnswers, 0);
+    }
+
+    /**
+     * @param maxEdits typos tolerated in text answers, 0 for exact matches after normalization
+     */
+    public static QuestionKey of(QuestionType type, List<Answer> correctAnswers, int maxEdits) {
+        int size = correctAnswers.size();
+        Answer[] byOrder = correctAnswers.toArray(new Answer[0]);
+        // Stable sort, null orderIndex counts as 0 (as the original comparator did)
+        Arrays.sort(byOrder, (a, b) -> Integer.compare(orderOf(a), orderOf(b)));
+
+        long[] orderedIds = new long[size];
+        List<String> texts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orderedIds[i] = byOrder[i].getId();
+            texts.add(byOrder[i].getText());
+        }
+        long[] sortedIds = orderedIds.clone();
+        Arrays.sort(sortedIds);
+        int[] rankOfSorted = new int[size];
+        for (int rank = 0; rank < size; rank++) {
+            rankOfSorted[Arrays.binarySearch(sortedIds, orderedIds[rank])] = rank;
+        }
+        boolean textQuestion = type == QuestionType.SHORT_ANSWER || type == QuestionType.FILL_BLANK;
+        return new QuestionKey(type, sortedIds, rankOfSorted, orderedIds,
+                textQuestion ? TextMatcher.of(texts, maxEdits) : null);
+    }
+
+    public boolean isCorrect(SubmittedAnswer answer) {
+        long[] ids = answer.ids();
+        return switch (type) {
+            case SINGLE_CHOICE, TRUE_FALSE, DROPDOWN ->
+                    ids != null && ids.length == 1 && Arrays.binarySearch(sortedIds, ids[0]) >= 0;
+            case MULTIPLE_CHOICE -> ids != null && sameSet(ids);
+            case SHORT_ANSWER, FILL_BLANK -> texts.matches(answer.text());
+            case SORTING, MATCHING -> ids != null && Arrays.equals(ids, orderedIds);
+        };
+    }
+
+    /**
+     * Fraction of the question's points earned, between 0 and 1.
+     * With {@link CreditMode#PARTIAL}: MULTIPLE_CHOICE earns (correct picks - wrong picks)
+     * / correct choices, SORTING earns 1 - Kendall tau distance / number of pairs, and
+     * MATCHING earns the share of correctly placed items. Other types are all-or-nothing.
+     */
+    public double credit(SubmittedAnswer answer, CreditMode mode) {
+        long[] ids = answer.ids();
+        if (mode == CreditMode.ALL_OR_NOTHING || ids == null) {
+            return isCorrect(answer) ? 1.0 : 0.0;
+        }
+        return switch (type) {
+            case MULTIPLE_CHOICE -> choiceCredit(ids);
+            case SORTING -> orderCredit(ids);
+            case MATCHING -> placementCredit(ids);
+            default -> isCorrect(answer) ? 1.0 : 0.0;
+        };
+    }
+
+    /**
+     * MULTIPLE_CHOICE credit without the floor at zero: each wrong pick cancels one
+     * right pick, so (correct picks - wrong picks) / correct choices, from -n to 1.
+     * Other types: 1 when correct, otherwise -1 (the one choice made was wrong).
+     */
+    public double netCredit(SubmittedAnswer answer) {
+        long[] ids = answer.ids();
+        if (type != QuestionType.MULTIPLE_CHOICE || ids == null || sortedIds.length == 0) {
+            return isCorrect(answer) ? 1.0 : -1.0;
+        }
+        long counts = AnswerSets.hitsAndMisses(ids, sortedIds);
+        return (AnswerSets.hits(counts) - AnswerSets.misses(counts)) / (double) sortedIds.length;
+    }
+
+    public QuestionType getType() {
+        return type;
+    }
+
+    // Sorts the submission's own array in place and compares ignoring duplicates
+    private boolean sameSet(long[] ids) {
+        long counts = AnswerSets.hitsAndMisses(ids, sortedIds);
+        return AnswerSets.misses(counts) == 0 && AnswerSets.hits(counts) == sortedIds.length;
+    }
+
+    private double choiceCredit(long[] ids) {
+        if (sortedIds.length == 0) {
+            return ids.length == 0 ? 1.0 : 0.0;
+        }
+        long counts = AnswerSets.hitsAndMisses(ids, sortedIds);
+        int net = AnswerSets.hits(counts) - AnswerSets.misses(counts);
+        return Math.max(0, net) / (double) sortedIds.length;
+    }
+
+    private double orderCredit(long[] ids) {
+        long distance = AnswerSets.kendallTauDistance(ids, sortedIds, rankOfSorted);
+        if (distance < 0) {
+            return 0.0;
+        }
+        long n = ids.length;
+        long pairs = n * (n - 1) / 2;
+        return pairs == 0 ? 1.0 : 1.0 - distance / (double) pairs;
+    }
+
+    private double placementCredit(long[] ids) {
+        if (orderedIds.length == 0) {
+            return ids.length == 0 ? 1.0 : 0.0;
+        }
+        int placed = 0;
+        int limit = Math.min(ids.length, orderedIds.length);
+        for (int i = 0; i < limit; i++) {
+            if (ids[i] == orderedIds[i]) {
+                placed++;
+            }
+        }
+        return placed / (double) orderedIds.length;
+    }
+
+    private static int orderOf(Answer answer) {
+        return answer.getOrderIndex() != null ? answer.getOrderIndex() : 0;
+    }
+}
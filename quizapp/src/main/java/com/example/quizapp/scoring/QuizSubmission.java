@@ -0,0 +1,155 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.dto.SubmissionRequest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * All answers of one quiz submission, keyed by question id.
+ * Stored as a sorted long[] of question ids with a parallel answer array;
+ * lookups are a binary search instead of building "answer_" + id keys per question.
+ */
+public final class QuizSubmission {
+
+    static final String FORM_PREFIX = "answer_";
+
+    private final long[] questionIds;
+    private final SubmittedAnswer[] answers;
+
+    private QuizSubmission(long[] questionIds, SubmittedAnswer[] answers, int size) {
+        sortByQuestionId(questionIds, answers, size);
+        this.questionIds = Arrays.copyOf(questionIds, size);
+        this.answers = Arrays.copyOf(answers, size);
+    }
+
+    /**
+     * Parses the classic form encoding: answer_{questionId} = id, "id,id,..." or text.
+     */
+    public static QuizSubmission fromForm(Map<String, String> params) {
+        long[] questionIds = new long[params.size()];
+        SubmittedAnswer[] answers = new SubmittedAnswer[params.size()];
+        int size = 0;
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            String key = param.getKey();
+            if (!key.startsWith(FORM_PREFIX)) {
+                continue;
+            }
+            long[] questionId = IdList.parse(key.substring(FORM_PREFIX.length()));
+            if (questionId == null || questionId.length != 1) {
+                continue;
+            }
+            questionIds[size] = questionId[0];
+            answers[size] = SubmittedAnswer.fromFormValue(param.getValue());
+            size++;
+        }
+        return new QuizSubmission(questionIds, answers, size);
+    }
+
+    /**
+     * Converts the typed JSON body; answer ids arrive already as long[].
+     */
+    public static QuizSubmission fromRequest(SubmissionRequest request) {
+        List<SubmissionRequest.AnswerEntry> entries =
+                request.getAnswers() != null ? request.getAnswers() : List.of();
+        long[] questionIds = new long[entries.size()];
+        SubmittedAnswer[] answers = new SubmittedAnswer[entries.size()];
+        int size = 0;
+        for (SubmissionRequest.AnswerEntry entry : entries) {
+            if (entry.getQuestionId() == null) {
+                continue;
+            }
+            questionIds[size] = entry.getQuestionId();
+            answers[size] = entry.getAnswerIds() != null
+                    ? SubmittedAnswer.ofIds(entry.getAnswerIds())
+                    : SubmittedAnswer.ofText(entry.getText());
+            size++;
+        }
+        return new QuizSubmission(questionIds, answers, size);
+    }
+
+    /**
+     * Parses stored answers in the form encoding, keyed by question id.
+     */
+    public static QuizSubmission fromFormValues(Map<Long, String> values) {
+        long[] questionIds = new long[values.size()];
+        SubmittedAnswer[] answers = new SubmittedAnswer[values.size()];
+        int size = 0;
+        for (Map.Entry<Long, String> value : values.entrySet()) {
+            questionIds[size] = value.getKey();
+            answers[size] = SubmittedAnswer.fromFormValue(value.getValue());
+            size++;
+        }
+        return new QuizSubmission(questionIds, answers, size);
+    }
+
+    /**
+     * Merges with previously saved answers: this submission's answer wins for every
+     * question it answered; saved answers fill the questions it left out or blank.
+     */
+    public QuizSubmission withSavedAnswers(QuizSubmission saved) {
+        int total = questionIds.length + saved.questionIds.length;
+        long[] mergedIds = new long[total];
+        SubmittedAnswer[] merged = new SubmittedAnswer[total];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        // Both id arrays are sorted: one merge pass
+        while (i < questionIds.length || j < saved.questionIds.length) {
+            if (j == saved.questionIds.length || (i < questionIds.length && questionIds[i] < saved.questionIds[j])) {
+                mergedIds[size] = questionIds[i];
+                merged[size++] = answers[i++];
+            } else if (i == questionIds.length || saved.questionIds[j] < questionIds[i]) {
+                mergedIds[size] = saved.questionIds[j];
+                merged[size++] = saved.answers[j++];
+            } else {
+                mergedIds[size] = questionIds[i];
+                merged[size++] = answers[i].isBlank() ? saved.answers[j] : answers[i];
+                i++;
+                j++;
+            }
+        }
+        return new QuizSubmission(mergedIds, merged, size);
+    }
+
+    /**
+     * @return the answers in the form encoding, in question id order
+     */
+    public Map<Long, String> toFormValues() {
+        Map<Long, String> values = new LinkedHashMap<>();
+        for (int i = 0; i < questionIds.length; i++) {
+            values.put(questionIds[i], answers[i].toFormValue());
+        }
+        return values;
+    }
+
+    /**
+     * @return the answer for the question, or null if it was not answered
+     */
+    public SubmittedAnswer answerFor(long questionId) {
+        int index = Arrays.binarySearch(questionIds, questionId);
+        return index >= 0 ? answers[index] : null;
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    // Insertion sort: submissions hold a few dozen answers at most
+    private static void sortByQuestionId(long[] questionIds, SubmittedAnswer[] answers, int size) {
+        for (int i = 1; i < size; i++) {
+            long id = questionIds[i];
+            SubmittedAnswer answer = answers[i];
+            int j = i - 1;
+            while (j >= 0 && questionIds[j] > id) {
+                questionIds[j + 1] = questionIds[j];
+                answers[j + 1] = answers[j];
+                j--;
+            }
+            questionIds[j + 1] = id;
+            answers[j + 1] = answer;
+        }
+    }
+}
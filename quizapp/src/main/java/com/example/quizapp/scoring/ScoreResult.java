@@ -0,0 +1,7 @@
+package com.example.quizapp.scoring;
+
+/**
+ * Outcome of scoring one submission.
+ */
+public record ScoreResult(int score, int maxScore) {
+}
@@ -0,0 +1,138 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.entity.ScoringPolicyType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * A quiz's scoring rules resolved once: per question its id, points, answer key and
+ * policy in parallel arrays. Scoring a submission is then one loop over the arrays
+ * with no lookups, no policy resolution and no allocation. Immutable and shared
+ * between requests; {@link ScoringPlans} keeps one per quiz version.
+ */
+public final class ScoringPlan {
+
+    private final long[] questionIds;
+    private final Map<Long, Integer> positions;
+    private final int[] points;
+    private final QuestionKey[] keys;
+    private final ScoringPolicy[] policies;
+    private final boolean flatPenalty;
+    private final long timeLimitMillis;
+    private final int maxScore;
+
+    private ScoringPlan(long[] questionIds, int[] points, QuestionKey[] keys, ScoringPolicy[] policies,
+                        boolean flatPenalty, long timeLimitMillis, int maxScore) {
+        this.questionIds = questionIds;
+        this.positions = new HashMap<>(questionIds.length * 2);
+        for (int i = 0; i < questionIds.length; i++) {
+            positions.put(questionIds[i], i);
+        }
+        this.points = points;
+        this.keys = keys;
+        this.policies = policies;
+        this.flatPenalty = flatPenalty;
+        this.timeLimitMillis = timeLimitMillis;
+        this.maxScore = maxScore;
+    }
+
+    /**
+     * @param correctAnswers correct answers of a question by question id
+     * @param defaultPolicy  used when neither the question nor the quiz names a policy
+     * @param maxEdits       typos tolerated in text answers
+     */
+    public static ScoringPlan compile(QuizDTO quiz, List<Question> questions,
+                                      LongFunction<List<Answer>> correctAnswers,
+                                      ScoringPolicyType defaultPolicy, int maxEdits) {
+        int size = questions.size();
+        long[] questionIds = new long[size];
+        int[] points = new int[size];
+        QuestionKey[] keys = new QuestionKey[size];
+        ScoringPolicy[] policies = new ScoringPolicy[size];
+        int maxScore = 0;
+
+        for (int i = 0; i < size; i++) {
+            Question question = questions.get(i);
+            questionIds[i] = question.getId();
+            points[i] = question.getPoints();
+            keys[i] = QuestionKey.of(question.getType(), correctAnswers.apply(question.getId()), maxEdits);
+            policies[i] = ScoringPolicies.of(ScoringPolicies.resolve(
+                    question.getScoringPolicy(), quiz.getScoringPolicy(), defaultPolicy));
+            maxScore += points[i];
+        }
+
+        long timeLimitMillis = quiz.getTimeLimit() != null ? quiz.getTimeLimit() * 1000L : 0;
+        return new ScoringPlan(questionIds, points, keys, policies,
+                Boolean.TRUE.equals(quiz.getNegativePoints()), timeLimitMillis, maxScore);
+    }
+
+    /**
+     * Points for the submission, never below zero.
+     *
+     * @param elapsedMillis time since the attempt started; only time-decayed questions use it
+     */
+    public ScoreResult score(QuizSubmission submission, long elapsedMillis) {
+        double elapsedFraction = elapsedFraction(elapsedMillis);
+        double total = 0;
+
+        for (int i = 0; i < questionIds.length; i++) {
+            total += scoreAt(i, submission, elapsedFraction);
+        }
+
+        return new ScoreResult(Math.max(0, (int) Math.round(total)), maxScore);
+    }
+
+    /**
+     * Points for the submission of an attempt that got a draw of the questions; the others are
+     * neither scored nor part of the maximum. One lookup per drawn question, whatever the bank size.
+     *
+     * @param questionIds the questions drawn for the attempt; ids the plan does not have are skipped
+     */
+    public ScoreResult score(QuizSubmission submission, long elapsedMillis, List<Long> questionIds) {
+        double elapsedFraction = elapsedFraction(elapsedMillis);
+        double total = 0;
+        int max = 0;
+
+        for (Long questionId : questionIds) {
+            Integer i = positions.get(questionId);
+            if (i == null) {
+                continue;
+            }
+            total += scoreAt(i, submission, elapsedFraction);
+            max += points[i];
+        }
+
+        return new ScoreResult(Math.max(0, (int) Math.round(total)), max);
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    private double elapsedFraction(long elapsedMillis) {
+        return timeLimitMillis > 0 ? elapsedMillis / (double) timeLimitMillis : 0;
+    }
+
+    private double scoreAt(int i, QuizSubmission submission, double elapsedFraction) {
+        SubmittedAnswer answer = submission.answerFor(questionIds[i]);
+        if (answer == null || answer.isBlank()) {
+            return 0;
+        }
+        ScoringPolicy policy = policies[i];
+        double earned = policy.score(keys[i], answer, points[i], elapsedFraction);
+        if (earned <= 0 && flatPenalty && policy.allowsFlatPenalty()) {
+            earned = -1; // Deduct 1 point for wrong answer
+        }
+        return earned;
+    }
+
+    public int maxScore() {
+        return maxScore;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.entity.ScoringPolicyType;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import com.example.quizapp.versioning.VersionCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiled {@link ScoringPlan}s by quiz version. A plan is built on the first submission
+ * scored against a version; versions never change, so plans are never invalidated.
+ * The two newest versions of each quiz are kept, which covers the attempts started
+ * just before an edit; plans of older versions are compiled per submission and not
+ * cached (see {@link VersionCache}).
+ */
+@Component
+public class ScoringPlans {
+
+    private static final int VERSIONS_KEPT = 2;
+
+    private final ScoringPolicyType defaultPolicy;
+    private final int maxEdits;
+    private final VersionCache<ScoringPlan> plans = new VersionCache<>(VERSIONS_KEPT);
+
+    public ScoringPlans(@Value("${app.scoring.default-policy:ALL_OR_NOTHING}") ScoringPolicyType defaultPolicy,
+                        @Value("${app.scoring.text.max-edits:0}") int maxEdits) {
+        this.defaultPolicy = defaultPolicy;
+        this.maxEdits = maxEdits;
+    }
+
+    public ScoringPlan planFor(QuizVersion version) {
+        return plans.get(version, v -> ScoringPlan.compile(v.toQuizDTO(),
+                v.questions().stream().map(QuestionSnapshot::toEntity).toList(),
+                questionId -> v.question(questionId).correctAnswers(), defaultPolicy, maxEdits));
+    }
+
+    public int size() {
+        return plans.size();
+    }
+
+    public void clear() {
+        plans.clear();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.entity.ScoringPolicyType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The {@link ScoringPolicy} singleton for each {@link ScoringPolicyType}.
+ */
+public final class ScoringPolicies {
+
+    private static final Map<ScoringPolicyType, ScoringPolicy> POLICIES = new EnumMap<>(ScoringPolicyType.class);
+
+    static {
+        POLICIES.put(ScoringPolicyType.ALL_OR_NOTHING, new AllOrNothing());
+        POLICIES.put(ScoringPolicyType.PROPORTIONAL, new Proportional());
+        POLICIES.put(ScoringPolicyType.NEGATIVE_PER_WRONG_CHOICE, new NegativePerWrongChoice());
+        POLICIES.put(ScoringPolicyType.TIME_DECAYED, new TimeDecayed());
+    }
+
+    private ScoringPolicies() {
+    }
+
+    public static ScoringPolicy of(ScoringPolicyType type) {
+        return POLICIES.get(type);
+    }
+
+    /**
+     * Question's own policy, else the quiz's, else the application default.
+     */
+    public static ScoringPolicyType resolve(ScoringPolicyType question, ScoringPolicyType quiz,
+                                            ScoringPolicyType fallback) {
+        return question != null ? question : quiz != null ? quiz : fallback;
+    }
+
+    /** Full points for a fully correct answer, nothing otherwise. */
+    static final class AllOrNothing implements ScoringPolicy {
+        @Override
+        public double score(QuestionKey key, SubmittedAnswer answer, int points, double elapsedFraction) {
+            return key.isCorrect(answer) ? points : 0;
+        }
+    }
+
+    /** The partly correct share of the points; see {@link QuestionKey#credit}. */
+    static final class Proportional implements ScoringPolicy {
+        @Override
+        public double score(QuestionKey key, SubmittedAnswer answer, int points, double elapsedFraction) {
+            return points * key.credit(answer, CreditMode.PARTIAL);
+        }
+    }
+
+    /** Each wrong choice costs what a right one earns; see {@link QuestionKey#netCredit}. */
+    static final class NegativePerWrongChoice implements ScoringPolicy {
+        @Override
+        public double score(QuestionKey key, SubmittedAnswer answer, int points, double elapsedFraction) {
+            return points * key.netCredit(answer);
+        }
+
+        @Override
+        public boolean allowsFlatPenalty() {
+            return false;
+        }
+    }
+
+    /** All-or-nothing points scaled down linearly from 100% at the start to 50% at the time limit. */
+    static final class TimeDecayed implements ScoringPolicy {
+        static final double FLOOR = 0.5;
+
+        @Override
+        public double score(QuestionKey key, SubmittedAnswer answer, int points, double elapsedFraction) {
+            if (!key.isCorrect(answer)) {
+                return 0;
+            }
+            double used = Math.min(1.0, Math.max(0.0, elapsedFraction));
+            return points * (1.0 - (1.0 - FLOOR) * used);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.quizapp.scoring;
+
+/**
+ * Turns one answered question into points. Implementations are stateless singletons
+ * (see {@link ScoringPolicies}) so a {@link ScoringPlan} can keep them in an array and
+ * call them in a tight loop without allocating.
+ */
+public interface ScoringPolicy {
+
+    /**
+     * Points earned by a non-blank answer; negative values are penalties.
+     *
+     * @param points          the question's full points
+     * @param elapsedFraction time taken as a fraction of the quiz's time limit, 0 for untimed quizzes
+     */
+    double score(QuestionKey key, SubmittedAnswer answer, int points, double elapsedFraction);
+
+    /**
+     * Whether the quiz's negativePoints flag (-1 for an answer that earns nothing)
+     * applies on top of this policy. False for policies that price wrong answers themselves.
+     */
+    default boolean allowsFlatPenalty() {
+        return true;
+    }
+}
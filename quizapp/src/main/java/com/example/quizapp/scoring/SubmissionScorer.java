@@ -0,0 +1,41 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.versioning.QuizVersion;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Scores a parsed submission with the compiled {@link ScoringPlan} of the quiz version
+ * the attempt was started on.
+ * Each question is scored by its own policy (or the quiz's, or app.scoring.default-policy),
+ * the quiz's negativePoints flag deducts 1 for an answer that earns nothing under
+ * policies that do not penalise by themselves, and the total never goes below zero.
+ */
+@Component
+public class SubmissionScorer {
+
+    private final ScoringPlans scoringPlans;
+
+    public SubmissionScorer(ScoringPlans scoringPlans) {
+        this.scoringPlans = scoringPlans;
+    }
+
+    /**
+     * @param elapsedMillis time since the attempt started, 0 when unknown
+     */
+    public ScoreResult score(QuizVersion version, QuizSubmission submission, long elapsedMillis) {
+        return scoringPlans.planFor(version).score(submission, elapsedMillis);
+    }
+
+    /**
+     * @param questionIds the questions drawn for the attempt from the quiz's pool, null when it has every question
+     */
+    public ScoreResult score(QuizVersion version, List<Long> questionIds, QuizSubmission submission,
+                             long elapsedMillis) {
+        if (questionIds == null) {
+            return score(version, submission, elapsedMillis);
+        }
+        return scoringPlans.planFor(version).score(submission, elapsedMillis, questionIds);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.quizapp.scoring;
+
+/**
+ * One question's answer, parsed once when the submission is read.
+ * Choice questions use {@link #ids()} (selected ids, or the submitted order for
+ * SORTING/MATCHING); text questions use {@link #text()}.
+ */
+public final class SubmittedAnswer {
+
+    private final String text;
+    private final long[] ids;
+
+    private SubmittedAnswer(String text, long[] ids) {
+        this.text = text;
+        this.ids = ids;
+    }
+
+    /**
+     * Legacy form value: ids are parsed up front, the raw text is kept for text questions.
+     */
+    public static SubmittedAnswer fromFormValue(String value) {
+        return new SubmittedAnswer(value, IdList.parse(value));
+    }
+
+    public static SubmittedAnswer ofIds(long[] ids) {
+        return new SubmittedAnswer(null, ids);
+    }
+
+    public static SubmittedAnswer ofText(String text) {
+        return new SubmittedAnswer(text, null);
+    }
+
+    /**
+     * @return the ids, or null when the answer was text that is not an id list
+     */
+    public long[] ids() {
+        return ids;
+    }
+
+    public String text() {
+        return text;
+    }
+
+    /**
+     * @return the answer in the form encoding: the text, or the ids joined with ','
+     */
+    public String toFormValue() {
+        if (text != null) {
+            return text;
+        }
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; ids != null && i < ids.length; i++) {
+            if (i > 0) {
+                value.append(',');
+            }
+            value.append(ids[i]);
+        }
+        return value.toString();
+    }
+
+    public boolean isBlank() {
+        return (ids == null || ids.length == 0) && (text == null || text.isBlank());
+    }
+}
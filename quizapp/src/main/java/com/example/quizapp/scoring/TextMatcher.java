@@ -0,0 +1,135 @@
+package com.example.quizapp.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Accepted answers of one text question, normalized once when the answer key is built
+ * (see {@link TextNormalizer}). One correct answer may list alternatives separated by
+ * {@code |}, e.g. "Warszawa | Warsaw". A submission costs one normalization and one
+ * hash lookup; with an edit budget, a miss additionally compares against the accepted
+ * forms whose length is within the budget, each with a bounded Levenshtein distance.
+ */
+final class TextMatcher {
+
+    static final char ALTERNATIVE_SEPARATOR = '|';
+    // Short answers ("5", "Ag") are accepted exactly, a typo there is a different answer
+    static final int MIN_FUZZY_LENGTH = 4;
+
+    private final Set<String> accepted;
+    private final int maxEdits;
+    // Accepted forms of at least MIN_FUZZY_LENGTH chars, by length, when maxEdits > 0
+    private final String[] fuzzyForms;
+    private final int[] fuzzyLengths;
+
+    private TextMatcher(Set<String> accepted, int maxEdits, String[] fuzzyForms) {
+        this.accepted = accepted;
+        this.maxEdits = maxEdits;
+        this.fuzzyForms = fuzzyForms;
+        this.fuzzyLengths = new int[fuzzyForms.length];
+        for (int i = 0; i < fuzzyForms.length; i++) {
+            fuzzyLengths[i] = fuzzyForms[i].length();
+        }
+    }
+
+    /**
+     * @param texts    correct answer texts; null entries are ignored
+     * @param maxEdits typos tolerated per answer (insertions, deletions, substitutions), 0 for none
+     */
+    static TextMatcher of(List<String> texts, int maxEdits) {
+        Set<String> accepted = new HashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            int start = 0;
+            for (int end = 0; end <= text.length(); end++) {
+                if (end == text.length() || text.charAt(end) == ALTERNATIVE_SEPARATOR) {
+                    String form = TextNormalizer.normalize(text.substring(start, end));
+                    if (!form.isEmpty()) {
+                        accepted.add(form);
+                    }
+                    start = end + 1;
+                }
+            }
+        }
+
+        List<String> fuzzy = new ArrayList<>();
+        if (maxEdits > 0) {
+            for (String form : accepted) {
+                if (form.length() >= MIN_FUZZY_LENGTH) {
+                    fuzzy.add(form);
+                }
+            }
+            fuzzy.sort(Comparator.comparingInt(String::length));
+        }
+        return new TextMatcher(accepted, maxEdits, fuzzy.toArray(new String[0]));
+    }
+
+    boolean matches(String submitted) {
+        if (submitted == null) {
+            return false;
+        }
+        String form = TextNormalizer.normalize(submitted);
+        if (accepted.contains(form)) {
+            return true;
+        }
+        return fuzzyForms.length > 0 && !form.isEmpty() && withinEdits(form);
+    }
+
+    int size() {
+        return accepted.size();
+    }
+
+    private boolean withinEdits(String form) {
+        int from = firstWithLength(form.length() - maxEdits);
+        int maxLength = form.length() + maxEdits;
+        int[] previous = new int[form.length() + 1];
+        int[] current = new int[form.length() + 1];
+        for (int i = from; i < fuzzyForms.length && fuzzyLengths[i] <= maxLength; i++) {
+            if (editDistanceAtMost(fuzzyForms[i], form, previous, current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Levenshtein distance by rows, abandoned once a whole row exceeds the budget
+    private boolean editDistanceAtMost(String a, String b, int[] previous, int[] current) {
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+
+    private int firstWithLength(int length) {
+        int index = Arrays.binarySearch(fuzzyLengths, length);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && fuzzyLengths[index - 1] == length) {
+            index--;
+        }
+        return index;
+    }
+}
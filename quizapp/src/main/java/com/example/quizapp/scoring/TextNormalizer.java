@@ -0,0 +1,73 @@
+package com.example.quizapp.scoring;
+
+import java.text.Normalizer;
+
+/**
+ * Canonical form of a typed answer: lower case, accents removed (NFKD minus combining
+ * marks, plus the letters Unicode does not decompose, such as Polish ł), runs of
+ * whitespace collapsed to one space and no leading or trailing whitespace.
+ * "  Łódź   Fabryczna " and "lodz fabryczna" normalize to the same string.
+ */
+final class TextNormalizer {
+
+    private TextNormalizer() {
+    }
+
+    static String normalize(String input) {
+        StringBuilder out = new StringBuilder(input.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c >= 0x80) {
+                // Rare in answers typed in English; only non-ASCII input pays for the Normalizer
+                return normalizeUnicode(input);
+            }
+            if (c <= ' ') {
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+        return out.toString();
+    }
+
+    private static String normalizeUnicode(String input) {
+        String decomposed = Normalizer.normalize(input, Normalizer.Form.NFKD);
+        StringBuilder out = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); ) {
+            int cp = decomposed.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.getType(cp) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isWhitespace(cp) || Character.isSpaceChar(cp)) {
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            appendFolded(out, Character.toLowerCase(cp));
+        }
+        return out.toString();
+    }
+
+    // Letters with a stroke or ligatures have no decomposition
+    private static void appendFolded(StringBuilder out, int cp) {
+        switch (cp) {
+            case 'ł' -> out.append('l');
+            case 'đ' -> out.append('d');
+            case 'ø' -> out.append('o');
+            case 'ß' -> out.append("ss");
+            case 'æ' -> out.append("ae");
+            case 'œ' -> out.append("oe");
+            default -> out.appendCodePoint(cp);
+        }
+    }
+}
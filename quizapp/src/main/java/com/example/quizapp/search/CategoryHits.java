@@ -0,0 +1,11 @@
+package com.example.quizapp.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of quiz ids matching a category filter, newest first, plus the total number
+ * of matches and how many of them fall in each category.
+ */
+public record CategoryHits(List<Long> quizIds, long total, Map<Long, Integer> counts) {
+}
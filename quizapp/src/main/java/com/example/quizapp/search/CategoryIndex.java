@@ -0,0 +1,284 @@
+package com.example.quizapp.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index of category → quiz ids. Each category's quizzes are one sorted array,
+ * so an AND filter is an intersection that walks the smallest array and gallops through
+ * the others, an OR filter is a merge, and counting a result per category is the same
+ * intersection without materializing it.
+ *
+ * Arrays are never modified once published: a relink copies the arrays of the categories
+ * it touches, which costs O(quizzes in the category) per change and keeps every read
+ * lock-free. Writers are serialized.
+ */
+public class CategoryIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, long[]> quizzesByCategory;
+    // The other direction, for finding the arrays a quiz relink touches
+    private final Map<Long, long[]> categoriesByQuiz;
+
+    private CategoryIndex(Map<Long, long[]> quizzesByCategory, Map<Long, long[]> categoriesByQuiz) {
+        this.quizzesByCategory = new ConcurrentHashMap<>(quizzesByCategory);
+        this.categoriesByQuiz = new ConcurrentHashMap<>(categoriesByQuiz);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return ids of the quizzes in every (ALL) or any (ANY) of the categories, ascending;
+     * empty when no category is given
+     */
+    public long[] match(long[] categoryIds, CategoryMatch match) {
+        if (categoryIds.length == 0) {
+            return EMPTY;
+        }
+        List<long[]> lists = new ArrayList<>(categoryIds.length);
+        for (long categoryId : categoryIds) {
+            long[] quizIds = quizzesByCategory.getOrDefault(categoryId, EMPTY);
+            if (quizIds.length == 0 && match == CategoryMatch.ALL) {
+                return EMPTY;
+            }
+            lists.add(quizIds);
+        }
+        // Smallest first: an intersection never outgrows it, a merge copies big arrays the fewest times
+        lists.sort(Comparator.comparingInt(quizIds -> quizIds.length));
+        long[] result = lists.get(0);
+        for (int i = 1; i < lists.size(); i++) {
+            result = match == CategoryMatch.ALL ? intersect(result, lists.get(i)) : union(result, lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * @param quizIds a sorted result of {@link #match}, or null for every quiz
+     * @return number of those quizzes in each category, for the categories that have any
+     */
+    public Map<Long, Integer> counts(long[] quizIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        quizzesByCategory.forEach((categoryId, inCategory) -> {
+            int count = quizIds == null ? inCategory.length : intersectionSize(quizIds, inCategory);
+            if (count > 0) {
+                counts.put(categoryId, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Replaces the categories of a quiz; an empty array unlinks it, e.g. when it was deleted.
+     */
+    public synchronized void relinkQuiz(long quizId, long[] categoryIds) {
+        long[] next = sortedDistinct(categoryIds);
+        long[] previous = categoriesByQuiz.getOrDefault(quizId, EMPTY);
+        for (long categoryId : previous) {
+            if (Arrays.binarySearch(next, categoryId) < 0) {
+                quizzesByCategory.computeIfPresent(categoryId, (id, quizIds) -> nullIfEmpty(without(quizIds, quizId)));
+            }
+        }
+        for (long categoryId : next) {
+            if (Arrays.binarySearch(previous, categoryId) < 0) {
+                quizzesByCategory.merge(categoryId, new long[] {quizId}, (quizIds, single) -> with(quizIds, quizId));
+            }
+        }
+        if (next.length == 0) {
+            categoriesByQuiz.remove(quizId);
+        } else {
+            categoriesByQuiz.put(quizId, next);
+        }
+    }
+
+    /**
+     * Replaces the quizzes of a category; an empty array drops it, e.g. when it was deleted.
+     */
+    public synchronized void relinkCategory(long categoryId, long[] quizIds) {
+        long[] next = sortedDistinct(quizIds);
+        long[] previous = quizzesByCategory.getOrDefault(categoryId, EMPTY);
+        for (long quizId : previous) {
+            if (Arrays.binarySearch(next, quizId) < 0) {
+                categoriesByQuiz.computeIfPresent(quizId, (id, categoryIds) -> nullIfEmpty(without(categoryIds, categoryId)));
+            }
+        }
+        for (long quizId : next) {
+            if (Arrays.binarySearch(previous, quizId) < 0) {
+                categoriesByQuiz.merge(quizId, new long[] {categoryId}, (categoryIds, single) -> with(categoryIds, categoryId));
+            }
+        }
+        if (next.length == 0) {
+            quizzesByCategory.remove(categoryId);
+        } else {
+            quizzesByCategory.put(categoryId, next);
+        }
+    }
+
+    public long[] categoriesOf(long quizId) {
+        return categoriesByQuiz.getOrDefault(quizId, EMPTY);
+    }
+
+    /**
+     * @return number of quizzes in at least one category
+     */
+    public int size() {
+        return categoriesByQuiz.size();
+    }
+
+    static long[] intersect(long[] small, long[] large) {
+        long[] result = new long[small.length];
+        int size = 0;
+        int from = 0;
+        for (long quizId : small) {
+            from = gallop(large, from, quizId);
+            if (from == large.length) {
+                break;
+            }
+            if (large[from] == quizId) {
+                result[size++] = quizId;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    static int intersectionSize(long[] a, long[] b) {
+        long[] small = a.length <= b.length ? a : b;
+        long[] large = small == a ? b : a;
+        int count = 0;
+        int from = 0;
+        for (long quizId : small) {
+            from = gallop(large, from, quizId);
+            if (from == large.length) {
+                break;
+            }
+            if (large[from] == quizId) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static long[] union(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                result[size++] = a[i++];
+            } else if (b[j] < a[i]) {
+                result[size++] = b[j++];
+            } else {
+                result[size++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            result[size++] = a[i++];
+        }
+        while (j < b.length) {
+            result[size++] = b[j++];
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // First index at or after from whose value is >= target: doubling steps, then a binary search in the last step
+    private static int gallop(long[] values, int from, long target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < values.length && values[high] < target) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high, values.length);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long[] with(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index >= 0) {
+            return sorted;
+        }
+        int insertAt = -index - 1;
+        long[] copy = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, copy, 0, insertAt);
+        copy[insertAt] = value;
+        System.arraycopy(sorted, insertAt, copy, insertAt + 1, sorted.length - insertAt);
+        return copy;
+    }
+
+    private static long[] without(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            return sorted;
+        }
+        long[] copy = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, copy, 0, index);
+        System.arraycopy(sorted, index + 1, copy, index, sorted.length - index - 1);
+        return copy;
+    }
+
+    private static long[] nullIfEmpty(long[] values) {
+        return values.length == 0 ? null : values;
+    }
+
+    private static long[] sortedDistinct(long[] values) {
+        return Arrays.stream(values).sorted().distinct().toArray();
+    }
+
+    /**
+     * Collects quiz-category links in any order for a full build.
+     */
+    public static final class Builder {
+
+        private final Map<Long, LongList> quizzesByCategory = new HashMap<>();
+        private final Map<Long, LongList> categoriesByQuiz = new HashMap<>();
+
+        public void add(long quizId, long categoryId) {
+            quizzesByCategory.computeIfAbsent(categoryId, id -> new LongList()).add(quizId);
+            categoriesByQuiz.computeIfAbsent(quizId, id -> new LongList()).add(categoryId);
+        }
+
+        public CategoryIndex build() {
+            Map<Long, long[]> byCategory = new HashMap<>(quizzesByCategory.size() * 2);
+            quizzesByCategory.forEach((categoryId, quizIds) -> byCategory.put(categoryId, quizIds.sortedDistinct()));
+            Map<Long, long[]> byQuiz = new HashMap<>(categoriesByQuiz.size() * 2);
+            categoriesByQuiz.forEach((quizId, categoryIds) -> byQuiz.put(quizId, categoryIds.sortedDistinct()));
+            return new CategoryIndex(byCategory, byQuiz);
+        }
+    }
+
+    private static final class LongList {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] sortedDistinct() {
+            return Arrays.stream(values, 0, size).sorted().distinct().toArray();
+        }
+    }
+}
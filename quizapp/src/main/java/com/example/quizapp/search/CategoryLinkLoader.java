@@ -0,0 +1,55 @@
+package com.example.quizapp.search;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reads quiz-category links for the category index with plain JDBC.
+ * A full build walks quiz_categories in primary key order, one batch of rows at a time.
+ */
+@Component
+public class CategoryLinkLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryLinkLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void loadAll(int batchSize, CategoryIndex.Builder builder) {
+        String sql = """
+            SELECT quiz_id, category_id FROM quiz_categories
+            WHERE quiz_id > ? OR (quiz_id = ? AND category_id > ?)
+            ORDER BY quiz_id, category_id LIMIT ?
+            """;
+        long[] last = {0, 0};
+        while (true) {
+            int[] rows = {0};
+            jdbcTemplate.query(sql, rs -> {
+                last[0] = rs.getLong("quiz_id");
+                last[1] = rs.getLong("category_id");
+                builder.add(last[0], last[1]);
+                rows[0]++;
+            }, last[0], last[0], last[1], batchSize);
+            if (rows[0] < batchSize) {
+                return;
+            }
+        }
+    }
+
+    public long[] categoryIdsOf(long quizId) {
+        return toArray(jdbcTemplate.queryForList("SELECT category_id FROM quiz_categories WHERE quiz_id = ?",
+                Long.class, quizId));
+    }
+
+    public long[] quizIdsIn(long categoryId) {
+        return toArray(jdbcTemplate.queryForList("SELECT quiz_id FROM quiz_categories WHERE category_id = ?",
+                Long.class, categoryId));
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.quizapp.search;
+
+/**
+ * How a multi-category filter combines its categories.
+ */
+public enum CategoryMatch {
+    /** Quizzes in every selected category */
+    ALL,
+    /** Quizzes in at least one selected category */
+    ANY
+}
@@ -0,0 +1,369 @@
+package com.example.quizapp.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over quiz text.
+ *
+ * Each quiz gets an internal document number, assigned in increasing order, so every
+ * posting list is sorted and a query is a k-way merge over the lists of its trigrams.
+ * A posting packs the document number with a mask of the fields the trigram occurs in.
+ * Updates append a new document and tombstone the old one; callers rebuild the index
+ * once {@link #needsCompaction()} reports too many tombstones.
+ */
+public class NGramIndex {
+
+    static final int TITLE = 1;
+    static final int CATEGORY = 2;
+    static final int BODY = 4;
+
+    private static final int FIELD_BITS = 3;
+    private static final int[] MASK_WEIGHT = new int[1 << FIELD_BITS];
+    private static final double MIN_MATCHED_FRACTION = 0.6;
+
+    static {
+        for (int mask = 0; mask < MASK_WEIGHT.length; mask++) {
+            MASK_WEIGHT[mask] = ((mask & TITLE) != 0 ? 5 : 0)
+                    + ((mask & CATEGORY) != 0 ? 3 : 0)
+                    + ((mask & BODY) != 0 ? 1 : 0);
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final TreeMap<String, IntList> titleWords = new TreeMap<>();
+    private final Map<Long, Integer> docByQuizId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] quizIds = new long[1024];
+    private String[] titles = new String[1024];
+    private int docCount;
+    private int deletedCount;
+
+    /**
+     * Index a quiz, replacing any earlier version of it.
+     */
+    public void add(SearchDocument document) {
+        Map<String, Integer> masks = new HashMap<>();
+        collect(document.title(), TITLE, masks);
+        document.categoryNames().forEach(name -> collect(name, CATEGORY, masks));
+        collect(document.description(), BODY, masks);
+        document.questionTexts().forEach(text -> collect(text, BODY, masks));
+        List<String> words = SearchText.words(SearchText.normalize(document.title()));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.quizId());
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            quizIds[doc] = document.quizId();
+            titles[doc] = document.title();
+            docByQuizId.put(document.quizId(), doc);
+            for (Map.Entry<String, Integer> entry : masks.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), gram -> new IntList()).add(doc << FIELD_BITS | entry.getValue());
+            }
+            for (String word : new LinkedHashSet<>(words)) {
+                titleWords.computeIfAbsent(word, w -> new IntList()).add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(long quizId) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(quizId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked search: quizzes containing at least 60% of the query's trigrams, ordered by
+     * matched trigrams, then field-weighted score, then most recently indexed.
+     * Paging stops at the first 65,536 ranked results; {@link SearchHits#total()} still counts all matches.
+     */
+    public SearchHits search(String query, int page, int size) {
+        Set<String> grams = new LinkedHashSet<>();
+        SearchText.forEachTrigram(SearchText.normalize(query), grams::add);
+        if (grams.isEmpty() || size <= 0 || page < 0) {
+            return SearchHits.EMPTY;
+        }
+        int required = Math.max(1, (int) Math.ceil(grams.size() * MIN_MATCHED_FRACTION));
+        int limit = (int) Math.min(Integer.MAX_VALUE, (long) (page + 1) * size);
+
+        lock.readLock().lock();
+        try {
+            List<IntList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                IntList list = postings.get(gram);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            if (lists.size() < required) {
+                return SearchHits.EMPTY;
+            }
+
+            TopK top = new TopK(limit);
+            long total = 0;
+            int[] cursors = new int[lists.size()];
+            while (true) {
+                // Smallest document among the list heads
+                int doc = Integer.MAX_VALUE;
+                for (int i = 0; i < lists.size(); i++) {
+                    if (cursors[i] < lists.get(i).size()) {
+                        doc = Math.min(doc, lists.get(i).get(cursors[i]) >>> FIELD_BITS);
+                    }
+                }
+                if (doc == Integer.MAX_VALUE) {
+                    break;
+                }
+                int matched = 0;
+                int score = 0;
+                for (int i = 0; i < lists.size(); i++) {
+                    IntList list = lists.get(i);
+                    if (cursors[i] < list.size() && list.get(cursors[i]) >>> FIELD_BITS == doc) {
+                        matched++;
+                        score += MASK_WEIGHT[list.get(cursors[i]) & (MASK_WEIGHT.length - 1)];
+                        cursors[i]++;
+                    }
+                }
+                if (matched >= required && !deleted.get(doc)) {
+                    total++;
+                    top.offer(rankKey(matched, score, doc));
+                }
+            }
+
+            long[] ranked = top.sortedDescending();
+            long offset = (long) page * size;
+            if (offset >= ranked.length) {
+                return new SearchHits(List.of(), total);
+            }
+            List<SearchHit> hits = new ArrayList<>();
+            for (int i = (int) offset; i < ranked.length; i++) {
+                long key = ranked[i];
+                int doc = (int) (key & 0xFFFFFFFFL);
+                hits.add(new SearchHit(quizIds[doc], (int) (key >>> 52), (int) (key >>> 32) & 0xFFFFF));
+            }
+            return new SearchHits(hits, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Titles for autocomplete. Every word of the prefix but the last must appear in the
+     * title; the last word is matched as a prefix of a title word.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        List<String> words = SearchText.words(SearchText.normalize(prefix));
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String last = words.get(words.size() - 1);
+        List<String> preceding = words.subList(0, words.size() - 1);
+
+        lock.readLock().lock();
+        try {
+            Set<String> suggestions = new LinkedHashSet<>();
+            NavigableMap<String, IntList> candidates = titleWords.subMap(last, true, last + Character.MAX_VALUE, false);
+            for (IntList docs : candidates.values()) {
+                for (int i = 0; i < docs.size(); i++) {
+                    int doc = docs.get(i);
+                    if (deleted.get(doc) || !containsAll(titles[doc], preceding)) {
+                        continue;
+                    }
+                    suggestions.add(titles[doc]);
+                    if (suggestions.size() == limit) {
+                        return new ArrayList<>(suggestions);
+                    }
+                }
+            }
+            return new ArrayList<>(suggestions);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * True when tombstones make up more than a quarter of the documents.
+     */
+    public boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return deletedCount > 1000 && deletedCount * 4L > docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Release spare capacity after a bulk build.
+     */
+    public void trim() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(IntList::trim);
+            titleWords.values().forEach(IntList::trim);
+            quizIds = Arrays.copyOf(quizIds, Math.max(docCount, 1));
+            titles = Arrays.copyOf(titles, Math.max(docCount, 1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean removeLocked(long quizId) {
+        Integer doc = docByQuizId.remove(quizId);
+        if (doc == null) {
+            return false;
+        }
+        deleted.set(doc);
+        deletedCount++;
+        return true;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > quizIds.length) {
+            int newLength = Math.max(capacity, quizIds.length * 2);
+            quizIds = Arrays.copyOf(quizIds, newLength);
+            titles = Arrays.copyOf(titles, newLength);
+        }
+    }
+
+    private static void collect(String text, int field, Map<String, Integer> masks) {
+        SearchText.forEachTrigram(SearchText.normalize(text), gram -> masks.merge(gram, field, (a, b) -> a | b));
+    }
+
+    private static boolean containsAll(String title, List<String> words) {
+        if (words.isEmpty()) {
+            return true;
+        }
+        List<String> titleWordList = SearchText.words(SearchText.normalize(title));
+        return titleWordList.containsAll(words);
+    }
+
+    private static long rankKey(int matched, int score, int doc) {
+        return ((long) Math.min(matched, 0x7FF) << 52) | ((long) Math.min(score, 0xFFFFF) << 32) | doc;
+    }
+
+    /**
+     * Growable int array.
+     */
+    static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void trim() {
+            if (values.length > size) {
+                values = Arrays.copyOf(values, Math.max(size, 1));
+            }
+        }
+    }
+
+    /**
+     * Keeps the k largest keys in a binary min-heap.
+     */
+    private static final class TopK {
+        private final long[] heap;
+        private int size;
+
+        TopK(int k) {
+            heap = new long[Math.min(k, 1 << 16)];
+        }
+
+        void offer(long key) {
+            if (heap.length == 0) {
+                return;
+            }
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        long[] sortedDescending() {
+            long[] sorted = Arrays.copyOf(heap, size);
+            Arrays.sort(sorted);
+            for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+                long tmp = sorted[i];
+                sorted[i] = sorted[j];
+                sorted[j] = tmp;
+            }
+            return sorted;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (heap[parent] <= heap[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int smallest = i;
+                int left = 2 * i + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && heap[right] < heap[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
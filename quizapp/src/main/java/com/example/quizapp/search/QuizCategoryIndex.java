@@ -0,0 +1,130 @@
+package com.example.quizapp.search;
+
+import com.example.quizapp.cache.CacheInvalidationListener;
+import com.example.quizapp.cache.InvalidationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Owns the category → quiz index: builds it once the application is ready and relinks
+ * single quizzes or categories from invalidation events, local and remote alike.
+ *
+ * Like {@link QuizSearchIndex}, a rebuild fills a fresh {@link CategoryIndex} and swaps it
+ * in; quizzes and categories changed while it was loading are relinked after the swap.
+ */
+@Component
+public class QuizCategoryIndex implements CacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizCategoryIndex.class);
+
+    private final CategoryLinkLoader loader;
+    private final int batchSize;
+    private final Object rebuildLock = new Object();
+    private volatile CategoryIndex index = CategoryIndex.builder().build();
+    private Set<Long> quizzesChangedDuringRebuild;
+    private Set<Long> categoriesChangedDuringRebuild;
+
+    public QuizCategoryIndex(CategoryLinkLoader loader,
+                             @Value("${app.search.batch-size:5000}") int batchSize) {
+        this.loader = loader;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        synchronized (rebuildLock) {
+            quizzesChangedDuringRebuild = new HashSet<>();
+            categoriesChangedDuringRebuild = new HashSet<>();
+        }
+
+        CategoryIndex.Builder builder = CategoryIndex.builder();
+        loader.loadAll(batchSize, builder);
+        CategoryIndex fresh = builder.build();
+
+        Set<Long> changedQuizzes;
+        Set<Long> changedCategories;
+        synchronized (rebuildLock) {
+            index = fresh;
+            changedQuizzes = quizzesChangedDuringRebuild;
+            changedCategories = categoriesChangedDuringRebuild;
+            quizzesChangedDuringRebuild = null;
+            categoriesChangedDuringRebuild = null;
+        }
+        changedQuizzes.forEach(this::relinkQuiz);
+        changedCategories.forEach(this::relinkCategory);
+        log.info("Category index built: {} quizzes in {} ms", fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * @param categoryIds at least one category
+     */
+    public CategoryHits browse(long[] categoryIds, CategoryMatch match, int page, int size) {
+        CategoryIndex current = index;
+        long[] matched = current.match(categoryIds, match);
+        // Ids ascend with creation, so newest first reads the array from the end
+        List<Long> quizIds = new ArrayList<>(size);
+        long from = (long) matched.length - 1 - (long) page * size;
+        for (long i = from; i >= 0 && i > from - size; i--) {
+            quizIds.add(matched[(int) i]);
+        }
+        return new CategoryHits(quizIds, matched.length, current.counts(matched));
+    }
+
+    /**
+     * @return the index as it is now; relinks keep updating it until the next rebuild swaps it out
+     */
+    public CategoryIndex current() {
+        return index;
+    }
+
+    /**
+     * @return number of quizzes in each category that has any
+     */
+    public Map<Long, Integer> counts() {
+        return index.counts(null);
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        switch (event.entity()) {
+            case QUIZ -> relinkQuiz(event.id());
+            case CATEGORY -> relinkCategory(event.id());
+            case QUESTION, ANSWER -> {
+                // Questions and answers do not change category links
+            }
+        }
+    }
+
+    void relinkQuiz(long quizId) {
+        synchronized (rebuildLock) {
+            if (quizzesChangedDuringRebuild != null) {
+                quizzesChangedDuringRebuild.add(quizId);
+            }
+        }
+        index.relinkQuiz(quizId, loader.categoryIdsOf(quizId));
+    }
+
+    void relinkCategory(long categoryId) {
+        synchronized (rebuildLock) {
+            if (categoriesChangedDuringRebuild != null) {
+                categoriesChangedDuringRebuild.add(categoryId);
+            }
+        }
+        index.relinkCategory(categoryId, loader.quizIdsIn(categoryId));
+    }
+}
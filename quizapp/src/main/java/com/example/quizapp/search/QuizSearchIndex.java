@@ -0,0 +1,126 @@
+package com.example.quizapp.search;
+
+import com.example.quizapp.cache.CacheInvalidationListener;
+import com.example.quizapp.cache.InvalidationEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Owns the quiz search index: builds it once the application is ready and keeps it
+ * current from invalidation events, local and remote alike.
+ *
+ * A rebuild fills a fresh {@link NGramIndex} and swaps it in; quizzes changed while it
+ * was loading are re-indexed after the swap so no edit is lost.
+ */
+@Component
+public class QuizSearchIndex implements CacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QuizSearchIndex.class);
+
+    private final SearchDocumentLoader loader;
+    private final int batchSize;
+    private final Object rebuildLock = new Object();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "search-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile NGramIndex index = new NGramIndex();
+    private Set<Long> changedDuringRebuild;
+
+    public QuizSearchIndex(SearchDocumentLoader loader,
+                           @Value("${app.search.batch-size:5000}") int batchSize) {
+        this.loader = loader;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        synchronized (rebuildLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        NGramIndex fresh = new NGramIndex();
+        loader.loadAll(batchSize, fresh::add);
+        fresh.trim();
+
+        Set<Long> changed;
+        synchronized (rebuildLock) {
+            index = fresh;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        }
+        changed.forEach(this::reindexQuiz);
+        log.info("Search index built: {} quizzes in {} ms", fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public SearchHits search(String query, int page, int size) {
+        return index.search(query, page, size);
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        return index.suggest(prefix, limit);
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        switch (event.entity()) {
+            case QUIZ -> reindexQuiz(event.id());
+            case QUESTION -> {
+                // Deletes carry no parent; the stale text only widens matches until the next rebuild
+                if (event.parentId() != null) {
+                    reindexQuiz(event.parentId());
+                }
+            }
+            case CATEGORY -> loader.quizIdsInCategory(event.id()).forEach(this::reindexQuiz);
+            case ANSWER -> {
+                // Answers are not indexed
+            }
+        }
+    }
+
+    void reindexQuiz(long quizId) {
+        synchronized (rebuildLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(quizId);
+            }
+        }
+        NGramIndex current = index;
+        loader.load(quizId).ifPresentOrElse(current::add, () -> current.remove(quizId));
+
+        if (current.needsCompaction() && rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("Search index rebuild failed", e);
+                } finally {
+                    rebuildScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.quizapp.search;
+
+import java.util.List;
+
+/**
+ * Searchable text of one quiz.
+ */
+public record SearchDocument(
+        long quizId,
+        String title,
+        String description,
+        List<String> categoryNames,
+        List<String> questionTexts) {
+}
@@ -0,0 +1,104 @@
+package com.example.quizapp.search;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Reads quiz text for the search index with plain JDBC.
+ * Quizzes are loaded in id ranges so a full build never holds more than one batch
+ * of question text in memory; the range queries use the quiz_id indexes.
+ */
+@Component
+public class SearchDocumentLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SearchDocumentLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void loadAll(int batchSize, Consumer<SearchDocument> consumer) {
+        long lastId = 0;
+        while (true) {
+            Map<Long, DocumentBuilder> batch = new LinkedHashMap<>();
+            jdbcTemplate.query("SELECT id, title, description FROM quiz WHERE id > ? ORDER BY id LIMIT ?",
+                    rs -> {
+                        long id = rs.getLong("id");
+                        batch.put(id, new DocumentBuilder(id, rs.getString("title"), rs.getString("description")));
+                    }, lastId, batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<Long> ids = new ArrayList<>(batch.keySet());
+            long firstId = ids.get(0);
+            lastId = ids.get(ids.size() - 1);
+            loadRange(batch, firstId, lastId).forEach(consumer);
+        }
+    }
+
+    public Optional<SearchDocument> load(long quizId) {
+        Map<Long, DocumentBuilder> single = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, title, description FROM quiz WHERE id = ?",
+                rs -> {
+                    single.put(quizId, new DocumentBuilder(quizId, rs.getString("title"), rs.getString("description")));
+                }, quizId);
+        if (single.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(loadRange(single, quizId, quizId).get(0));
+    }
+
+    public List<Long> quizIdsInCategory(long categoryId) {
+        return jdbcTemplate.queryForList("SELECT quiz_id FROM quiz_categories WHERE category_id = ?",
+                Long.class, categoryId);
+    }
+
+    private List<SearchDocument> loadRange(Map<Long, DocumentBuilder> batch, long fromId, long toId) {
+        String categoriesSql = """
+            SELECT qc.quiz_id, c.name FROM quiz_categories qc
+            JOIN category c ON c.id = qc.category_id
+            WHERE qc.quiz_id BETWEEN ? AND ?
+            """;
+        jdbcTemplate.query(categoriesSql, rs -> {
+            DocumentBuilder builder = batch.get(rs.getLong("quiz_id"));
+            if (builder != null) {
+                builder.categoryNames.add(rs.getString("name"));
+            }
+        }, fromId, toId);
+
+        String questionsSql = "SELECT quiz_id, text FROM question WHERE quiz_id BETWEEN ? AND ? ORDER BY quiz_id, order_index";
+        jdbcTemplate.query(questionsSql, rs -> {
+            DocumentBuilder builder = batch.get(rs.getLong("quiz_id"));
+            if (builder != null) {
+                builder.questionTexts.add(rs.getString("text"));
+            }
+        }, fromId, toId);
+
+        return batch.values().stream().map(DocumentBuilder::build).toList();
+    }
+
+    private static final class DocumentBuilder {
+        private final long quizId;
+        private final String title;
+        private final String description;
+        private final List<String> categoryNames = new ArrayList<>();
+        private final List<String> questionTexts = new ArrayList<>();
+
+        private DocumentBuilder(long quizId, String title, String description) {
+            this.quizId = quizId;
+            this.title = title;
+            this.description = description;
+        }
+
+        private SearchDocument build() {
+            return new SearchDocument(quizId, title, description, categoryNames, questionTexts);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.quizapp.search;
+
+/**
+ * One ranked search result.
+ *
+ * @param matchedGrams number of query trigrams the quiz contains
+ * @param score        field-weighted score (title > category > description/questions)
+ */
+public record SearchHit(long quizId, int matchedGrams, int score) {
+}
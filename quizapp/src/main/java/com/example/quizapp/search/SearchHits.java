@@ -0,0 +1,11 @@
+package com.example.quizapp.search;
+
+import java.util.List;
+
+/**
+ * One page of search results plus the total number of matches.
+ */
+public record SearchHits(List<SearchHit> hits, long total) {
+
+    public static final SearchHits EMPTY = new SearchHits(List.of(), 0);
+}
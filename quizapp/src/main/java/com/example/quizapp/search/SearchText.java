@@ -0,0 +1,57 @@
+package com.example.quizapp.search;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Text normalization and trigram tokenization shared by indexing and querying.
+ * "Zażółć, Java!" normalizes to "zazolc java"; each word is padded with one space
+ * on both sides before splitting into trigrams, so " ja" marks a word start.
+ */
+final class SearchText {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private SearchText() {
+    }
+
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = Character.toLowerCase(decomposed.charAt(i));
+            if (c == '\u0142') { // ł has no decomposition
+                c = 'l';
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    static List<String> words(String normalized) {
+        return normalized.isEmpty() ? List.of() : List.of(normalized.split(" "));
+    }
+
+    static void forEachTrigram(String normalized, Consumer<String> consumer) {
+        for (String word : words(normalized)) {
+            String padded = " " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                consumer.accept(padded.substring(i, i + 3));
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.quizapp.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size- and time-bounded LRU cache of loaded UserDetails for DaoAuthenticationProvider.
+ *
+ * Entries are stored and handed out as copies: ProviderManager erases the password of the
+ * authenticated principal, which would otherwise blank the cached hash and force a reload
+ * on every login.
+ */
+public class BoundedUserCache implements UserCache, MeterBinder {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public BoundedUserCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    BoundedUserCache(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > BoundedUserCache.this.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(username);
+            if (entry != null && entry.expiresAt <= clock.millis()) {
+                entries.remove(username);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy(entry.user);
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        Entry entry = new Entry(copy(user), clock.millis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(user.getUsername(), entry);
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("quizapp.security.user.cache", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("quizapp.security.user.cache", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("quizapp.security.user.cache.size", this, BoundedUserCache::size)
+                .register(registry);
+    }
+
+    private static UserDetails copy(UserDetails user) {
+        return User.withUserDetails(user).build();
+    }
+
+    private record Entry(UserDetails user, long expiresAt) {
+    }
+}
@@ -3,7 +3,9 @@ package com.example.quizapp.security;
 import com.example.quizapp.entity.User;
 import com.example.quizapp.repository.UserRepository;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,15 +15,18 @@ import java.util.stream.Collectors;
 
 /**
  * Custom UserDetailsService implementation.
- * Implements loadUserByUsername as per requirements.
+ * Implements loadUserByUsername as per requirements, and stores re-hashed passwords
+ * when DaoAuthenticationProvider upgrades them on login.
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UserCache userCache) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
     }
 
     @Override
@@ -42,4 +47,18 @@ public class CustomUserDetailsService implements UserDetailsService {
                         .collect(Collectors.toList())
         );
     }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.findByUsername(user.getUsername()).ifPresent(entity -> {
+            entity.setPassword(newPassword);
+            userRepository.save(entity);
+        });
+        // The cached copy still holds the old hash, which would trigger another re-hash next login
+        userCache.removeUserFromCache(user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
 }
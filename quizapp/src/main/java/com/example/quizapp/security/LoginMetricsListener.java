@@ -0,0 +1,38 @@
+package com.example.quizapp.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts login attempts by outcome (quizapp.security.logins{outcome=success|failure}).
+ * Rate per second comes from the registry, e.g. rate() in Prometheus.
+ */
+@Component
+public class LoginMetricsListener {
+
+    private final Counter successes;
+    private final Counter failures;
+
+    public LoginMetricsListener(MeterRegistry meterRegistry) {
+        this.successes = Counter.builder("quizapp.security.logins")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failures = Counter.builder("quizapp.security.logins")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        successes.increment();
+    }
+
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        failures.increment();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.quizapp.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt encoder that asks for a re-hash whenever the stored cost differs from the
+ * configured one. The stock encoder only upgrades weaker hashes, so lowering the cost
+ * to relieve CPU during login storms would otherwise never take effect.
+ */
+public class RehashingBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+
+    public RehashingBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        // $2a$10$...
+        try {
+            int storedCost = Integer.parseInt(encodedPassword.substring(4, 6));
+            return storedCost != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -1,77 +1,121 @@
 package com.example.quizapp.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+
+import java.time.Duration;
+import java.util.Map;
 
 /**
  * Spring Security configuration.
  * Implements SecurityFilterChain, authorizeHttpRequests, requestMatchers, formLogin.
+ * Three chains keep anonymous traffic session-free: a stateless /api/** chain, a
+ * stateful chain for login and the admin area, and a catch-all public chain.
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     /**
-     * BCryptPasswordEncoder bean for password hashing.
+     * Delegating encoder: new hashes are "{bcrypt}..." at the configured cost. Older
+     * unprefixed BCrypt hashes still match and, like hashes of a different cost, are
+     * re-hashed transparently on the next successful login.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${app.security.password.bcrypt-strength:10}") int bcryptStrength) {
+        PasswordEncoder bcrypt = new RehashingBCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /**
+     * Bounded cache of loaded users so repeated logins skip the user + user_roles queries.
+     */
+    @Bean
+    public BoundedUserCache userCache(@Value("${app.security.user-cache.max-size:10000}") int maxSize,
+                                      @Value("${app.security.user-cache.ttl:5m}") Duration ttl) {
+        return new BoundedUserCache(maxSize, ttl);
+    }
+
+    /**
+     * Form login provider wired with the user cache and password upgrades.
+     */
+    @Bean
+    public DaoAuthenticationProvider authenticationProvider(CustomUserDetailsService userDetailsService,
+                                                            PasswordEncoder passwordEncoder,
+                                                            BoundedUserCache userCache) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserCache(userCache);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        return provider;
+    }
+
+    /**
+     * CSRF tokens live in a cookie rather than the session, so rendering a form
+     * (play, login, logout) never creates an HttpSession. Shared by the browser chains
+     * so a token rendered on a public page is accepted by /logout.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public CsrfTokenRepository csrfTokenRepository() {
+        return new CookieCsrfTokenRepository();
     }
 
     /**
-     * SecurityFilterChain configuration.
+     * REST API: fully stateless, no CSRF (no cookie-based authentication to protect).
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
         http
-            // Authorize HTTP Requests with requestMatchers
+            .securityMatcher("/api/**")
             .authorizeHttpRequests(auth -> auth
-                // Static resources
-                .requestMatchers("/css/**", "/js/**", "/images/**", "/webjars/**").permitAll()
-                
-                // Swagger/OpenAPI
-                .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
-                
                 // API endpoints - public for now
                 .requestMatchers("/api/v1/**").permitAll()
-                
-                // Actuator
-                .requestMatchers("/actuator/**").permitAll()
-                
+                .anyRequest().authenticated()
+            )
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+            .csrf(csrf -> csrf.disable());
+
+        return http.build();
+    }
+
+    /**
+     * Login, logout and the admin area: the only stateful chain. A session is
+     * created here on successful login and read by every other browser request.
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain accountSecurityFilterChain(HttpSecurity http,
+                                                          CsrfTokenRepository csrfTokenRepository) throws Exception {
+        http
+            .securityMatcher("/admin/**", "/login", "/logout")
+            .authorizeHttpRequests(auth -> auth
                 // Auth pages
-                .requestMatchers("/login", "/register").permitAll()
-                
-                // Home
-                .requestMatchers("/", "/home").permitAll()
-                
-                // Game pages - public (play quiz without login)
-                .requestMatchers("/play/**", "/submit/**", "/result/**", "/ranking/**", "/ranking").permitAll()
-                
-                // Quiz list and view - public (GET only)
-                .requestMatchers(HttpMethod.GET, "/quizzes").permitAll()
-                .requestMatchers(HttpMethod.GET, "/quizzes/{id}").permitAll()
-                
-                // Quiz management - Admin only
-                .requestMatchers(HttpMethod.GET, "/quizzes/new").hasRole("ADMIN")
-                .requestMatchers(HttpMethod.POST, "/quizzes").hasRole("ADMIN")
-                .requestMatchers(HttpMethod.GET, "/quizzes/*/edit").hasRole("ADMIN")
-                .requestMatchers(HttpMethod.POST, "/quizzes/*").hasRole("ADMIN")
-                .requestMatchers(HttpMethod.POST, "/quizzes/*/delete").hasRole("ADMIN")
-                
+                .requestMatchers("/login").permitAll()
+
                 // Admin area
                 .requestMatchers("/admin/**").hasRole("ADMIN")
-                
-                // All other requests require authentication
+
                 .anyRequest().authenticated()
             )
-            
+
             // Form Login configuration
             .formLogin(form -> form
                 .loginPage("/login")
@@ -80,20 +124,72 @@ public class SecurityConfig {
                 .failureUrl("/login?error=true")
                 .permitAll()
             )
-            
+
             // Logout configuration
             .logout(logout -> logout
                 .logoutUrl("/logout")
                 .logoutSuccessUrl("/login?logout=true")
                 .invalidateHttpSession(true)
-                .deleteCookies("JSESSIONID")
+                .deleteCookies("SESSION")
                 .permitAll()
             )
-            
-            // CSRF configuration - disable for API endpoints
-            .csrf(csrf -> csrf
-                .ignoringRequestMatchers("/api/**")
-            );
+
+            .csrf(csrf -> csrf.csrfTokenRepository(csrfTokenRepository));
+
+        return http.build();
+    }
+
+    /**
+     * Everything else: home, game, ranking and quiz pages. Never creates a session
+     * (an existing login session is still honoured), and nothing is saved for
+     * post-login replay since login always lands on "/".
+     */
+    @Bean
+    @Order(3)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   CsrfTokenRepository csrfTokenRepository) throws Exception {
+        http
+            // Authorize HTTP Requests with requestMatchers
+            .authorizeHttpRequests(auth -> auth
+                // Static resources
+                .requestMatchers("/css/**", "/js/**", "/images/**", "/webjars/**").permitAll()
+
+                // Swagger/OpenAPI
+                .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
+
+                // Actuator
+                .requestMatchers("/actuator/**").permitAll()
+
+                // Auth pages
+                .requestMatchers("/register").permitAll()
+
+                // Home
+                .requestMatchers("/", "/home").permitAll()
+
+                // Game pages - public (play quiz without login)
+                .requestMatchers("/play/**", "/submit/**", "/result/**", "/ranking/**", "/ranking").permitAll()
+
+                // Quiz management - Admin only; before the public view, whose {id} would also match "new"
+                .requestMatchers(HttpMethod.GET, "/quizzes/new").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/quizzes").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/quizzes/*/edit").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/quizzes/*").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/quizzes/*/delete").hasRole("ADMIN")
+
+                // Quiz list and view - public (GET only)
+                .requestMatchers(HttpMethod.GET, "/quizzes").permitAll()
+                .requestMatchers(HttpMethod.GET, "/quizzes/{id}").permitAll()
+
+                // All other requests require authentication
+                .anyRequest().authenticated()
+            )
+
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.NEVER))
+            .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new LoginUrlAuthenticationEntryPoint("/login"))
+            )
+            .csrf(csrf -> csrf.csrfTokenRepository(csrfTokenRepository));
 
         return http.build();
     }
@@ -0,0 +1,115 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dto.CategoryBrowseDTO;
+import com.example.quizapp.dto.CategoryCountDTO;
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.Category;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.CategoryRepository;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.search.CategoryHits;
+import com.example.quizapp.search.CategoryMatch;
+import com.example.quizapp.search.QuizCategoryIndex;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Category browsing backed by the in-memory category index.
+ * The index filters, counts and pages quiz ids; only the quizzes on the requested page are loaded.
+ */
+@Service
+public class CategoryBrowseService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_FILTERS = 20;
+
+    private final QuizCategoryIndex categoryIndex;
+    private final QuizRepository quizRepository;
+    private final CategoryRepository categoryRepository;
+
+    public CategoryBrowseService(QuizCategoryIndex categoryIndex, QuizRepository quizRepository,
+                                 CategoryRepository categoryRepository) {
+        this.categoryIndex = categoryIndex;
+        this.quizRepository = quizRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    /**
+     * @param categoryIds categories to filter by; none lists every quiz
+     * @param match       whether a quiz needs all or any of the categories
+     */
+    @Transactional(readOnly = true)
+    public CategoryBrowseDTO browse(List<Long> categoryIds, CategoryMatch match, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize);
+        CategoryMatch combine = match != null ? match : CategoryMatch.ALL;
+        long[] selected = categoryIds == null ? new long[0] : categoryIds.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .distinct()
+                .limit(MAX_FILTERS)
+                .toArray();
+
+        Page<QuizDTO> quizzes;
+        Map<Long, Integer> counts;
+        if (selected.length == 0) {
+            // Unfiltered includes quizzes without a category, which the index does not hold
+            quizzes = quizRepository.findAll(pageRequest.withSort(Sort.by(Sort.Direction.DESC, "id")))
+                    .map(QuizDTO::new);
+            counts = categoryIndex.counts();
+        } else {
+            CategoryHits hits = categoryIndex.browse(selected, combine, pageNumber, pageSize);
+            quizzes = new PageImpl<>(load(hits.quizIds()), pageRequest, hits.total());
+            counts = hits.counts();
+        }
+        return new CategoryBrowseDTO(quizzes, categoryCounts(counts, selected), combine);
+    }
+
+    private List<QuizDTO> load(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Quiz> quizzes = quizRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Quiz::getId, Function.identity()));
+        // Keep the index's newest-first order
+        return ids.stream()
+                .map(quizzes::get)
+                .filter(Objects::nonNull)
+                .map(QuizDTO::new)
+                .toList();
+    }
+
+    // Categories with matching quizzes, plus the selected ones even when nothing matches
+    private List<CategoryCountDTO> categoryCounts(Map<Long, Integer> counts, long[] selected) {
+        List<CategoryCountDTO> result = new ArrayList<>();
+        for (Category category : categoryRepository.findAll(Sort.by("name"))) {
+            int count = counts.getOrDefault(category.getId(), 0);
+            boolean isSelected = contains(selected, category.getId());
+            if (count > 0 || isSelected) {
+                result.add(new CategoryCountDTO(category.getId(), category.getName(), count, isSelected));
+            }
+        }
+        return result;
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (long candidate : ids) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
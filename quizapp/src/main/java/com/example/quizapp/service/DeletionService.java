@@ -0,0 +1,87 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.cache.InvalidationEvent;
+import com.example.quizapp.cache.JdbcWriteInvalidator;
+import com.example.quizapp.dao.QuestionJdbcDao;
+import com.example.quizapp.dao.QuizJdbcDao;
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.exception.ResourceNotFoundException;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.results.ResultChangeLog;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes quizzes, questions and answers with set-based SQL instead of removing entities,
+ * which loads every child through the cascades and deletes it with its own statement.
+ * Every delete endpoint goes through here.
+ *
+ * The SQL bypasses Hibernate, so the second-level cache is evicted through
+ * {@link JdbcWriteInvalidator}.
+ */
+@Service
+public class DeletionService {
+
+    private final QuizRepository quizRepository;
+    private final QuizJdbcDao quizJdbcDao;
+    private final QuestionJdbcDao questionJdbcDao;
+    private final ResultChangeLog resultChangeLog;
+    private final JdbcWriteInvalidator invalidator;
+
+    public DeletionService(QuizRepository quizRepository,
+                           QuizJdbcDao quizJdbcDao,
+                           QuestionJdbcDao questionJdbcDao,
+                           ResultChangeLog resultChangeLog,
+                           JdbcWriteInvalidator invalidator) {
+        this.quizRepository = quizRepository;
+        this.quizJdbcDao = quizJdbcDao;
+        this.questionJdbcDao = questionJdbcDao;
+        this.resultChangeLog = resultChangeLog;
+        this.invalidator = invalidator;
+    }
+
+    /**
+     * Deletes a quiz with its questions, answers, category links, results, attempts and published versions.
+     */
+    @Transactional
+    public void deleteQuiz(Long id) {
+        if (!quizRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Quiz", id);
+        }
+        // The quiz's results go with it
+        resultChangeLog.recordQuizDeleted(id);
+        quizJdbcDao.deleteWithChildren(id);
+
+        // Its questions and answers are not known by id here
+        invalidator.invalidate(InvalidationEvent.quiz(id), Question.class, Answer.class);
+    }
+
+    /**
+     * Deletes a question with its answers.
+     *
+     * @return the quiz the question belonged to
+     */
+    @Transactional
+    public Long deleteQuestion(Long id) {
+        Long quizId = questionJdbcDao.findQuizId(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Question", id));
+        questionJdbcDao.deleteWithAnswers(id);
+
+        invalidator.invalidate(InvalidationEvent.question(id, quizId), Answer.class);
+        return quizId;
+    }
+
+    /**
+     * @return the question the answer belonged to
+     */
+    @Transactional
+    public Long deleteAnswer(Long id) {
+        Long questionId = questionJdbcDao.findQuestionIdOfAnswer(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Answer", id));
+        questionJdbcDao.deleteAnswer(id);
+
+        invalidator.invalidate(InvalidationEvent.answer(id, questionId));
+        return questionId;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.quizapp.service;
 
+import com.example.quizapp.cache.InvalidationBus;
+import com.example.quizapp.cache.InvalidationEvent;
 import com.example.quizapp.dto.QuestionDTO;
 import com.example.quizapp.entity.Question;
 import com.example.quizapp.entity.Quiz;
@@ -22,10 +24,15 @@ public class QuestionService {
 
     private final QuestionRepository questionRepository;
     private final QuizRepository quizRepository;
+    private final InvalidationBus invalidationBus;
+    private final DeletionService deletionService;
 
-    public QuestionService(QuestionRepository questionRepository, QuizRepository quizRepository) {
+    public QuestionService(QuestionRepository questionRepository, QuizRepository quizRepository,
+                           InvalidationBus invalidationBus, DeletionService deletionService) {
         this.questionRepository = questionRepository;
         this.quizRepository = quizRepository;
+        this.invalidationBus = invalidationBus;
+        this.deletionService = deletionService;
     }
 
     @Transactional(readOnly = true)
@@ -58,9 +65,12 @@ public class QuestionService {
         question.setType(request.getType() != null ? request.getType() : QuestionType.SINGLE_CHOICE);
         question.setPoints(request.getPoints() != null ? request.getPoints() : 1);
         question.setOrderIndex(request.getOrderIndex());
+        question.setScoringPolicy(request.getScoringPolicy());
+        question.setDifficulty(request.getDifficulty());
         question.setQuiz(quiz);
         
         Question saved = questionRepository.save(question);
+        invalidationBus.publish(InvalidationEvent.question(saved.getId(), quiz.getId()));
         return new QuestionDTO(saved);
     }
 
@@ -73,16 +83,16 @@ public class QuestionService {
         question.setType(request.getType());
         question.setPoints(request.getPoints());
         question.setOrderIndex(request.getOrderIndex());
+        question.setScoringPolicy(request.getScoringPolicy());
+        question.setDifficulty(request.getDifficulty());
         
         Question updated = questionRepository.save(question);
+        invalidationBus.publish(InvalidationEvent.question(id, question.getQuiz() != null ? question.getQuiz().getId() : null));
         return new QuestionDTO(updated);
     }
 
     @Transactional(readOnly = false)
     public void deleteQuestion(Long id) {
-        if (!questionRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Question", id);
-        }
-        questionRepository.deleteById(id);
+        deletionService.deleteQuestion(id);
     }
 }
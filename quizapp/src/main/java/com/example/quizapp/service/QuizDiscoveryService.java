@@ -0,0 +1,116 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.discovery.CatalogEntry;
+import com.example.quizapp.discovery.CatalogFacets;
+import com.example.quizapp.discovery.CatalogPage;
+import com.example.quizapp.discovery.CatalogQuery;
+import com.example.quizapp.discovery.QuizCatalog;
+import com.example.quizapp.discovery.QuizCatalogIndex;
+import com.example.quizapp.discovery.QuizSort;
+import com.example.quizapp.dto.FacetCountDTO;
+import com.example.quizapp.dto.QuizDiscoveryDTO;
+import com.example.quizapp.dto.QuizDiscoveryRequest;
+import com.example.quizapp.dto.QuizSummaryDTO;
+import com.example.quizapp.search.CategoryMatch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Faceted quiz discovery served entirely from the in-memory quiz catalog; no query
+ * reaches the database.
+ */
+@Service
+public class QuizDiscoveryService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_FILTERS = 20;
+
+    private final QuizCatalogIndex catalogIndex;
+
+    public QuizDiscoveryService(QuizCatalogIndex catalogIndex) {
+        this.catalogIndex = catalogIndex;
+    }
+
+    public QuizDiscoveryDTO discover(QuizDiscoveryRequest request) {
+        int pageSize = Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, request.getPage());
+        long[] categoryIds = request.getCategory() == null ? new long[0] : request.getCategory().stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .distinct()
+                .limit(MAX_FILTERS)
+                .toArray();
+        CatalogQuery query = new CatalogQuery(categoryIds,
+                request.getMatch() != null ? request.getMatch() : CategoryMatch.ALL,
+                request.getTimed(), request.getNegativePoints(),
+                request.getMinQuestions(), request.getMaxQuestions(), request.getMinPlays(),
+                request.getSort() != null ? request.getSort() : QuizSort.NEWEST,
+                pageNumber, pageSize);
+
+        CatalogPage result = catalogIndex.query(query);
+        List<QuizSummaryDTO> content = result.entries().stream().map(QuizDiscoveryService::toDto).toList();
+        Page<QuizSummaryDTO> quizzes = new PageImpl<>(content, PageRequest.of(pageNumber, pageSize), result.total());
+        return new QuizDiscoveryDTO(quizzes, facets(result.facets(), request, categoryIds));
+    }
+
+    private static Map<String, List<FacetCountDTO>> facets(CatalogFacets facets, QuizDiscoveryRequest request,
+                                                           long[] categoryIds) {
+        Map<String, List<FacetCountDTO>> result = new LinkedHashMap<>();
+
+        List<FacetCountDTO> categories = new ArrayList<>();
+        facets.categories().forEach((categoryId, count) -> categories.add(new FacetCountDTO(
+                categoryId.toString(), facets.categoryNames().get(categoryId), count,
+                contains(categoryIds, categoryId))));
+        categories.sort(Comparator.comparing(FacetCountDTO::getCount).reversed()
+                .thenComparing(FacetCountDTO::getLabel));
+        result.put("category", categories);
+
+        result.put("timed", List.of(
+                new FacetCountDTO("true", "Timed", facets.timed(), Boolean.TRUE.equals(request.getTimed())),
+                new FacetCountDTO("false", "Untimed", facets.untimed(), Boolean.FALSE.equals(request.getTimed()))));
+        result.put("negativePoints", List.of(
+                new FacetCountDTO("true", "Negative points", facets.negativePoints(),
+                        Boolean.TRUE.equals(request.getNegativePoints())),
+                new FacetCountDTO("false", "No negative points", facets.noNegativePoints(),
+                        Boolean.FALSE.equals(request.getNegativePoints()))));
+
+        // Values are minQuestions-maxQuestions ranges; the last bucket has no upper bound
+        List<FacetCountDTO> questionCounts = new ArrayList<>();
+        int[] bounds = QuizCatalog.QUESTION_BUCKETS;
+        for (int bucket = 0; bucket < bounds.length; bucket++) {
+            int lower = bounds[bucket];
+            Integer upper = bucket + 1 < bounds.length ? bounds[bucket + 1] - 1 : null;
+            String range = upper != null ? lower + "-" + upper : lower + "-";
+            String label = upper != null ? lower + "-" + upper + " questions" : lower + "+ questions";
+            boolean selected = Objects.equals(request.getMinQuestions(), lower)
+                    && Objects.equals(request.getMaxQuestions(), upper);
+            questionCounts.add(new FacetCountDTO(range, label, facets.questionCount().get(lower), selected));
+        }
+        result.put("questionCount", questionCounts);
+        return result;
+    }
+
+    private static QuizSummaryDTO toDto(CatalogEntry entry) {
+        return new QuizSummaryDTO(entry.quizId(), entry.title(), entry.description(), entry.timeLimit(),
+                entry.negativePoints(), entry.questionCount(), entry.categories(), entry.plays(),
+                entry.averageScore());
+    }
+
+    private static boolean contains(long[] ids, long id) {
+        for (long candidate : ids) {
+            if (candidate == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
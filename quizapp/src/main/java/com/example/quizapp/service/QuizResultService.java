@@ -0,0 +1,74 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dto.QuizResultDTO;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.entity.QuizResult;
+import com.example.quizapp.exception.ResourceNotFoundException;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.repository.QuizResultRepository;
+import com.example.quizapp.results.ResultChangeLog;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service layer for QuizResult writes made through the REST API.
+ * Each write is recorded in the result change feed in the same transaction.
+ */
+@Service
+public class QuizResultService {
+
+    private final QuizResultRepository quizResultRepository;
+    private final QuizRepository quizRepository;
+    private final ResultChangeLog resultChangeLog;
+
+    public QuizResultService(QuizResultRepository quizResultRepository,
+                             QuizRepository quizRepository,
+                             ResultChangeLog resultChangeLog) {
+        this.quizResultRepository = quizResultRepository;
+        this.quizRepository = quizRepository;
+        this.resultChangeLog = resultChangeLog;
+    }
+
+    @Transactional
+    public QuizResultDTO submitResult(QuizResultDTO request) {
+        Quiz quiz = quizRepository.findById(request.getQuizId())
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz", request.getQuizId()));
+
+        QuizResult result = new QuizResult();
+        result.setNickname(request.getNickname());
+        result.setScore(request.getScore());
+        result.setMaxScore(request.getMaxScore());
+        result.setQuiz(quiz);
+
+        // Identity ids are assigned by the insert, so the row is in the database here
+        QuizResult saved = quizResultRepository.save(result);
+        resultChangeLog.recordInserts(List.of(saved.getId()));
+        return new QuizResultDTO(saved);
+    }
+
+    @Transactional
+    public void deleteResult(Long id) {
+        if (!quizResultRepository.existsById(id)) {
+            throw new ResourceNotFoundException("QuizResult", id);
+        }
+        resultChangeLog.recordDeletes(List.of(id));
+        quizResultRepository.deleteById(id);
+    }
+
+    /**
+     * Deletes a quiz's results completed before the given time in one statement.
+     *
+     * @return number of results deleted
+     */
+    @Transactional
+    public int deleteResultsBefore(Long quizId, LocalDateTime before) {
+        if (!quizRepository.existsById(quizId)) {
+            throw new ResourceNotFoundException("Quiz", quizId);
+        }
+        resultChangeLog.recordDeletesBefore(quizId, before);
+        return quizResultRepository.deleteByQuizIdCompletedBefore(quizId, before);
+    }
+}
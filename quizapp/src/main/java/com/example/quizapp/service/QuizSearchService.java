@@ -0,0 +1,71 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.search.QuizSearchIndex;
+import com.example.quizapp.search.SearchHit;
+import com.example.quizapp.search.SearchHits;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Quiz search backed by the in-memory trigram index.
+ * The index ranks and pages quiz ids; only the quizzes on the requested page are loaded.
+ */
+@Service
+public class QuizSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_SUGGESTIONS = 20;
+
+    private final QuizSearchIndex searchIndex;
+    private final QuizRepository quizRepository;
+
+    public QuizSearchService(QuizSearchIndex searchIndex, QuizRepository quizRepository) {
+        this.searchIndex = searchIndex;
+        this.quizRepository = quizRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<QuizDTO> search(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        PageRequest pageRequest = PageRequest.of(pageNumber, pageSize);
+        if (query == null || query.isBlank()) {
+            return Page.empty(pageRequest);
+        }
+
+        SearchHits hits = searchIndex.search(query, pageNumber, pageSize);
+        List<Long> ids = hits.hits().stream().map(SearchHit::quizId).toList();
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageRequest, hits.total());
+        }
+        Map<Long, Quiz> quizzes = quizRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Quiz::getId, Function.identity()));
+
+        // Keep the index's ranking order
+        List<QuizDTO> content = ids.stream()
+                .map(quizzes::get)
+                .filter(Objects::nonNull)
+                .map(QuizDTO::new)
+                .toList();
+        return new PageImpl<>(content, pageRequest, hits.total());
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return searchIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+}
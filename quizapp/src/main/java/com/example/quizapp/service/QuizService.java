@@ -1,5 +1,9 @@
 package com.example.quizapp.service;
 
+import com.example.quizapp.cache.InvalidationBus;
+import com.example.quizapp.cache.InvalidationEvent;
+import com.example.quizapp.cache.JdbcWriteInvalidator;
+import com.example.quizapp.dao.QuizJdbcDao;
 import com.example.quizapp.dto.CreateQuizRequest;
 import com.example.quizapp.dto.QuizDTO;
 import com.example.quizapp.entity.Quiz;
@@ -8,9 +12,9 @@ import com.example.quizapp.repository.QuizRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
+import org.springframework.util.StringUtils;
 
 /**
  * Service layer for Quiz operations.
@@ -20,10 +24,20 @@ import java.util.List;
 public class QuizService {
 
     private final QuizRepository quizRepository;
+    private final InvalidationBus invalidationBus;
+    private final DeletionService deletionService;
+    private final QuizJdbcDao quizJdbcDao;
+    private final JdbcWriteInvalidator jdbcWriteInvalidator;
 
     // Constructor injection
-    public QuizService(QuizRepository quizRepository) {
+    public QuizService(QuizRepository quizRepository, InvalidationBus invalidationBus,
+                       DeletionService deletionService, QuizJdbcDao quizJdbcDao,
+                       JdbcWriteInvalidator jdbcWriteInvalidator) {
         this.quizRepository = quizRepository;
+        this.invalidationBus = invalidationBus;
+        this.deletionService = deletionService;
+        this.quizJdbcDao = quizJdbcDao;
+        this.jdbcWriteInvalidator = jdbcWriteInvalidator;
     }
 
     @Transactional(readOnly = true)
@@ -38,19 +52,12 @@ public class QuizService {
         return new QuizDTO(quiz);
     }
 
-    @Transactional(readOnly = true)
-    public List<QuizDTO> searchQuizzes(String title) {
-        return quizRepository.findByTitleContainingIgnoreCase(title)
-                .stream()
-                .map(QuizDTO::new)
-                .toList();
-    }
-
     @Transactional(readOnly = false)
     public QuizDTO createQuiz(CreateQuizRequest request) {
         Quiz quiz = new Quiz();
         mapRequestToEntity(request, quiz);
         Quiz saved = quizRepository.save(quiz);
+        invalidationBus.publish(InvalidationEvent.quiz(saved.getId()));
         return new QuizDTO(saved);
     }
 
@@ -60,15 +67,29 @@ public class QuizService {
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz", id));
         mapRequestToEntity(request, quiz);
         Quiz updated = quizRepository.save(quiz);
+        invalidationBus.publish(InvalidationEvent.quiz(id));
         return new QuizDTO(updated);
     }
 
     @Transactional(readOnly = false)
     public void deleteQuiz(Long id) {
-        if (!quizRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Quiz", id);
-        }
-        quizRepository.deleteById(id);
+        deletionService.deleteQuiz(id);
+    }
+
+    /**
+     * Copies a quiz with its categories, questions and answers as a new quiz, set-based.
+     * Repeatable read keeps the copy consistent while the source is being edited.
+     *
+     * @param title title of the copy; blank for the source's title with " (copy)"
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public QuizDTO cloneQuiz(Long id, String title) {
+        Long cloneId = quizJdbcDao.cloneWithChildren(id, StringUtils.hasText(title) ? title.trim() : null)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz", id));
+        jdbcWriteInvalidator.invalidate(InvalidationEvent.quiz(cloneId));
+        return quizRepository.findById(cloneId)
+                .map(QuizDTO::new)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz", cloneId));
     }
 
     // Entity ⇄ DTO mapping helper
@@ -79,5 +100,9 @@ public class QuizService {
         quiz.setShuffleQuestions(request.getShuffleQuestions());
         quiz.setShuffleAnswers(request.getShuffleAnswers());
         quiz.setNegativePoints(request.getNegativePoints());
+        quiz.setScoringPolicy(request.getScoringPolicy());
+        quiz.setLateSubmissionPolicy(request.getLateSubmissionPolicy());
+        quiz.setPoolSize(request.getPoolSize());
+        quiz.setPoolStratifyBy(request.getPoolStratifyBy());
     }
 }
@@ -0,0 +1,81 @@
+package com.example.quizapp.session;
+
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Session attribute codec for the JDBC session store.
+ * The game keeps only small scalars in the session (quiz id, nickname, start time,
+ * ability estimate); those are written as a one-byte type tag plus the raw value instead
+ * of a Java serialization stream (~80 bytes of class metadata for a single Long).
+ * Anything else - the SecurityContext, flash maps - falls back to Java serialization.
+ */
+public class CompactSessionSerializer {
+
+    static final byte NULL = 0;
+    static final byte STRING = 1;
+    static final byte LONG = 2;
+    static final byte INTEGER = 3;
+    static final byte BOOLEAN = 4;
+    static final byte JAVA = 5;
+    static final byte DOUBLE = 6;
+
+    private final SerializingConverter javaSerializer = new SerializingConverter();
+    private final DeserializingConverter javaDeserializer;
+
+    public CompactSessionSerializer(ClassLoader classLoader) {
+        this.javaDeserializer = new DeserializingConverter(classLoader);
+    }
+
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return new byte[] {NULL};
+        }
+        if (value instanceof String s) {
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(1 + utf8.length).put(STRING).put(utf8).array();
+        }
+        if (value instanceof Long l) {
+            return ByteBuffer.allocate(9).put(LONG).putLong(l).array();
+        }
+        if (value instanceof Integer i) {
+            return ByteBuffer.allocate(5).put(INTEGER).putInt(i).array();
+        }
+        if (value instanceof Boolean b) {
+            return new byte[] {BOOLEAN, (byte) (b ? 1 : 0)};
+        }
+        if (value instanceof Double d) {
+            return ByteBuffer.allocate(9).put(DOUBLE).putDouble(d).array();
+        }
+        byte[] serialized = javaSerializer.convert(value);
+        return ByteBuffer.allocate(1 + serialized.length).put(JAVA).put(serialized).array();
+    }
+
+    public Object deserialize(byte[] bytes) {
+        if (bytes.length == 0) {
+            throw new IllegalArgumentException("Empty session attribute");
+        }
+        return switch (bytes[0]) {
+            case NULL -> null;
+            case STRING -> new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            case LONG -> fixed(bytes, Long.BYTES).getLong();
+            case INTEGER -> fixed(bytes, Integer.BYTES).getInt();
+            case BOOLEAN -> fixed(bytes, 1).get() != 0;
+            case DOUBLE -> fixed(bytes, Double.BYTES).getDouble();
+            case JAVA -> javaDeserializer.convert(Arrays.copyOfRange(bytes, 1, bytes.length));
+            default -> throw new IllegalArgumentException("Unknown session attribute tag " + bytes[0]);
+        };
+    }
+
+    private static ByteBuffer fixed(byte[] bytes, int length) {
+        if (bytes.length - 1 != length) {
+            throw new IllegalArgumentException("Session attribute tag " + bytes[0] + " needs " + length
+                    + " bytes, got " + (bytes.length - 1));
+        }
+        return ByteBuffer.wrap(bytes, 1, length);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.quizapp.session;
+
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+
+/**
+ * HTTP sessions are stored in the shared database through Spring Session JDBC
+ * (tables in V4__spring_session_tables.sql; flush, save mode and cleanup cron in
+ * application.yml under spring.session). This class only swaps in the compact
+ * attribute codec, which Spring Session picks up by bean name.
+ */
+@Configuration
+public class SessionStoreConfig implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Bean
+    public ConversionService springSessionConversionService() {
+        CompactSessionSerializer serializer = new CompactSessionSerializer(classLoader);
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, serializer::serialize);
+        conversionService.addConverter(byte[].class, Object.class, serializer::deserialize);
+        return conversionService;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.quizapp.versioning;
+
+import com.example.quizapp.entity.Answer;
+
+/**
+ * An answer as it was in one revision of its question.
+ */
+public record AnswerSnapshot(long id, String text, boolean correct, Integer orderIndex) {
+
+    /**
+     * @return a detached entity for code that works on answers, e.g. scoring plan compilation
+     */
+    public Answer toEntity() {
+        Answer answer = new Answer(text, correct, orderIndex);
+        answer.setId(id);
+        return answer;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.quizapp.versioning;
+
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.entity.QuestionDifficulty;
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.entity.ScoringPolicyType;
+
+import java.util.List;
+
+/**
+ * One revision of a question with its answers. Revisions are immutable; an edit to the
+ * question or one of its answers produces the next revision, and versions of the quiz in
+ * which the question did not change share the same snapshot.
+ *
+ * @param revision 0 for a question read from the live tables and not yet published
+ */
+public record QuestionSnapshot(long id, int revision, String text, QuestionType type, int points,
+                               Integer orderIndex, ScoringPolicyType scoringPolicy, QuestionDifficulty difficulty,
+                               List<AnswerSnapshot> answers) {
+
+    public QuestionSnapshot {
+        answers = List.copyOf(answers);
+    }
+
+    public QuestionSnapshot withRevision(int revision) {
+        return new QuestionSnapshot(id, revision, text, type, points, orderIndex, scoringPolicy, difficulty, answers);
+    }
+
+    /**
+     * @return whether both are the same question with the same content, whatever their revisions
+     */
+    public boolean sameContentAs(QuestionSnapshot other) {
+        return other != null && withRevision(other.revision).equals(other);
+    }
+
+    /**
+     * @return a detached entity without answers, e.g. for scoring plan compilation
+     */
+    public Question toEntity() {
+        Question question = new Question(text, type, points);
+        question.setId(id);
+        question.setOrderIndex(orderIndex);
+        question.setScoringPolicy(scoringPolicy);
+        question.setDifficulty(difficulty);
+        return question;
+    }
+
+    public List<Answer> correctAnswers() {
+        return answers.stream()
+                .filter(AnswerSnapshot::correct)
+                .map(AnswerSnapshot::toEntity)
+                .toList();
+    }
+}
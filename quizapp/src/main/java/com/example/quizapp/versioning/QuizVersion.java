@@ -0,0 +1,121 @@
+package com.example.quizapp.versioning;
+
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.LateSubmissionPolicy;
+import com.example.quizapp.entity.PoolStratification;
+import com.example.quizapp.entity.ScoringPolicyType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable published version of a quiz: its settings and the revision of every question
+ * at publication. Attempts are pinned to the version they started on and are scored against
+ * it, so an edit never changes a quiz under a player.
+ *
+ * @param version  0 for the live state read by {@link QuizVersionStore#readLiveLocked}, not yet published
+ * @param poolSize questions drawn per attempt, null for every question
+ */
+public record QuizVersion(long quizId, int version, String title, Integer timeLimit,
+                          Boolean shuffleQuestions, Boolean shuffleAnswers, Boolean negativePoints,
+                          ScoringPolicyType scoringPolicy, LateSubmissionPolicy lateSubmissionPolicy,
+                          Integer poolSize, PoolStratification poolStratifyBy,
+                          List<QuestionSnapshot> questions) {
+
+    public QuizVersion {
+        questions = List.copyOf(questions);
+    }
+
+    public VersionKey key() {
+        return new VersionKey(quizId, version);
+    }
+
+    /**
+     * @return whether an attempt gets a draw of the questions rather than all of them
+     */
+    public boolean isPooled() {
+        return poolSize != null && poolSize < questions.size();
+    }
+
+    /**
+     * @return the question with the id, null when the version does not contain it
+     */
+    public QuestionSnapshot question(long questionId) {
+        for (QuestionSnapshot question : questions) {
+            if (question.id() == questionId) {
+                return question;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The version to publish after {@code previous} for the live state of the quiz. Questions
+     * whose content did not change keep the previous snapshot, the same instance; changed
+     * questions get the next revision and new ones revision 1.
+     *
+     * @param previous the latest published version, null when none
+     * @param live     the quiz as it is now, from {@link QuizVersionStore#readLiveLocked}
+     * @return previous itself when nothing changed
+     */
+    public static QuizVersion next(QuizVersion previous, QuizVersion live) {
+        Map<Long, QuestionSnapshot> before = new HashMap<>();
+        if (previous != null) {
+            previous.questions.forEach(question -> before.put(question.id(), question));
+        }
+
+        List<QuestionSnapshot> questions = new ArrayList<>(live.questions.size());
+        for (QuestionSnapshot question : live.questions) {
+            QuestionSnapshot old = before.get(question.id());
+            if (question.sameContentAs(old)) {
+                questions.add(old);
+            } else {
+                questions.add(question.withRevision(old != null ? old.revision() + 1 : 1));
+            }
+        }
+
+        QuizVersion next = new QuizVersion(live.quizId, previous != null ? previous.version + 1 : 1,
+                live.title, live.timeLimit, live.shuffleQuestions, live.shuffleAnswers, live.negativePoints,
+                live.scoringPolicy, live.lateSubmissionPolicy, live.poolSize, live.poolStratifyBy, questions);
+        return previous != null && next.sameContentAs(previous) ? previous : next;
+    }
+
+    /**
+     * @return whether both have the same settings and question revisions, whatever their version numbers
+     */
+    public boolean sameContentAs(QuizVersion other) {
+        return quizId == other.quizId
+                && Objects.equals(title, other.title)
+                && Objects.equals(timeLimit, other.timeLimit)
+                && Objects.equals(shuffleQuestions, other.shuffleQuestions)
+                && Objects.equals(shuffleAnswers, other.shuffleAnswers)
+                && Objects.equals(negativePoints, other.negativePoints)
+                && scoringPolicy == other.scoringPolicy
+                && lateSubmissionPolicy == other.lateSubmissionPolicy
+                && Objects.equals(poolSize, other.poolSize)
+                && poolStratifyBy == other.poolStratifyBy
+                && questions.equals(other.questions);
+    }
+
+    /**
+     * @return the settings as a DTO, for code that takes one (scoring, late submission rules)
+     */
+    public QuizDTO toQuizDTO() {
+        QuizDTO dto = new QuizDTO();
+        dto.setId(quizId);
+        dto.setTitle(title);
+        dto.setTimeLimit(timeLimit);
+        dto.setShuffleQuestions(shuffleQuestions);
+        dto.setShuffleAnswers(shuffleAnswers);
+        dto.setNegativePoints(negativePoints);
+        dto.setScoringPolicy(scoringPolicy);
+        dto.setLateSubmissionPolicy(lateSubmissionPolicy);
+        dto.setPoolSize(poolSize);
+        dto.setPoolStratifyBy(poolStratifyBy);
+        dto.setQuestionCount(questions.size());
+        return dto;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.quizapp.versioning;
+
+import com.example.quizapp.entity.LateSubmissionPolicy;
+import com.example.quizapp.entity.PoolStratification;
+import com.example.quizapp.entity.QuestionDifficulty;
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.entity.ScoringPolicyType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JdbcTemplate-based storage of published quiz versions, and the read of a quiz's live state
+ * they are published from. A version row lists its questions by revision; revisions are
+ * written once and shared by every version that contains them.
+ */
+@Repository
+public class QuizVersionStore {
+
+    private static final String LATEST_SQL = "SELECT MAX(version) FROM quiz_version WHERE quiz_id = ?";
+    private static final String SELECT_VERSION_SQL = """
+            SELECT quiz_id, version, title, time_limit, shuffle_questions, shuffle_answers, negative_points,
+                   scoring_policy, late_submission_policy, pool_size, pool_stratify_by
+            FROM quiz_version WHERE quiz_id = ? AND version = ?""";
+    private static final String SELECT_VERSION_QUESTIONS_SQL = """
+            SELECT r.question_id AS id, r.revision, r.text, r.type, r.points, r.order_index, r.scoring_policy,
+                   r.difficulty
+            FROM quiz_version_question v
+            JOIN question_revision r ON r.question_id = v.question_id AND r.revision = v.revision
+            WHERE v.quiz_id = ? AND v.version = ?
+            ORDER BY r.question_id""";
+    private static final String SELECT_VERSION_ANSWERS_SQL = """
+            SELECT a.question_id, a.answer_id AS id, a.text, a.is_correct, a.order_index
+            FROM quiz_version_question v
+            JOIN answer_revision a ON a.question_id = v.question_id AND a.revision = v.revision
+            WHERE v.quiz_id = ? AND v.version = ?
+            ORDER BY a.question_id, a.order_index, a.answer_id""";
+
+    // The row lock serializes publishers of the same quiz
+    private static final String SELECT_LIVE_QUIZ_SQL = """
+            SELECT id AS quiz_id, 0 AS version, title, time_limit, shuffle_questions, shuffle_answers,
+                   negative_points, scoring_policy, late_submission_policy, pool_size, pool_stratify_by
+            FROM quiz WHERE id = ? FOR UPDATE""";
+    private static final String SELECT_LIVE_QUESTIONS_SQL = """
+            SELECT id, 0 AS revision, text, type, points, order_index, scoring_policy, difficulty
+            FROM question WHERE quiz_id = ? ORDER BY id""";
+    private static final String SELECT_LIVE_ANSWERS_SQL = """
+            SELECT a.question_id, a.id, a.text, a.is_correct, a.order_index
+            FROM answer a JOIN question q ON q.id = a.question_id
+            WHERE q.quiz_id = ?
+            ORDER BY a.question_id, a.order_index, a.id""";
+
+    private static final String INSERT_VERSION_SQL = """
+            INSERT INTO quiz_version (quiz_id, version, title, time_limit, shuffle_questions, shuffle_answers,
+                                      negative_points, scoring_policy, late_submission_policy, pool_size,
+                                      pool_stratify_by, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_VERSION_QUESTION_SQL =
+            "INSERT INTO quiz_version_question (quiz_id, version, question_id, revision) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_QUESTION_REVISION_SQL = """
+            INSERT INTO question_revision (question_id, revision, quiz_id, text, type, points, order_index,
+                                           scoring_policy, difficulty)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_ANSWER_REVISION_SQL = """
+            INSERT INTO answer_revision (question_id, revision, answer_id, text, is_correct, order_index)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public QuizVersionStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return the newest published version of the quiz, 0 when none
+     */
+    public int latestVersion(long quizId) {
+        Integer latest = jdbcTemplate.queryForObject(LATEST_SQL, Integer.class, quizId);
+        return latest != null ? latest : 0;
+    }
+
+    public Optional<QuizVersion> load(long quizId, int version) {
+        return read(SELECT_VERSION_SQL, SELECT_VERSION_QUESTIONS_SQL, SELECT_VERSION_ANSWERS_SQL, quizId, version);
+    }
+
+    /**
+     * Reads the quiz as it is now and locks its row until the end of the transaction,
+     * so must be called in one.
+     *
+     * @return the live state as version 0 with revision 0 questions, empty when the quiz does not exist
+     */
+    public Optional<QuizVersion> readLiveLocked(long quizId) {
+        return read(SELECT_LIVE_QUIZ_SQL, SELECT_LIVE_QUESTIONS_SQL, SELECT_LIVE_ANSWERS_SQL, quizId);
+    }
+
+    /**
+     * @param newRevisions the questions of the version that no earlier version contains
+     */
+    public void insert(QuizVersion version, Collection<QuestionSnapshot> newRevisions) {
+        for (QuestionSnapshot question : newRevisions) {
+            jdbcTemplate.update(INSERT_QUESTION_REVISION_SQL, question.id(), question.revision(), version.quizId(),
+                    question.text(), question.type().name(), question.points(), question.orderIndex(),
+                    name(question.scoringPolicy()), name(question.difficulty()));
+            jdbcTemplate.batchUpdate(INSERT_ANSWER_REVISION_SQL, question.answers().stream()
+                    .map(answer -> new Object[]{question.id(), question.revision(), answer.id(), answer.text(),
+                            answer.correct(), answer.orderIndex()})
+                    .toList());
+        }
+        jdbcTemplate.update(INSERT_VERSION_SQL, version.quizId(), version.version(), version.title(),
+                version.timeLimit(), version.shuffleQuestions(), version.shuffleAnswers(), version.negativePoints(),
+                name(version.scoringPolicy()), name(version.lateSubmissionPolicy()), version.poolSize(),
+                name(version.poolStratifyBy()), Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.batchUpdate(INSERT_VERSION_QUESTION_SQL, version.questions().stream()
+                .map(question -> new Object[]{version.quizId(), version.version(), question.id(), question.revision()})
+                .toList());
+    }
+
+    private Optional<QuizVersion> read(String quizSql, String questionsSql, String answersSql, Object... args) {
+        List<QuizVersion> quizzes = jdbcTemplate.query(quizSql, (rs, rowNum) -> mapQuiz(rs, List.of()), args);
+        if (quizzes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Long, List<AnswerSnapshot>> answers = new HashMap<>();
+        jdbcTemplate.query(answersSql, rs -> {
+            answers.computeIfAbsent(rs.getLong("question_id"), id -> new ArrayList<>()).add(new AnswerSnapshot(
+                    rs.getLong("id"), rs.getString("text"), rs.getBoolean("is_correct"),
+                    rs.getObject("order_index", Integer.class)));
+        }, args);
+        List<QuestionSnapshot> questions = jdbcTemplate.query(questionsSql, (rs, rowNum) -> new QuestionSnapshot(
+                rs.getLong("id"), rs.getInt("revision"), rs.getString("text"),
+                QuestionType.valueOf(rs.getString("type")), rs.getInt("points"),
+                rs.getObject("order_index", Integer.class),
+                enumOrNull(ScoringPolicyType.class, rs.getString("scoring_policy")),
+                enumOrNull(QuestionDifficulty.class, rs.getString("difficulty")),
+                answers.getOrDefault(rs.getLong("id"), List.of())), args);
+
+        return Optional.of(withQuestions(quizzes.get(0), questions));
+    }
+
+    private static QuizVersion mapQuiz(ResultSet rs, List<QuestionSnapshot> questions) throws SQLException {
+        return new QuizVersion(rs.getLong("quiz_id"), rs.getInt("version"), rs.getString("title"),
+                rs.getObject("time_limit", Integer.class),
+                rs.getObject("shuffle_questions", Boolean.class),
+                rs.getObject("shuffle_answers", Boolean.class),
+                rs.getObject("negative_points", Boolean.class),
+                enumOrNull(ScoringPolicyType.class, rs.getString("scoring_policy")),
+                enumOrNull(LateSubmissionPolicy.class, rs.getString("late_submission_policy")),
+                rs.getObject("pool_size", Integer.class),
+                enumOrNull(PoolStratification.class, rs.getString("pool_stratify_by")),
+                questions);
+    }
+
+    private static QuizVersion withQuestions(QuizVersion quiz, List<QuestionSnapshot> questions) {
+        return new QuizVersion(quiz.quizId(), quiz.version(), quiz.title(), quiz.timeLimit(),
+                quiz.shuffleQuestions(), quiz.shuffleAnswers(), quiz.negativePoints(),
+                quiz.scoringPolicy(), quiz.lateSubmissionPolicy(), quiz.poolSize(), quiz.poolStratifyBy(), questions);
+    }
+
+    private static <E extends Enum<E>> E enumOrNull(Class<E> type, String name) {
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
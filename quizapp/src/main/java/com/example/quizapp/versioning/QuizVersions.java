@@ -0,0 +1,151 @@
+package com.example.quizapp.versioning;
+
+import com.example.quizapp.cache.CacheInvalidationListener;
+import com.example.quizapp.cache.InvalidationEvent;
+import com.example.quizapp.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Published versions of quizzes. A new attempt is pinned to {@link #current}, and the attempt
+ * is played and scored against that version whatever is edited meanwhile; edits write the
+ * live tables only and never wait for players.
+ *
+ * Versions are immutable, so lookups by version are lock-free and never invalidated.
+ * Only the pointer to a quiz's current version is: an edit drops it, and the next
+ * {@link #current} call publishes the live state as a new version, reusing the previous
+ * version's snapshot of every question that did not change. Publishing locks the quiz row,
+ * so nodes publishing the same edit at once agree on one version.
+ */
+@Component
+public class QuizVersions implements CacheInvalidationListener {
+
+    private final QuizVersionStore store;
+    private final TransactionTemplate transactionTemplate;
+    private final int cacheSize;
+    private final Map<Long, QuizVersion> current = new ConcurrentHashMap<>();
+    private final Map<VersionKey, QuizVersion> versions = new ConcurrentHashMap<>();
+    // Question id -> quiz id for current versions, so answer events find their quiz
+    private final Map<Long, Long> quizOfQuestion = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public QuizVersions(QuizVersionStore store,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${app.versions.cache-size:1000}") int cacheSize) {
+        this.store = store;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * @return the version new attempts of the quiz start on, published first if the quiz changed
+     */
+    public QuizVersion current(long quizId) {
+        QuizVersion version = current.get(quizId);
+        if (version != null) {
+            return version;
+        }
+
+        long before = generation.get();
+        version = cache(transactionTemplate.execute(status -> publish(quizId)));
+        synchronized (this) {
+            // Not cached when an edit arrived meanwhile: the version may predate it
+            if (generation.get() == before) {
+                version.questions().forEach(question -> quizOfQuestion.put(question.id(), quizId));
+                current.put(quizId, version);
+            }
+        }
+        return version;
+    }
+
+    public QuizVersion get(long quizId, int version) {
+        QuizVersion cached = versions.get(new VersionKey(quizId, version));
+        if (cached != null) {
+            return cached;
+        }
+        QuizVersion loaded = store.load(quizId, version)
+                .map(this::intern)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz version", "id", quizId + "/" + version));
+        return cache(loaded);
+    }
+
+    public int size() {
+        return versions.size();
+    }
+
+    @Override
+    public void onInvalidation(InvalidationEvent event) {
+        switch (event.entity()) {
+            case QUIZ -> drop(event.id());
+            case QUESTION -> drop(event.parentId() != null ? event.parentId() : quizOfQuestion.get(event.id()));
+            case ANSWER -> drop(event.parentId() != null ? quizOfQuestion.get(event.parentId()) : null);
+            case CATEGORY -> {
+                // Categories are not part of a version
+            }
+        }
+    }
+
+    private QuizVersion publish(long quizId) {
+        QuizVersion live = store.readLiveLocked(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz", quizId));
+        int latest = store.latestVersion(quizId);
+        QuizVersion previous = latest > 0 ? get(quizId, latest) : null;
+
+        QuizVersion next = QuizVersion.next(previous, live);
+        if (next != previous) {
+            Set<QuestionSnapshot> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (previous != null) {
+                shared.addAll(previous.questions());
+            }
+            store.insert(next, next.questions().stream().filter(question -> !shared.contains(question)).toList());
+        }
+        return next;
+    }
+
+    // Loaded versions share the snapshots of revisions already in memory
+    private QuizVersion intern(QuizVersion loaded) {
+        Map<QuestionSnapshot, QuestionSnapshot> known = new HashMap<>();
+        versions.values().stream()
+                .filter(version -> version.quizId() == loaded.quizId())
+                .flatMap(version -> version.questions().stream())
+                .forEach(question -> known.putIfAbsent(question, question));
+
+        return new QuizVersion(loaded.quizId(), loaded.version(), loaded.title(), loaded.timeLimit(),
+                loaded.shuffleQuestions(), loaded.shuffleAnswers(), loaded.negativePoints(),
+                loaded.scoringPolicy(), loaded.lateSubmissionPolicy(), loaded.poolSize(), loaded.poolStratifyBy(),
+                loaded.questions().stream()
+                        .map(question -> known.getOrDefault(question, question))
+                        .toList());
+    }
+
+    // Returns the instance cached for the version, which may be one cached meanwhile by another thread
+    private QuizVersion cache(QuizVersion version) {
+        QuizVersion cached = versions.putIfAbsent(version.key(), version);
+        if (versions.size() > cacheSize) {
+            synchronized (this) {
+                // Versions of running attempts are loaded again if needed
+                versions.values().removeIf(old -> current.get(old.quizId()) != old);
+            }
+        }
+        return cached != null ? cached : version;
+    }
+
+    // Every question of a current version is in quizOfQuestion, so an unknown owner means nothing is cached.
+    // The generation still moves on: the event may belong to a version being published right now.
+    private synchronized void drop(Long quizId) {
+        generation.incrementAndGet();
+        if (quizId != null && current.remove(quizId) != null) {
+            quizOfQuestion.values().removeIf(quizId::equals);
+        }
+    }
+}
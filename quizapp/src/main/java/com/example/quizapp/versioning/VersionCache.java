@@ -0,0 +1,70 @@
+package com.example.quizapp.versioning;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Values derived from published quiz versions, such as compiled scoring plans. Versions
+ * never change, so values are never invalidated; only the {@code versionsKept} newest
+ * versions of each quiz are kept. Caching a version evicts the ones that fall out of that
+ * window. A value for a version already outside it is built and returned but not cached.
+ * Otherwise a late submission on an old version would keep its value until the quiz was
+ * edited again.
+ *
+ * Lookups are lock-free; values are built outside any lock, and when two threads build
+ * the same version the first one cached wins.
+ */
+public class VersionCache<V> {
+
+    private final int versionsKept;
+    private final Map<VersionKey, V> values = new ConcurrentHashMap<>();
+
+    public VersionCache(int versionsKept) {
+        this.versionsKept = versionsKept;
+    }
+
+    public V get(QuizVersion version, Function<QuizVersion, V> build) {
+        V value = values.get(version.key());
+        if (value != null) {
+            return value;
+        }
+
+        value = build.apply(version);
+        if (isOutsideWindow(version)) {
+            return value;
+        }
+        V cached = values.putIfAbsent(version.key(), value);
+        if (cached != null) {
+            return cached;
+        }
+        values.keySet().removeIf(key -> key.quizId() == version.quizId()
+                && key.version() <= version.version() - versionsKept);
+        return value;
+    }
+
+    /**
+     * @return the value cached for the newest version of the quiz
+     */
+    public Optional<V> newest(long quizId) {
+        return values.entrySet().stream()
+                .filter(entry -> entry.getKey().quizId() == quizId)
+                .max(Comparator.comparingInt(entry -> entry.getKey().version()))
+                .map(Map.Entry::getValue);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    public void clear() {
+        values.clear();
+    }
+
+    private boolean isOutsideWindow(QuizVersion version) {
+        return values.keySet().stream().anyMatch(key -> key.quizId() == version.quizId()
+                && key.version() >= version.version() + versionsKept);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.quizapp.versioning;
+
+/**
+ * Identifies a published quiz version, e.g. as a cache key.
+ */
+public record VersionKey(long quizId, int version) {
+}
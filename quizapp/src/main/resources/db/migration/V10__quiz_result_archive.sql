@@ -0,0 +1,20 @@
+-- Results older than app.results.archive.after, moved out of quiz_result by ResultArchiver
+-- in chunks. Ids are kept; no foreign key, QuizJdbcDao deletes a quiz's archived results
+-- together with the quiz.
+CREATE TABLE IF NOT EXISTS quiz_result_archive (
+    id           BIGINT       PRIMARY KEY,
+    nickname     VARCHAR(255) NOT NULL,
+    score        INTEGER      NOT NULL,
+    max_score    INTEGER,
+    completed_at TIMESTAMP(6) NOT NULL,
+    quiz_id      BIGINT       NOT NULL,
+    archived_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_quiz_result_archive_quiz ON quiz_result_archive (quiz_id, completed_at);
+
+-- Archival picks the oldest results
+CREATE INDEX IF NOT EXISTS idx_quiz_result_completed ON quiz_result (completed_at);
+
+-- Set-based quiz deletion removes attempts by quiz
+CREATE INDEX IF NOT EXISTS idx_quiz_attempt_quiz ON quiz_attempt (quiz_id);
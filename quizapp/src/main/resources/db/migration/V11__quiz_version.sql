@@ -0,0 +1,54 @@
+-- Immutable published versions of a quiz, written by QuizVersions after an edit. A version
+-- lists its questions by (question_id, revision); a question that did not change keeps its
+-- revision, so consecutive versions share its question_revision and answer_revision rows.
+CREATE TABLE IF NOT EXISTS quiz_version (
+    quiz_id                BIGINT       NOT NULL,
+    version                INTEGER      NOT NULL,
+    title                  VARCHAR(255) NOT NULL,
+    time_limit             INTEGER,
+    shuffle_questions      BOOLEAN,
+    shuffle_answers        BOOLEAN,
+    negative_points        BOOLEAN,
+    scoring_policy         VARCHAR(32),
+    late_submission_policy VARCHAR(16),
+    created_at             TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (quiz_id, version)
+);
+
+CREATE TABLE IF NOT EXISTS question_revision (
+    question_id    BIGINT       NOT NULL,
+    revision       INTEGER      NOT NULL,
+    quiz_id        BIGINT       NOT NULL,
+    text           TEXT         NOT NULL,
+    type           VARCHAR(255) NOT NULL,
+    points         INTEGER      NOT NULL,
+    order_index    INTEGER,
+    scoring_policy VARCHAR(32),
+    PRIMARY KEY (question_id, revision)
+);
+
+CREATE INDEX IF NOT EXISTS idx_question_revision_quiz ON question_revision (quiz_id);
+
+CREATE TABLE IF NOT EXISTS answer_revision (
+    question_id BIGINT  NOT NULL,
+    revision    INTEGER NOT NULL,
+    answer_id   BIGINT  NOT NULL,
+    text        TEXT    NOT NULL,
+    is_correct  BOOLEAN NOT NULL,
+    order_index INTEGER,
+    PRIMARY KEY (question_id, revision, answer_id)
+);
+
+CREATE TABLE IF NOT EXISTS quiz_version_question (
+    quiz_id     BIGINT  NOT NULL,
+    version     INTEGER NOT NULL,
+    question_id BIGINT  NOT NULL,
+    revision    INTEGER NOT NULL,
+    PRIMARY KEY (quiz_id, version, question_id)
+);
+
+-- The version an attempt was started on and a result was scored on; NULL before versioning
+ALTER TABLE quiz_attempt ADD COLUMN IF NOT EXISTS quiz_version INTEGER;
+ALTER TABLE result_outbox ADD COLUMN IF NOT EXISTS quiz_version INTEGER;
+ALTER TABLE quiz_result ADD COLUMN IF NOT EXISTS quiz_version INTEGER;
+ALTER TABLE quiz_result_archive ADD COLUMN IF NOT EXISTS quiz_version INTEGER;
@@ -0,0 +1,12 @@
+-- Question pools: an attempt gets pool_size questions drawn from the quiz's bank,
+-- spread over the groups named by pool_stratify_by. NULL pool_size means every question.
+ALTER TABLE quiz ADD COLUMN IF NOT EXISTS pool_size INTEGER;
+ALTER TABLE quiz ADD COLUMN IF NOT EXISTS pool_stratify_by VARCHAR(16);
+ALTER TABLE question ADD COLUMN IF NOT EXISTS difficulty VARCHAR(16);
+
+ALTER TABLE quiz_version ADD COLUMN IF NOT EXISTS pool_size INTEGER;
+ALTER TABLE quiz_version ADD COLUMN IF NOT EXISTS pool_stratify_by VARCHAR(16);
+ALTER TABLE question_revision ADD COLUMN IF NOT EXISTS difficulty VARCHAR(16);
+
+-- The questions drawn for an attempt, comma-separated ids; NULL when it has every question
+ALTER TABLE quiz_attempt ADD COLUMN IF NOT EXISTS question_ids TEXT;
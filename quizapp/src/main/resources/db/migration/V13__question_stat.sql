@@ -0,0 +1,12 @@
+-- Measured question difficulty for adaptive play: a Rasch (1PL) estimate on the logit
+-- scale, updated from answer outcomes. Nodes add their changes to the stored values,
+-- so difficulty and answered are deltas applied in place, never overwritten.
+CREATE TABLE IF NOT EXISTS question_stat (
+    question_id BIGINT           PRIMARY KEY,
+    quiz_id     BIGINT           NOT NULL,
+    answered    BIGINT           NOT NULL,
+    difficulty  DOUBLE PRECISION NOT NULL,
+    CONSTRAINT fk_question_stat_question FOREIGN KEY (question_id) REFERENCES question (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_question_stat_quiz ON question_stat (quiz_id);
@@ -0,0 +1,3 @@
+-- Training attempts pick each question as they go, so there is no question list to resume;
+-- findResumable skips them
+ALTER TABLE quiz_attempt ADD COLUMN IF NOT EXISTS adaptive BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,74 @@
+-- Baseline schema, matching what the JPA entities previously generated via ddl-auto.
+-- Kept to portable SQL so the same script runs on PostgreSQL and on H2 in tests.
+
+CREATE TABLE quiz (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title             VARCHAR(255) NOT NULL,
+    description       TEXT,
+    time_limit        INTEGER,
+    shuffle_questions BOOLEAN,
+    shuffle_answers   BOOLEAN,
+    negative_points   BOOLEAN,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6)
+);
+
+CREATE TABLE category (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+CREATE TABLE quiz_categories (
+    quiz_id     BIGINT NOT NULL,
+    category_id BIGINT NOT NULL,
+    PRIMARY KEY (quiz_id, category_id),
+    CONSTRAINT fk_quiz_categories_quiz FOREIGN KEY (quiz_id) REFERENCES quiz (id),
+    CONSTRAINT fk_quiz_categories_category FOREIGN KEY (category_id) REFERENCES category (id)
+);
+
+CREATE TABLE question (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    text        TEXT         NOT NULL,
+    type        VARCHAR(255) NOT NULL,
+    points      INTEGER      NOT NULL,
+    order_index INTEGER,
+    quiz_id     BIGINT       NOT NULL,
+    CONSTRAINT fk_question_quiz FOREIGN KEY (quiz_id) REFERENCES quiz (id)
+);
+
+CREATE TABLE answer (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    text        TEXT    NOT NULL,
+    is_correct  BOOLEAN NOT NULL,
+    order_index INTEGER,
+    question_id BIGINT  NOT NULL,
+    CONSTRAINT fk_answer_question FOREIGN KEY (question_id) REFERENCES question (id)
+);
+
+CREATE TABLE quiz_result (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nickname     VARCHAR(255) NOT NULL,
+    score        INTEGER      NOT NULL,
+    max_score    INTEGER,
+    completed_at TIMESTAMP(6) NOT NULL,
+    quiz_id      BIGINT       NOT NULL,
+    CONSTRAINT fk_quiz_result_quiz FOREIGN KEY (quiz_id) REFERENCES quiz (id)
+);
+
+CREATE TABLE app_user (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    enabled  BOOLEAN      NOT NULL,
+    CONSTRAINT uk_app_user_username UNIQUE (username)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT       NOT NULL,
+    role    VARCHAR(255) NOT NULL,
+    PRIMARY KEY (user_id, role),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES app_user (id)
+);
@@ -0,0 +1,10 @@
+-- Cross-node cache invalidation log (see PollingTableTransport).
+-- IF NOT EXISTS because earlier builds created it on startup.
+CREATE TABLE IF NOT EXISTS cache_invalidation (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id   BIGINT,
+    parent_id   BIGINT,
+    origin_node VARCHAR(64),
+    created_at  TIMESTAMP   NOT NULL
+);
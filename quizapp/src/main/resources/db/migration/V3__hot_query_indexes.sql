@@ -0,0 +1,27 @@
+-- Indexes for the derived queries in the repository package.
+-- RepositoryIndexUsageTest runs EXPLAIN on every repository query against these.
+-- IF NOT EXISTS because databases baselined from ddl-auto: update start here.
+
+-- QuestionRepository.findByQuizId / findByQuizIdOrderByOrderIndexAsc / countByQuizId
+CREATE INDEX IF NOT EXISTS idx_question_quiz_order ON question (quiz_id, order_index);
+
+-- AnswerRepository.findByQuestionId / findByQuestionIdOrderByOrderIndexAsc
+CREATE INDEX IF NOT EXISTS idx_answer_question_order ON answer (question_id, order_index);
+
+-- AnswerRepository.findByQuestionIdAndIsCorrectTrue / countCorrectByQuestionId
+CREATE INDEX IF NOT EXISTS idx_answer_question_correct ON answer (question_id, is_correct);
+
+-- QuizResultRepository ranking queries (top N by score per quiz)
+CREATE INDEX IF NOT EXISTS idx_quiz_result_quiz_score ON quiz_result (quiz_id, score DESC);
+
+-- Exact nickname lookups; substring search cannot use a B-tree index
+CREATE INDEX IF NOT EXISTS idx_quiz_result_nickname ON quiz_result (nickname);
+
+-- QuizRepository.findByCategory walks the join table from the category side
+CREATE INDEX IF NOT EXISTS idx_quiz_categories_category ON quiz_categories (category_id, quiz_id);
+
+-- UserRepository.existsByEmail
+CREATE INDEX IF NOT EXISTS idx_app_user_email ON app_user (email);
+
+-- PollingTableTransport pruning
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_created ON cache_invalidation (created_at);
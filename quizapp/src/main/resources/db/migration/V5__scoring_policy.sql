@@ -0,0 +1,6 @@
+-- Scoring policy per quiz, optionally overridden per question (ScoringPolicyType names).
+-- NULL on quiz means the app.scoring.default-policy setting, NULL on question means "as the quiz".
+
+ALTER TABLE quiz ADD COLUMN IF NOT EXISTS scoring_policy VARCHAR(32);
+
+ALTER TABLE question ADD COLUMN IF NOT EXISTS scoring_policy VARCHAR(32);
@@ -0,0 +1,17 @@
+-- What happens to submissions after the time limit (LateSubmissionPolicy names);
+-- NULL means the app.attempts.late-policy setting.
+ALTER TABLE quiz ADD COLUMN IF NOT EXISTS late_submission_policy VARCHAR(16);
+
+-- Attempts that were started and never submitted, written in batches by AttemptRegistry.
+-- No foreign key: analytics rows outlive deleted quizzes.
+CREATE TABLE IF NOT EXISTS abandoned_attempt (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    attempt_id  VARCHAR(36)  NOT NULL,
+    quiz_id     BIGINT       NOT NULL,
+    nickname    VARCHAR(255),
+    started_at  TIMESTAMP    NOT NULL,
+    deadline_at TIMESTAMP,
+    expired_at  TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_abandoned_attempt_quiz ON abandoned_attempt (quiz_id, expired_at);
@@ -0,0 +1,34 @@
+-- Persisted quiz attempts; resume_token lets the player continue on another device.
+CREATE TABLE IF NOT EXISTS quiz_attempt (
+    id           VARCHAR(36)  PRIMARY KEY,
+    quiz_id      BIGINT       NOT NULL,
+    nickname     VARCHAR(255) NOT NULL,
+    resume_token VARCHAR(32)  NOT NULL,
+    status       VARCHAR(16)  NOT NULL,
+    started_at   TIMESTAMP(6) NOT NULL,
+    submitted_at TIMESTAMP(6),
+    CONSTRAINT uk_quiz_attempt_resume_token UNIQUE (resume_token),
+    CONSTRAINT fk_quiz_attempt_quiz FOREIGN KEY (quiz_id) REFERENCES quiz (id) ON DELETE CASCADE
+);
+
+-- Append-only log of answer saves from the play page; the latest row per question wins.
+-- No foreign key so a batch of saves never fails on one attempt; rows are deleted when
+-- the attempt is submitted (compacted into attempt_answer) or abandoned.
+CREATE TABLE IF NOT EXISTS attempt_answer_event (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    attempt_id   VARCHAR(36)  NOT NULL,
+    question_id  BIGINT       NOT NULL,
+    answer_value VARCHAR(4000),
+    recorded_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_attempt_answer_event_attempt ON attempt_answer_event (attempt_id, id);
+
+-- Final answers of a submitted attempt, one row per question.
+CREATE TABLE IF NOT EXISTS attempt_answer (
+    attempt_id   VARCHAR(36) NOT NULL,
+    question_id  BIGINT      NOT NULL,
+    answer_value VARCHAR(4000),
+    PRIMARY KEY (attempt_id, question_id),
+    CONSTRAINT fk_attempt_answer_attempt FOREIGN KEY (attempt_id) REFERENCES quiz_attempt (id) ON DELETE CASCADE
+);
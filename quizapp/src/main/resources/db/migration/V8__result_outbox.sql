@@ -0,0 +1,16 @@
+-- Scored submissions waiting to be stored as quiz_result rows by ResultPipeline.
+-- claimed_by/claimed_until form a lease so several nodes can drain the table;
+-- a row is deleted in the transaction that inserts its quiz_result.
+-- No foreign key: results of quizzes deleted meanwhile are dropped when consumed.
+CREATE TABLE IF NOT EXISTS result_outbox (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    quiz_id       BIGINT       NOT NULL,
+    nickname      VARCHAR(255) NOT NULL,
+    score         INTEGER      NOT NULL,
+    max_score     INTEGER      NOT NULL,
+    completed_at  TIMESTAMP(6) NOT NULL,
+    claimed_by    VARCHAR(36),
+    claimed_until TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_result_outbox_claimed_by ON result_outbox (claimed_by);
@@ -0,0 +1,25 @@
+-- Change feed of quiz_result, served by GET /api/v1/results/changes.
+-- A row is written in the transaction that inserts or deletes the quiz_result row and
+-- carries a snapshot of it, so consumers never have to read quiz_result back.
+-- No foreign keys: DELETE rows outlive their result and quiz.
+CREATE TABLE IF NOT EXISTS quiz_result_change (
+    seq          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    change_type  VARCHAR(10)  NOT NULL,
+    result_id    BIGINT       NOT NULL,
+    quiz_id      BIGINT       NOT NULL,
+    nickname     VARCHAR(255) NOT NULL,
+    score        INTEGER      NOT NULL,
+    max_score    INTEGER,
+    completed_at TIMESTAMP(6) NOT NULL,
+    changed_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_quiz_result_change_changed_at ON quiz_result_change (changed_at);
+
+-- Highest seq removed by retention; consumers behind it have missed changes and must resync
+CREATE TABLE IF NOT EXISTS quiz_result_change_retention (
+    id             INTEGER PRIMARY KEY,
+    purged_through BIGINT NOT NULL
+);
+
+INSERT INTO quiz_result_change_retention (id, purged_through) VALUES (1, 0);
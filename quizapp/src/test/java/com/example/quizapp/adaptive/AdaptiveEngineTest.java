@@ -0,0 +1,100 @@
+package com.example.quizapp.adaptive;
+
+import com.example.quizapp.entity.QuestionDifficulty;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdaptiveEngine.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdaptiveEngineTest {
+
+    @Mock
+    private QuestionStatStore store;
+
+    @Mock
+    private QuestionStatBuffer buffer;
+
+    private AdaptiveEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AdaptiveEngine(store, buffer, 0.5);
+    }
+
+    @Test
+    @DisplayName("Should serve a harder question after a correct answer and an easier one after a miss")
+    void next_ShouldFollowAbility() {
+        // Given - easy, medium and hard questions 100..102, then 103..105 again
+        QuizVersion version = DifficultyIndexTest.version(1, 6, i -> QuestionDifficulty.values()[i % 3]);
+
+        // When
+        QuestionSnapshot first = engine.next(version, AdaptiveEngine.INITIAL_ABILITY, List.of());
+        double stronger = engine.record(version, first.id(), AdaptiveEngine.INITIAL_ABILITY, 0, 1);
+        double weaker = engine.record(version, first.id(), AdaptiveEngine.INITIAL_ABILITY, 0, 0);
+
+        // Then
+        assertThat(first.difficulty()).isEqualTo(QuestionDifficulty.MEDIUM);
+        assertThat(stronger).isPositive();
+        assertThat(weaker).isNegative();
+        assertThat(engine.next(version, 2, List.of(first.id())).difficulty()).isEqualTo(QuestionDifficulty.HARD);
+        assertThat(engine.next(version, -2, List.of(first.id())).difficulty()).isEqualTo(QuestionDifficulty.EASY);
+        verify(buffer, times(2)).record(eq(first.id()), anyDouble(), eq(0.0));
+        verify(store, times(1)).load(1L);
+    }
+
+    @Test
+    @DisplayName("Should return null once every question was served")
+    void next_ShouldStopWhenExhausted() {
+        QuizVersion version = DifficultyIndexTest.version(1, 2, i -> null);
+
+        assertThat(engine.next(version, 0, List.of(100L, 101L))).isNull();
+        assertThat(engine.length(version)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should leave the ability alone for a question the version does not contain")
+    void record_ShouldIgnoreUnknownQuestion() {
+        QuizVersion version = DifficultyIndexTest.version(1, 2, i -> null);
+
+        assertThat(engine.record(version, 999L, 0.4, 3, 1)).isEqualTo(0.4);
+        verify(buffer, never()).record(anyLong(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should carry unflushed difficulty over to a new version and keep two versions")
+    void indexFor_ShouldSeedFromNewestIndex() {
+        // Given
+        when(store.load(1L)).thenReturn(Map.of(100L, new QuestionStat(100L, 10, 0.5)));
+        QuizVersion first = DifficultyIndexTest.version(1, 2, i -> null);
+        engine.record(first, 100L, 0, 0, 0);
+        double moved = engine.indexFor(first).difficulty(0);
+
+        // When
+        DifficultyIndex second = engine.indexFor(DifficultyIndexTest.version(2, 3, i -> null));
+        engine.indexFor(DifficultyIndexTest.version(3, 3, i -> null));
+
+        // Then
+        assertThat(moved).isGreaterThan(0.5);
+        assertThat(second.difficulty(0)).isEqualTo(moved);
+        assertThat(second.answered(0)).isEqualTo(11);
+        assertThat(second.difficulty(2)).isZero();
+        assertThat(engine.size()).isEqualTo(2);
+    }
+}
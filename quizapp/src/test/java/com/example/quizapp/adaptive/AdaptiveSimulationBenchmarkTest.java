@@ -0,0 +1,137 @@
+package com.example.quizapp.adaptive;
+
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays synthetic players through AdaptiveEngine: 5,000 players of normally distributed
+ * true ability each answer 20 questions of a 2,000-question bank whose true difficulties
+ * the engine does not know (every question starts at 0), with outcomes drawn from the
+ * Rasch model. Reports next-question selection and answer recording latency, how close
+ * the ability estimate gets after 1, 5, 10 and 20 questions, and how well the measured
+ * difficulties of questions with 20+ answers correlate with the true ones, per cohort of
+ * 1,000 players.
+ * Run with: mvn test -Pbenchmark -Dtest=AdaptiveSimulationBenchmarkTest
+ */
+@Tag("benchmark")
+class AdaptiveSimulationBenchmarkTest {
+
+    private static final int QUESTIONS = 2_000;
+    private static final int PLAYERS = 5_000;
+    private static final int COHORTS = 5;
+    private static final int ATTEMPT_LENGTH = 20;
+    private static final int[] CHECKPOINTS = {1, 5, 10, 20};
+
+    @Test
+    @DisplayName("Benchmark: adaptive selection latency and convergence")
+    void simulatePlayers() {
+        Random random = new Random(42);
+        QuizVersion version = DifficultyIndexTest.version(1, QUESTIONS, i -> null);
+        double[] trueDifficulty = new double[QUESTIONS];
+        for (int position = 0; position < QUESTIONS; position++) {
+            trueDifficulty[position] = random.nextGaussian() * 1.5;
+        }
+        QuestionStatStore store = new QuestionStatStore(null) {
+            @Override
+            public Map<Long, QuestionStat> load(long quizId) {
+                return Map.of();
+            }
+        };
+        AdaptiveEngine engine = new AdaptiveEngine(store, new QuestionStatBuffer(store, Duration.ofHours(1), 500), 0.5);
+        DifficultyIndex index = engine.indexFor(version);
+
+        long[] selectNanos = new long[PLAYERS * ATTEMPT_LENGTH];
+        long[] recordNanos = new long[PLAYERS * ATTEMPT_LENGTH];
+        int timed = 0;
+        double[][] abilityRmse = new double[COHORTS][CHECKPOINTS.length];
+        double[] difficultyCorrelation = new double[COHORTS];
+        int cohortSize = PLAYERS / COHORTS;
+
+        for (int cohort = 0; cohort < COHORTS; cohort++) {
+            double[] squaredError = new double[CHECKPOINTS.length];
+            for (int player = 0; player < cohortSize; player++) {
+                double trueAbility = random.nextGaussian();
+                double ability = AdaptiveEngine.INITIAL_ABILITY;
+                List<Long> served = new ArrayList<>(ATTEMPT_LENGTH);
+                for (int answered = 0; answered < ATTEMPT_LENGTH; answered++) {
+                    long start = System.nanoTime();
+                    QuestionSnapshot question = engine.next(version, ability, served);
+                    selectNanos[timed] = System.nanoTime() - start;
+                    served.add(question.id());
+
+                    int position = index.positionOf(question.id());
+                    double outcome = random.nextDouble() < Rasch.expected(trueAbility, trueDifficulty[position]) ? 1 : 0;
+                    start = System.nanoTime();
+                    ability = engine.record(version, question.id(), ability, answered, outcome);
+                    recordNanos[timed++] = System.nanoTime() - start;
+
+                    int checkpoint = Arrays.binarySearch(CHECKPOINTS, answered + 1);
+                    if (checkpoint >= 0) {
+                        squaredError[checkpoint] += (ability - trueAbility) * (ability - trueAbility);
+                    }
+                }
+            }
+            for (int checkpoint = 0; checkpoint < CHECKPOINTS.length; checkpoint++) {
+                abilityRmse[cohort][checkpoint] = Math.sqrt(squaredError[checkpoint] / cohortSize);
+            }
+            difficultyCorrelation[cohort] = correlation(index, trueDifficulty);
+        }
+
+        Arrays.sort(selectNanos);
+        Arrays.sort(recordNanos);
+        System.out.printf("%-10s %10s %10s %10s%n", "ns", "p50", "p99", "p99.9");
+        System.out.printf("%-10s %10d %10d %10d%n", "select",
+                percentile(selectNanos, 0.5), percentile(selectNanos, 0.99), percentile(selectNanos, 0.999));
+        System.out.printf("%-10s %10d %10d %10d%n", "record",
+                percentile(recordNanos, 0.5), percentile(recordNanos, 0.99), percentile(recordNanos, 0.999));
+        System.out.printf("%-8s %8s %8s %8s %8s %14s%n", "players", "rmse@1", "rmse@5", "rmse@10", "rmse@20",
+                "difficulty r");
+        for (int cohort = 0; cohort < COHORTS; cohort++) {
+            System.out.printf("%-8d %8.3f %8.3f %8.3f %8.3f %14.3f%n", (cohort + 1) * cohortSize,
+                    abilityRmse[cohort][0], abilityRmse[cohort][1], abilityRmse[cohort][2], abilityRmse[cohort][3],
+                    difficultyCorrelation[cohort]);
+        }
+
+        double[] last = abilityRmse[COHORTS - 1];
+        assertThat(percentile(selectNanos, 0.99)).isLessThan(1_000_000);
+        assertThat(last[3]).isLessThan(last[1]).isLessThan(0.65);
+        assertThat(difficultyCorrelation[COHORTS - 1]).isGreaterThan(difficultyCorrelation[0]).isGreaterThan(0.85);
+    }
+
+    // Pearson correlation of measured and true difficulty over questions with 20+ answers
+    private static double correlation(DifficultyIndex index, double[] trueDifficulty) {
+        double sumX = 0, sumY = 0, sumXX = 0, sumYY = 0, sumXY = 0;
+        int count = 0;
+        for (int position = 0; position < index.size(); position++) {
+            if (index.answered(position) < 20) {
+                continue;
+            }
+            double x = index.difficulty(position);
+            double y = trueDifficulty[position];
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumYY += y * y;
+            sumXY += x * y;
+            count++;
+        }
+        return (count * sumXY - sumX * sumY)
+                / Math.sqrt((count * sumXX - sumX * sumX) * (count * sumYY - sumY * sumY));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, sorted.length * quantile)];
+    }
+}
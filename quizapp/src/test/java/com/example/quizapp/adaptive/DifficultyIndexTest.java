@@ -0,0 +1,102 @@
+package com.example.quizapp.adaptive;
+
+import com.example.quizapp.entity.QuestionDifficulty;
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for DifficultyIndex.
+ */
+class DifficultyIndexTest {
+
+    @Test
+    @DisplayName("Should start from measured difficulty, else from the authored one")
+    void of_ShouldSeedDifficulty() {
+        QuizVersion version = version(1, 3, i -> i == 0 ? QuestionDifficulty.HARD : QuestionDifficulty.EASY);
+
+        DifficultyIndex index = DifficultyIndex.of(version, Map.of(102L, new QuestionStat(102L, 40, 2.5)));
+
+        assertThat(index.difficulty(0)).isEqualTo(1.0);
+        assertThat(index.difficulty(1)).isEqualTo(-1.0);
+        assertThat(index.difficulty(2)).isEqualTo(2.5);
+        assertThat(index.answered(2)).isEqualTo(40);
+        assertThat(index.positionOf(101L)).isEqualTo(1);
+        assertThat(index.positionOf(999L)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should find the question nearest the target, skipping excluded ones")
+    void nearest_ShouldSkipExcluded() {
+        // Difficulties -2, -1, 0, 1, 2 at positions 4, 3, 2, 1, 0
+        DifficultyIndex index = DifficultyIndex.of(version(1, 5, i -> null), Map.of(
+                100L, new QuestionStat(100L, 1, 2), 101L, new QuestionStat(101L, 1, 1),
+                102L, new QuestionStat(102L, 1, 0), 103L, new QuestionStat(103L, 1, -1),
+                104L, new QuestionStat(104L, 1, -2)));
+        BitSet excluded = new BitSet();
+
+        assertThat(index.nearest(0.2, excluded)).isEqualTo(2);
+        assertThat(index.nearest(0.7, excluded)).isEqualTo(1);
+        assertThat(index.nearest(-9, excluded)).isEqualTo(4);
+        assertThat(index.nearest(9, excluded)).isEqualTo(0);
+
+        excluded.set(2);
+        excluded.set(1);
+        assertThat(index.nearest(0.7, excluded)).isEqualTo(0);
+        excluded.set(0, 5);
+        assertThat(index.nearest(0.7, excluded)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should make a question harder when it is missed and keep the order")
+    void observe_ShouldMoveQuestion() {
+        DifficultyIndex index = DifficultyIndex.of(version(1, 3, i -> null), Map.of(
+                100L, new QuestionStat(100L, 0, -0.3), 101L, new QuestionStat(101L, 0, 0),
+                102L, new QuestionStat(102L, 0, 1)));
+
+        // The easiest question, missed by a strong player, moves past the next one
+        DifficultyIndex.Observation observation = index.observe(0, 2, 0);
+
+        assertThat(observation.expected()).isCloseTo(1 / (1 + Math.exp(-2.3)), within(1e-9));
+        assertThat(observation.difficultyChange()).isCloseTo(observation.expected(), within(1e-9));
+        assertThat(index.difficulty(0)).isGreaterThan(index.difficulty(1)).isLessThan(index.difficulty(2));
+        assertThat(index.answered(0)).isEqualTo(1);
+        assertThat(index.nearest(-1, new BitSet())).isEqualTo(1);
+        assertThat(index.nearest(index.difficulty(0), new BitSet())).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("Should move a question less the more answers it has")
+    void observe_ShouldSettleWithAnswers() {
+        DifficultyIndex index = DifficultyIndex.of(version(1, 2, i -> null),
+                Map.of(101L, new QuestionStat(101L, 1_000, 0)));
+
+        double fresh = index.observe(0, 0, 1).difficultyChange();
+        double settled = index.observe(1, 0, 1).difficultyChange();
+
+        assertThat(fresh).isCloseTo(-0.5, within(1e-9));
+        assertThat(settled).isNegative().isGreaterThan(fresh / 40);
+    }
+
+    // Questions with ids 100.. at positions 0..size-1
+    static QuizVersion version(int version, int size, IntFunction<QuestionDifficulty> difficulty) {
+        List<QuestionSnapshot> questions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            questions.add(new QuestionSnapshot(100L + i, version, "Question " + i, QuestionType.SINGLE_CHOICE, 1,
+                    null, null, difficulty.apply(i), List.of()));
+        }
+        return new QuizVersion(1L, version, "Adaptive", null, false, false, false, null, null, null, null,
+                questions);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.quizapp.adaptive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QuestionStatBuffer; the flush thread is not started.
+ */
+@ExtendWith(MockitoExtension.class)
+class QuestionStatBufferTest {
+
+    @Mock
+    private QuestionStatStore store;
+
+    private QuestionStatBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new QuestionStatBuffer(store, Duration.ofSeconds(5), 100);
+    }
+
+    @Test
+    @DisplayName("Should add up the changes per question")
+    @SuppressWarnings("unchecked")
+    void flush_ShouldSumChanges() {
+        // Given
+        buffer.record(1L, 0.5, -1);
+        buffer.record(1L, -0.25, -1);
+        buffer.record(2L, 0.125, 1);
+
+        // When
+        int written = buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<QuestionStatChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(store).add(changes.capture(), eq(100));
+        assertThat(written).isEqualTo(2);
+        assertThat(changes.getValue()).containsExactlyInAnyOrder(
+                new QuestionStatChange(1L, 2, 0.25, -1),
+                new QuestionStatChange(2L, 1, 0.125, 1));
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when nothing is pending")
+    void flush_ShouldSkipEmptyBuffer() {
+        assertThat(buffer.flush()).isZero();
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("Should keep changes pending when the write fails, merged with newer ones")
+    void flush_ShouldRequeueOnFailure() {
+        // Given
+        buffer.record(1L, 0.5, 0);
+        doThrow(new DataAccessResourceFailureException("down")).when(store).add(anyList(), anyInt());
+
+        // When / Then
+        assertThatThrownBy(buffer::flush).isInstanceOf(DataAccessResourceFailureException.class);
+        buffer.record(1L, 0.25, 0);
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+
+        doNothing().when(store).add(anyList(), anyInt());
+        buffer.flush();
+        verify(store).add(eq(List.of(new QuestionStatChange(1L, 2, 0.75, 0))), anyInt());
+    }
+}
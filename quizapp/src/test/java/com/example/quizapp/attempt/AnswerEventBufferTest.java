@@ -0,0 +1,125 @@
+package com.example.quizapp.attempt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AnswerEventBuffer; the flush thread is not started.
+ */
+@ExtendWith(MockitoExtension.class)
+class AnswerEventBufferTest {
+
+    @Mock
+    private AnswerEventStore store;
+
+    private AnswerEventBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new AnswerEventBuffer(store, Duration.ofMillis(500), 100);
+    }
+
+    @Test
+    @DisplayName("Should write only the latest save per attempt and question")
+    @SuppressWarnings("unchecked")
+    void flush_ShouldCoalesceSaves() {
+        // Given
+        buffer.record("a1", 1L, "10");
+        buffer.record("a1", 1L, "11");
+        buffer.record("a1", 2L, "Par");
+        buffer.record("a1", 2L, "Paris");
+        buffer.record("a2", 1L, "10");
+
+        // When
+        int written = buffer.flush();
+
+        // Then
+        ArgumentCaptor<List<AnswerEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(store).append(events.capture(), eq(100));
+        assertThat(written).isEqualTo(3);
+        assertThat(events.getValue()).containsExactlyInAnyOrder(
+                new AnswerEvent("a1", 1L, "11"),
+                new AnswerEvent("a1", 2L, "Paris"),
+                new AnswerEvent("a2", 1L, "10"));
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when nothing is pending")
+    void flush_ShouldSkipEmptyBuffer() {
+        assertThat(buffer.flush()).isZero();
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("Should keep saves pending when the write fails")
+    void flush_ShouldRequeueOnFailure() {
+        // Given
+        buffer.record("a1", 1L, "10");
+        doThrow(new DataAccessResourceFailureException("down")).when(store).append(anyList(), anyInt());
+
+        // When / Then
+        assertThatThrownBy(buffer::flush).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+
+        doNothing().when(store).append(anyList(), anyInt());
+        assertThat(buffer.flush()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write only the given attempt's saves")
+    void flushAttempt_ShouldLeaveOtherAttemptsPending() {
+        // Given
+        buffer.record("a1", 1L, "10");
+        buffer.record("a1", 2L, "20");
+        buffer.record("a2", 1L, "11");
+
+        // When
+        int written = buffer.flush("a1");
+
+        // Then
+        assertThat(written).isEqualTo(2);
+        verify(store).append(argThat(events -> events.size() == 2
+                && events.stream().allMatch(event -> event.attemptId().equals("a1"))), eq(100));
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+        assertThat(buffer.flush("a3")).isZero();
+        verifyNoMoreInteractions(store);
+    }
+
+    @Test
+    @DisplayName("Should keep an attempt's saves pending when its write fails")
+    void flushAttempt_ShouldRequeueOnFailure() {
+        // Given
+        buffer.record("a1", 1L, "10");
+        doThrow(new DataAccessResourceFailureException("down")).when(store).append(anyList(), anyInt());
+
+        // When / Then
+        assertThatThrownBy(() -> buffer.flush("a1")).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(buffer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should store a cleared answer as an empty value")
+    void record_ShouldKeepClearedAnswers() {
+        buffer.record("a1", 1L, null);
+
+        buffer.flush();
+
+        verify(store).append(eq(List.of(new AnswerEvent("a1", 1L, ""))), anyInt());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.quizapp.attempt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AttemptRegistry with a manual clock; the ticker thread is not started.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttemptRegistryTest {
+
+    private static final long ABANDON_AFTER = 60_000;
+    private static final long UNTIMED_EXPIRY = 3_600_000;
+
+    @Mock
+    private AbandonedAttemptRecorder recorder;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AttemptRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new AttemptRegistry(recorder, meterRegistry, clock::get, 1_000, ABANDON_AFTER, UNTIMED_EXPIRY, 2);
+    }
+
+    @Test
+    @DisplayName("Should compute the deadline and expiry of timed and untimed attempts")
+    void open_ShouldSetDeadlines() {
+        OpenAttempt timed = registry.open(1L, 1, "Alice", 300);
+        OpenAttempt untimed = registry.open(2L, 1, "Bob", null);
+
+        assertThat(timed.deadlineMillis()).isEqualTo(1_000_000 + 300_000);
+        assertThat(timed.expiresAt()).isEqualTo(1_000_000 + 300_000 + ABANDON_AFTER);
+        assertThat(untimed.isTimed()).isFalse();
+        assertThat(untimed.expiresAt()).isEqualTo(1_000_000 + UNTIMED_EXPIRY);
+        assertThat(registry.openCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("quizapp.attempts.open").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should return the attempt once on submission and not expire it afterwards")
+    void close_ShouldEndAttempt() {
+        OpenAttempt attempt = registry.open(1L, 1, "Alice", 10);
+
+        assertThat(registry.close(attempt.id())).contains(attempt);
+        assertThat(registry.close(attempt.id())).isEmpty();
+        assertThat(registry.close(null)).isEmpty();
+
+        clock.addAndGet(10_000 + ABANDON_AFTER + 1_000);
+        assertThat(registry.tick()).isZero();
+        verifyNoInteractions(recorder);
+    }
+
+    @Test
+    @DisplayName("Should record abandoned attempts in batches")
+    @SuppressWarnings("unchecked")
+    void tick_ShouldRecordExpiredAttemptsInBatches() {
+        for (int i = 0; i < 5; i++) {
+            registry.open(1L, 1, "Player" + i, 10);
+        }
+        OpenAttempt later = registry.open(1L, 1, "Later", 600);
+
+        clock.addAndGet(9_000);
+        assertThat(registry.tick()).isZero();
+
+        clock.addAndGet(1_000 + ABANDON_AFTER);
+        assertThat(registry.tick()).isEqualTo(5);
+
+        ArgumentCaptor<List<OpenAttempt>> batches = ArgumentCaptor.forClass(List.class);
+        verify(recorder, times(3)).record(batches.capture(), anyLong());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(registry.openCount()).isEqualTo(1);
+        assertThat(registry.close(later.id())).contains(later);
+        assertThat(meterRegistry.get("quizapp.attempts.expired").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should not hand an expired attempt to a late submission")
+    void close_ShouldMissExpiredAttempt() {
+        OpenAttempt attempt = registry.open(1L, 1, "Alice", 10);
+
+        clock.addAndGet(10_000 + ABANDON_AFTER);
+        registry.tick();
+
+        assertThat(registry.close(attempt.id())).isEmpty();
+        verify(recorder).record(anyList(), anyLong());
+    }
+}
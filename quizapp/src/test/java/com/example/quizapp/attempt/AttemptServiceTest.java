@@ -0,0 +1,151 @@
+package com.example.quizapp.attempt;
+
+import com.example.quizapp.entity.Attempt;
+import com.example.quizapp.entity.AttemptStatus;
+import com.example.quizapp.repository.AttemptRepository;
+import com.example.quizapp.scoring.QuizSubmission;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AttemptService.
+ */
+@ExtendWith(MockitoExtension.class)
+class AttemptServiceTest {
+
+    @Mock
+    private AttemptRepository attemptRepository;
+
+    @Mock
+    private AnswerEventBuffer answerEventBuffer;
+
+    @Mock
+    private AnswerEventStore answerEventStore;
+
+    @InjectMocks
+    private AttemptService attemptService;
+
+    @Test
+    @DisplayName("Should persist the opened attempt with a random resume token")
+    void start_ShouldPersistAttempt() {
+        // Given
+        when(attemptRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        OpenAttempt open = new OpenAttempt("attempt-1", 3L, 2, "Alice", System.currentTimeMillis(), 0, 0);
+
+        // When
+        Attempt first = attemptService.start(open, null);
+        Attempt second = attemptService.start(open, List.of(4L, 9L));
+
+        // Then
+        assertThat(first.getId()).isEqualTo("attempt-1");
+        assertThat(first.getQuizId()).isEqualTo(3L);
+        assertThat(first.getQuizVersion()).isEqualTo(2);
+        assertThat(first.getQuestionIds()).isNull();
+        assertThat(second.getQuestionIds()).containsExactly(4L, 9L);
+        assertThat(first.getStatus()).isEqualTo(AttemptStatus.IN_PROGRESS);
+        assertThat(first.getResumeToken()).hasSize(22).isNotEqualTo(second.getResumeToken());
+    }
+
+    @Test
+    @DisplayName("Should only resume attempts that are still in progress")
+    void findResumable_ShouldSkipFinishedAttempts() {
+        // Given
+        Attempt submitted = new Attempt("attempt-1", 3L, "Alice", "token", LocalDateTime.now());
+        submitted.setStatus(AttemptStatus.SUBMITTED);
+        when(attemptRepository.findByResumeToken("token")).thenReturn(Optional.of(submitted));
+
+        // When / Then
+        assertThat(attemptService.findResumable("token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not resume training attempts")
+    void findResumable_ShouldSkipAdaptiveAttempts() {
+        // Given
+        when(attemptRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        OpenAttempt open = new OpenAttempt("attempt-1", 3L, 2, "Alice", System.currentTimeMillis(), 0, 0);
+        Attempt training = attemptService.startAdaptive(open);
+        when(attemptRepository.findByResumeToken(training.getResumeToken())).thenReturn(Optional.of(training));
+
+        // When / Then
+        assertThat(training.isAdaptive()).isTrue();
+        assertThat(training.getStatus()).isEqualTo(AttemptStatus.IN_PROGRESS);
+        assertThat(attemptService.findResumable(training.getResumeToken())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should include buffered saves in the saved answers")
+    void savedAnswers_ShouldFlushFirst() {
+        // Given
+        when(answerEventStore.latest("attempt-1")).thenReturn(Map.of(1L, "10"));
+
+        // When
+        Map<Long, String> answers = attemptService.savedAnswers("attempt-1");
+
+        // Then
+        assertThat(answers).containsEntry(1L, "10");
+        var order = inOrder(answerEventBuffer, answerEventStore);
+        order.verify(answerEventBuffer).flush("attempt-1");
+        order.verify(answerEventStore).latest("attempt-1");
+    }
+
+    @Test
+    @DisplayName("Should score and compact the merged saved and submitted answers")
+    void complete_ShouldMergeAndCompact() {
+        // Given
+        when(answerEventStore.latest("attempt-1")).thenReturn(Map.of(1L, "10", 2L, "20"));
+        when(answerEventStore.compact(eq("attempt-1"), any(), any())).thenReturn(true);
+        QuizSubmission submitted = QuizSubmission.fromFormValues(Map.of(2L, "21", 3L, ""));
+
+        // When
+        QuizSubmission answers = attemptService.complete("attempt-1", submitted).orElseThrow();
+
+        // Then
+        assertThat(answers.answerFor(1).ids()).containsExactly(10L);
+        assertThat(answers.answerFor(2).ids()).containsExactly(21L);
+        verify(answerEventBuffer).flush("attempt-1");
+        verify(answerEventStore).compact(eq("attempt-1"), eq(Map.of(1L, "10", 2L, "21", 3L, "")), any());
+    }
+
+    @Test
+    @DisplayName("Should score the submission as is without a persisted attempt")
+    void complete_ShouldPassThroughWithoutAttempt() {
+        QuizSubmission submitted = QuizSubmission.fromFormValues(Map.of(1L, "10"));
+
+        assertThat(attemptService.complete(null, submitted)).containsSame(submitted);
+        verifyNoInteractions(answerEventStore, answerEventBuffer);
+    }
+
+    @Test
+    @DisplayName("Should not score an attempt that was already submitted or abandoned")
+    void complete_ShouldRejectClosedAttempt() {
+        // Given
+        when(answerEventStore.compact(eq("attempt-1"), any(), any())).thenReturn(false);
+
+        // When/Then
+        assertThat(attemptService.complete("attempt-1", QuizSubmission.fromFormValues(Map.of(1L, "10")))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should end a rejected attempt")
+    void abandon_ShouldEndAttempt() {
+        attemptService.abandon("attempt-1");
+        attemptService.abandon(null);
+
+        verify(answerEventStore).abandon(List.of("attempt-1"));
+        verifyNoMoreInteractions(answerEventStore);
+    }
+}
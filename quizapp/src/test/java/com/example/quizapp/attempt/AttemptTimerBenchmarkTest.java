@@ -0,0 +1,98 @@
+package com.example.quizapp.attempt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cost of tracking 100k open attempts: the timing wheel versus one ScheduledFuture per
+ * attempt on a ScheduledThreadPoolExecutor (a binary heap, O(log n) per schedule and cancel).
+ * Run with: mvn test -Pbenchmark -Dtest=AttemptTimerBenchmarkTest
+ */
+@Tag("benchmark")
+class AttemptTimerBenchmarkTest {
+
+    private static final int ATTEMPTS = 100_000;
+    private static final int ROUNDS = 5;
+    private static final long TICK_MILLIS = 1_000;
+
+    @Test
+    @DisplayName("Benchmark: schedule/cancel/expire of 100k attempts, timing wheel vs ScheduledFuture")
+    void scheduleCancelExpire() {
+        long[] deadlines = new long[ATTEMPTS];
+        Random random = new Random(7);
+        for (int i = 0; i < ATTEMPTS; i++) {
+            // Time limits between 1 and 60 minutes, plus the abandon window
+            deadlines[i] = (60 + random.nextInt(3_540)) * 1_000L + 600_000L;
+        }
+
+        long[] wheel = new long[3];
+        long[] executor = new long[2];
+        for (int round = 0; round < ROUNDS; round++) {
+            measureWheel(deadlines, wheel);
+            measureExecutor(deadlines, executor);
+        }
+
+        System.out.printf("%-16s %12s %12s %12s%n", "timer", "schedule ns", "cancel ns", "expire ns");
+        System.out.printf("%-16s %12d %12d %12d%n", "timing wheel",
+                wheel[0] / (ROUNDS * ATTEMPTS), wheel[1] / (ROUNDS * ATTEMPTS / 2), wheel[2] / (ROUNDS * ATTEMPTS / 2));
+        System.out.printf("%-16s %12d %12d %12s%n", "scheduled pool",
+                executor[0] / (ROUNDS * ATTEMPTS), executor[1] / (ROUNDS * ATTEMPTS), "-");
+    }
+
+    // Half the attempts are submitted (cancelled), the other half expire
+    private void measureWheel(long[] deadlines, long[] totals) {
+        TimingWheel<Integer> wheel = new TimingWheel<>(TICK_MILLIS, 4, 0);
+        @SuppressWarnings("unchecked")
+        TimingWheel.Timeout<Integer>[] timeouts = new TimingWheel.Timeout[ATTEMPTS];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            timeouts[i] = wheel.schedule(i, deadlines[i]);
+        }
+        totals[0] += System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ATTEMPTS; i += 2) {
+            wheel.cancel(timeouts[i]);
+        }
+        totals[1] += System.nanoTime() - start;
+
+        int[] expired = {0};
+        start = System.nanoTime();
+        for (long now = 0; now <= 5_000_000; now += TICK_MILLIS) {
+            wheel.advance(now, i -> expired[0]++);
+        }
+        totals[2] += System.nanoTime() - start;
+        assertThat(expired[0]).isEqualTo(ATTEMPTS / 2);
+    }
+
+    private void measureExecutor(long[] deadlines, long[] totals) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        ScheduledFuture<?>[] futures = new ScheduledFuture<?>[ATTEMPTS];
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < ATTEMPTS; i++) {
+                futures[i] = executor.schedule(() -> { }, deadlines[i], TimeUnit.MILLISECONDS);
+            }
+            totals[0] += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (ScheduledFuture<?> future : futures) {
+                future.cancel(false);
+            }
+            totals[1] += System.nanoTime() - start;
+            assertThat(executor.getQueue()).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
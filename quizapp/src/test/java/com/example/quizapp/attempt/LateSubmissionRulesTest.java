@@ -0,0 +1,58 @@
+package com.example.quizapp.attempt;
+
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.LateSubmissionPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for LateSubmissionRules.
+ */
+class LateSubmissionRulesTest {
+
+    private final LateSubmissionRules rules =
+            new LateSubmissionRules(LateSubmissionPolicy.REJECT, Duration.ofSeconds(2), 25);
+
+    @Test
+    @DisplayName("Should treat submissions within the grace period as on time")
+    void judge_ShouldAllowGracePeriod() {
+        QuizDTO quiz = quiz(60, null);
+
+        assertThat(rules.judge(quiz, 60_000)).isNull();
+        assertThat(rules.judge(quiz, 62_000)).isNull();
+        assertThat(rules.judge(quiz, 62_001)).isEqualTo(LateSubmissionPolicy.REJECT);
+    }
+
+    @Test
+    @DisplayName("Should apply the quiz's own policy before the default")
+    void judge_ShouldPreferQuizPolicy() {
+        assertThat(rules.judge(quiz(60, LateSubmissionPolicy.PENALIZE), 120_000))
+                .isEqualTo(LateSubmissionPolicy.PENALIZE);
+        assertThat(rules.judge(quiz(60, LateSubmissionPolicy.ACCEPT), 120_000))
+                .isEqualTo(LateSubmissionPolicy.ACCEPT);
+    }
+
+    @Test
+    @DisplayName("Should never consider untimed quizzes late")
+    void judge_ShouldIgnoreUntimedQuizzes() {
+        assertThat(rules.judge(quiz(null, null), Long.MAX_VALUE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should deduct the configured percentage")
+    void penalize_ShouldReduceScore() {
+        assertThat(rules.penalize(8)).isEqualTo(6);
+        assertThat(rules.penalize(1)).isZero();
+    }
+
+    private static QuizDTO quiz(Integer timeLimit, LateSubmissionPolicy policy) {
+        QuizDTO quiz = new QuizDTO();
+        quiz.setTimeLimit(timeLimit);
+        quiz.setLateSubmissionPolicy(policy);
+        return quiz;
+    }
+}
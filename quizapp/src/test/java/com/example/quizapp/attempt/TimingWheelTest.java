@@ -0,0 +1,123 @@
+package com.example.quizapp.attempt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TimingWheel.
+ */
+class TimingWheelTest {
+
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should expire an entry on the first tick at or after its deadline")
+    void advance_ShouldExpireAtDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 2, 0);
+        wheel.schedule("a", 250);
+
+        wheel.advance(299, expired::add);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(300, expired::add);
+        assertThat(expired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade entries from higher levels down to their exact tick")
+    void advance_ShouldCascadeAcrossLevels() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 3, 0);
+        wheel.schedule("level1", 64 * 3 + 5);
+        wheel.schedule("level2", 64 * 64 * 2 + 7);
+
+        wheel.advance(64 * 3 + 4, expired::add);
+        assertThat(expired).isEmpty();
+        wheel.advance(64 * 3 + 5, expired::add);
+        assertThat(expired).containsExactly("level1");
+
+        wheel.advance(64 * 64 * 2 + 6, expired::add);
+        assertThat(expired).containsExactly("level1");
+        wheel.advance(64 * 64 * 2 + 7, expired::add);
+        assertThat(expired).containsExactly("level1", "level2");
+    }
+
+    @Test
+    @DisplayName("Should park deadlines beyond the wheel's range until they are due")
+    void advance_ShouldHandleDeadlinesBeyondRange() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 1, 0);
+        wheel.schedule("far", 1_000);
+
+        wheel.advance(999, expired::add);
+        assertThat(expired).isEmpty();
+        wheel.advance(1_000, expired::add);
+        assertThat(expired).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("Should expire past deadlines on the next tick")
+    void schedule_ShouldExpirePastDeadlinesNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(10, 2, 0);
+        wheel.advance(500, expired::add);
+        wheel.schedule("late", 100);
+
+        wheel.advance(510, expired::add);
+        assertThat(expired).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("Should not expire cancelled entries")
+    void cancel_ShouldRemoveEntry() {
+        TimingWheel<String> wheel = new TimingWheel<>(1, 2, 0);
+        TimingWheel.Timeout<String> first = wheel.schedule("first", 10);
+        wheel.schedule("second", 10);
+
+        assertThat(wheel.cancel(first)).isTrue();
+        assertThat(wheel.cancel(first)).isFalse();
+        wheel.advance(10, expired::add);
+
+        assertThat(expired).containsExactly("second");
+    }
+
+    @Test
+    @DisplayName("Should expire every entry exactly once, never early, for random deadlines")
+    void advance_ShouldMatchDeadlinesForRandomSchedules() {
+        Random random = new Random(42);
+        TimingWheel<long[]> wheel = new TimingWheel<>(1, 3, 0);
+        List<long[]> entries = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            long[] entry = {random.nextInt(300_000), -1};
+            entries.add(entry);
+            wheel.schedule(entry, entry[0]);
+        }
+
+        long now = 0;
+        while (now < 300_000) {
+            now += 1 + random.nextInt(700);
+            long tick = now;
+            wheel.advance(now, entry -> {
+                assertThat(entry[1]).isEqualTo(-1);
+                entry[1] = tick;
+            });
+        }
+
+        assertThat(wheel.size()).isZero();
+        for (long[] entry : entries) {
+            assertThat(entry[1]).isGreaterThanOrEqualTo(Math.max(entry[0], 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configurations")
+    void constructor_ShouldValidateArguments() {
+        assertThatThrownBy(() -> new TimingWheel<>(0, 2, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel<>(10, 11, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
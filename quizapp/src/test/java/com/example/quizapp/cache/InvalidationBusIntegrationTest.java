@@ -0,0 +1,111 @@
+package com.example.quizapp.cache;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.dto.CreateQuizRequest;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.service.QuizService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two application contexts sharing one database stand in for two nodes.
+ * Measures the latency from a committed edit on node A to delivery on node B
+ * over the polling transport.
+ */
+class InvalidationBusIntegrationTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:invalidation-nodes;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final int SAMPLES = 20;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + DB_URL,
+                        "app.cache.invalidation.transport=polling",
+                        "app.cache.invalidation.poll-interval-ms=50",
+                        "app.cache.invalidation.node-id=" + nodeId)
+                .run();
+    }
+
+    @Test
+    @DisplayName("Should deliver quiz edits from node A to node B")
+    void updateOnNodeA_ShouldReachNodeB() throws Exception {
+        Long quizId = nodeA.getBean(QuizRepository.class).save(new Quiz("Shared Quiz")).getId();
+        BlockingQueue<InvalidationEvent> receivedOnB = new LinkedBlockingQueue<>();
+        CacheInvalidationListener recorder = receivedOnB::add;
+        nodeB.getBean(InvalidationBus.class).register(recorder);
+
+        try {
+            long[] latenciesMillis = new long[SAMPLES];
+            for (int i = 0; i < SAMPLES; i++) {
+                nodeA.getBean(QuizService.class).updateQuiz(quizId, new CreateQuizRequest("Edit " + i, null));
+                long committedAt = System.nanoTime();
+
+                InvalidationEvent event = receivedOnB.poll(5, TimeUnit.SECONDS);
+                latenciesMillis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - committedAt);
+
+                assertThat(event).isNotNull();
+                assertThat(event.entity()).isEqualTo(CacheEntity.QUIZ);
+                assertThat(event.id()).isEqualTo(quizId);
+                assertThat(event.originNode()).isEqualTo("node-a");
+            }
+
+            Arrays.sort(latenciesMillis);
+            assertThat(latenciesMillis[SAMPLES - 1])
+                    .as("max invalidation latency A -> B (polling 50 ms, p50 %d ms)", latenciesMillis[SAMPLES / 2])
+                    .isLessThan(1000);
+        } finally {
+            nodeB.getBean(InvalidationBus.class).unregister(recorder);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not echo node B's own events back to node B")
+    void localEvents_ShouldNotBeRedeliveredFromTransport() throws Exception {
+        Long quizId = nodeB.getBean(QuizRepository.class).save(new Quiz("Local Quiz")).getId();
+        BlockingQueue<InvalidationEvent> receivedOnB = new LinkedBlockingQueue<>();
+        CacheInvalidationListener recorder = receivedOnB::add;
+        nodeB.getBean(InvalidationBus.class).register(recorder);
+
+        try {
+            nodeB.getBean(QuizService.class).updateQuiz(quizId, new CreateQuizRequest("Local edit", null));
+
+            assertThat(receivedOnB.poll(1, TimeUnit.SECONDS)).isNotNull();
+            assertThat(receivedOnB.poll(500, TimeUnit.MILLISECONDS)).isNull();
+        } finally {
+            nodeB.getBean(InvalidationBus.class).unregister(recorder);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.quizapp.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InvalidationBus.
+ */
+@ExtendWith(MockitoExtension.class)
+class InvalidationBusTest {
+
+    @Mock
+    private ObjectProvider<CacheInvalidationListener> listenerBeans;
+
+    @Mock
+    private InvalidationTransport transport;
+
+    private final List<InvalidationEvent> received = new ArrayList<>();
+    private InvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(listenerBeans.orderedStream()).thenAnswer(invocation -> Stream.empty());
+        bus = new InvalidationBus(listenerBeans, transport, "node-a");
+        bus.register(received::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        bus.stop();
+    }
+
+    @Test
+    @DisplayName("Should deliver locally and send to other nodes when no transaction is active")
+    void publish_ShouldDispatchImmediately_WithoutTransaction() {
+        bus.publish(InvalidationEvent.quiz(1L));
+
+        assertThat(received).containsExactly(InvalidationEvent.quiz(1L).withOrigin("node-a"));
+        verify(transport, timeout(1000)).send(InvalidationEvent.quiz(1L).withOrigin("node-a"));
+    }
+
+    @Test
+    @DisplayName("Should defer delivery until the transaction commits")
+    void publish_ShouldWaitForCommit_InsideTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.publish(InvalidationEvent.answer(7L, 3L));
+
+        assertThat(received).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).parentId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should not deliver anything when the transaction rolls back")
+    void publish_ShouldDropEvent_OnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.publish(InvalidationEvent.quiz(1L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(received).isEmpty();
+        verify(transport, after(100).never()).send(any());
+    }
+
+    @Test
+    @DisplayName("Should skip local events for remote-only listeners")
+    void publish_ShouldSkipRemoteOnlyListeners() {
+        CacheInvalidationListener remoteOnly = mock(CacheInvalidationListener.class);
+        when(remoteOnly.acceptsLocalEvents()).thenReturn(false);
+        bus.register(remoteOnly);
+
+        bus.publish(InvalidationEvent.quiz(1L));
+
+        verify(remoteOnly, never()).onInvalidation(any());
+    }
+
+    @Test
+    @DisplayName("Should deliver events from other nodes and ignore its own")
+    @SuppressWarnings("unchecked")
+    void remoteEvents_ShouldIgnoreOwnOrigin() {
+        ArgumentCaptor<Consumer<InvalidationEvent>> consumer = ArgumentCaptor.forClass(Consumer.class);
+        bus.start();
+        verify(transport).start(consumer.capture());
+
+        consumer.getValue().accept(InvalidationEvent.quiz(1L).withOrigin("node-a"));
+        consumer.getValue().accept(InvalidationEvent.quiz(2L).withOrigin("node-b"));
+
+        assertThat(received).extracting(InvalidationEvent::id).containsExactly(2L);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.quizapp.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for InvalidationEvent wire format.
+ */
+class InvalidationEventTest {
+
+    @Test
+    @DisplayName("Should round-trip event through NOTIFY payload")
+    void encodeDecode_ShouldRoundTrip() {
+        InvalidationEvent event = InvalidationEvent.question(12L, 3L).withOrigin("node-a");
+
+        InvalidationEvent decoded = InvalidationEvent.decode(event.encode());
+
+        assertThat(decoded).isEqualTo(event);
+        assertThat(event.encode()).isEqualTo("QUESTION|12|3|node-a");
+    }
+
+    @Test
+    @DisplayName("Should keep null parent and origin")
+    void encodeDecode_ShouldKeepNulls() {
+        InvalidationEvent event = InvalidationEvent.quiz(5L);
+
+        InvalidationEvent decoded = InvalidationEvent.decode(event.encode());
+
+        assertThat(decoded.parentId()).isNull();
+        assertThat(decoded.originNode()).isNull();
+        assertThat(decoded.entity()).isEqualTo(CacheEntity.QUIZ);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed payload")
+    void decode_ShouldRejectMalformedPayload() {
+        assertThatThrownBy(() -> InvalidationEvent.decode("QUIZ|1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.quizapp.cache;
+
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Question;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JdbcWriteInvalidator.
+ */
+@ExtendWith(MockitoExtension.class)
+class JdbcWriteInvalidatorTest {
+
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private HibernateCacheInvalidationListener cacheEvictor;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    @InjectMocks
+    private JdbcWriteInvalidator invalidator;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict locally and publish right away when no transaction is active")
+    void invalidate_ShouldEvictNow_WithoutTransaction() {
+        // Given
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+
+        // When
+        invalidator.invalidate(InvalidationEvent.quiz(1L), Question.class, Answer.class);
+
+        // Then
+        verify(cacheEvictor).onInvalidation(InvalidationEvent.quiz(1L));
+        verify(secondLevelCache).evict(Question.class);
+        verify(secondLevelCache).evict(Answer.class);
+        verify(invalidationBus).publish(InvalidationEvent.quiz(1L));
+    }
+
+    @Test
+    @DisplayName("Should evict locally only after the transaction commits")
+    void invalidate_ShouldWaitForCommit_InsideTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        invalidator.invalidate(InvalidationEvent.answer(9L, 4L));
+
+        // Then
+        verify(invalidationBus).publish(InvalidationEvent.answer(9L, 4L));
+        verifyNoInteractions(cacheEvictor);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(cacheEvictor).onInvalidation(InvalidationEvent.answer(9L, 4L));
+        verifyNoInteractions(entityManagerFactory);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.quizapp.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PollingTableTransport against an in-memory cache_invalidation table.
+ */
+class PollingTableTransportTest {
+
+    private static final Duration SETTLE = Duration.ofSeconds(5);
+
+    private JdbcTemplate jdbcTemplate;
+    private PollingTableTransport transport;
+    private final List<Long> received = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:polling-transport;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                CREATE TABLE cache_invalidation (
+                    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                    entity_type VARCHAR(32) NOT NULL,
+                    entity_id   BIGINT,
+                    parent_id   BIGINT,
+                    origin_node VARCHAR(64),
+                    created_at  TIMESTAMP   NOT NULL
+                )
+                """);
+        insert(1, Instant.now());
+
+        transport = new PollingTableTransport(jdbcTemplate, 60_000, Duration.ofMinutes(10), SETTLE);
+        transport.start(event -> received.add(event.id()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.stop();
+        jdbcTemplate.execute("DROP TABLE cache_invalidation");
+    }
+
+    @Test
+    @DisplayName("Should deliver a row that commits after one with a higher id")
+    void poll_ShouldDeliverLateCommit() {
+        // Given
+        insert(3, Instant.now());
+        transport.poll(event -> received.add(event.id()));
+
+        // When
+        insert(2, Instant.now());
+        transport.poll(event -> received.add(event.id()));
+        transport.poll(event -> received.add(event.id()));
+
+        // Then
+        assertThat(received).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should give up on a gap once the row behind it has settled")
+    void poll_ShouldSkipSettledGap() {
+        // Given
+        insert(3, Instant.now().minus(SETTLE).minusSeconds(1));
+        transport.poll(event -> received.add(event.id()));
+
+        // When - the gap is no longer read, so a row filling it this late is missed
+        insert(2, Instant.now());
+        transport.poll(event -> received.add(event.id()));
+
+        // Then
+        assertThat(received).containsExactly(3L);
+    }
+
+    private void insert(long id, Instant createdAt) {
+        jdbcTemplate.update("""
+                INSERT INTO cache_invalidation (id, entity_type, entity_id, origin_node, created_at)
+                VALUES (?, 'QUIZ', ?, 'node-a', ?)
+                """, id, id, Timestamp.from(createdAt));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.quizapp.controller;
+
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.exception.ResourceNotFoundException;
+import com.example.quizapp.repository.AnswerRepository;
+import com.example.quizapp.repository.QuestionRepository;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.service.QuestionService;
+import com.example.quizapp.service.QuizService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the Hibernate second-level cache.
+ * Admin edits made through AdminController must be visible right after commit,
+ * even when the edited entities were already served from the cache.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.auto_evict_collection_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml"
+})
+@AutoConfigureMockMvc
+@WithMockUser(roles = "ADMIN")
+class AdminControllerCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long quizId;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        quizId = quizRepository.save(new Quiz("Cached Quiz", "Original description")).getId();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated quiz lookups from the second-level cache")
+    void getQuizById_ShouldHitSecondLevelCache() {
+        quizService.getQuizById(quizId);
+        quizService.getQuizById(quizId);
+
+        assertThat(entityManagerFactory.getCache().contains(Quiz.class, quizId)).isTrue();
+        assertThat(statistics.getDomainDataRegionStatistics("quiz").getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should show updated quiz immediately after admin edit")
+    void updateQuiz_ShouldBeVisibleAfterCommit() throws Exception {
+        assertThat(quizService.getQuizById(quizId).getTitle()).isEqualTo("Cached Quiz");
+
+        mockMvc.perform(post("/admin/quiz/" + quizId)
+                        .with(csrf())
+                        .param("title", "Edited Quiz")
+                        .param("description", "Edited description"))
+                .andExpect(status().is3xxRedirection());
+
+        assertThat(quizService.getQuizById(quizId).getTitle()).isEqualTo("Edited Quiz");
+        assertThat(quizService.getQuizById(quizId).getDescription()).isEqualTo("Edited description");
+    }
+
+    @Test
+    @DisplayName("Should refresh cached question collection after admin adds a question")
+    void addQuestion_ShouldEvictCachedCollection() throws Exception {
+        assertThat(quizService.getQuizById(quizId).getQuestionCount()).isZero();
+        assertThat(questionService.getQuestionsByQuiz(quizId, true)).isEmpty();
+
+        mockMvc.perform(post("/admin/quiz/" + quizId + "/questions")
+                        .with(csrf())
+                        .param("text", "New question")
+                        .param("type", "SINGLE_CHOICE")
+                        .param("points", "2"))
+                .andExpect(status().is3xxRedirection());
+
+        assertThat(quizService.getQuizById(quizId).getQuestionCount()).isEqualTo(1);
+        assertThat(questionService.getQuestionsByQuiz(quizId, true)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should refresh cached answers after admin adds and deletes an answer")
+    void addAndDeleteAnswer_ShouldBeVisibleAfterCommit() throws Exception {
+        Question question = new Question("Cached question", QuestionType.SINGLE_CHOICE);
+        question.setQuiz(quizRepository.findById(quizId).orElseThrow());
+        Long questionId = questionRepository.save(question).getId();
+
+        assertThat(questionService.getQuestionById(questionId).getAnswers()).isEmpty();
+
+        mockMvc.perform(post("/admin/questions/" + questionId + "/answers")
+                        .with(csrf())
+                        .param("text", "Yes")
+                        .param("isCorrect", "true"))
+                .andExpect(status().is3xxRedirection());
+
+        assertThat(questionService.getQuestionById(questionId).getAnswers()).hasSize(1);
+        assertThat(answerRepository.findByQuestionIdAndIsCorrectTrue(questionId)).hasSize(1);
+
+        Answer answer = answerRepository.findByQuestionId(questionId).get(0);
+        mockMvc.perform(post("/admin/answers/" + answer.getId() + "/delete").with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        assertThat(questionService.getQuestionById(questionId).getAnswers()).isEmpty();
+        assertThat(answerRepository.findByQuestionIdAndIsCorrectTrue(questionId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should delete a question and its answers without loading them")
+    void deleteQuestion_ShouldNotLoadEntities() throws Exception {
+        Question question = new Question("Doomed question", QuestionType.SINGLE_CHOICE);
+        question.setQuiz(quizRepository.findById(quizId).orElseThrow());
+        Long questionId = questionRepository.save(question).getId();
+        Answer answer = new Answer("Yes", true, 1);
+        answer.setQuestion(question);
+        answerRepository.save(answer);
+        assertThat(questionService.getQuestionsByQuiz(quizId, true)).hasSize(1);
+        statistics.clear();
+
+        mockMvc.perform(post("/admin/questions/" + questionId + "/delete").with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(entityManagerFactory.getCache().contains(Question.class, questionId)).isFalse();
+        assertThat(questionService.getQuestionsByQuiz(quizId, true)).isEmpty();
+        assertThat(answerRepository.findByQuestionId(questionId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not serve a deleted quiz from the cache")
+    void deleteQuiz_ShouldEvictCachedQuiz() throws Exception {
+        quizService.getQuizById(quizId);
+
+        mockMvc.perform(post("/admin/quiz/" + quizId + "/delete").with(csrf()))
+                .andExpect(status().is3xxRedirection());
+
+        assertThat(entityManagerFactory.getCache().contains(Quiz.class, quizId)).isFalse();
+        assertThatThrownBy(() -> quizService.getQuizById(quizId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
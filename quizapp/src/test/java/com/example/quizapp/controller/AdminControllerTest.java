@@ -1,10 +1,12 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.cache.InvalidationBus;
 import com.example.quizapp.dto.QuestionDTO;
 import com.example.quizapp.dto.QuizDTO;
 import com.example.quizapp.entity.*;
 import com.example.quizapp.repository.*;
 import com.example.quizapp.security.CustomUserDetailsService;
+import com.example.quizapp.service.DeletionService;
 import com.example.quizapp.service.QuestionService;
 import com.example.quizapp.service.QuizService;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,6 +56,12 @@ class AdminControllerTest {
     @MockitoBean
     private QuestionService questionService;
 
+    @MockitoBean
+    private DeletionService deletionService;
+
+    @MockitoBean
+    private InvalidationBus invalidationBus;
+
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
@@ -174,6 +182,19 @@ class AdminControllerTest {
                 .andExpect(redirectedUrl("/admin"));
     }
 
+    @Test
+    @DisplayName("Should clone quiz and redirect to the copy's questions")
+    void cloneQuiz_ShouldRedirectToCopy() throws Exception {
+        testQuizDTO.setId(2L);
+        when(quizService.cloneQuiz(1L, null)).thenReturn(testQuizDTO);
+
+        mockMvc.perform(post("/admin/quiz/1/clone")
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/admin/quiz/2/questions"))
+                .andExpect(flash().attributeExists("successMessage"));
+    }
+
     // ============ Question Management Tests ============
 
     @Test
@@ -209,8 +230,7 @@ class AdminControllerTest {
     @Test
     @DisplayName("Should delete question and redirect")
     void deleteQuestion_ShouldRedirectToQuestions() throws Exception {
-        when(questionRepository.findById(1L)).thenReturn(Optional.of(testQuestion));
-        doNothing().when(questionRepository).delete(any());
+        when(deletionService.deleteQuestion(1L)).thenReturn(1L);
 
         mockMvc.perform(post("/admin/questions/1/delete")
                         .with(csrf()))
@@ -267,8 +287,7 @@ class AdminControllerTest {
     @Test
     @DisplayName("Should delete answer and redirect")
     void deleteAnswer_ShouldRedirectToAnswers() throws Exception {
-        when(answerRepository.findById(1L)).thenReturn(Optional.of(testAnswer));
-        doNothing().when(answerRepository).delete(any());
+        when(deletionService.deleteAnswer(1L)).thenReturn(1L);
 
         mockMvc.perform(post("/admin/answers/1/delete")
                         .with(csrf()))
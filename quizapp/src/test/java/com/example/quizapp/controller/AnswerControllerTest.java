@@ -1,9 +1,11 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.cache.InvalidationBus;
 import com.example.quizapp.dto.AnswerDTO;
 import com.example.quizapp.repository.AnswerRepository;
 import com.example.quizapp.repository.QuestionRepository;
 import com.example.quizapp.security.CustomUserDetailsService;
+import com.example.quizapp.service.DeletionService;
 import com.example.quizapp.entity.Answer;
 import com.example.quizapp.entity.Question;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -21,6 +23,7 @@ import java.util.Arrays;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,6 +48,12 @@ class AnswerControllerTest {
     @MockitoBean
     private QuestionRepository questionRepository;
 
+    @MockitoBean
+    private InvalidationBus invalidationBus;
+
+    @MockitoBean
+    private DeletionService deletionService;
+
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
@@ -113,4 +122,17 @@ class AnswerControllerTest {
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isCreated());
     }
+
+    @Test
+    @DisplayName("Should delete answer")
+    @WithMockUser(roles = "ADMIN")
+    void deleteAnswer_ShouldReturnNoContent() throws Exception {
+        when(deletionService.deleteAnswer(1L)).thenReturn(1L);
+
+        mockMvc.perform(delete("/api/v1/answers/1")
+                        .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(deletionService).deleteAnswer(1L);
+    }
 }
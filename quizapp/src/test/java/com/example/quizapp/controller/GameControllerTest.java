@@ -1,27 +1,57 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.adaptive.AdaptiveEngine;
+import com.example.quizapp.adaptive.QuestionStatBuffer;
+import com.example.quizapp.adaptive.QuestionStatStore;
+import com.example.quizapp.attempt.AttemptRegistry;
+import com.example.quizapp.attempt.AttemptService;
+import com.example.quizapp.attempt.LateSubmissionRules;
+import com.example.quizapp.attempt.OpenAttempt;
 import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.dto.QuizResultDTO;
+import com.example.quizapp.pool.QuestionPools;
 import com.example.quizapp.entity.*;
 import com.example.quizapp.repository.*;
+import com.example.quizapp.results.Leaderboard;
+import com.example.quizapp.results.PendingResult;
+import com.example.quizapp.results.ResultPipeline;
+import com.example.quizapp.scoring.QuizSubmission;
+import com.example.quizapp.scoring.ScoringPlans;
+import com.example.quizapp.scoring.SubmissionScorer;
 import com.example.quizapp.security.CustomUserDetailsService;
 import com.example.quizapp.service.QuizService;
+import com.example.quizapp.versioning.AnswerSnapshot;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import com.example.quizapp.versioning.QuizVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -32,20 +62,22 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Covers all question types and branches for high coverage.
  */
 @WebMvcTest(GameController.class)
+@Import({SubmissionScorer.class, ScoringPlans.class, QuestionPools.class, AdaptiveEngine.class,
+        LateSubmissionRules.class, Leaderboard.class})
 @WithMockUser
 class GameControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
-    @MockitoBean
-    private QuizRepository quizRepository;
+    @Autowired
+    private ScoringPlans scoringPlans;
 
-    @MockitoBean
-    private QuestionRepository questionRepository;
+    @Autowired
+    private Leaderboard leaderboard;
 
-    @MockitoBean
-    private AnswerRepository answerRepository;
+    @Autowired
+    private AdaptiveEngine adaptiveEngine;
 
     @MockitoBean
     private QuizResultRepository quizResultRepository;
@@ -53,16 +85,53 @@ class GameControllerTest {
     @MockitoBean
     private QuizService quizService;
 
+    @MockitoBean
+    private QuizVersions quizVersions;
+
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
+    @MockitoBean
+    private AttemptRegistry attemptRegistry;
+
+    @MockitoBean
+    private AttemptService attemptService;
+
+    @MockitoBean
+    private ResultPipeline resultPipeline;
+
+    @MockitoBean
+    private QuestionStatStore questionStatStore;
+
+    @MockitoBean
+    private QuestionStatBuffer questionStatBuffer;
+
     private Quiz testQuiz;
     private QuizDTO testQuizDTO;
     private Question testQuestion;
     private Answer testAnswer;
+    // Answers of testQuestion in the version the tests play
+    private List<Answer> testAnswers;
 
     @BeforeEach
     void setUp() {
+        // Plans, indexes and boards are cached per quiz version and every test reuses quiz 1
+        scoringPlans.clear();
+        adaptiveEngine.clear();
+        leaderboard.evict(1L);
+        // Version 1 is the fixtures as they are when the request is made
+        when(quizVersions.current(1L)).thenAnswer(invocation -> version(1));
+        when(quizVersions.get(eq(1L), anyInt())).thenAnswer(invocation -> version(invocation.getArgument(1)));
+        when(attemptRegistry.open(anyLong(), anyInt(), any(), any())).thenAnswer(invocation -> new OpenAttempt(
+                "attempt-1", 1L, invocation.getArgument(1), invocation.getArgument(2),
+                System.currentTimeMillis(), 0, 0));
+        when(attemptService.start(any(), any())).thenAnswer(invocation -> {
+            OpenAttempt open = invocation.getArgument(0);
+            return new Attempt(open.id(), open.quizId(), open.nickname(), "resume-token", LocalDateTime.now());
+        });
+        // No saved answers: the submission is scored as submitted
+        when(attemptService.complete(any(), any())).thenAnswer(invocation -> Optional.of(invocation.getArgument(1)));
+
         testQuiz = new Quiz();
         testQuiz.setId(1L);
         testQuiz.setTitle("Test Quiz");
@@ -94,6 +163,29 @@ class GameControllerTest {
         testAnswer.setIsCorrect(true);
         testAnswer.setOrderIndex(1);
         testAnswer.setQuestion(testQuestion);
+        testAnswers = List.of(testAnswer);
+    }
+
+    private QuizVersion version(int version) {
+        QuestionSnapshot question = new QuestionSnapshot(testQuestion.getId(), version, testQuestion.getText(),
+                testQuestion.getType(), testQuestion.getPoints(), testQuestion.getOrderIndex(),
+                testQuestion.getScoringPolicy(), testQuestion.getDifficulty(), testAnswers.stream()
+                .map(answer -> new AnswerSnapshot(answer.getId(), answer.getText(),
+                        Boolean.TRUE.equals(answer.getIsCorrect()), answer.getOrderIndex()))
+                .toList());
+        return new QuizVersion(1L, version, testQuizDTO.getTitle(), testQuizDTO.getTimeLimit(),
+                testQuizDTO.getShuffleQuestions(), testQuizDTO.getShuffleAnswers(), testQuizDTO.getNegativePoints(),
+                testQuizDTO.getScoringPolicy(), testQuizDTO.getLateSubmissionPolicy(), testQuizDTO.getPoolSize(),
+                testQuizDTO.getPoolStratifyBy(), List.of(question));
+    }
+
+    // Version 1 of a quiz with one-point questions 1..size, each with its correct answer under the same id
+    private QuizVersion bank(int size, Integer poolSize) {
+        List<QuestionSnapshot> questions = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new QuestionSnapshot(id, 1, "Question " + id, QuestionType.SINGLE_CHOICE, 1,
+                        null, null, null, List.of(new AnswerSnapshot(id, "Answer " + id, true, 1))))
+                .toList();
+        return new QuizVersion(1L, 1, "Pool Quiz", null, false, false, false, null, null, poolSize, null, questions);
     }
 
     // ============ Home Page Tests ============
@@ -128,10 +220,6 @@ class GameControllerTest {
     @Test
     @DisplayName("Should show play quiz page with questions")
     void playQuiz_ShouldReturnPlayViewWithQuestions() throws Exception {
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdOrderByOrderIndexAsc(1L)).thenReturn(Arrays.asList(testAnswer));
-
         mockMvc.perform(post("/play/1")
                         .with(csrf())
                         .param("nickname", "TestPlayer"))
@@ -139,16 +227,18 @@ class GameControllerTest {
                 .andExpect(view().name("game/play"))
                 .andExpect(model().attributeExists("quiz"))
                 .andExpect(model().attributeExists("questions"))
-                .andExpect(model().attribute("nickname", "TestPlayer"));
+                .andExpect(model().attribute("nickname", "TestPlayer"))
+                .andExpect(model().attribute("resumeToken", "resume-token"))
+                .andExpect(request().sessionAttribute("attemptId", "attempt-1"))
+                .andExpect(request().sessionAttribute("quizVersion", 1));
+
+        verify(attemptRegistry).open(eq(1L), eq(1), eq("TestPlayer"), eq(300));
     }
 
     @Test
     @DisplayName("Should handle shuffled questions")
     void playQuiz_ShouldShuffleQuestionsWhenEnabled() throws Exception {
         testQuizDTO.setShuffleQuestions(true);
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdOrderByOrderIndexAsc(1L)).thenReturn(Arrays.asList(testAnswer));
 
         mockMvc.perform(post("/play/1")
                         .with(csrf())
@@ -161,9 +251,6 @@ class GameControllerTest {
     @DisplayName("Should handle shuffled answers")
     void playQuiz_ShouldShuffleAnswersWhenEnabled() throws Exception {
         testQuizDTO.setShuffleAnswers(true);
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdOrderByOrderIndexAsc(1L)).thenReturn(Arrays.asList(testAnswer));
 
         mockMvc.perform(post("/play/1")
                         .with(csrf())
@@ -172,6 +259,320 @@ class GameControllerTest {
                 .andExpect(view().name("game/play"));
     }
 
+    @Test
+    @DisplayName("Should play and score a pooled quiz on the questions drawn for the attempt")
+    @SuppressWarnings("unchecked")
+    void playQuiz_ShouldDrawQuestionsFromPool() throws Exception {
+        QuizVersion pooled = bank(10, 3);
+        when(quizVersions.current(1L)).thenReturn(pooled);
+        when(quizVersions.get(1L, 1)).thenReturn(pooled);
+
+        MvcResult played = mockMvc.perform(post("/play/1")
+                        .with(csrf())
+                        .param("nickname", "Player"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        MockHttpSession session = (MockHttpSession) played.getRequest().getSession();
+        List<Long> drawn = (List<Long>) session.getAttribute("questionIds");
+        assertThat(drawn).hasSize(3).doesNotHaveDuplicates().isSorted();
+        assertThat((List<?>) played.getModelAndView().getModel().get("questions")).hasSize(3);
+        verify(attemptService).start(any(), eq(drawn));
+
+        // Answering the whole bank only scores the draw
+        MockHttpServletRequestBuilder submit = post("/submit/1").with(csrf()).session(session);
+        for (long id = 1; id <= 10; id++) {
+            submit.param("answer_" + id, String.valueOf(id));
+        }
+        mockMvc.perform(submit)
+                .andExpect(flash().attribute("score", 3))
+                .andExpect(flash().attribute("maxScore", 3));
+    }
+
+    // ============ Resume and Autosave Tests ============
+
+    @Test
+    @DisplayName("Should restore saved answers and the remaining time when resuming")
+    void resumeQuiz_ShouldRestoreAttempt() throws Exception {
+        Attempt attempt = new Attempt("attempt-1", 1L, "TestPlayer", "resume-token",
+                LocalDateTime.now().minusSeconds(100));
+        when(attemptService.findResumable("resume-token")).thenReturn(Optional.of(attempt));
+        when(attemptService.savedAnswers("attempt-1")).thenReturn(Map.of(1L, "1"));
+
+        MvcResult result = mockMvc.perform(get("/play/resume/resume-token"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("game/play"))
+                .andExpect(model().attribute("savedAnswers", Map.of(1L, "1")))
+                .andExpect(model().attribute("nickname", "TestPlayer"))
+                .andExpect(request().sessionAttribute("attemptId", "attempt-1"))
+                .andExpect(request().sessionAttribute("quizId", 1L))
+                .andReturn();
+
+        // 300 s limit, started 100 s ago
+        assertThat((Integer) result.getModelAndView().getModel().get("timeRemaining")).isBetween(198, 200);
+    }
+
+    @Test
+    @DisplayName("Should resume a pooled attempt with the questions drawn when it started")
+    void resumeQuiz_ShouldRestoreDrawnQuestions() throws Exception {
+        Attempt attempt = new Attempt("attempt-1", 1L, "Player", "resume-token", LocalDateTime.now());
+        attempt.setQuestionIds(List.of(2L, 7L));
+        when(attemptService.findResumable("resume-token")).thenReturn(Optional.of(attempt));
+        when(quizVersions.current(1L)).thenReturn(bank(10, 2));
+
+        MvcResult result = mockMvc.perform(get("/play/resume/resume-token"))
+                .andExpect(status().isOk())
+                .andExpect(request().sessionAttribute("questionIds", List.of(2L, 7L)))
+                .andReturn();
+
+        List<?> questions = (List<?>) result.getModelAndView().getModel().get("questions");
+        List<Object> ids = questions.stream().<Object>map(question -> ((Map<?, ?>) question).get("id")).toList();
+        assertThat(ids).containsExactly(2L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown or finished attempt")
+    void resumeQuiz_ShouldReturn404ForUnknownToken() throws Exception {
+        when(attemptService.findResumable("gone")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/play/resume/gone"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should buffer saved answers of the attempt in the session")
+    void saveAnswers_ShouldRecordAnswers() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("quizId", 1L);
+        session.setAttribute("attemptId", "attempt-1");
+
+        mockMvc.perform(post("/play/1/answers")
+                        .with(csrf())
+                        .session(session)
+                        .param("answer_1", "1")
+                        .param("answer_2", "Paris")
+                        .param("answer_3", ""))
+                .andExpect(status().isNoContent());
+
+        verify(attemptService).saveAnswer("attempt-1", 1L, "1");
+        verify(attemptService).saveAnswer("attempt-1", 2L, "Paris");
+        verify(attemptService).saveAnswer("attempt-1", 3L, "");
+    }
+
+    @Test
+    @DisplayName("Should refuse answer saves without an attempt for the quiz")
+    void saveAnswers_ShouldRejectWithoutAttempt() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("quizId", 2L);
+        session.setAttribute("attemptId", "attempt-1");
+
+        mockMvc.perform(post("/play/1/answers")
+                        .with(csrf())
+                        .session(session)
+                        .param("answer_1", "1"))
+                .andExpect(status().isConflict());
+
+        verify(attemptService, never()).saveAnswer(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should score the attempt's saved answers on submit")
+    void submitQuiz_ShouldScoreSavedAnswers() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("nickname", "TestPlayer");
+        session.setAttribute("attemptId", "attempt-1");
+        session.setAttribute("startTime", System.currentTimeMillis());
+
+        doReturn(Optional.of(QuizSubmission.fromFormValues(Map.of(1L, "1"))))
+                .when(attemptService).complete(eq("attempt-1"), any());
+
+        // Nothing in the form: the answer was saved earlier, e.g. on another device
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("score", 1));
+    }
+
+    @Test
+    @DisplayName("Should score an attempt submitted from two devices only once")
+    void submitQuiz_SameAttemptTwice_ShouldScoreOnce() throws Exception {
+        // Given - the attempt was resumed by token on a second device
+        MockHttpSession first = attemptSession("attempt-1");
+        MockHttpSession second = attemptSession("attempt-1");
+        doReturn(Optional.of(QuizSubmission.fromFormValues(Map.of(1L, "1"))), Optional.empty())
+                .when(attemptService).complete(eq("attempt-1"), any());
+
+        // When
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .session(first)
+                        .param("answer_1", "1"))
+                .andExpect(flash().attribute("score", 1));
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .session(second)
+                        .param("answer_1", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/result/1"))
+                .andExpect(flash().attribute("errorMessage",
+                        "This attempt was already submitted or expired - your answers were not accepted."))
+                .andExpect(flash().attributeCount(1));
+
+        // Then
+        verify(resultPipeline, times(1)).submit(any());
+        assertThat(second.getAttribute("attemptId")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return 409 for a JSON submission of an attempt that is already closed")
+    void submitQuizJson_ClosedAttempt_ShouldReturnConflict() throws Exception {
+        // Given - abandoned by the expiry timer before the submission arrived
+        doReturn(Optional.empty()).when(attemptService).complete(eq("attempt-1"), any());
+
+        // When/Then
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .session(attemptSession("attempt-1"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"answers\":[{\"questionId\":1,\"answerIds\":[1]}]}"))
+                .andExpect(status().isConflict());
+
+        verify(resultPipeline, never()).submit(any());
+    }
+
+    private static MockHttpSession attemptSession(String attemptId) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("nickname", "TestPlayer");
+        session.setAttribute("attemptId", attemptId);
+        session.setAttribute("startTime", System.currentTimeMillis());
+        return session;
+    }
+
+    // ============ Adaptive Play Tests ============
+
+    @Test
+    @DisplayName("Should start a training attempt with a single question")
+    void playAdaptive_ShouldServeOneQuestion() throws Exception {
+        QuizVersion bank = bank(3, null);
+        when(quizVersions.current(1L)).thenReturn(bank);
+
+        MvcResult played = mockMvc.perform(post("/play/1/adaptive")
+                        .with(csrf())
+                        .param("nickname", "Player"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("game/play"))
+                .andExpect(model().attribute("adaptive", Map.of("position", 1, "length", 3)))
+                .andExpect(model().attribute("resumeToken", (Object) null))
+                .andExpect(request().sessionAttribute("ability", AdaptiveEngine.INITIAL_ABILITY))
+                .andReturn();
+
+        assertThat((List<?>) played.getModelAndView().getModel().get("questions")).hasSize(1);
+        assertThat((List<?>) played.getRequest().getSession().getAttribute("questionIds")).hasSize(1);
+        verify(attemptService).startAdaptive(any());
+    }
+
+    @Test
+    @DisplayName("Should serve questions one by one and score the attempt after the last")
+    @SuppressWarnings("unchecked")
+    void answerAdaptive_ShouldServeEachQuestionOnce() throws Exception {
+        QuizVersion bank = bank(3, null);
+        when(quizVersions.current(1L)).thenReturn(bank);
+        when(quizVersions.get(1L, 1)).thenReturn(bank);
+        MockHttpSession session = (MockHttpSession) mockMvc.perform(post("/play/1/adaptive")
+                        .with(csrf())
+                        .param("nickname", "Player"))
+                .andReturn().getRequest().getSession();
+
+        // Each question's correct answer has the question's id
+        for (int answered = 1; answered < 3; answered++) {
+            List<Long> served = (List<Long>) session.getAttribute("questionIds");
+            long current = served.get(served.size() - 1);
+            double ability = (Double) session.getAttribute("ability");
+            mockMvc.perform(post("/play/1/adaptive/answer")
+                            .with(csrf())
+                            .session(session)
+                            .param("questionId", String.valueOf(current))
+                            .param("answer_" + current, String.valueOf(current)))
+                    .andExpect(status().isOk())
+                    .andExpect(model().attribute("adaptive", Map.of("position", answered + 1, "length", 3)));
+            assertThat((Double) session.getAttribute("ability")).isGreaterThan(ability);
+            verify(attemptService).saveAnswer("attempt-1", current, String.valueOf(current));
+        }
+        List<Long> served = (List<Long>) session.getAttribute("questionIds");
+        assertThat(served).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        // The earlier answers come back from the saved ones
+        long last = served.get(2);
+        doReturn(Optional.of(QuizSubmission.fromFormValues(Map.of(1L, "1", 2L, "2", 3L, "3"))))
+                .when(attemptService).complete(eq("attempt-1"), any());
+        mockMvc.perform(post("/play/1/adaptive/answer")
+                        .with(csrf())
+                        .session(session)
+                        .param("questionId", String.valueOf(last))
+                        .param("answer_" + last, String.valueOf(last)))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/result/1"))
+                .andExpect(flash().attribute("score", 3))
+                .andExpect(flash().attribute("maxScore", 3));
+        assertThat(session.getAttribute("ability")).isNull();
+        verify(questionStatBuffer, times(3)).record(anyLong(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should not grade a repeated answer post against the next question")
+    @SuppressWarnings("unchecked")
+    void answerAdaptive_SameAnswerTwice_ShouldRecordOnce() throws Exception {
+        // Given
+        QuizVersion bank = bank(3, null);
+        when(quizVersions.current(1L)).thenReturn(bank);
+        when(quizVersions.get(1L, 1)).thenReturn(bank);
+        MockHttpSession session = (MockHttpSession) mockMvc.perform(post("/play/1/adaptive")
+                        .with(csrf())
+                        .param("nickname", "Player"))
+                .andReturn().getRequest().getSession();
+        List<Long> served = (List<Long>) session.getAttribute("questionIds");
+        long first = served.get(0);
+        mockMvc.perform(post("/play/1/adaptive/answer")
+                        .with(csrf())
+                        .session(session)
+                        .param("questionId", String.valueOf(first))
+                        .param("answer_" + first, String.valueOf(first)))
+                .andExpect(model().attribute("adaptive", Map.of("position", 2, "length", 3)));
+        List<Long> afterFirst = (List<Long>) session.getAttribute("questionIds");
+        Double ability = (Double) session.getAttribute("ability");
+
+        // When - the same form is posted again, e.g. a double click
+        MvcResult repeated = mockMvc.perform(post("/play/1/adaptive/answer")
+                        .with(csrf())
+                        .session(session)
+                        .param("questionId", String.valueOf(first))
+                        .param("answer_" + first, String.valueOf(first)))
+                .andExpect(status().isOk())
+                .andExpect(view().name("game/play"))
+                .andExpect(model().attribute("adaptive", Map.of("position", 2, "length", 3)))
+                .andReturn();
+
+        // Then - the question served second is shown again and nothing is recorded
+        List<?> questions = (List<?>) repeated.getModelAndView().getModel().get("questions");
+        assertThat(((Map<?, ?>) questions.get(0)).get("id")).isEqualTo(afterFirst.get(1));
+        assertThat(session.getAttribute("questionIds")).isEqualTo(afterFirst);
+        assertThat(session.getAttribute("ability")).isEqualTo(ability);
+        verify(attemptService, times(1)).saveAnswer(eq("attempt-1"), anyLong(), any());
+        verify(questionStatBuffer, times(1)).record(anyLong(), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should send an answer without a training attempt back to the start page")
+    void answerAdaptive_ShouldRedirectWithoutAttempt() throws Exception {
+        mockMvc.perform(post("/play/1/adaptive/answer")
+                        .with(csrf())
+                        .param("answer_1", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrl("/play/1"));
+        verifyNoInteractions(attemptService);
+    }
+
     // ============ Submit Quiz Tests - Basic ============
 
     @Test
@@ -181,12 +582,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "TestPlayer");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -201,12 +596,6 @@ class GameControllerTest {
         MockHttpSession session = new MockHttpSession();
         // No nickname in session
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -223,12 +612,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -244,12 +627,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis() - 5000); // Started 5 seconds ago
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -258,6 +635,67 @@ class GameControllerTest {
                 .andExpect(flash().attributeExists("errorMessage"));
     }
 
+    @Test
+    @DisplayName("Should not save a late submission when the quiz rejects them")
+    void submitQuiz_ShouldRejectLateSubmission() throws Exception {
+        testQuizDTO.setTimeLimit(60);
+        testQuizDTO.setLateSubmissionPolicy(LateSubmissionPolicy.REJECT);
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("nickname", "Player");
+        session.setAttribute("startTime", System.currentTimeMillis() - 120_000);
+
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .session(session)
+                        .param("answer_1", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attributeExists("errorMessage"))
+                .andExpect(flash().attributeCount(1));
+
+        verify(resultPipeline, never()).submit(any());
+        assertThat(session.getAttribute("startTime")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should apply the late penalty when the quiz penalizes late submissions")
+    void submitQuiz_ShouldPenalizeLateSubmission() throws Exception {
+        testQuizDTO.setTimeLimit(60);
+        testQuizDTO.setLateSubmissionPolicy(LateSubmissionPolicy.PENALIZE);
+        testQuestion.setPoints(4);
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("startTime", System.currentTimeMillis() - 120_000);
+
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .session(session)
+                        .param("answer_1", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("score", 2))
+                .andExpect(flash().attribute("maxScore", 4));
+    }
+
+    @Test
+    @DisplayName("Should time the attempt from the registry rather than the session")
+    void submitQuiz_ShouldUseRegisteredStartTime() throws Exception {
+        testQuizDTO.setTimeLimit(60);
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("attemptId", "attempt-7");
+        session.setAttribute("startTime", System.currentTimeMillis()); // Tampered with
+
+        when(attemptRegistry.close("attempt-7")).thenReturn(Optional.of(new OpenAttempt(
+                "attempt-7", 1L, 1, "Player", System.currentTimeMillis() - 120_000, 0, 0)));
+
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"answers\":[{\"questionId\":1,\"answerIds\":[1]}]}"))
+                .andExpect(status().isConflict());
+
+        verify(resultPipeline, never()).submit(any());
+        verify(attemptService).abandon("attempt-7");
+    }
+
     @Test
     @DisplayName("Should handle no start time in session")
     void submitQuiz_ShouldHandleNoStartTime() throws Exception {
@@ -265,12 +703,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         // No startTime
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -286,12 +718,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -300,22 +726,26 @@ class GameControllerTest {
     }
 
     @Test
-    @DisplayName("Should handle quiz not found in repository")
-    void submitQuiz_ShouldHandleQuizNotFound() throws Exception {
+    @DisplayName("Should enqueue the scored result and flash it for the result page")
+    void submitQuiz_ShouldEnqueueResult() throws Exception {
         MockHttpSession session = new MockHttpSession();
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.empty()); // Quiz not found
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
                         .param("answer_1", "1"))
-                .andExpect(status().is3xxRedirection());
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("nickname", "Player"))
+                .andExpect(flash().attributeExists("completedAt"));
+
+        ArgumentCaptor<PendingResult> captor = ArgumentCaptor.forClass(PendingResult.class);
+        verify(resultPipeline).submit(captor.capture());
+        assertThat(captor.getValue().quizId()).isEqualTo(1L);
+        assertThat(captor.getValue().nickname()).isEqualTo("Player");
+        assertThat(captor.getValue().score()).isEqualTo(1);
+        assertThat(captor.getValue().maxScore()).isEqualTo(1);
     }
 
     @Test
@@ -325,12 +755,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -348,12 +772,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -369,12 +787,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -396,11 +808,7 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer, answer2));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
+        testAnswers = Arrays.asList(testAnswer, answer2);
 
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
@@ -418,12 +826,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -440,12 +842,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -469,11 +865,7 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer, answer2));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
+        testAnswers = Arrays.asList(testAnswer, answer2);
 
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
@@ -491,12 +883,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -512,12 +898,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -533,12 +913,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -555,12 +929,6 @@ class GameControllerTest {
         session.setAttribute("nickname", "Player");
         session.setAttribute("startTime", System.currentTimeMillis());
 
-        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
-        when(questionRepository.findByQuizId(1L)).thenReturn(Arrays.asList(testQuestion));
-        when(answerRepository.findByQuestionIdAndIsCorrectTrue(1L)).thenReturn(Arrays.asList(testAnswer));
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any())).thenReturn(new QuizResult());
-
         mockMvc.perform(post("/submit/1")
                         .with(csrf())
                         .session(session)
@@ -568,6 +936,127 @@ class GameControllerTest {
                 .andExpect(status().is3xxRedirection());
     }
 
+    // ============ Submit Quiz Tests - Scoring ============
+
+    @Test
+    @DisplayName("Should score multiple choice as a set regardless of order and duplicates")
+    void submitQuiz_ShouldScoreMultipleChoiceAsSet() throws Exception {
+        testQuestion.setType(QuestionType.MULTIPLE_CHOICE);
+        Answer answer2 = new Answer("Also correct", true);
+        answer2.setId(2L);
+
+        testAnswers = Arrays.asList(testAnswer, answer2);
+
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .param("answer_1", "2, 1,2"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("score", 1))
+                .andExpect(flash().attribute("maxScore", 1));
+    }
+
+    @Test
+    @DisplayName("Should score a wrong sorting order as zero")
+    void submitQuiz_ShouldRejectWrongSortingOrder() throws Exception {
+        testQuestion.setType(QuestionType.SORTING);
+        Answer answer2 = new Answer("Second", true, 2);
+        answer2.setId(2L);
+
+        testAnswers = Arrays.asList(answer2, testAnswer);
+
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .param("answer_1", "2,1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("score", 0));
+    }
+
+    @Test
+    @DisplayName("Should use the question's own scoring policy over the quiz's")
+    void submitQuiz_ShouldApplyQuestionScoringPolicy() throws Exception {
+        testQuizDTO.setScoringPolicy(ScoringPolicyType.ALL_OR_NOTHING);
+        testQuestion.setType(QuestionType.MULTIPLE_CHOICE);
+        testQuestion.setPoints(4);
+        testQuestion.setScoringPolicy(ScoringPolicyType.PROPORTIONAL);
+        Answer answer2 = new Answer("Also correct", true);
+        answer2.setId(2L);
+
+        testAnswers = Arrays.asList(testAnswer, answer2);
+
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .param("answer_1", "1"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(flash().attribute("score", 2))
+                .andExpect(flash().attribute("maxScore", 4));
+    }
+
+    @Test
+    @DisplayName("Should compile the scoring plan once per quiz version")
+    void submitQuiz_ShouldReuseScoringPlan() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/submit/1")
+                            .with(csrf())
+                            .param("answer_1", "1"))
+                    .andExpect(flash().attribute("score", 1));
+        }
+
+        assertThat(scoringPlans.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should score the attempt against the version it was started on")
+    void submitQuiz_ShouldScoreAgainstPinnedVersion() throws Exception {
+        QuizVersion started = version(1);
+        // The correct answer changed after the attempt started
+        Answer edited = new Answer("Edited", true, 1);
+        edited.setId(2L);
+        testAnswers = List.of(edited);
+        when(quizVersions.get(1L, 1)).thenReturn(started);
+        when(quizVersions.current(1L)).thenAnswer(invocation -> version(2));
+
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("quizId", 1L);
+        session.setAttribute("quizVersion", 1);
+
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .session(session)
+                        .param("answer_1", "1"))
+                .andExpect(flash().attribute("score", 1));
+
+        ArgumentCaptor<PendingResult> captor = ArgumentCaptor.forClass(PendingResult.class);
+        verify(resultPipeline).submit(captor.capture());
+        assertThat(captor.getValue().quizVersion()).isEqualTo(1);
+        verify(quizVersions, never()).current(1L);
+    }
+
+    @Test
+    @DisplayName("Should accept a typed JSON submission and return the result")
+    void submitQuizJson_ShouldReturnScoredResult() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("nickname", "JsonPlayer");
+        testQuestion.setType(QuestionType.MULTIPLE_CHOICE);
+        Answer answer2 = new Answer("Also correct", true);
+        answer2.setId(2L);
+
+        testAnswers = Arrays.asList(testAnswer, answer2);
+
+        mockMvc.perform(post("/submit/1")
+                        .with(csrf())
+                        .session(session)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"answers\":[{\"questionId\":1,\"answerIds\":[2,1]}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value("JsonPlayer"))
+                .andExpect(jsonPath("$.score").value(1))
+                .andExpect(jsonPath("$.maxScore").value(1))
+                .andExpect(jsonPath("$.quizId").value(1))
+                .andExpect(jsonPath("$.quizVersion").value(1));
+
+        verify(resultPipeline).submit(any(PendingResult.class));
+    }
+
     // ============ Result Tests ============
 
     @Test
@@ -583,6 +1072,26 @@ class GameControllerTest {
                 .andExpect(model().attributeExists("ranking"));
     }
 
+    @Test
+    @DisplayName("Should rank the player's own result before it is stored")
+    void showResult_ShouldIncludeOwnPendingResult() throws Exception {
+        QuizResult stored = new QuizResult("Other", 3, 5, testQuiz);
+        when(quizService.getQuizById(1L)).thenReturn(testQuizDTO);
+        when(quizResultRepository.findTop10ByQuizIdOrderByScoreDesc(1L)).thenReturn(List.of(stored));
+
+        MvcResult result = mockMvc.perform(get("/result/1")
+                        .flashAttr("nickname", "Player")
+                        .flashAttr("score", 4)
+                        .flashAttr("maxScore", 5)
+                        .flashAttr("completedAt", LocalDateTime.now()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        @SuppressWarnings("unchecked")
+        List<QuizResultDTO> ranking = (List<QuizResultDTO>) result.getModelAndView().getModel().get("ranking");
+        assertThat(ranking).extracting(QuizResultDTO::getNickname).containsExactly("Player", "Other");
+    }
+
     // ============ Ranking Tests ============
 
     @Test
@@ -1,11 +1,14 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.cache.InvalidationBus;
 import com.example.quizapp.entity.Question;
 import com.example.quizapp.entity.QuestionType;
 import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.exception.ResourceNotFoundException;
 import com.example.quizapp.repository.QuestionRepository;
 import com.example.quizapp.repository.QuizRepository;
 import com.example.quizapp.security.CustomUserDetailsService;
+import com.example.quizapp.service.DeletionService;
 import com.example.quizapp.dto.QuestionDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,6 +52,12 @@ class QuestionControllerTest {
     @MockitoBean
     private QuizRepository quizRepository;
 
+    @MockitoBean
+    private InvalidationBus invalidationBus;
+
+    @MockitoBean
+    private DeletionService deletionService;
+
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
@@ -252,19 +261,20 @@ class QuestionControllerTest {
     @DisplayName("Should delete question")
     @WithMockUser(roles = "ADMIN")
     void deleteQuestion_ShouldReturnNoContent() throws Exception {
-        when(questionRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(questionRepository).deleteById(1L);
+        when(deletionService.deleteQuestion(1L)).thenReturn(1L);
 
         mockMvc.perform(delete("/api/v1/questions/1")
                         .with(csrf()))
                 .andExpect(status().isNoContent());
+
+        verify(deletionService).deleteQuestion(1L);
     }
 
     @Test
     @DisplayName("Should return 404 when deleting non-existent question")
     @WithMockUser(roles = "ADMIN")
     void deleteQuestion_ShouldReturn404_WhenNotFound() throws Exception {
-        when(questionRepository.existsById(999L)).thenReturn(false);
+        when(deletionService.deleteQuestion(999L)).thenThrow(new ResourceNotFoundException("Question", 999L));
 
         mockMvc.perform(delete("/api/v1/questions/999")
                         .with(csrf()))
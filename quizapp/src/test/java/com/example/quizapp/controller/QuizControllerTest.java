@@ -1,9 +1,20 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.dto.CategoryBrowseDTO;
+import com.example.quizapp.dto.CategoryCountDTO;
 import com.example.quizapp.dto.CreateQuizRequest;
+import com.example.quizapp.dto.FacetCountDTO;
 import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.dto.QuizDiscoveryDTO;
+import com.example.quizapp.dto.QuizDiscoveryRequest;
+import com.example.quizapp.dto.QuizSummaryDTO;
+import com.example.quizapp.discovery.QuizSort;
 import com.example.quizapp.exception.ResourceNotFoundException;
+import com.example.quizapp.search.CategoryMatch;
 import com.example.quizapp.security.CustomUserDetailsService;
+import com.example.quizapp.service.CategoryBrowseService;
+import com.example.quizapp.service.QuizDiscoveryService;
+import com.example.quizapp.service.QuizSearchService;
 import com.example.quizapp.service.QuizService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,10 +30,14 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -46,6 +61,15 @@ class QuizControllerTest {
     @MockitoBean
     private QuizService quizService;
 
+    @MockitoBean
+    private QuizSearchService quizSearchService;
+
+    @MockitoBean
+    private CategoryBrowseService categoryBrowseService;
+
+    @MockitoBean
+    private QuizDiscoveryService quizDiscoveryService;
+
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
@@ -111,6 +135,24 @@ class QuizControllerTest {
                 .andExpect(jsonPath("$.title").value("New Quiz"));
     }
 
+    @Test
+    @DisplayName("Clone quiz - returns 201 with the copy")
+    @WithMockUser(roles = "ADMIN")
+    void cloneQuiz_ShouldReturnCreated() throws Exception {
+        // Given
+        testQuizDTO.setId(2L);
+        testQuizDTO.setTitle("Template");
+        when(quizService.cloneQuiz(1L, "Template")).thenReturn(testQuizDTO);
+
+        // When/Then
+        mockMvc.perform(post("/api/v1/quizzes/1/clone")
+                        .with(csrf())
+                        .param("title", "Template"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(2))
+                .andExpect(jsonPath("$.title").value("Template"));
+    }
+
     @Test
     @DisplayName("Scenario 4: Update quiz successfully - admin user")
     @WithMockUser(roles = "ADMIN")
@@ -171,15 +213,97 @@ class QuizControllerTest {
     }
 
     @Test
-    @DisplayName("Search quizzes by title")
+    @DisplayName("Search quizzes with ranked paging")
     void searchQuizzes_ShouldReturnMatchingQuizzes() throws Exception {
         // Given
-        when(quizService.searchQuizzes("test")).thenReturn(Arrays.asList(testQuizDTO));
+        when(quizSearchService.search("test", 1, 5))
+                .thenReturn(new PageImpl<>(Arrays.asList(testQuizDTO), PageRequest.of(1, 5), 6));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/quizzes/search")
+                        .param("q", "test")
+                        .param("page", "1")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Quiz"))
+                .andExpect(jsonPath("$.totalElements").value(6));
+    }
+
+    @Test
+    @DisplayName("Search quizzes accepts the legacy title parameter")
+    void searchQuizzes_WithTitleParam_ShouldSearch() throws Exception {
+        // Given
+        when(quizSearchService.search("test", 0, 20))
+                .thenReturn(new PageImpl<>(Arrays.asList(testQuizDTO), PageRequest.of(0, 20), 1));
 
         // When/Then
         mockMvc.perform(get("/api/v1/quizzes/search")
                         .param("title", "test"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].title").value("Test Quiz"));
+                .andExpect(jsonPath("$.content[0].title").value("Test Quiz"));
+    }
+
+    @Test
+    @DisplayName("Suggest quiz titles for a prefix")
+    void suggestTitles_ShouldReturnTitles() throws Exception {
+        // Given
+        when(quizSearchService.suggest("te", 10)).thenReturn(Arrays.asList("Test Quiz"));
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/quizzes/search/suggest")
+                        .param("prefix", "te"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("Test Quiz"));
+    }
+
+    @Test
+    @DisplayName("Browse quizzes by several categories")
+    void browseQuizzes_ShouldReturnPageAndCounts() throws Exception {
+        // Given
+        CategoryBrowseDTO browse = new CategoryBrowseDTO(
+                new PageImpl<>(Arrays.asList(testQuizDTO), PageRequest.of(0, 20), 1),
+                List.of(new CategoryCountDTO(3L, "Science", 1, true), new CategoryCountDTO(5L, "History", 1, false)),
+                CategoryMatch.ANY);
+        when(categoryBrowseService.browse(List.of(3L, 4L), CategoryMatch.ANY, 0, 20)).thenReturn(browse);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/quizzes/browse")
+                        .param("category", "3", "4")
+                        .param("match", "ANY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quizzes.content[0].title").value("Test Quiz"))
+                .andExpect(jsonPath("$.categories[0].name").value("Science"))
+                .andExpect(jsonPath("$.categories[0].selected").value(true))
+                .andExpect(jsonPath("$.match").value("ANY"));
+    }
+
+    @Test
+    @DisplayName("Discover quizzes with combined filters")
+    void discoverQuizzes_ShouldBindFilters() throws Exception {
+        // Given
+        QuizSummaryDTO summary = new QuizSummaryDTO(1L, "Test Quiz", null, 300, true, 12, List.of("Science"), 40, 72.5);
+        QuizDiscoveryDTO discovery = new QuizDiscoveryDTO(
+                new PageImpl<>(List.of(summary), PageRequest.of(0, 20), 1),
+                Map.of("timed", List.of(new FacetCountDTO("true", "Timed", 1, true))));
+        when(quizDiscoveryService.discover(any(QuizDiscoveryRequest.class))).thenReturn(discovery);
+
+        // When/Then
+        mockMvc.perform(get("/api/v1/quizzes/discover")
+                        .param("category", "3", "4")
+                        .param("match", "ANY")
+                        .param("timed", "true")
+                        .param("minQuestions", "11")
+                        .param("sort", "MOST_PLAYED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.quizzes.content[0].plays").value(40))
+                .andExpect(jsonPath("$.quizzes.content[0].averageScore").value(72.5))
+                .andExpect(jsonPath("$.facets.timed[0].count").value(1));
+
+        verify(quizDiscoveryService).discover(argThat(request -> request.getCategory().equals(List.of(3L, 4L))
+                && request.getMatch() == CategoryMatch.ANY
+                && Boolean.TRUE.equals(request.getTimed())
+                && request.getMinQuestions() == 11
+                && request.getMaxQuestions() == null
+                && request.getSort() == QuizSort.MOST_PLAYED));
     }
 }
@@ -1,18 +1,26 @@
 package com.example.quizapp.controller;
 
+import com.example.quizapp.dto.CategoryBrowseDTO;
+import com.example.quizapp.dto.CategoryCountDTO;
 import com.example.quizapp.dto.CreateQuizRequest;
 import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.search.CategoryMatch;
 import com.example.quizapp.security.CustomUserDetailsService;
+import com.example.quizapp.service.CategoryBrowseService;
 import com.example.quizapp.service.QuizService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -33,6 +41,9 @@ class QuizMvcControllerTest {
     @MockitoBean
     private QuizService quizService;
 
+    @MockitoBean
+    private CategoryBrowseService categoryBrowseService;
+
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
 
@@ -55,6 +66,22 @@ class QuizMvcControllerTest {
                 .andExpect(redirectedUrl("/admin"));
     }
 
+    @Test
+    @DisplayName("Should browse quizzes by category")
+    void browseQuizzes_ShouldReturnBrowseView() throws Exception {
+        testQuizDTO.setCategories(java.util.Set.of("Science"));
+        CategoryBrowseDTO browse = new CategoryBrowseDTO(
+                new PageImpl<>(List.of(testQuizDTO), PageRequest.of(0, 12), 30),
+                List.of(new CategoryCountDTO(3L, "Science", 30, true)),
+                CategoryMatch.ALL);
+        when(categoryBrowseService.browse(List.of(3L), CategoryMatch.ALL, 0, 12)).thenReturn(browse);
+
+        mockMvc.perform(get("/quizzes/browse").param("category", "3"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("quiz/browse"))
+                .andExpect(model().attribute("browse", browse));
+    }
+
     @Test
     @DisplayName("Should show quiz details - controller returns correct view")
     void viewQuiz_ShouldCallServiceAndReturnView() throws Exception {
@@ -3,9 +3,13 @@ package com.example.quizapp.controller;
 import com.example.quizapp.dto.QuizResultDTO;
 import com.example.quizapp.entity.Quiz;
 import com.example.quizapp.entity.QuizResult;
-import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.exception.ResultChangesExpiredException;
 import com.example.quizapp.repository.QuizResultRepository;
+import com.example.quizapp.results.ResultChange;
+import com.example.quizapp.results.ResultChangeBatch;
+import com.example.quizapp.results.ResultChangeFeed;
 import com.example.quizapp.security.CustomUserDetailsService;
+import com.example.quizapp.service.QuizResultService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,11 +20,18 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -43,7 +54,10 @@ class QuizResultControllerTest {
     private QuizResultRepository quizResultRepository;
 
     @MockitoBean
-    private QuizRepository quizRepository;
+    private QuizResultService quizResultService;
+
+    @MockitoBean
+    private ResultChangeFeed resultChangeFeed;
 
     @MockitoBean
     private CustomUserDetailsService userDetailsService;
@@ -100,8 +114,7 @@ class QuizResultControllerTest {
     @Test
     @DisplayName("Should submit result")
     void submitResult_ShouldReturnCreated() throws Exception {
-        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizResultRepository.save(any(QuizResult.class))).thenReturn(testResult);
+        when(quizResultService.submitResult(any(QuizResultDTO.class))).thenReturn(new QuizResultDTO(testResult));
 
         QuizResultDTO dto = new QuizResultDTO();
         dto.setNickname("NewPlayer");
@@ -115,4 +128,73 @@ class QuizResultControllerTest {
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isCreated());
     }
+
+    @Test
+    @DisplayName("Should delete result through the service")
+    void deleteResult_ShouldReturnNoContent() throws Exception {
+        mockMvc.perform(delete("/api/v1/results/1").with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(quizResultService).deleteResult(1L);
+    }
+
+    @Test
+    @DisplayName("Should bulk delete a quiz's results completed before a time")
+    void deleteResultsByQuiz_ShouldReturnDeletedCount() throws Exception {
+        LocalDateTime before = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(quizResultService.deleteResultsBefore(1L, before)).thenReturn(12);
+
+        mockMvc.perform(delete("/api/v1/results/quiz/1")
+                        .param("before", "2024-01-01T00:00:00")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(12));
+    }
+
+    // ============ Change Feed Tests ============
+
+    @Test
+    @DisplayName("Should return result changes after the given seq")
+    void getChanges_ShouldReturnBatch() throws Exception {
+        // Given
+        ResultChange change = new ResultChange(8, ResultChange.Type.INSERT, 1L, 1L, "Player1", 90, 100,
+                LocalDateTime.now(), LocalDateTime.now());
+        DeferredResult<ResultChangeBatch> batch = new DeferredResult<>();
+        batch.setResult(new ResultChangeBatch(List.of(change), 8));
+        when(resultChangeFeed.poll(7, 100, Duration.ofSeconds(30))).thenReturn(batch);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/results/changes").param("after", "7"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next").value(8))
+                .andExpect(jsonPath("$.changes[0].type").value("INSERT"))
+                .andExpect(jsonPath("$.changes[0].nickname").value("Player1"));
+    }
+
+    @Test
+    @DisplayName("Should cap the batch size and wait time")
+    void getChanges_ShouldBoundParameters() throws Exception {
+        when(resultChangeFeed.poll(0, 1000, Duration.ofSeconds(60))).thenReturn(new DeferredResult<>());
+
+        mockMvc.perform(get("/api/v1/results/changes").param("limit", "50000").param("wait", "3600"))
+                .andExpect(request().asyncStarted());
+
+        verify(resultChangeFeed).poll(0, 1000, Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("Should return 410 when the requested changes were removed by retention")
+    void getChanges_ShouldReturn410_WhenExpired() throws Exception {
+        when(resultChangeFeed.poll(3, 100, Duration.ofSeconds(30)))
+                .thenThrow(new ResultChangesExpiredException(3, 500));
+
+        mockMvc.perform(get("/api/v1/results/changes").param("after", "3"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.message").value(containsString("after=500")));
+    }
 }
@@ -0,0 +1,81 @@
+package com.example.quizapp.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QuestionJdbcDao using Mockito.
+ */
+@ExtendWith(MockitoExtension.class)
+class QuestionJdbcDaoTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private QuestionJdbcDao questionJdbcDao;
+
+    @Test
+    @DisplayName("Should delete a question's answers and the question with two statements")
+    void deleteWithAnswers_ShouldIssueTwoStatements() {
+        // Given
+        when(jdbcTemplate.update(anyString(), eq(1L))).thenReturn(1);
+
+        // When
+        int result = questionJdbcDao.deleteWithAnswers(1L);
+
+        // Then
+        assertThat(result).isEqualTo(1);
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update("DELETE FROM answer WHERE question_id = ?", 1L);
+        order.verify(jdbcTemplate).update("DELETE FROM question WHERE id = ?", 1L);
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should delete an answer with one statement")
+    void deleteAnswer_ShouldIssueOneStatement() {
+        // Given
+        when(jdbcTemplate.update(anyString(), eq(5L))).thenReturn(1);
+
+        // When
+        int result = questionJdbcDao.deleteAnswer(5L);
+
+        // Then
+        assertThat(result).isEqualTo(1);
+        verify(jdbcTemplate).update("DELETE FROM answer WHERE id = ?", 5L);
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should find the quiz of a question")
+    void findQuizId_ShouldReturnQuizId() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1L))).thenReturn(List.of(3L));
+
+        // When/Then
+        assertThat(questionJdbcDao.findQuizId(1L)).contains(3L);
+    }
+
+    @Test
+    @DisplayName("Should return empty when the answer does not exist")
+    void findQuestionIdOfAnswer_ShouldReturnEmpty_WhenNotFound() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(999L))).thenReturn(List.of());
+
+        // When/Then
+        assertThat(questionJdbcDao.findQuestionIdOfAnswer(999L)).isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.quizapp.dao;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.service.QuizService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cloning a quiz with 5,000 questions of four answers each through QuizService, which
+ * copies it with one INSERT ... SELECT per table. Also checks that every copied answer
+ * landed on the copy of its own question.
+ * Run with: mvn test -Pbenchmark -Dtest=QuizCloneBenchmarkTest
+ */
+@Tag("benchmark")
+class QuizCloneBenchmarkTest {
+
+    private static final int QUESTIONS = 5_000;
+    private static final int ANSWERS_PER_QUESTION = 4;
+    private static final String SEED_QUESTIONS_SQL = """
+            INSERT INTO question (text, type, points, order_index, quiz_id)
+            SELECT 'Question ' || X, 'SINGLE_CHOICE', 1, X, ? FROM SYSTEM_RANGE(1, ?)""";
+    private static final String SEED_ANSWERS_SQL = """
+            INSERT INTO answer (text, is_correct, order_index, question_id)
+            SELECT q.text || '-' || r.X, r.X = MOD(q.order_index, 4) + 1, r.X, q.id
+            FROM question q CROSS JOIN SYSTEM_RANGE(1, 4) r WHERE q.quiz_id = ?""";
+    private static final String MISPLACED_ANSWERS_SQL = """
+            SELECT COUNT(*) FROM answer a JOIN question q ON a.question_id = q.id
+            WHERE q.quiz_id = ?
+              AND (a.text NOT LIKE q.text || '-%' OR a.is_correct <> (a.order_index = MOD(q.order_index, 4) + 1))""";
+
+    @Test
+    @DisplayName("Benchmark: set-based clone of a 5,000-question quiz")
+    void cloneLargeQuiz() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:quiz-clone;DB_CLOSE_DELAY=-1",
+                        "app.cache.invalidation.transport=none",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run()) {
+            QuizRepository quizRepository = context.getBean(QuizRepository.class);
+            QuizService quizService = context.getBean(QuizService.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            quizService.cloneQuiz(seed(quizRepository, jdbcTemplate, 100), null);
+
+            Long source = seed(quizRepository, jdbcTemplate, QUESTIONS);
+            QuizDTO[] clone = new QuizDTO[1];
+            long cloneMillis = time(() -> clone[0] = quizService.cloneQuiz(source, null));
+
+            System.out.printf("%-22s %10s %10s %10s%n", "path", "questions", "answers", "ms");
+            System.out.printf("%-22s %10d %10d %10d%n", "set-based clone",
+                    QUESTIONS, QUESTIONS * ANSWERS_PER_QUESTION, cloneMillis);
+
+            Long cloneId = clone[0].getId();
+            assertThat(clone[0].getTitle()).isEqualTo("Clone Quiz (copy)");
+            assertThat(clone[0].getQuestionCount()).isEqualTo(QUESTIONS);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM answer a JOIN question q ON a.question_id = q.id WHERE q.quiz_id = ?",
+                    Long.class, cloneId)).isEqualTo((long) QUESTIONS * ANSWERS_PER_QUESTION);
+            assertThat(jdbcTemplate.queryForObject(MISPLACED_ANSWERS_SQL, Long.class, cloneId)).isZero();
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM quiz_categories WHERE quiz_id = ?", Long.class, cloneId)).isEqualTo(1L);
+            assertThat(cloneMillis).isLessThan(1_000);
+        }
+    }
+
+    private static Long seed(QuizRepository quizRepository, JdbcTemplate jdbcTemplate, int questions) {
+        Long quizId = quizRepository.save(new Quiz("Clone Quiz")).getId();
+        jdbcTemplate.update(SEED_QUESTIONS_SQL, quizId, questions);
+        jdbcTemplate.update(SEED_ANSWERS_SQL, quizId);
+        jdbcTemplate.update("MERGE INTO category (name) KEY (name) VALUES ('Benchmark')");
+        jdbcTemplate.update("""
+                INSERT INTO quiz_categories (quiz_id, category_id)
+                SELECT ?, id FROM category WHERE name = 'Benchmark'""", quizId);
+        return quizId;
+    }
+
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.quizapp.dao;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.results.ResultArchiver;
+import com.example.quizapp.service.QuizService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deleting a quiz with many results: removing the Quiz entity, which loads and cascades
+ * through every result, versus QuizService's one statement per table. The entity path is
+ * run at a tenth of the size; at a million results it mostly measures the heap. Archiving
+ * a million results in chunks is timed on the same data.
+ * Run with: mvn test -Pbenchmark -Dtest=QuizDeleteBenchmarkTest
+ */
+@Tag("benchmark")
+class QuizDeleteBenchmarkTest {
+
+    private static final int RESULTS = 1_000_000;
+    private static final int ENTITY_RESULTS = 100_000;
+    private static final String SEED_SQL = """
+            INSERT INTO quiz_result (nickname, score, max_score, completed_at, quiz_id)
+            SELECT 'Player ' || X, MOD(X, 11), 10, DATEADD('MINUTE', -X, CURRENT_TIMESTAMP), ?
+            FROM SYSTEM_RANGE(1, ?)""";
+
+    @Test
+    @DisplayName("Benchmark: quiz delete, entity cascade vs set-based, and result archival")
+    void deleteQuizWithResults() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:quiz-delete;DB_CLOSE_DELAY=-1",
+                        "app.cache.invalidation.transport=none",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run()) {
+            QuizRepository quizRepository = context.getBean(QuizRepository.class);
+            QuizService quizService = context.getBean(QuizService.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            Long entityQuiz = seed(quizRepository, jdbcTemplate, ENTITY_RESULTS);
+            long entityMillis = time(() -> quizRepository.deleteById(entityQuiz));
+
+            Long smallQuiz = seed(quizRepository, jdbcTemplate, ENTITY_RESULTS);
+            long smallMillis = time(() -> quizService.deleteQuiz(smallQuiz));
+
+            Long largeQuiz = seed(quizRepository, jdbcTemplate, RESULTS);
+            long largeMillis = time(() -> quizService.deleteQuiz(largeQuiz));
+
+            Long archivedQuiz = seed(quizRepository, jdbcTemplate, RESULTS);
+            int[] archived = new int[1];
+            long archiveMillis = time(() -> archived[0] = context.getBean(ResultArchiver.class)
+                    .archive(LocalDateTime.now().plusMinutes(1)));
+
+            System.out.printf("%-22s %10s %10s%n", "path", "results", "ms");
+            System.out.printf("%-22s %10d %10d%n", "entity cascade", ENTITY_RESULTS, entityMillis);
+            System.out.printf("%-22s %10d %10d%n", "set-based delete", ENTITY_RESULTS, smallMillis);
+            System.out.printf("%-22s %10d %10d%n", "set-based delete", RESULTS, largeMillis);
+            System.out.printf("%-22s %10d %10d%n", "archive (chunked)", RESULTS, archiveMillis);
+
+            assertThat(quizRepository.existsById(entityQuiz)).isFalse();
+            assertThat(quizRepository.existsById(largeQuiz)).isFalse();
+            assertThat(archived[0]).isGreaterThanOrEqualTo(RESULTS);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM quiz_result WHERE quiz_id = ?", Long.class, archivedQuiz)).isZero();
+        }
+    }
+
+    private static Long seed(QuizRepository quizRepository, JdbcTemplate jdbcTemplate, int results) {
+        Long quizId = quizRepository.save(new Quiz("Delete Quiz")).getId();
+        jdbcTemplate.update(SEED_SQL, quizId, results);
+        return quizId;
+    }
+
+    private static long time(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -5,16 +5,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -168,7 +173,7 @@ class QuizJdbcDaoTest {
     }
 
     @Test
-    @DisplayName("Should delete all quizzes")
+    @DisplayName("Should delete all quizzes after their children")
     void deleteAll_ShouldDeleteAllQuizzes() {
         // Given
         when(jdbcTemplate.update(anyString())).thenReturn(5);
@@ -178,7 +183,10 @@ class QuizJdbcDaoTest {
 
         // Then
         assertThat(result).isEqualTo(5);
-        verify(jdbcTemplate).update(anyString());
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate, times(11)).update(not(eq("DELETE FROM quiz")));
+        order.verify(jdbcTemplate).update("DELETE FROM quiz");
+        verifyNoMoreInteractions(jdbcTemplate);
     }
 
     @Test
@@ -224,4 +232,54 @@ class QuizJdbcDaoTest {
         assertThat(result).isEqualTo(5L);
         verify(jdbcTemplate).queryForObject(anyString(), eq(Long.class));
     }
+
+    @Test
+    @DisplayName("Should delete children with one statement per table before the quiz")
+    void deleteWithChildren_ShouldDeleteQuizLast() {
+        // Given
+        when(jdbcTemplate.update(anyString(), eq(1L))).thenReturn(1);
+
+        // When
+        int result = quizJdbcDao.deleteWithChildren(1L);
+
+        // Then
+        assertThat(result).isEqualTo(1);
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate, times(11)).update(not(startsWith("DELETE FROM quiz WHERE")), eq(1L));
+        order.verify(jdbcTemplate).update("DELETE FROM quiz WHERE id = ?", 1L);
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should clone a quiz with one INSERT ... SELECT per table and return the new id")
+    void cloneWithChildren_ShouldCopySetBased() {
+        // Given
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenAnswer(invocation -> {
+            invocation.<KeyHolder>getArgument(1).getKeyList().add(Map.of("id", 7L));
+            return 1;
+        });
+
+        // When
+        Optional<Long> result = quizJdbcDao.cloneWithChildren(1L, "Copy");
+
+        // Then
+        assertThat(result).contains(7L);
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+        order.verify(jdbcTemplate).update(startsWith("INSERT INTO quiz_categories"), eq(7L), eq(1L));
+        order.verify(jdbcTemplate).update(startsWith("INSERT INTO question"), eq(7L), eq(1L));
+        order.verify(jdbcTemplate).update(startsWith("INSERT INTO answer"), eq(1L), eq(7L));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should copy nothing when the source quiz does not exist")
+    void cloneWithChildren_ShouldReturnEmpty_WhenNotFound() {
+        // Given
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class))).thenReturn(0);
+
+        // When/Then
+        assertThat(quizJdbcDao.cloneWithChildren(999L, null)).isEmpty();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
 }
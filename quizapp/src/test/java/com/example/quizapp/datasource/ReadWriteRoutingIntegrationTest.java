@@ -0,0 +1,202 @@
+package com.example.quizapp.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for read/write routing.
+ * Two separate H2 databases stand in for primary and replica; rows written directly
+ * into only one of them reveal which pool served a request.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rw-primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.replica.url=jdbc:h2:mem:rw-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.lag-query=SELECT lag_seconds FROM replica_lag",
+        "app.datasource.replica.lag-check-interval=1h",
+        "app.datasource.replica.max-lag=5s",
+        "app.datasource.replica.hikari.maximum-pool-size=3",
+        "spring.datasource.hikari.maximum-pool-size=4"
+})
+@AutoConfigureMockMvc
+class ReadWriteRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+
+    @BeforeEach
+    void setUp() {
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+
+        Integer replicaTables = replicaJdbc.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'QUIZ'", Integer.class);
+        if (replicaTables == 0) {
+            copySchemaToReplica();
+        }
+        replicaJdbc.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag_seconds DOUBLE)");
+        replicaJdbc.update("DELETE FROM replica_lag");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+        lagMonitor.refresh();
+    }
+
+    // ==================== ROUTING ====================
+
+    @Test
+    @DisplayName("Should serve read-only transactions from the replica")
+    void readOnlyTransaction_ShouldUseReplica() throws Exception {
+        // Given
+        insertQuiz(primaryJdbc, "Only On Primary A");
+        insertQuiz(replicaJdbc, "Only On Replica A");
+        double replicaReadsBefore = routeCount("replica", "read");
+
+        // When
+        String body = getQuizzes(null);
+
+        // Then
+        assertThat(body).contains("Only On Replica A").doesNotContain("Only On Primary A");
+        assertThat(routeCount("replica", "read")).isGreaterThan(replicaReadsBefore);
+    }
+
+    @Test
+    @DisplayName("Should send write transactions to the primary and pin the client")
+    void writeTransaction_ShouldUsePrimary() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(post("/api/v1/quizzes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Written Quiz B\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        // Then
+        assertThat(countQuizzes(primaryJdbc, "Written Quiz B")).isEqualTo(1);
+        assertThat(countQuizzes(replicaJdbc, "Written Quiz B")).isZero();
+        assertThat(result.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should read own writes from the primary while pinned")
+    void pinnedClient_ShouldReadFromPrimary() throws Exception {
+        // Given
+        MvcResult write = mockMvc.perform(post("/api/v1/quizzes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Just Written C\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Cookie pin = write.getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        // When
+        String pinnedBody = getQuizzes(pin);
+        String anonymousBody = getQuizzes(null);
+
+        // Then
+        assertThat(pinnedBody).contains("Just Written C");
+        assertThat(anonymousBody).doesNotContain("Just Written C");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the replica lags")
+    void laggingReplica_ShouldFallBackToPrimary() throws Exception {
+        // Given
+        insertQuiz(primaryJdbc, "Only On Primary D");
+        insertQuiz(replicaJdbc, "Only On Replica D");
+        replicaJdbc.update("UPDATE replica_lag SET lag_seconds = 60");
+        lagMonitor.refresh();
+        double laggingBefore = routeCount("primary", "replica-lag");
+
+        // When
+        String body = getQuizzes(null);
+
+        // Then
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(body).contains("Only On Primary D").doesNotContain("Only On Replica D");
+        assertThat(routeCount("primary", "replica-lag")).isGreaterThan(laggingBefore);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when the lag check fails")
+    void unreachableReplica_ShouldFallBackToPrimary() {
+        // Given
+        replicaJdbc.execute("DROP TABLE replica_lag");
+
+        // When
+        lagMonitor.refresh();
+
+        // Then
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(lagMonitor.getLagSeconds()).isNaN();
+    }
+
+    // ==================== HELPERS ====================
+
+    private String getQuizzes(Cookie pin) throws Exception {
+        var request = get("/api/v1/quizzes").param("size", "100");
+        if (pin != null) {
+            request.cookie(pin);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private double routeCount(String route, String reason) {
+        return meterRegistry.counter("quizapp.datasource.route", "route", route, "reason", reason).count();
+    }
+
+    private void copySchemaToReplica() {
+        List<String> statements = primaryJdbc.queryForList("SCRIPT NODATA", String.class);
+        for (String statement : statements) {
+            if (!statement.startsWith("CREATE USER")) {
+                replicaJdbc.execute(statement);
+            }
+        }
+    }
+
+    private static void insertQuiz(JdbcTemplate jdbc, String title) {
+        jdbc.update("""
+            INSERT INTO quiz (title, shuffle_questions, shuffle_answers, negative_points, created_at, updated_at)
+            VALUES (?, FALSE, FALSE, FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """, title);
+    }
+
+    private static int countQuizzes(JdbcTemplate jdbc, String title) {
+        Integer count = jdbc.queryForObject("SELECT COUNT(*) FROM quiz WHERE title = ?", Integer.class, title);
+        return count != null ? count : 0;
+    }
+}
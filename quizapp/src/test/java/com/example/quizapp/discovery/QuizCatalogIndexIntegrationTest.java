@@ -0,0 +1,115 @@
+package com.example.quizapp.discovery;
+
+import com.example.quizapp.dto.CreateQuizRequest;
+import com.example.quizapp.dto.QuestionDTO;
+import com.example.quizapp.dto.QuizDiscoveryRequest;
+import com.example.quizapp.dto.QuizSummaryDTO;
+import com.example.quizapp.results.PendingResult;
+import com.example.quizapp.service.QuestionService;
+import com.example.quizapp.service.QuizDiscoveryService;
+import com.example.quizapp.service.QuizService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for keeping the discovery catalog in step with quiz edits.
+ */
+@SpringBootTest
+class QuizCatalogIndexIntegrationTest {
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuizDiscoveryService quizDiscoveryService;
+
+    @Autowired
+    private QuizCatalogIndex quizCatalogIndex;
+
+    @Test
+    @DisplayName("Should reflect quizzes created and edited through the service")
+    void createAndUpdate_ShouldBeDiscoverable() {
+        // Given
+        Long quizId = quizService.createQuiz(new CreateQuizRequest("Catalog Untimed", null)).getId();
+
+        // Then
+        assertThat(find(quizId, timed(false))).isPresent();
+        assertThat(find(quizId, timed(true))).isEmpty();
+
+        // When
+        CreateQuizRequest update = new CreateQuizRequest("Catalog Timed", null);
+        update.setTimeLimit(120);
+        quizService.updateQuiz(quizId, update);
+
+        // Then
+        assertThat(find(quizId, timed(true))).map(QuizSummaryDTO::getTitle).contains("Catalog Timed");
+    }
+
+    @Test
+    @DisplayName("Should count questions added to a quiz")
+    void addQuestion_ShouldUpdateQuestionCount() {
+        // Given
+        Long quizId = quizService.createQuiz(new CreateQuizRequest("Catalog Questions", null)).getId();
+        QuestionDTO question = new QuestionDTO();
+        question.setQuizId(quizId);
+        question.setText("How many moons does Mars have?");
+
+        // When
+        questionService.createQuestion(question);
+
+        // Then
+        assertThat(find(quizId, new QuizDiscoveryRequest())).map(QuizSummaryDTO::getQuestionCount).contains(1);
+    }
+
+    @Test
+    @DisplayName("Should count results offered by the pipeline")
+    void offer_ShouldCountPlays() {
+        // Given
+        Long quizId = quizService.createQuiz(new CreateQuizRequest("Catalog Plays", null)).getId();
+
+        // When
+        quizCatalogIndex.offer(List.of(PendingResult.of(quizId, "Ann", 3, 4), PendingResult.of(quizId, "Bob", 1, 4)));
+
+        // Then
+        QuizSummaryDTO summary = find(quizId, new QuizDiscoveryRequest()).orElseThrow();
+        assertThat(summary.getPlays()).isEqualTo(2);
+        assertThat(summary.getAverageScore()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("Should drop deleted quizzes")
+    void delete_ShouldRemoveFromCatalog() {
+        // Given
+        Long quizId = quizService.createQuiz(new CreateQuizRequest("Catalog Deleted", null)).getId();
+
+        // When
+        quizService.deleteQuiz(quizId);
+
+        // Then
+        assertThat(find(quizId, new QuizDiscoveryRequest())).isEmpty();
+    }
+
+    private Optional<QuizSummaryDTO> find(Long quizId, QuizDiscoveryRequest request) {
+        // New quizzes are the newest, so the first page is enough
+        request.setSize(100);
+        return quizDiscoveryService.discover(request).getQuizzes().getContent().stream()
+                .filter(summary -> summary.getId().equals(quizId))
+                .findFirst();
+    }
+
+    private static QuizDiscoveryRequest timed(boolean timed) {
+        QuizDiscoveryRequest request = new QuizDiscoveryRequest();
+        request.setTimed(timed);
+        return request;
+    }
+}
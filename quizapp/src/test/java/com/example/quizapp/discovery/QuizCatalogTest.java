@@ -0,0 +1,203 @@
+package com.example.quizapp.discovery;
+
+import com.example.quizapp.search.CategoryIndex;
+import com.example.quizapp.search.CategoryMatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the columnar quiz catalog.
+ */
+class QuizCatalogTest {
+
+    private static final long SCIENCE = 1;
+    private static final long HISTORY = 2;
+
+    private QuizCatalog catalog;
+    private CategoryIndex categories;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new QuizCatalog();
+        catalog.putCategoryName(SCIENCE, "Science");
+        catalog.putCategoryName(HISTORY, "History");
+        // quizId, time limit, negative points, questions, plays, scored, sum of score ratios
+        catalog.put(row(1, null, false, 5, 10, 10, 9.0));
+        catalog.put(row(2, 300, true, 12, 3, 3, 1.5));
+        catalog.put(row(3, 600, false, 25, 30, 30, 15.0));
+        catalog.put(row(4, null, false, 8, 0, 0, 0));
+
+        CategoryIndex.Builder builder = CategoryIndex.builder();
+        builder.add(1, SCIENCE);
+        builder.add(2, SCIENCE);
+        builder.add(2, HISTORY);
+        builder.add(3, HISTORY);
+        categories = builder.build();
+    }
+
+    // ==================== FILTERS ====================
+
+    @Test
+    @DisplayName("Should combine filters, newest first by default")
+    void query_ShouldCombineFilters() {
+        // When
+        CatalogPage result = catalog.query(query(new long[] {HISTORY}, CategoryMatch.ALL, true, null, null,
+                QuizSort.NEWEST), categories);
+
+        // Then
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.entries()).extracting(CatalogEntry::quizId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should filter by question count and plays")
+    void query_ShouldFilterByCounts() {
+        // When
+        CatalogPage result = catalog.query(new CatalogQuery(new long[0], CategoryMatch.ALL, null, false,
+                6, 30, 1, QuizSort.NEWEST, 0, 10), categories);
+
+        // Then
+        assertThat(result.entries()).extracting(CatalogEntry::quizId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should match an unknown category with ANY but not with ALL")
+    void query_UnknownCategory() {
+        assertThat(catalog.query(query(new long[] {SCIENCE, 99}, CategoryMatch.ANY, null, null, null,
+                QuizSort.NEWEST), categories).total()).isEqualTo(2);
+        assertThat(catalog.query(query(new long[] {SCIENCE, 99}, CategoryMatch.ALL, null, null, null,
+                QuizSort.NEWEST), categories).total()).isZero();
+    }
+
+    // ==================== SORTING ====================
+
+    @Test
+    @DisplayName("Should sort by plays")
+    void query_ShouldSortByPlays() {
+        // When
+        CatalogPage result = catalog.query(query(new long[0], CategoryMatch.ALL, null, null, null,
+                QuizSort.MOST_PLAYED), categories);
+
+        // Then
+        assertThat(result.entries()).extracting(CatalogEntry::quizId).containsExactly(3L, 1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should sort by average with unplayed quizzes last")
+    void query_ShouldSortByAverage() {
+        // When
+        CatalogPage result = catalog.query(query(new long[0], CategoryMatch.ALL, null, null, null,
+                QuizSort.HIGHEST_AVERAGE), categories);
+
+        // Then
+        assertThat(result.entries()).extracting(CatalogEntry::quizId).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(result.entries().get(0).averageScore()).isEqualTo(90.0);
+        assertThat(result.entries().get(3).averageScore()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should page sorted results")
+    void query_ShouldPage() {
+        // When
+        CatalogPage result = catalog.query(new CatalogQuery(new long[0], CategoryMatch.ALL, null, null,
+                null, null, null, QuizSort.MOST_PLAYED, 1, 3), categories);
+
+        // Then
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.entries()).extracting(CatalogEntry::quizId).containsExactly(4L);
+    }
+
+    // ==================== FACETS ====================
+
+    @Test
+    @DisplayName("Should count each facet over the other filters")
+    void facets_ShouldIgnoreOwnFilter() {
+        // When
+        CatalogPage result = catalog.query(query(new long[] {SCIENCE}, CategoryMatch.ANY, true, null, null,
+                QuizSort.NEWEST), categories);
+
+        // Then
+        CatalogFacets facets = result.facets();
+        assertThat(result.total()).isEqualTo(1);
+        // Science quizzes: one timed, one untimed
+        assertThat(facets.timed()).isEqualTo(1);
+        assertThat(facets.untimed()).isEqualTo(1);
+        // Timed quizzes in any category: 2 in History, 1 in Science
+        assertThat(facets.categories()).isEqualTo(Map.of(SCIENCE, 1, HISTORY, 2));
+        assertThat(facets.negativePoints()).isEqualTo(1);
+        assertThat(facets.noNegativePoints()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count categories within the matches for ALL")
+    void facets_WithAll_ShouldNarrow() {
+        // When
+        CatalogPage result = catalog.query(query(new long[] {SCIENCE}, CategoryMatch.ALL, null, null, null,
+                QuizSort.NEWEST), categories);
+
+        // Then
+        assertThat(result.facets().categories()).isEqualTo(Map.of(SCIENCE, 2, HISTORY, 1));
+        assertThat(result.facets().categoryNames()).containsEntry(HISTORY, "History");
+    }
+
+    @Test
+    @DisplayName("Should bucket question counts")
+    void facets_ShouldBucketQuestionCounts() {
+        // When
+        CatalogPage result = catalog.query(query(new long[0], CategoryMatch.ALL, null, null, null,
+                QuizSort.NEWEST), categories);
+
+        // Then
+        assertThat(result.facets().questionCount()).containsExactly(
+                Map.entry(0, 1), Map.entry(6, 1), Map.entry(11, 1), Map.entry(21, 1));
+    }
+
+    // ==================== UPDATES ====================
+
+    @Test
+    @DisplayName("Should count new results towards plays and average")
+    void addResult_ShouldUpdateStats() {
+        // When
+        catalog.addResult(4, 3, 4);
+        catalog.addResult(4, 0, 0);
+
+        // Then
+        CatalogEntry entry = catalog.query(query(new long[0], CategoryMatch.ALL, null, null, null,
+                QuizSort.MOST_PLAYED), categories).entries().stream()
+                .filter(e -> e.quizId() == 4).findFirst().orElseThrow();
+        assertThat(entry.plays()).isEqualTo(2);
+        assertThat(entry.averageScore()).isEqualTo(75.0);
+    }
+
+    @Test
+    @DisplayName("Should replace, remove and insert rows in id order")
+    void putAndRemove_ShouldKeepIdOrder() {
+        // When
+        catalog.put(row(2, null, false, 1, 0, 0, 0));
+        catalog.remove(3);
+        catalog.put(row(9, null, false, 1, 0, 0, 0));
+        catalog.put(row(0, null, false, 1, 0, 0, 0));
+
+        // Then
+        CatalogPage result = catalog.query(query(new long[0], CategoryMatch.ALL, false, null, null,
+                QuizSort.NEWEST), categories);
+        assertThat(result.entries()).extracting(CatalogEntry::quizId).containsExactly(9L, 4L, 2L, 1L, 0L);
+        assertThat(catalog.size()).isEqualTo(5);
+    }
+
+    private static CatalogQuery query(long[] categoryIds, CategoryMatch match, Boolean timed, Boolean negativePoints,
+                                      Integer minPlays, QuizSort sort) {
+        return new CatalogQuery(categoryIds, match, timed, negativePoints, null, null, minPlays, sort, 0, 10);
+    }
+
+    private static CatalogRow row(long quizId, Integer timeLimit, boolean negativePoints, int questions,
+                                  int plays, int scored, double scoreRatioSum) {
+        return new CatalogRow(quizId, "Quiz " + quizId, null, timeLimit, negativePoints, questions,
+                plays, scored, scoreRatioSum);
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.quizapp.discovery;
+
+import com.example.quizapp.search.CategoryLinkLoader;
+import com.example.quizapp.search.CategoryMatch;
+import com.example.quizapp.search.QuizCategoryIndex;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Faceted discovery latency at 100k quizzes: the columnar catalog vs. the equivalent SQL on H2.
+ * Each query returns a sorted page of 20, the total and the counts of the time limit, negative
+ * points and question count facets (category counts are left out of the SQL side, which
+ * makes it faster than a complete equivalent). Quizzes have 1-3 of 30 skewed categories,
+ * 0-30 questions and 0-200 results.
+ * Excluded from the default build; run with
+ * mvn test -Pbenchmark -Dtest=QuizDiscoveryBenchmarkTest
+ */
+@Tag("benchmark")
+class QuizDiscoveryBenchmarkTest {
+
+    private static final int QUIZZES = 100_000;
+    private static final int CATEGORIES = 30;
+    private static final int PAGE_SIZE = 20;
+    private static final CatalogQuery[] QUERIES = {
+            query(new long[0], CategoryMatch.ALL, null, null, null, null, QuizSort.NEWEST),
+            query(new long[] {1}, CategoryMatch.ALL, true, null, null, null, QuizSort.MOST_PLAYED),
+            query(new long[] {1, 2}, CategoryMatch.ANY, null, false, 6, null, QuizSort.HIGHEST_AVERAGE),
+            query(new long[] {2, 5}, CategoryMatch.ALL, null, null, 11, 20, QuizSort.NEWEST),
+            query(new long[0], CategoryMatch.ALL, false, true, null, 10, QuizSort.MOST_PLAYED),
+            query(new long[] {3, 7, 12}, CategoryMatch.ANY, true, false, 6, 30, QuizSort.HIGHEST_AVERAGE),
+    };
+
+    @Test
+    @DisplayName("Columnar catalog vs SQL at 100k quizzes")
+    void discoverLatency_CatalogVsSql() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:discovery-benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        seed(jdbcTemplate);
+
+        long buildStart = System.nanoTime();
+        QuizCategoryIndex categoryIndex = new QuizCategoryIndex(new CategoryLinkLoader(jdbcTemplate), 5000);
+        categoryIndex.rebuild();
+        QuizCatalogIndex index = new QuizCatalogIndex(new CatalogLoader(jdbcTemplate), categoryIndex, 5000,
+                Duration.ofHours(1));
+        index.rebuild();
+        System.out.printf("Catalog build: %d quizzes in %d ms%n", QUIZZES,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStart));
+
+        // Same answers before timing anything
+        for (CatalogQuery query : QUERIES) {
+            CatalogPage page = index.query(query);
+            assertThat(page.total()).isEqualTo(sqlTotal(jdbcTemplate, query));
+            if (query.sort() == QuizSort.NEWEST) {
+                assertThat(page.entries()).extracting(CatalogEntry::quizId).isEqualTo(sqlPage(jdbcTemplate, query));
+            }
+        }
+
+        long[] catalogNanos = measure(50, index::query);
+        long[] sqlNanos = measure(3, query -> {
+            sqlPage(jdbcTemplate, query);
+            sqlTotal(jdbcTemplate, query);
+            sqlFacets(jdbcTemplate, query);
+        });
+        report("columnar catalog", catalogNanos);
+        report("SQL (without category facet)", sqlNanos);
+        assertThat(percentile(catalogNanos, 50)).isLessThan(percentile(sqlNanos, 50));
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO category (id, name) SELECT x, 'Category ' || x FROM SYSTEM_RANGE(1, ?) AS r(x)",
+                CATEGORIES);
+        jdbcTemplate.update("""
+            INSERT INTO quiz (id, title, time_limit, shuffle_questions, shuffle_answers, negative_points, created_at, updated_at)
+            SELECT x, 'Quiz ' || x, CASE WHEN MOD(x, 3) = 0 THEN 60 * MOD(x, 7) + 60 END, FALSE, FALSE, MOD(x, 4) = 0,
+                   CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM SYSTEM_RANGE(1, ?) AS r(x)
+            """, QUIZZES);
+        jdbcTemplate.update("""
+            INSERT INTO question (quiz_id, text, type, points, order_index)
+            SELECT q.x, 'Question', 'SINGLE_CHOICE', 1, n.x
+            FROM SYSTEM_RANGE(1, ?) AS q(x) JOIN SYSTEM_RANGE(1, 30) AS n(x) ON n.x <= MOD(q.x * 7919, 31)
+            """, QUIZZES);
+        jdbcTemplate.update("""
+            INSERT INTO quiz_result (nickname, score, max_score, completed_at, quiz_id)
+            SELECT 'player', MOD(q.x + n.x, 11), 10, CURRENT_TIMESTAMP, q.x
+            FROM SYSTEM_RANGE(1, ?) AS q(x) JOIN SYSTEM_RANGE(1, 200) AS n(x) ON n.x <= MOD(q.x * 104729, 201) / 20
+            """, QUIZZES);
+
+        Random random = new Random(42);
+        List<Object[]> links = new ArrayList<>();
+        for (long quizId = 1; quizId <= QUIZZES; quizId++) {
+            long[] categoryIds = LongStream.generate(() -> 1 + (long) (CATEGORIES * Math.pow(random.nextDouble(), 2)))
+                    .distinct()
+                    .limit(1 + random.nextInt(3))
+                    .toArray();
+            for (long categoryId : categoryIds) {
+                links.add(new Object[] {quizId, categoryId});
+            }
+        }
+        for (int from = 0; from < links.size(); from += 10_000) {
+            jdbcTemplate.batchUpdate("INSERT INTO quiz_categories (quiz_id, category_id) VALUES (?, ?)",
+                    links.subList(from, Math.min(from + 10_000, links.size())));
+        }
+    }
+
+    // Stats per quiz, joined to the filters: what each SQL query has to recompute
+    private static String matchedSql(CatalogQuery query) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (query.categoryIds().length > 0) {
+            String in = Arrays.stream(query.categoryIds()).mapToObj(Long::toString).collect(Collectors.joining(", "));
+            String having = query.match() == CategoryMatch.ALL ? " HAVING COUNT(*) = " + query.categoryIds().length : "";
+            where.append(" AND q.id IN (SELECT quiz_id FROM quiz_categories WHERE category_id IN (").append(in)
+                    .append(") GROUP BY quiz_id").append(having).append(")");
+        }
+        if (query.timed() != null) {
+            where.append(query.timed() ? " AND q.time_limit IS NOT NULL" : " AND q.time_limit IS NULL");
+        }
+        if (query.negativePoints() != null) {
+            where.append(" AND q.negative_points = ").append(query.negativePoints());
+        }
+        if (query.minQuestions() != null) {
+            where.append(" AND COALESCE(qs.questions, 0) >= ").append(query.minQuestions());
+        }
+        if (query.maxQuestions() != null) {
+            where.append(" AND COALESCE(qs.questions, 0) <= ").append(query.maxQuestions());
+        }
+        return """
+            SELECT q.id, q.time_limit, q.negative_points, COALESCE(qs.questions, 0) AS questions,
+                   COALESCE(rs.plays, 0) AS plays, rs.average
+            FROM quiz q
+            LEFT JOIN (SELECT quiz_id, COUNT(*) AS questions FROM question GROUP BY quiz_id) qs ON qs.quiz_id = q.id
+            LEFT JOIN (SELECT quiz_id, COUNT(*) AS plays, AVG(CAST(score AS DOUBLE PRECISION) / max_score) AS average
+                       FROM quiz_result GROUP BY quiz_id) rs ON rs.quiz_id = q.id
+            """ + where;
+    }
+
+    private static List<Long> sqlPage(JdbcTemplate jdbcTemplate, CatalogQuery query) {
+        String order = switch (query.sort()) {
+            case NEWEST -> "id DESC";
+            case MOST_PLAYED -> "plays DESC, id DESC";
+            case HIGHEST_AVERAGE -> "average DESC NULLS LAST, id DESC";
+        };
+        return jdbcTemplate.queryForList("SELECT id FROM (" + matchedSql(query) + ") m ORDER BY " + order
+                + " LIMIT " + PAGE_SIZE, Long.class);
+    }
+
+    private static long sqlTotal(JdbcTemplate jdbcTemplate, CatalogQuery query) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + matchedSql(query) + ") m", Long.class);
+    }
+
+    // Only approximates the facets: each is grouped over the full filter instead of all but its own
+    private static void sqlFacets(JdbcTemplate jdbcTemplate, CatalogQuery query) {
+        String matched = "(" + matchedSql(query) + ") m";
+        jdbcTemplate.queryForList("SELECT time_limit IS NULL, COUNT(*) FROM " + matched + " GROUP BY time_limit IS NULL");
+        jdbcTemplate.queryForList("SELECT negative_points, COUNT(*) FROM " + matched + " GROUP BY negative_points");
+        jdbcTemplate.queryForList("SELECT CASE WHEN questions < 6 THEN 0 WHEN questions < 11 THEN 6"
+                + " WHEN questions < 21 THEN 11 ELSE 21 END AS bucket, COUNT(*) FROM " + matched + " GROUP BY bucket");
+    }
+
+    private static long[] measure(int rounds, Consumer<CatalogQuery> discover) {
+        // Warm-up
+        for (int i = 0; i < 2; i++) {
+            for (CatalogQuery query : QUERIES) {
+                discover.accept(query);
+            }
+        }
+        long[] samples = new long[rounds * QUERIES.length];
+        int n = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (CatalogQuery query : QUERIES) {
+                long start = System.nanoTime();
+                discover.accept(query);
+                samples[n++] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static CatalogQuery query(long[] categoryIds, CategoryMatch match, Boolean timed, Boolean negativePoints,
+                                      Integer minQuestions, Integer maxQuestions, QuizSort sort) {
+        return new CatalogQuery(categoryIds, match, timed, negativePoints, minQuestions, maxQuestions, null, sort,
+                0, PAGE_SIZE);
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private static void report(String name, long[] sorted) {
+        System.out.printf("%-30s p50=%.3f ms  p99=%.3f ms  max=%.3f ms%n", name,
+                percentile(sorted, 50) / 1e6, percentile(sorted, 99) / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.quizapp.pool;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.entity.PoolStratification;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuestionRepository;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import com.example.quizapp.versioning.QuizVersions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Questions for one attempt of a 10,000-question quiz that asks 20: loading the whole bank
+ * with its answers and shuffling it (the play page before versions), shuffling a copy of the
+ * cached version's bank, and drawing 20 from the version's {@link QuestionPool}, uniform and
+ * stratified by difficulty.
+ * Run with: mvn test -Pbenchmark -Dtest=QuestionPoolBenchmarkTest
+ */
+@Tag("benchmark")
+class QuestionPoolBenchmarkTest {
+
+    private static final int QUESTIONS = 10_000;
+    private static final int POOL_SIZE = 20;
+    private static final int LOAD_ATTEMPTS = 20;
+    private static final int DRAW_ATTEMPTS = 100_000;
+    private static final String SEED_QUESTIONS_SQL = """
+            INSERT INTO question (text, type, points, order_index, difficulty, quiz_id)
+            SELECT 'Question ' || X, 'SINGLE_CHOICE', 1, X,
+                   CASEWHEN(MOD(X, 3) = 0, 'HARD', CASEWHEN(MOD(X, 3) = 1, 'MEDIUM', 'EASY')), ?
+            FROM SYSTEM_RANGE(1, ?)""";
+    private static final String SEED_ANSWERS_SQL = """
+            INSERT INTO answer (text, is_correct, order_index, question_id)
+            SELECT q.text || '-' || r.X, r.X = 1, r.X, q.id
+            FROM question q CROSS JOIN SYSTEM_RANGE(1, 4) r WHERE q.quiz_id = ?""";
+
+    @Test
+    @DisplayName("Benchmark: full bank load vs pool draw per attempt")
+    void drawPerAttempt() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:question-pool;DB_CLOSE_DELAY=-1",
+                        "app.cache.invalidation.transport=none",
+                        "logging.level.org.hibernate.SQL=WARN")
+                .run()) {
+            QuestionRepository questionRepository = context.getBean(QuestionRepository.class);
+            QuizVersions quizVersions = context.getBean(QuizVersions.class);
+            QuestionPools questionPools = context.getBean(QuestionPools.class);
+            TransactionTemplate readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            readOnly.setReadOnly(true);
+
+            Long uniformQuiz = seed(context, PoolStratification.NONE);
+            Long stratifiedQuiz = seed(context, PoolStratification.DIFFICULTY);
+
+            long loadNanos = perAttempt(LOAD_ATTEMPTS, () -> readOnly.executeWithoutResult(status -> {
+                List<Question> bank = new ArrayList<>(questionRepository.findByQuizId(uniformQuiz));
+                bank.forEach(question -> question.getAnswers().size());
+                Collections.shuffle(bank);
+                assertThat(bank.subList(0, POOL_SIZE)).hasSize(POOL_SIZE);
+            }));
+
+            QuizVersion uniform = quizVersions.current(uniformQuiz);
+            QuizVersion stratified = quizVersions.current(stratifiedQuiz);
+            long shuffleNanos = perAttempt(LOAD_ATTEMPTS * 10, () -> {
+                List<QuestionSnapshot> bank = new ArrayList<>(uniform.questions());
+                Collections.shuffle(bank);
+                assertThat(bank.subList(0, POOL_SIZE)).hasSize(POOL_SIZE);
+            });
+            long drawNanos = perAttempt(DRAW_ATTEMPTS, () -> assertThat(
+                    questionPools.draw(quizVersions.current(uniformQuiz))).hasSize(POOL_SIZE));
+            long stratifiedNanos = perAttempt(DRAW_ATTEMPTS, () -> assertThat(
+                    questionPools.draw(quizVersions.current(stratifiedQuiz))).hasSize(POOL_SIZE));
+
+            System.out.printf("%-30s %12s%n", "path (" + POOL_SIZE + " of " + QUESTIONS + ")", "us/attempt");
+            System.out.printf("%-30s %12.1f%n", "load bank + shuffle", loadNanos / 1_000.0);
+            System.out.printf("%-30s %12.1f%n", "shuffle cached version", shuffleNanos / 1_000.0);
+            System.out.printf("%-30s %12.1f%n", "pool draw (uniform)", drawNanos / 1_000.0);
+            System.out.printf("%-30s %12.1f%n", "pool draw (by difficulty)", stratifiedNanos / 1_000.0);
+
+            assertThat(stratified.isPooled()).isTrue();
+            assertThat(questionPools.poolFor(stratified).strataCount()).isEqualTo(3);
+            assertThat(drawNanos).isLessThan(shuffleNanos);
+            assertThat(shuffleNanos).isLessThan(loadNanos);
+        }
+    }
+
+    private static Long seed(ConfigurableApplicationContext context, PoolStratification stratifyBy) {
+        Quiz quiz = new Quiz("Pool Quiz");
+        quiz.setPoolSize(POOL_SIZE);
+        quiz.setPoolStratifyBy(stratifyBy);
+        Long quizId = context.getBean(QuizRepository.class).save(quiz).getId();
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(SEED_QUESTIONS_SQL, quizId, QUESTIONS);
+        jdbcTemplate.update(SEED_ANSWERS_SQL, quizId);
+        return quizId;
+    }
+
+    // Average after a warm-up round of the same size
+    private static long perAttempt(int attempts, Runnable attempt) {
+        for (int i = 0; i < attempts; i++) {
+            attempt.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < attempts; i++) {
+            attempt.run();
+        }
+        return (System.nanoTime() - start) / attempts;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.quizapp.pool;
+
+import com.example.quizapp.entity.PoolStratification;
+import com.example.quizapp.entity.QuestionDifficulty;
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for QuestionPool sampling.
+ */
+class QuestionPoolTest {
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Test
+    @DisplayName("Should draw distinct positions in ascending order")
+    void draw_ShouldReturnDistinctSortedPositions() {
+        QuestionPool pool = QuestionPool.of(version(PoolStratification.NONE, 1_000, i -> null));
+
+        for (int round = 0; round < 100; round++) {
+            int[] drawn = pool.draw(20, random);
+
+            assertThat(drawn).hasSize(20).isSorted().doesNotHaveDuplicates();
+            assertThat(drawn[0]).isGreaterThanOrEqualTo(0);
+            assertThat(drawn[19]).isLessThan(1_000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should give every question the same chance")
+    void draw_ShouldBeUniform() {
+        QuestionPool pool = QuestionPool.of(version(null, 10, i -> null));
+        int[] hits = new int[10];
+
+        for (int round = 0; round < 20_000; round++) {
+            for (int position : pool.draw(3, random)) {
+                hits[position]++;
+            }
+        }
+
+        // 6,000 expected per question
+        assertThat(Arrays.stream(hits).boxed().toList()).allSatisfy(count -> assertThat(count).isBetween(5_600, 6_400));
+    }
+
+    @Test
+    @DisplayName("Should keep the bank's mix of difficulties in every draw")
+    void draw_ShouldStratifyByDifficulty() {
+        // 50% easy, 30% medium, 20% unrated
+        QuestionPool pool = QuestionPool.of(version(PoolStratification.DIFFICULTY, 100,
+                i -> i < 50 ? QuestionDifficulty.EASY : i < 80 ? QuestionDifficulty.MEDIUM : null));
+
+        int[] drawn = pool.draw(10, random);
+
+        assertThat(pool.strataCount()).isEqualTo(3);
+        assertThat(Arrays.stream(drawn).filter(i -> i < 50).count()).isEqualTo(5);
+        assertThat(Arrays.stream(drawn).filter(i -> i >= 50 && i < 80).count()).isEqualTo(3);
+        assertThat(Arrays.stream(drawn).filter(i -> i >= 80).count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should hand the rounding leftovers to the largest remainders")
+    void draw_ShouldRoundByLargestRemainder() {
+        // 7 easy, 2 medium, 1 hard: 4 questions is 2.8 / 0.8 / 0.4
+        QuestionPool pool = QuestionPool.of(version(PoolStratification.DIFFICULTY, 10,
+                i -> i < 7 ? QuestionDifficulty.EASY : i < 9 ? QuestionDifficulty.MEDIUM : QuestionDifficulty.HARD));
+
+        int[] drawn = pool.draw(4, random);
+
+        assertThat(drawn).hasSize(4);
+        assertThat(Arrays.stream(drawn).filter(i -> i < 7).count()).isEqualTo(3);
+        assertThat(Arrays.stream(drawn).filter(i -> i == 7 || i == 8).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return every position when the draw covers the bank")
+    void draw_ShouldReturnAllWhenCountCoversBank() {
+        QuestionPool pool = QuestionPool.of(version(PoolStratification.TYPE, 5, i -> null));
+
+        assertThat(pool.draw(8, random)).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    @DisplayName("Should find the position of a question by id")
+    void positionOf_ShouldMapIds() {
+        QuestionPool pool = QuestionPool.of(version(PoolStratification.NONE, 5, i -> null));
+
+        assertThat(pool.positionOf(103L)).isEqualTo(3);
+        assertThat(pool.positionOf(999L)).isEqualTo(-1);
+    }
+
+    // Questions with ids 100.. at positions 0..size-1
+    static QuizVersion version(PoolStratification stratifyBy, int size,
+                               IntFunction<QuestionDifficulty> difficulty) {
+        List<QuestionSnapshot> questions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            questions.add(new QuestionSnapshot(100L + i, 1, "Question " + i, QuestionType.SINGLE_CHOICE, 1,
+                    null, null, difficulty.apply(i), List.of()));
+        }
+        return new QuizVersion(1L, 1, "Pool", null, false, false, false, null, null, size, stratifyBy, questions);
+    }
+}
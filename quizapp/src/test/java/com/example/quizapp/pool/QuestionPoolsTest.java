@@ -0,0 +1,60 @@
+package com.example.quizapp.pool;
+
+import com.example.quizapp.entity.PoolStratification;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for QuestionPools.
+ */
+class QuestionPoolsTest {
+
+    private final QuestionPools questionPools = new QuestionPools();
+
+    @Test
+    @DisplayName("Should draw the pool size in quiz order and reuse the version's pool")
+    void draw_ShouldSampleFromCachedPool() {
+        QuizVersion version = withPoolSize(QuestionPoolTest.version(PoolStratification.NONE, 50, i -> null), 5);
+
+        List<QuestionSnapshot> first = questionPools.draw(version);
+        List<QuestionSnapshot> second = questionPools.draw(version);
+
+        assertThat(first).hasSize(5).doesNotHaveDuplicates().isSortedAccordingTo(
+                (a, b) -> Long.compare(a.id(), b.id()));
+        assertThat(second).hasSize(5);
+        assertThat(questionPools.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give every question when the quiz has no pool or a larger one")
+    void draw_ShouldReturnAllWithoutPool() {
+        QuizVersion version = QuestionPoolTest.version(PoolStratification.NONE, 8, i -> null);
+
+        assertThat(questionPools.draw(withPoolSize(version, null))).isSameAs(version.questions());
+        assertThat(questionPools.draw(withPoolSize(version, 8))).isSameAs(version.questions());
+        assertThat(questionPools.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should look up an attempt's drawn questions by id, skipping unknown ones")
+    void questions_ShouldReturnDrawnQuestions() {
+        QuizVersion version = withPoolSize(QuestionPoolTest.version(PoolStratification.NONE, 10, i -> null), 3);
+
+        assertThat(questionPools.questions(version, List.of(107L, 102L, 999L)))
+                .extracting(QuestionSnapshot::id).containsExactly(107L, 102L);
+        assertThat(questionPools.questions(version, null)).isSameAs(version.questions());
+    }
+
+    private static QuizVersion withPoolSize(QuizVersion version, Integer poolSize) {
+        return new QuizVersion(version.quizId(), version.version(), version.title(), version.timeLimit(),
+                version.shuffleQuestions(), version.shuffleAnswers(), version.negativePoints(),
+                version.scoringPolicy(), version.lateSubmissionPolicy(), poolSize, version.poolStratifyBy(),
+                version.questions());
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.quizapp.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RateLimitFilter.
+ */
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should return 429 with Retry-After once the client burst is used")
+    void submit_ShouldRejectClientOverLimit() throws Exception {
+        // Given
+        RateLimitFilter filter = filter(new TokenBucketLimiter(64, 0.5, 1), new TokenBucketLimiter(64, 100, 100),
+                new ConcurrencyLimiter(4, Duration.ofMillis(10)));
+
+        // When
+        MockHttpServletResponse first = submit(filter, "10.0.0.1", "/submit/5");
+        MockHttpServletResponse second = submit(filter, "10.0.0.1", "/submit/5");
+        MockHttpServletResponse otherClient = submit(filter, "10.0.0.2", "/submit/5");
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(429);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("quizapp.ratelimit.rejected").tag("reason", "client").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should limit submissions per quiz across clients")
+    void submit_ShouldRejectQuizOverLimit() throws Exception {
+        // Given
+        RateLimitFilter filter = filter(new TokenBucketLimiter(64, 100, 100), new TokenBucketLimiter(64, 1, 2),
+                new ConcurrencyLimiter(4, Duration.ofMillis(10)));
+
+        // When
+        submit(filter, "10.0.0.1", "/submit/7");
+        submit(filter, "10.0.0.2", "/submit/7");
+        MockHttpServletResponse third = submit(filter, "10.0.0.3", "/submit/7");
+        MockHttpServletResponse otherQuiz = submit(filter, "10.0.0.3", "/submit/8");
+
+        // Then
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(third.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(otherQuiz.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should not charge the client for a request the quiz limit rejects")
+    void submit_QuizRejection_ShouldRefundClientPermit() throws Exception {
+        // Given - one permit per client, one per quiz
+        RateLimitFilter filter = filter(new TokenBucketLimiter(64, 0.5, 1), new TokenBucketLimiter(64, 0.5, 1),
+                new ConcurrencyLimiter(4, Duration.ofMillis(10)));
+        submit(filter, "10.0.0.1", "/submit/7");
+
+        // When
+        MockHttpServletResponse rejected = submit(filter, "10.0.0.2", "/submit/7");
+        MockHttpServletResponse otherQuiz = submit(filter, "10.0.0.2", "/submit/8");
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(otherQuiz.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should turn requests away when no slot frees up within the queue timeout")
+    void submit_ShouldRejectWhenSaturated() throws Exception {
+        // Given - one slot, held by a request blocked in the chain
+        ConcurrencyLimiter admission = new ConcurrencyLimiter(1, Duration.ofMillis(50));
+        RateLimitFilter filter = filter(new TokenBucketLimiter(64, 100, 100), new TokenBucketLimiter(64, 100, 100),
+                admission);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try {
+                filter.doFilter(request("10.0.0.1", "/submit/1"), new MockHttpServletResponse(),
+                        (FilterChain) (req, res) -> {
+                            entered.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        MockHttpServletResponse rejected = submit(filter, "10.0.0.2", "/submit/1");
+        release.countDown();
+        holder.join();
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(admission.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not limit GET requests")
+    void get_ShouldPassThrough() throws Exception {
+        // Given
+        RateLimitFilter filter = filter(new TokenBucketLimiter(64, 0.001, 1), new TokenBucketLimiter(64, 0.001, 1),
+                new ConcurrencyLimiter(1, Duration.ofMillis(10)));
+
+        // When / Then
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = request("10.0.0.1", "/api/v1/results");
+            request.setMethod("GET");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Should extract the quiz id from submit paths only")
+    void quizIdOf_ShouldParseSubmitPath() {
+        assertThat(RateLimitFilter.quizIdOf("/submit/42")).isEqualTo(42L);
+        assertThat(RateLimitFilter.quizIdOf("/submit/abc")).isNull();
+        assertThat(RateLimitFilter.quizIdOf("/api/v1/results")).isNull();
+        assertThat(RateLimitFilter.quizIdOf(null)).isNull();
+    }
+
+    private RateLimitFilter filter(TokenBucketLimiter perClient, TokenBucketLimiter perQuiz,
+                                   ConcurrencyLimiter admission) {
+        return new RateLimitFilter(perClient, perQuiz, admission, meterRegistry);
+    }
+
+    private MockHttpServletResponse submit(RateLimitFilter filter, String clientIp, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(clientIp, path), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String clientIp, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        request.setRemoteAddr(clientIp);
+        return request;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.quizapp.ratelimit;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Home page latency before and during a flood of quiz submissions.
+ * Per-client limits are raised so the flood reaches the concurrency limiter,
+ * which is what keeps pool connections free for the catalog pages.
+ * Run with: mvn test -Pbenchmark -Dtest=SubmitFloodBenchmarkTest
+ */
+@Tag("benchmark")
+class SubmitFloodBenchmarkTest {
+
+    private static final int FLOOD_THREADS = 64;
+    private static final int SAMPLES = 1_000;
+    private static final Pattern CSRF_FIELD = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    @Test
+    @DisplayName("Benchmark: home page latency stays flat under a submit flood")
+    void homePageLatencyUnderSubmitFlood() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:submit-flood;DB_CLOSE_DELAY=-1",
+                        "app.cache.invalidation.transport=none",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "app.ratelimit.per-client.permits-per-second=100000",
+                        "app.ratelimit.per-client.burst=100000",
+                        "app.ratelimit.per-quiz.permits-per-second=100000",
+                        "app.ratelimit.per-quiz.burst=100000")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Long quizId = context.getBean(QuizRepository.class).save(new Quiz("Flood Quiz")).getId();
+            HttpClient client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+            URI home = URI.create("http://localhost:" + port + "/");
+
+            long[] baseline = sampleHome(client, home);
+
+            String csrf = csrfToken(client, URI.create("http://localhost:" + port + "/play/" + quizId));
+            URI submit = URI.create("http://localhost:" + port + "/submit/" + quizId);
+            AtomicBoolean flooding = new AtomicBoolean(true);
+            AtomicLong accepted = new AtomicLong();
+            AtomicLong rejected = new AtomicLong();
+            ExecutorService flood = Executors.newFixedThreadPool(FLOOD_THREADS);
+            for (int t = 0; t < FLOOD_THREADS; t++) {
+                flood.submit(() -> {
+                    while (flooding.get()) {
+                        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(submit)
+                                        .header("Content-Type", "application/x-www-form-urlencoded")
+                                        .POST(HttpRequest.BodyPublishers.ofString("_csrf=" + csrf))
+                                        .build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        (response.statusCode() == 429 ? rejected : accepted).incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+
+            long[] underFlood;
+            try {
+                Thread.sleep(1_000);
+                underFlood = sampleHome(client, home);
+            } finally {
+                flooding.set(false);
+                flood.shutdown();
+                flood.awaitTermination(30, TimeUnit.SECONDS);
+            }
+
+            System.out.printf("%-12s %10s %10s%n", "home page", "p50 us", "p99 us");
+            System.out.printf("%-12s %10d %10d%n", "idle", percentile(baseline, 50), percentile(baseline, 99));
+            System.out.printf("%-12s %10d %10d%n", "flood", percentile(underFlood, 50), percentile(underFlood, 99));
+            System.out.printf("submits accepted=%d rejected(429)=%d%n", accepted.get(), rejected.get());
+            assertThat(rejected.get()).isPositive();
+        }
+    }
+
+    private long[] sampleHome(HttpClient client, URI home) throws Exception {
+        long[] latencies = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(home).GET().build(),
+                    HttpResponse.BodyHandlers.discarding());
+            latencies[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+            assertThat(response.statusCode()).isEqualTo(200);
+        }
+        return latencies;
+    }
+
+    private String csrfToken(HttpClient client, URI playUri) throws Exception {
+        HttpResponse<String> page = client.send(HttpRequest.newBuilder(playUri).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = CSRF_FIELD.matcher(page.body());
+        assertThat(matcher.find()).isTrue();
+        return URLEncoder.encode(matcher.group(1), StandardCharsets.UTF_8);
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
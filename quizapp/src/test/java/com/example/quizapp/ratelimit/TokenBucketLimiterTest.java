@@ -0,0 +1,135 @@
+package com.example.quizapp.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TokenBucketLimiter.
+ */
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    @DisplayName("Should allow the burst and then report the wait for the next permit")
+    void tryAcquire_ShouldAllowBurstThenReject() {
+        // Given - 2 permits/s, burst 3
+        TokenBucketLimiter limiter = new TokenBucketLimiter(64, 2, 3, clock::get);
+
+        // When / Then
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    @DisplayName("Should refill at the configured rate")
+    void tryAcquire_ShouldRefillOverTime() {
+        // Given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(64, 2, 1, clock::get);
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isPositive();
+
+        // When
+        clock.addAndGet(SECOND / 2);
+
+        // Then
+        assertThat(limiter.tryAcquire("client")).isZero();
+        assertThat(limiter.tryAcquire("client")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should not bank more than the burst while idle")
+    void tryAcquire_ShouldCapIdleCredit() {
+        // Given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(64, 10, 2, clock::get);
+
+        // When
+        clock.addAndGet(60 * SECOND);
+
+        // Then
+        assertThat(limiter.tryAcquire(7L)).isZero();
+        assertThat(limiter.tryAcquire(7L)).isZero();
+        assertThat(limiter.tryAcquire(7L)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should give back a released permit, up to a full bucket")
+    void release_ShouldRefundPermit() {
+        // Given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(64, 1, 1, clock::get);
+        assertThat(limiter.tryAcquire(7L)).isZero();
+
+        // When
+        limiter.release(7L);
+        limiter.release(7L);
+
+        // Then
+        assertThat(limiter.tryAcquire(7L)).isZero();
+        assertThat(limiter.tryAcquire(7L)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets for keys on different stripes")
+    void tryAcquire_ShouldIsolateKeys() {
+        // Given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1024, 1, 1, clock::get);
+        assertThat(limiter.stripeOf(1L)).isNotEqualTo(limiter.stripeOf(2L));
+
+        // When
+        assertThat(limiter.tryAcquire(1L)).isZero();
+
+        // Then
+        assertThat(limiter.tryAcquire(1L)).isPositive();
+        assertThat(limiter.tryAcquire(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should grant exactly the burst under contention")
+    void tryAcquire_ShouldNotOvergrantConcurrently() throws Exception {
+        // Given - frozen clock, so only the burst can ever be granted
+        TokenBucketLimiter limiter = new TokenBucketLimiter(16, 1, 100, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire("shared") == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(granted.get()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid policies")
+    void constructor_ShouldValidatePolicy() {
+        assertThatThrownBy(() -> new TokenBucketLimiter(16, 0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketLimiter(16, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.quizapp.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN for every query method declared in the repository package against the
+ * Flyway schema (H2 in PostgreSQL mode) and fails when a plan falls back to a table scan.
+ *
+ * The SQL below mirrors what Hibernate generates for each method. New repository methods
+ * must be added to QUERIES (or ALLOWED_SCANS with a reason) or the coverage test fails.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties =
+        "spring.datasource.url=jdbc:h2:mem:explain;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryIndexUsageTest {
+
+    private static final Map<String, List<String>> QUERIES = new LinkedHashMap<>();
+    private static final Map<String, String> ALLOWED_SCANS = new LinkedHashMap<>();
+
+    static {
+        // QuizRepository
+        query("QuizRepository.findByCategory(String)",
+                "SELECT DISTINCT q.* FROM quiz q JOIN quiz_categories qc ON q.id = qc.quiz_id "
+                        + "JOIN category c ON c.id = qc.category_id WHERE c.name = 'Category 7'");
+        allowScan("QuizRepository.findByTitleContainingIgnoreCase(String)", "leading-wildcard LIKE");
+        allowScan("QuizRepository.findAll(Pageable)", "unfiltered listing");
+        allowScan("QuizRepository.findByTimeLimitIsNotNull()", "low-selectivity flag, returns most rows");
+        allowScan("QuizRepository.findByNegativePointsTrue()", "low-selectivity flag");
+
+        // CategoryRepository
+        query("CategoryRepository.findByName(String)",
+                "SELECT c.* FROM category c WHERE c.name = 'Category 7'");
+        query("CategoryRepository.existsByName(String)",
+                "SELECT c.id FROM category c WHERE c.name = 'Category 7' FETCH FIRST 1 ROWS ONLY");
+        allowScan("CategoryRepository.findAll(Pageable)", "unfiltered listing");
+
+        // QuestionRepository
+        query("QuestionRepository.findByQuizId(Long)",
+                "SELECT q.* FROM question q WHERE q.quiz_id = 7");
+        query("QuestionRepository.findByQuizId(Long,Pageable)",
+                "SELECT q.* FROM question q WHERE q.quiz_id = 7 OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY",
+                "SELECT COUNT(q.id) FROM question q WHERE q.quiz_id = 7");
+        query("QuestionRepository.findByQuizIdOrderByOrderIndexAsc(Long)",
+                "SELECT q.* FROM question q WHERE q.quiz_id = 7 ORDER BY q.order_index");
+        query("QuestionRepository.countByQuizId(Long)",
+                "SELECT COUNT(q.id) FROM question q WHERE q.quiz_id = 7");
+        allowScan("QuestionRepository.findByType(QuestionType)", "eight distinct values, returns ~1/8 of the table");
+
+        // AnswerRepository
+        query("AnswerRepository.findByQuestionId(Long)",
+                "SELECT a.* FROM answer a WHERE a.question_id = 7");
+        query("AnswerRepository.findByQuestionId(Long,Pageable)",
+                "SELECT a.* FROM answer a WHERE a.question_id = 7 OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY",
+                "SELECT COUNT(a.id) FROM answer a WHERE a.question_id = 7");
+        query("AnswerRepository.findByQuestionIdAndIsCorrectTrue(Long)",
+                "SELECT a.* FROM answer a WHERE a.question_id = 7 AND a.is_correct = TRUE");
+        query("AnswerRepository.findByQuestionIdOrderByOrderIndexAsc(Long)",
+                "SELECT a.* FROM answer a WHERE a.question_id = 7 ORDER BY a.order_index");
+        query("AnswerRepository.countCorrectByQuestionId(Long)",
+                "SELECT COUNT(a.id) FROM answer a WHERE a.question_id = 7 AND a.is_correct = TRUE");
+
+        // QuizResultRepository
+        query("QuizResultRepository.findByQuizIdOrderByScoreDesc(Long)",
+                "SELECT r.* FROM quiz_result r WHERE r.quiz_id = 7 ORDER BY r.score DESC");
+        query("QuizResultRepository.findByQuizId(Long,Pageable)",
+                "SELECT r.* FROM quiz_result r WHERE r.quiz_id = 7 OFFSET 0 ROWS FETCH FIRST 20 ROWS ONLY",
+                "SELECT COUNT(r.id) FROM quiz_result r WHERE r.quiz_id = 7");
+        query("QuizResultRepository.findTop10ByQuizIdOrderByScoreDesc(Long)",
+                "SELECT r.* FROM quiz_result r WHERE r.quiz_id = 7 ORDER BY r.score DESC FETCH FIRST 10 ROWS ONLY");
+        query("QuizResultRepository.getAverageScoreByQuizId(Long)",
+                "SELECT AVG(r.score) FROM quiz_result r WHERE r.quiz_id = 7");
+        query("QuizResultRepository.countAttemptsByQuizId(Long)",
+                "SELECT COUNT(r.id) FROM quiz_result r WHERE r.quiz_id = 7");
+        query("QuizResultRepository.deleteByQuizIdCompletedBefore(Long,LocalDateTime)",
+                "DELETE FROM quiz_result r WHERE r.quiz_id = 7 AND r.completed_at < TIMESTAMP '2020-01-01 00:00:00'");
+        allowScan("QuizResultRepository.findByNicknameContainingIgnoreCase(String)", "leading-wildcard LIKE");
+
+        // AttemptRepository
+        query("AttemptRepository.findByResumeToken(String)",
+                "SELECT a.* FROM quiz_attempt a WHERE a.resume_token = 'token7'");
+
+        // UserRepository
+        query("UserRepository.findByUsername(String)",
+                "SELECT u.*, ur.role FROM app_user u LEFT JOIN user_roles ur ON u.id = ur.user_id "
+                        + "WHERE u.username = 'user7'");
+        query("UserRepository.existsByUsername(String)",
+                "SELECT u.id FROM app_user u WHERE u.username = 'user7' FETCH FIRST 1 ROWS ONLY");
+        query("UserRepository.existsByEmail(String)",
+                "SELECT u.id FROM app_user u WHERE u.email = 'user7@example.com' FETCH FIRST 1 ROWS ONLY");
+    }
+
+    private static boolean seeded;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // Enough rows that the optimizer's cost estimates resemble a real catalog
+        jdbcTemplate.execute("""
+            INSERT INTO category (name, description)
+            SELECT 'Category ' || x, NULL FROM SYSTEM_RANGE(1, 50) AS r(x)
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO quiz (title, time_limit, shuffle_questions, shuffle_answers, negative_points, created_at, updated_at)
+            SELECT 'Quiz ' || x, CASE WHEN MOD(x, 2) = 0 THEN 300 END, FALSE, FALSE, MOD(x, 10) = 0,
+                   CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM SYSTEM_RANGE(1, 500) AS r(x)
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO quiz_categories (quiz_id, category_id)
+            SELECT x, MOD(x, 50) + 1 FROM SYSTEM_RANGE(1, 500) AS r(x)
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO question (text, type, points, order_index, quiz_id)
+            SELECT 'Question ' || x, 'SINGLE_CHOICE', 1, MOD(x, 10), MOD(x, 500) + 1 FROM SYSTEM_RANGE(1, 5000) AS r(x)
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO answer (text, is_correct, order_index, question_id)
+            SELECT 'Answer ' || x, MOD(x, 4) = 0, MOD(x, 4), MOD(x, 5000) + 1 FROM SYSTEM_RANGE(1, 20000) AS r(x)
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO quiz_result (nickname, score, max_score, completed_at, quiz_id)
+            SELECT 'player' || MOD(x, 700), MOD(x, 11), 10, CURRENT_TIMESTAMP, MOD(x, 500) + 1
+            FROM SYSTEM_RANGE(1, 10000) AS r(x)
+            """);
+        jdbcTemplate.execute("""
+            INSERT INTO app_user (username, password, email, enabled)
+            SELECT 'user' || x, 'secret', 'user' || x || '@example.com', TRUE FROM SYSTEM_RANGE(1, 300) AS r(x)
+            """);
+        jdbcTemplate.execute("INSERT INTO user_roles (user_id, role) SELECT id, 'USER' FROM app_user");
+        jdbcTemplate.execute("ANALYZE");
+        seeded = true;
+    }
+
+    // ==================== COVERAGE ====================
+
+    @Test
+    @DisplayName("Should have an EXPLAIN entry or allowed scan for every repository query method")
+    void everyRepositoryMethod_ShouldBeCovered() {
+        Set<String> declared = declaredRepositoryMethods();
+
+        Set<String> missing = new TreeSet<>(declared);
+        missing.removeAll(QUERIES.keySet());
+        missing.removeAll(ALLOWED_SCANS.keySet());
+
+        Set<String> stale = new TreeSet<>(QUERIES.keySet());
+        stale.addAll(ALLOWED_SCANS.keySet());
+        stale.removeAll(declared);
+
+        assertThat(missing).as("repository methods without an EXPLAIN entry").isEmpty();
+        assertThat(stale).as("EXPLAIN entries for methods that no longer exist").isEmpty();
+    }
+
+    // ==================== PLANS ====================
+
+    @TestFactory
+    @DisplayName("Should use an index for every repository query")
+    Stream<DynamicTest> repositoryQueries_ShouldNotScanTables() {
+        return QUERIES.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream()
+                        .map(sql -> DynamicTest.dynamicTest(entry.getKey(), () -> assertIndexed(sql))));
+    }
+
+    private void assertIndexed(String sql) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+        assertThat(plan.toLowerCase()).as(plan).doesNotContain("tablescan");
+    }
+
+    // ==================== HELPERS ====================
+
+    private static void query(String method, String... sql) {
+        QUERIES.put(method, List.of(sql));
+    }
+
+    private static void allowScan(String method, String reason) {
+        ALLOWED_SCANS.put(method, reason);
+    }
+
+    private static Set<String> declaredRepositoryMethods() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+        Set<String> methods = new TreeSet<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(QuizRepository.class.getPackageName())) {
+            try {
+                Class<?> repository = Class.forName(candidate.getBeanClassName());
+                for (Method method : repository.getDeclaredMethods()) {
+                    methods.add(repository.getSimpleName() + "." + method.getName() + "("
+                            + Arrays.stream(method.getParameterTypes())
+                                    .map(Class::getSimpleName)
+                                    .collect(Collectors.joining(","))
+                            + ")");
+                }
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return methods;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.cache.InvalidationEvent;
+import com.example.quizapp.dto.QuizResultDTO;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.entity.QuizResult;
+import com.example.quizapp.repository.QuizResultRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for Leaderboard.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaderboardTest {
+
+    @Mock
+    private QuizResultRepository quizResultRepository;
+
+    private Leaderboard leaderboard;
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new Leaderboard(quizResultRepository, Duration.ofMinutes(1));
+        quiz = new Quiz("Leaderboard Quiz");
+        quiz.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Should load a board once and serve it until the ttl runs out")
+    void top_ShouldCacheBoard() {
+        // Given
+        when(quizResultRepository.findTop10ByQuizIdOrderByScoreDesc(1L))
+                .thenReturn(List.of(new QuizResult("Ann", 5, 5, quiz)));
+
+        // When
+        List<QuizResultDTO> first = leaderboard.top(1L);
+        List<QuizResultDTO> second = leaderboard.top(1L);
+
+        // Then
+        assertThat(first).extracting(QuizResultDTO::getNickname).containsExactly("Ann");
+        assertThat(second).isSameAs(first);
+        verify(quizResultRepository, times(1)).findTop10ByQuizIdOrderByScoreDesc(1L);
+    }
+
+    @Test
+    @DisplayName("Should rank stored results into loaded boards and keep the top 10")
+    void offer_ShouldUpdateLoadedBoards() {
+        // Given
+        List<QuizResult> stored = new ArrayList<>();
+        for (int score = 10; score > 0; score--) {
+            stored.add(new QuizResult("Player " + score, score, 10, quiz));
+        }
+        when(quizResultRepository.findTop10ByQuizIdOrderByScoreDesc(1L)).thenReturn(stored);
+        leaderboard.top(1L);
+
+        // When
+        leaderboard.offer(List.of(
+                PendingResult.of(1L, "New", 6, 10),
+                PendingResult.of(1L, "Low", 0, 10),
+                PendingResult.of(2L, "Unloaded", 9, 10)));
+
+        // Then
+        List<QuizResultDTO> board = leaderboard.top(1L);
+        assertThat(board).hasSize(Leaderboard.SIZE);
+        // Ties keep the earlier result first
+        assertThat(board.subList(4, 7)).extracting(QuizResultDTO::getNickname).containsExactly("Player 6", "New", "Player 5");
+        assertThat(board).extracting(QuizResultDTO::getNickname).doesNotContain("Low", "Player 1");
+        verify(quizResultRepository, never()).findTop10ByQuizIdOrderByScoreDesc(2L);
+    }
+
+    @Test
+    @DisplayName("Should show the player's own result once, whether or not it is stored yet")
+    void top_ShouldMergeOwnResult() {
+        // Given
+        LocalDateTime completedAt = LocalDateTime.now();
+        QuizResult stored = new QuizResult("Ann", 3, 5, quiz);
+        stored.setCompletedAt(completedAt);
+        when(quizResultRepository.findTop10ByQuizIdOrderByScoreDesc(1L)).thenReturn(List.of(stored));
+        QuizResultDTO pending = new PendingResult(null, 1L, null, "Bob", 4, 5, completedAt).toDto();
+        QuizResultDTO alreadyStored = new QuizResultDTO(stored);
+
+        // When / Then
+        assertThat(leaderboard.top(1L, pending)).extracting(QuizResultDTO::getNickname).containsExactly("Bob", "Ann");
+        assertThat(leaderboard.top(1L, alreadyStored)).extracting(QuizResultDTO::getNickname).containsExactly("Ann");
+        assertThat(leaderboard.top(1L)).extracting(QuizResultDTO::getNickname).containsExactly("Ann");
+    }
+
+    @Test
+    @DisplayName("Should reload a board after its quiz changes")
+    void onInvalidation_ShouldEvictQuizBoard() {
+        // Given
+        when(quizResultRepository.findTop10ByQuizIdOrderByScoreDesc(1L)).thenReturn(List.of());
+        leaderboard.top(1L);
+
+        // When
+        leaderboard.onInvalidation(InvalidationEvent.quiz(1L));
+        leaderboard.top(1L);
+
+        // Then
+        verify(quizResultRepository, times(2)).findTop10ByQuizIdOrderByScoreDesc(1L);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.service.QuizService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archival and set-based quiz deletion against the real schema: old results move to
+ * quiz_result_archive in chunks, and deleting the quiz removes both tables' rows.
+ */
+class ResultArchiverIntegrationTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:result-archive;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static ConfigurableApplicationContext node;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startNode() {
+        node = new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + DB_URL,
+                        "app.cache.invalidation.transport=none",
+                        "app.results.archive.batch-size=3")
+                .run();
+        jdbcTemplate = node.getBean(JdbcTemplate.class);
+    }
+
+    @AfterAll
+    static void stopNode() {
+        if (node != null) {
+            node.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should move results older than the cutoff to the archive in chunks")
+    void archive_ShouldMoveOldResults() {
+        // Given
+        Long quizId = node.getBean(QuizRepository.class).save(new Quiz("Archived")).getId();
+        LocalDateTime cutoff = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 7; i++) {
+            insertResult(quizId, "Old " + i, cutoff.minusDays(i + 1));
+        }
+        insertResult(quizId, "Recent", cutoff.plusDays(1));
+
+        // When
+        int archived = node.getBean(ResultArchiver.class).archive(cutoff);
+
+        // Then
+        assertThat(archived).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForList("SELECT nickname FROM quiz_result WHERE quiz_id = ?", String.class, quizId))
+                .containsExactly("Recent");
+        assertThat(count("quiz_result_archive", quizId)).isEqualTo(7);
+        assertThat(node.getBean(ResultArchiver.class).archive(cutoff)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete a quiz with its live and archived results")
+    void deleteQuiz_ShouldRemoveLiveAndArchivedResults() {
+        // Given
+        Long quizId = node.getBean(QuizRepository.class).save(new Quiz("Deleted")).getId();
+        insertResult(quizId, "Old", LocalDateTime.of(2020, 1, 1, 0, 0));
+        insertResult(quizId, "Recent", LocalDateTime.now());
+        node.getBean(ResultArchiver.class).archive(LocalDateTime.of(2021, 1, 1, 0, 0));
+
+        // When
+        node.getBean(QuizService.class).deleteQuiz(quizId);
+
+        // Then
+        assertThat(node.getBean(QuizRepository.class).existsById(quizId)).isFalse();
+        assertThat(count("quiz_result", quizId)).isZero();
+        assertThat(count("quiz_result_archive", quizId)).isZero();
+    }
+
+    private static void insertResult(Long quizId, String nickname, LocalDateTime completedAt) {
+        jdbcTemplate.update("INSERT INTO quiz_result (nickname, score, max_score, completed_at, quiz_id) VALUES (?, 1, 5, ?, ?)",
+                nickname, Timestamp.valueOf(completedAt), quizId);
+    }
+
+    private static int count(String table, Long quizId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE quiz_id = ?", Integer.class, quizId);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.service.QuizService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every way a quiz_result row is written - the submit pipeline, the REST API and quiz
+ * deletion - shows up in GET /api/v1/results/changes, in order, against the Flyway schema.
+ */
+class ResultChangeFeedIntegrationTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:result-changes;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static ConfigurableApplicationContext node;
+    private static int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startNode() {
+        node = new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + DB_URL,
+                        "app.cache.invalidation.transport=none",
+                        "app.results.pipeline.async=false",
+                        "app.results.changes.poll-interval=50ms")
+                .run();
+        port = ((WebServerApplicationContext) node).getWebServer().getPort();
+    }
+
+    @AfterAll
+    static void stopNode() {
+        if (node != null) {
+            node.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should feed inserts and deletes from every write path in seq order")
+    void changes_ShouldCoverEveryWritePath() throws Exception {
+        // Given
+        long start = node.getBean(ResultChangeLog.class).lastSeq();
+        Long kept = node.getBean(QuizRepository.class).save(new Quiz("Kept")).getId();
+        Long removed = node.getBean(QuizRepository.class).save(new Quiz("Removed")).getId();
+
+        // When
+        node.getBean(ResultPipeline.class).submit(PendingResult.of(kept, "Piped", 4, 5));
+        node.getBean(ResultPipeline.class).submit(PendingResult.of(removed, "Doomed", 1, 5));
+        JsonNode posted = postResult(kept, "Posted", 2);
+        delete("/api/v1/results/" + posted.get("id").asLong());
+        node.getBean(QuizService.class).deleteQuiz(removed);
+
+        // Then
+        JsonNode batch = get("/api/v1/results/changes?wait=0&after=" + start);
+        List<String> changes = new ArrayList<>();
+        for (JsonNode change : batch.get("changes")) {
+            changes.add(change.get("type").asText() + " " + change.get("nickname").asText());
+        }
+        assertThat(changes).containsExactly("INSERT Piped", "INSERT Doomed", "INSERT Posted",
+                "DELETE Posted", "DELETE Doomed");
+        assertThat(batch.get("next").asLong()).isEqualTo(node.getBean(ResultChangeLog.class).lastSeq());
+    }
+
+    @Test
+    @DisplayName("Should hold a caught-up long-poll until the next change")
+    void changes_ShouldLongPoll() throws Exception {
+        // Given
+        Long quizId = node.getBean(QuizRepository.class).save(new Quiz("Polled")).getId();
+        long last = node.getBean(ResultChangeLog.class).lastSeq();
+        CompletableFuture<HttpResponse<String>> waiting = client.sendAsync(
+                HttpRequest.newBuilder(uri("/api/v1/results/changes?wait=10&after=" + last)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Thread.sleep(300);
+        assertThat(waiting).isNotDone();
+
+        // When
+        postResult(quizId, "Late", 1);
+
+        // Then
+        JsonNode batch = objectMapper.readTree(waiting.get(5, TimeUnit.SECONDS).body());
+        assertThat(batch.get("changes").get(0).get("nickname").asText()).isEqualTo("Late");
+    }
+
+    @Test
+    @DisplayName("Should answer 410 to a consumer behind the retention watermark")
+    void changes_ShouldExpireAfterRetention() throws Exception {
+        // Given
+        Long quizId = node.getBean(QuizRepository.class).save(new Quiz("Retained")).getId();
+        postResult(quizId, "Old", 1);
+        long last = node.getBean(ResultChangeLog.class).lastSeq();
+
+        // When
+        int purged = node.getBean(ResultChangeLog.class).purge(LocalDateTime.now().plusMinutes(1), 2);
+
+        // Then
+        assertThat(purged).isPositive();
+        assertThat(node.getBean(ResultChangeLog.class).lastSeq()).isGreaterThanOrEqualTo(last);
+        HttpResponse<String> expired = client.send(
+                HttpRequest.newBuilder(uri("/api/v1/results/changes?wait=0&after=0")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(expired.statusCode()).isEqualTo(410);
+        assertThat(get("/api/v1/results/changes?wait=0&after=" + last).get("changes")).isEmpty();
+    }
+
+    private JsonNode postResult(Long quizId, String nickname, int score) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "quizId", quizId, "nickname", nickname, "score", score, "maxScore", 5));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/v1/results"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(201);
+        return objectMapper.readTree(response.body());
+    }
+
+    private void delete(String path) throws Exception {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri(path)).DELETE().build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(response.statusCode()).isEqualTo(204);
+    }
+
+    private JsonNode get(String path) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readTree(response.body());
+    }
+
+    private static URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
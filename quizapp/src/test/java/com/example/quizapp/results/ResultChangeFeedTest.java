@@ -0,0 +1,133 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.exception.ResultChangesExpiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResultChangeFeed; the poll and retention thread is not started.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResultChangeFeedTest {
+
+    @Mock
+    private ResultChangeLog changeLog;
+
+    private ResultChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new ResultChangeFeed(changeLog, Duration.ofMillis(250), Duration.ofSeconds(5),
+                Duration.ofDays(7), Duration.ofHours(1), 1000);
+    }
+
+    @Test
+    @DisplayName("Should stop a batch at a recent gap in seqs and pass an old one")
+    void settled_ShouldWaitForRecentGaps() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<ResultChange> changes = List.of(
+                change(11, now.minusMinutes(1)),
+                change(13, now.minusMinutes(1)), // 12 rolled back long ago
+                change(14, now),
+                change(16, now));                // 15 may still commit
+
+        // When
+        ResultChangeBatch batch = ResultChangeFeed.settled(10, changes, now.minusSeconds(5));
+
+        // Then
+        assertThat(batch.changes()).extracting(ResultChange::seq).containsExactly(11L, 13L, 14L);
+        assertThat(batch.next()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("Should keep the cursor when the first change is behind a recent gap")
+    void settled_ShouldReturnEmptyBatchBeforeGap() {
+        LocalDateTime now = LocalDateTime.now();
+
+        ResultChangeBatch batch = ResultChangeFeed.settled(10, List.of(change(12, now)), now.minusSeconds(5));
+
+        assertThat(batch.changes()).isEmpty();
+        assertThat(batch.next()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor behind the retention watermark")
+    void read_ShouldRejectExpiredCursor() {
+        when(changeLog.purgedThrough()).thenReturn(500L);
+
+        assertThatThrownBy(() -> feed.read(499, 100)).isInstanceOf(ResultChangesExpiredException.class);
+        verify(changeLog, never()).after(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should answer at once when changes are available")
+    void poll_ShouldAnswerImmediately() {
+        // Given
+        when(changeLog.after(10, 100)).thenReturn(List.of(change(11, LocalDateTime.now())));
+
+        // When
+        DeferredResult<ResultChangeBatch> result = feed.poll(10, 100, Duration.ofSeconds(30));
+
+        // Then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(((ResultChangeBatch) result.getResult()).next()).isEqualTo(11);
+        assertThat(feed.waiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should park a caught-up consumer and answer it when a change arrives")
+    void poll_ShouldParkUntilChange() {
+        // Given
+        when(changeLog.after(10, 100)).thenReturn(List.of());
+        DeferredResult<ResultChangeBatch> result = feed.poll(10, 100, Duration.ofSeconds(30));
+        assertThat(result.hasResult()).isFalse();
+
+        // When - nothing new, then a change is committed
+        when(changeLog.lastSeq()).thenReturn(10L);
+        int answeredBefore = feed.wakeWaiters();
+        when(changeLog.lastSeq()).thenReturn(11L);
+        when(changeLog.after(10, 100)).thenReturn(List.of(change(11, LocalDateTime.now())));
+        int answeredAfter = feed.wakeWaiters();
+
+        // Then
+        assertThat(answeredBefore).isZero();
+        assertThat(answeredAfter).isEqualTo(1);
+        assertThat(((ResultChangeBatch) result.getResult()).changes()).extracting(ResultChange::seq).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("Should not query the log when nobody waits")
+    void wakeWaiters_ShouldSkipWithoutWaiters() {
+        assertThat(feed.wakeWaiters()).isZero();
+        verifyNoInteractions(changeLog);
+    }
+
+    @Test
+    @DisplayName("Should answer an empty batch at once when no wait is requested")
+    void poll_ShouldNotParkWithZeroWait() {
+        when(changeLog.after(10, 100)).thenReturn(List.of());
+
+        DeferredResult<ResultChangeBatch> result = feed.poll(10, 100, Duration.ZERO);
+
+        assertThat(((ResultChangeBatch) result.getResult()).changes()).isEmpty();
+        assertThat(feed.waiting()).isZero();
+    }
+
+    private static ResultChange change(long seq, LocalDateTime changedAt) {
+        return new ResultChange(seq, ResultChange.Type.INSERT, seq, 1L, "Player", 3, 5, changedAt, changedAt);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.discovery.QuizCatalogIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResultPipeline; the dispatcher and stage threads are not started.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResultPipelineTest {
+
+    @Mock
+    private ResultOutbox outbox;
+
+    @Mock
+    private Leaderboard leaderboard;
+
+    @Mock
+    private QuizCatalogIndex quizCatalog;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should only enqueue on submit when async")
+    void submit_ShouldEnqueueWhenAsync() {
+        // Given
+        ResultPipeline pipeline = pipeline(true);
+        PendingResult result = PendingResult.of(1L, "Ann", 3, 5);
+
+        // When
+        pipeline.submit(result);
+
+        // Then
+        verify(outbox).enqueue(result);
+        verifyNoMoreInteractions(outbox);
+        verifyNoInteractions(leaderboard, quizCatalog);
+    }
+
+    @Test
+    @DisplayName("Should store and publish on the request thread when not async")
+    void submit_ShouldStoreInlineWhenSync() {
+        // Given
+        ResultPipeline pipeline = pipeline(false);
+        PendingResult result = PendingResult.of(1L, "Ann", 3, 5);
+        when(outbox.store(List.of(result))).thenReturn(List.of(result));
+
+        // When
+        pipeline.submit(result);
+
+        // Then
+        verify(outbox, never()).enqueue(any());
+        verify(leaderboard).offer(List.of(result));
+        verify(quizCatalog).offer(List.of(result));
+        assertThat(meterRegistry.get("quizapp.results.stored").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("quizapp.results.score.ratio").summary().mean()).isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("Should consume claimed batches until the outbox is empty")
+    void drain_ShouldConsumeAllBatches() {
+        // Given
+        ResultPipeline pipeline = pipeline(true);
+        List<PendingResult> first = List.of(PendingResult.of(1L, "Ann", 1, 5), PendingResult.of(1L, "Bob", 2, 5));
+        List<PendingResult> second = List.of(PendingResult.of(2L, "Cid", 5, 5));
+        when(outbox.claim(anyInt(), anyLong())).thenReturn(first, second, List.of());
+        when(outbox.consume(first)).thenReturn(first);
+        // Cid's quiz was deleted meanwhile
+        when(outbox.consume(second)).thenReturn(List.of());
+
+        // When
+        int stored = pipeline.drain();
+
+        // Then
+        assertThat(stored).isEqualTo(2);
+        verify(outbox, times(3)).claim(200, 30_000);
+        verify(leaderboard).offer(first);
+        verify(quizCatalog).offer(first);
+        assertThat(meterRegistry.get("quizapp.results.stored").counter().count()).isEqualTo(2);
+    }
+
+    private ResultPipeline pipeline(boolean async) {
+        return new ResultPipeline(outbox, leaderboard, quizCatalog, meterRegistry, async, 200, 2, 4,
+                Duration.ofSeconds(1), Duration.ofSeconds(30));
+    }
+}
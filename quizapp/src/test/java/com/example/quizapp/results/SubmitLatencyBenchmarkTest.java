@@ -0,0 +1,156 @@
+package com.example.quizapp.results;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.repository.QuizResultRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * POST /submit latency with results stored on the request thread versus enqueued into the
+ * outbox for {@link ResultPipeline}. Each client starts an attempt, then submits it; only
+ * the submit is timed.
+ * Run with: mvn test -Pbenchmark -Dtest=SubmitLatencyBenchmarkTest
+ */
+@Tag("benchmark")
+class SubmitLatencyBenchmarkTest {
+
+    private static final int CLIENTS = 16;
+    private static final int WARMUP = 50;
+    private static final int SUBMITS_PER_CLIENT = 250;
+    private static final Pattern CSRF_FIELD = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    @Test
+    @DisplayName("Benchmark: submit latency, inline result storage vs outbox + async pipeline")
+    void submitLatency() throws Exception {
+        long[] inline = measure(false);
+        long[] outbox = measure(true);
+
+        System.out.printf("%-10s %10s %10s%n", "submit", "p50 us", "p99 us");
+        System.out.printf("%-10s %10d %10d%n", "inline", percentile(inline, 50), percentile(inline, 99));
+        System.out.printf("%-10s %10d %10d%n", "outbox", percentile(outbox, 50), percentile(outbox, 99));
+    }
+
+    private long[] measure(boolean async) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:submit-latency-" + async + ";DB_CLOSE_DELAY=-1",
+                        "app.cache.invalidation.transport=none",
+                        // As in production; the test application.yml leaves it on, and 16 clients
+                        // each holding a request-bound connection starve the pool of 10
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "app.results.pipeline.async=" + async,
+                        "app.ratelimit.per-client.permits-per-second=100000",
+                        "app.ratelimit.per-client.burst=100000",
+                        "app.ratelimit.per-quiz.permits-per-second=100000",
+                        "app.ratelimit.per-quiz.burst=100000",
+                        "app.ratelimit.concurrency.max=" + CLIENTS)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Long quizId = context.getBean(QuizRepository.class).save(new Quiz("Latency Quiz")).getId();
+            URI play = URI.create("http://localhost:" + port + "/play/" + quizId);
+            URI submit = URI.create("http://localhost:" + port + "/submit/" + quizId);
+
+            ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                futures.add(clients.submit(() -> runClient(client, play, submit)));
+            }
+            long[] latencies = new long[0];
+            for (Future<long[]> future : futures) {
+                long[] clientLatencies = future.get();
+                int offset = latencies.length;
+                latencies = Arrays.copyOf(latencies, offset + clientLatencies.length);
+                System.arraycopy(clientLatencies, 0, latencies, offset, clientLatencies.length);
+            }
+            clients.shutdown();
+            clients.awaitTermination(30, TimeUnit.SECONDS);
+
+            assertThat(awaitStored(context, quizId)).isEqualTo((long) CLIENTS * (WARMUP + SUBMITS_PER_CLIENT));
+            return latencies;
+        }
+    }
+
+    // Batches claimed by the pipeline threads may still be in flight after the last submit
+    private long awaitStored(ConfigurableApplicationContext context, Long quizId) throws InterruptedException {
+        QuizResultRepository repository = context.getBean(QuizResultRepository.class);
+        long expected = (long) CLIENTS * (WARMUP + SUBMITS_PER_CLIENT);
+        long deadline = System.currentTimeMillis() + 10_000;
+        context.getBean(ResultPipeline.class).drain();
+        long stored = repository.countAttemptsByQuizId(quizId);
+        while (stored < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            stored = repository.countAttemptsByQuizId(quizId);
+        }
+        return stored;
+    }
+
+    private long[] runClient(int client, URI play, URI submit) throws Exception {
+        HttpClient http = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        String csrf = csrfToken(http, play);
+        String start = "nickname=Client" + client + "&_csrf=" + csrf;
+        long[] latencies = new long[SUBMITS_PER_CLIENT];
+        for (int i = 0; i < WARMUP + SUBMITS_PER_CLIENT; i++) {
+            HttpResponse<Void> started = http.send(form(play, start), HttpResponse.BodyHandlers.discarding());
+            assertThat(started.statusCode()).isEqualTo(200);
+
+            long begin = System.nanoTime();
+            HttpResponse<Void> submitted = http.send(form(submit, "_csrf=" + csrf),
+                    HttpResponse.BodyHandlers.discarding());
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin);
+            assertThat(submitted.statusCode()).isEqualTo(302);
+            if (i >= WARMUP) {
+                latencies[i - WARMUP] = micros;
+            }
+        }
+        return latencies;
+    }
+
+    private static HttpRequest form(URI uri, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private String csrfToken(HttpClient client, URI playUri) throws Exception {
+        HttpResponse<String> page = client.send(HttpRequest.newBuilder(playUri).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = CSRF_FIELD.matcher(page.body());
+        assertThat(matcher.find()).isTrue();
+        return URLEncoder.encode(matcher.group(1), StandardCharsets.UTF_8);
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
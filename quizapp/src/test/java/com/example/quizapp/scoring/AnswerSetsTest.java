@@ -0,0 +1,101 @@
+package com.example.quizapp.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AnswerSets.
+ */
+class AnswerSetsTest {
+
+    @Test
+    @DisplayName("Should count distinct hits and misses against a sorted key")
+    void hitsAndMisses_ShouldCountDistinctIds() {
+        // When
+        long counts = AnswerSets.hitsAndMisses(new long[] {9, 3, 3, 4, 1}, new long[] {1, 3, 5});
+
+        // Then
+        assertThat(AnswerSets.hits(counts)).isEqualTo(2);
+        assertThat(AnswerSets.misses(counts)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should compute Kendall tau distance for known orders")
+    void kendallTau_ShouldCountDiscordantPairs() {
+        // Given - key 10,20,30,40 in that order
+        long[] sortedKey = {10, 20, 30, 40};
+        int[] rankOfSorted = {0, 1, 2, 3};
+
+        // Then
+        assertThat(AnswerSets.kendallTauDistance(new long[] {10, 20, 30, 40}, sortedKey, rankOfSorted)).isZero();
+        assertThat(AnswerSets.kendallTauDistance(new long[] {20, 10, 30, 40}, sortedKey, rankOfSorted)).isEqualTo(1);
+        assertThat(AnswerSets.kendallTauDistance(new long[] {40, 30, 20, 10}, sortedKey, rankOfSorted)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should reject submissions that are not a permutation of the key")
+    void kendallTau_ShouldRejectNonPermutations() {
+        long[] sortedKey = {1, 2, 3};
+        int[] rankOfSorted = {0, 1, 2};
+
+        assertThat(AnswerSets.kendallTauDistance(new long[] {1, 2}, sortedKey, rankOfSorted)).isEqualTo(-1);
+        assertThat(AnswerSets.kendallTauDistance(new long[] {1, 2, 4}, sortedKey, rankOfSorted)).isEqualTo(-1);
+        assertThat(AnswerSets.kendallTauDistance(new long[] {1, 2, 2}, sortedKey, rankOfSorted)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should match a brute-force pair count on random permutations")
+    void kendallTau_ShouldMatchBruteForce() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            // Given - ids 100..100+n, correct order is a random permutation of them
+            int n = 1 + random.nextInt(300);
+            long[] sortedKey = new long[n];
+            for (int i = 0; i < n; i++) {
+                sortedKey[i] = 100 + i;
+            }
+            int[] rankOfSorted = shuffledRanks(n, random);
+            long[] submitted = sortedKey.clone();
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                long swap = submitted[i];
+                submitted[i] = submitted[j];
+                submitted[j] = swap;
+            }
+
+            // Then
+            assertThat(AnswerSets.kendallTauDistance(submitted, sortedKey, rankOfSorted))
+                    .isEqualTo(bruteForce(submitted, rankOfSorted));
+        }
+    }
+
+    private static int[] shuffledRanks(int n, Random random) {
+        int[] ranks = new int[n];
+        for (int i = 0; i < n; i++) {
+            ranks[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = swap;
+        }
+        return ranks;
+    }
+
+    private static long bruteForce(long[] submitted, int[] rankOfSorted) {
+        long inversions = 0;
+        for (int i = 0; i < submitted.length; i++) {
+            for (int j = i + 1; j < submitted.length; j++) {
+                if (rankOfSorted[(int) (submitted[i] - 100)] > rankOfSorted[(int) (submitted[j] - 100)]) {
+                    inversions++;
+                }
+            }
+        }
+        return inversions;
+    }
+}
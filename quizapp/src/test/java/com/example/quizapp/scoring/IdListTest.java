@@ -0,0 +1,39 @@
+package com.example.quizapp.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for IdList.
+ */
+class IdListTest {
+
+    @Test
+    @DisplayName("Should parse single and comma-separated ids in order")
+    void parse_ShouldReadIds() {
+        assertThat(IdList.parse("42")).containsExactly(42L);
+        assertThat(IdList.parse("3,1,2")).containsExactly(3L, 1L, 2L);
+        assertThat(IdList.parse(" 7 , 8 ")).containsExactly(7L, 8L);
+        assertThat(IdList.parse("1,,2,")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should return an empty array for blank input")
+    void parse_ShouldHandleBlank() {
+        assertThat(IdList.parse("")).isEmpty();
+        assertThat(IdList.parse(" , ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return null for anything that is not an id list")
+    void parse_ShouldRejectText() {
+        assertThat(IdList.parse(null)).isNull();
+        assertThat(IdList.parse("Paris")).isNull();
+        assertThat(IdList.parse("1,b")).isNull();
+        assertThat(IdList.parse("-1")).isNull();
+        assertThat(IdList.parse("1 2")).isNull();
+        assertThat(IdList.parse("1234567890123456789")).isNull();
+    }
+}
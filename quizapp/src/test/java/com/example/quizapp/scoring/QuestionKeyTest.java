@@ -0,0 +1,116 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.QuestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for QuestionKey answer checks.
+ */
+class QuestionKeyTest {
+
+    @Test
+    @DisplayName("Should accept exactly one correct id for single choice questions")
+    void singleChoice_ShouldMatchOneId() {
+        QuestionKey key = QuestionKey.of(QuestionType.SINGLE_CHOICE, List.of(answer(5L, "A", 1)));
+
+        assertThat(key.isCorrect(SubmittedAnswer.fromFormValue("5"))).isTrue();
+        assertThat(key.isCorrect(SubmittedAnswer.fromFormValue("6"))).isFalse();
+        assertThat(key.isCorrect(SubmittedAnswer.fromFormValue("5,5"))).isFalse();
+        assertThat(key.isCorrect(SubmittedAnswer.fromFormValue("five"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should compare multiple choice answers as sets")
+    void multipleChoice_ShouldCompareSets() {
+        QuestionKey key = QuestionKey.of(QuestionType.MULTIPLE_CHOICE,
+                List.of(answer(1L, "A", 1), answer(3L, "C", 3)));
+
+        assertThat(key.isCorrect(SubmittedAnswer.ofIds(new long[] {3, 1}))).isTrue();
+        assertThat(key.isCorrect(SubmittedAnswer.ofIds(new long[] {1, 3, 3}))).isTrue();
+        assertThat(key.isCorrect(SubmittedAnswer.ofIds(new long[] {1}))).isFalse();
+        assertThat(key.isCorrect(SubmittedAnswer.ofIds(new long[] {1, 2, 3}))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should require the exact order for sorting questions")
+    void sorting_ShouldCompareOrder() {
+        QuestionKey key = QuestionKey.of(QuestionType.SORTING,
+                List.of(answer(9L, "Third", 3), answer(7L, "First", 1), answer(8L, "Second", 2)));
+
+        assertThat(key.isCorrect(SubmittedAnswer.fromFormValue("7,8,9"))).isTrue();
+        assertThat(key.isCorrect(SubmittedAnswer.fromFormValue("8,7,9"))).isFalse();
+        assertThat(key.isCorrect(SubmittedAnswer.fromFormValue("7,8"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match text answers case-insensitively after trimming")
+    void shortAnswer_ShouldMatchText() {
+        QuestionKey key = QuestionKey.of(QuestionType.SHORT_ANSWER,
+                List.of(answer(1L, "Paris", null), answer(2L, "Paryż", null)));
+
+        assertThat(key.isCorrect(SubmittedAnswer.fromFormValue(" paris "))).isTrue();
+        assertThat(key.isCorrect(SubmittedAnswer.ofText("PARYŻ"))).isTrue();
+        assertThat(key.isCorrect(SubmittedAnswer.ofText("London"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match fill-in-the-blank answers without accents and with a typo budget")
+    void fillBlank_ShouldUseTolerantMatching() {
+        QuestionKey key = QuestionKey.of(QuestionType.FILL_BLANK,
+                List.of(answer(1L, "Mikołaj Kopernik | Copernicus", null)), 1);
+
+        assertThat(key.isCorrect(SubmittedAnswer.ofText("mikolaj  kopernik"))).isTrue();
+        assertThat(key.isCorrect(SubmittedAnswer.ofText("Copernicos"))).isTrue();
+        assertThat(key.isCorrect(SubmittedAnswer.ofText("Galileo"))).isFalse();
+        assertThat(key.isCorrect(SubmittedAnswer.ofText(null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should give per-choice partial credit for multiple choice")
+    void multipleChoice_ShouldGivePerChoiceCredit() {
+        QuestionKey key = QuestionKey.of(QuestionType.MULTIPLE_CHOICE,
+                List.of(answer(1L, "A", 1), answer(2L, "B", 2), answer(3L, "C", 3), answer(4L, "D", 4)));
+
+        assertThat(key.credit(SubmittedAnswer.ofIds(new long[] {1, 2, 3, 4}), CreditMode.PARTIAL)).isEqualTo(1.0);
+        assertThat(key.credit(SubmittedAnswer.ofIds(new long[] {1, 2}), CreditMode.PARTIAL)).isEqualTo(0.5);
+        assertThat(key.credit(SubmittedAnswer.ofIds(new long[] {1, 2, 9}), CreditMode.PARTIAL)).isEqualTo(0.25);
+        assertThat(key.credit(SubmittedAnswer.ofIds(new long[] {1, 8, 9}), CreditMode.PARTIAL)).isZero();
+        assertThat(key.credit(SubmittedAnswer.ofIds(new long[] {1, 2}), CreditMode.ALL_OR_NOTHING)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give Kendall tau partial credit for sorting")
+    void sorting_ShouldGiveKendallTauCredit() {
+        QuestionKey key = QuestionKey.of(QuestionType.SORTING,
+                List.of(answer(7L, "First", 1), answer(8L, "Second", 2), answer(9L, "Third", 3)));
+
+        assertThat(key.credit(SubmittedAnswer.fromFormValue("7,8,9"), CreditMode.PARTIAL)).isEqualTo(1.0);
+        // One of three pairs out of order
+        assertThat(key.credit(SubmittedAnswer.fromFormValue("8,7,9"), CreditMode.PARTIAL)).isCloseTo(2.0 / 3, within(1e-9));
+        assertThat(key.credit(SubmittedAnswer.fromFormValue("9,8,7"), CreditMode.PARTIAL)).isZero();
+        assertThat(key.credit(SubmittedAnswer.fromFormValue("7,8"), CreditMode.PARTIAL)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give per-item partial credit for matching")
+    void matching_ShouldGivePlacementCredit() {
+        QuestionKey key = QuestionKey.of(QuestionType.MATCHING,
+                List.of(answer(1L, "A", 1), answer(2L, "B", 2), answer(3L, "C", 3), answer(4L, "D", 4)));
+
+        assertThat(key.credit(SubmittedAnswer.fromFormValue("1,2,4,3"), CreditMode.PARTIAL)).isEqualTo(0.5);
+        assertThat(key.credit(SubmittedAnswer.fromFormValue("1,2,3,4"), CreditMode.PARTIAL)).isEqualTo(1.0);
+    }
+
+    private static Answer answer(Long id, String text, Integer orderIndex) {
+        Answer answer = new Answer(text, true, orderIndex);
+        answer.setId(id);
+        return answer;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.dto.SubmissionRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for QuizSubmission parsing.
+ */
+class QuizSubmissionTest {
+
+    @Test
+    @DisplayName("Should parse the legacy form encoding and ignore unrelated parameters")
+    void fromForm_ShouldParseAnswerParams() {
+        // Given
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("_csrf", "token");
+        params.put("answer_30", "5,6");
+        params.put("answer_4", "Paris");
+        params.put("answer_x", "1");
+        params.put("answer_12", "9");
+
+        // When
+        QuizSubmission submission = QuizSubmission.fromForm(params);
+
+        // Then
+        assertThat(submission.size()).isEqualTo(3);
+        assertThat(submission.answerFor(30).ids()).containsExactly(5L, 6L);
+        assertThat(submission.answerFor(4).ids()).isNull();
+        assertThat(submission.answerFor(4).text()).isEqualTo("Paris");
+        assertThat(submission.answerFor(12).ids()).containsExactly(9L);
+        assertThat(submission.answerFor(99)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should convert the typed JSON request")
+    void fromRequest_ShouldUseTypedAnswers() {
+        // Given
+        SubmissionRequest request = new SubmissionRequest(List.of(
+                new SubmissionRequest.AnswerEntry(8L, new long[] {3, 1}, null),
+                new SubmissionRequest.AnswerEntry(2L, null, "Warsaw"),
+                new SubmissionRequest.AnswerEntry(null, new long[] {1}, null)));
+
+        // When
+        QuizSubmission submission = QuizSubmission.fromRequest(request);
+
+        // Then
+        assertThat(submission.size()).isEqualTo(2);
+        assertThat(submission.answerFor(8).ids()).containsExactly(3L, 1L);
+        assertThat(submission.answerFor(2).text()).isEqualTo("Warsaw");
+    }
+
+    @Test
+    @DisplayName("Should treat missing answers list as empty")
+    void fromRequest_ShouldHandleNullAnswers() {
+        assertThat(QuizSubmission.fromRequest(new SubmissionRequest(null)).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should treat blank form values as unanswered")
+    void submittedAnswer_ShouldDetectBlank() {
+        assertThat(SubmittedAnswer.fromFormValue("").isBlank()).isTrue();
+        assertThat(SubmittedAnswer.fromFormValue("  ").isBlank()).isTrue();
+        assertThat(SubmittedAnswer.fromFormValue("1").isBlank()).isFalse();
+        assertThat(SubmittedAnswer.ofText("x").isBlank()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should let submitted answers override saved ones and saved ones fill the gaps")
+    void withSavedAnswers_ShouldMergeByQuestion() {
+        // Given
+        QuizSubmission saved = QuizSubmission.fromFormValues(Map.of(1L, "10", 2L, "20", 5L, "Paris"));
+        QuizSubmission submitted = QuizSubmission.fromRequest(new SubmissionRequest(List.of(
+                new SubmissionRequest.AnswerEntry(2L, new long[] {21, 22}, null),
+                new SubmissionRequest.AnswerEntry(3L, new long[] {30}, null),
+                new SubmissionRequest.AnswerEntry(5L, null, " "))));
+
+        // When
+        QuizSubmission merged = submitted.withSavedAnswers(saved);
+
+        // Then
+        assertThat(merged.size()).isEqualTo(4);
+        assertThat(merged.answerFor(1).ids()).containsExactly(10L);
+        assertThat(merged.answerFor(2).ids()).containsExactly(21L, 22L);
+        assertThat(merged.answerFor(3).ids()).containsExactly(30L);
+        assertThat(merged.answerFor(5).text()).isEqualTo("Paris");
+    }
+
+    @Test
+    @DisplayName("Should write answers back in the form encoding")
+    void toFormValues_ShouldRoundTrip() {
+        // Given
+        QuizSubmission submission = QuizSubmission.fromRequest(new SubmissionRequest(List.of(
+                new SubmissionRequest.AnswerEntry(7L, null, "Warsaw"),
+                new SubmissionRequest.AnswerEntry(3L, new long[] {4, 2}, null))));
+
+        // When
+        Map<Long, String> values = submission.toFormValues();
+
+        // Then
+        assertThat(values).containsExactly(Map.entry(3L, "4,2"), Map.entry(7L, "Warsaw"));
+        assertThat(QuizSubmission.fromFormValues(values).answerFor(3).ids()).containsExactly(4L, 2L);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.entity.ScoringPolicyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Nanoseconds per scored submission: the all-or-nothing scorer as it was before
+ * scoring plans (answer keys built per submission) against compiled plans, with
+ * every question all-or-nothing and with the four policies mixed.
+ * Correct answers come from memory, so only the scoring work itself is measured.
+ * Run with: mvn test -Pbenchmark -Dtest=ScoringPlanBenchmarkTest
+ */
+@Tag("benchmark")
+class ScoringPlanBenchmarkTest {
+
+    private static final int QUESTIONS = 20;
+    private static final int ANSWERS_PER_QUESTION = 4;
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+    private static final QuestionType[] TYPES = {
+            QuestionType.SINGLE_CHOICE, QuestionType.MULTIPLE_CHOICE, QuestionType.SORTING, QuestionType.MATCHING};
+
+    private final List<Question> questions = new ArrayList<>();
+    private final Map<Long, List<Answer>> correctAnswers = new HashMap<>();
+    private final Map<String, String> form = new HashMap<>();
+
+    @Test
+    @DisplayName("Benchmark: compiled scoring plans vs the per-submission all-or-nothing path")
+    void compiledPlanThroughput() {
+        setUpQuiz();
+        QuizDTO quiz = new QuizDTO();
+        quiz.setId(1L);
+        quiz.setTimeLimit(600);
+        ScoringPlan allOrNothing = ScoringPlan.compile(quiz, questions, correctAnswers::get,
+                ScoringPolicyType.ALL_OR_NOTHING, 0);
+        ScoringPolicyType[] policies = ScoringPolicyType.values();
+        for (int q = 0; q < QUESTIONS; q++) {
+            questions.get(q).setScoringPolicy(policies[q % policies.length]);
+        }
+        ScoringPlan mixed = ScoringPlan.compile(quiz, questions, correctAnswers::get,
+                ScoringPolicyType.ALL_OR_NOTHING, 0);
+
+        long legacy = nanosPerSubmission(this::scoreLegacy);
+        long compiled = nanosPerSubmission(submission -> allOrNothing.score(submission, 60_000).score());
+        long compiledMixed = nanosPerSubmission(submission -> mixed.score(submission, 60_000).score());
+
+        System.out.printf("%-22s %10s%n", "path", "ns/op");
+        System.out.printf("%-22s %10d%n", "legacy all-or-nothing", legacy);
+        System.out.printf("%-22s %10d%n", "plan all-or-nothing", compiled);
+        System.out.printf("%-22s %10d%n", "plan mixed policies", compiledMixed);
+        QuizSubmission submission = QuizSubmission.fromForm(form);
+        assertThat(allOrNothing.score(submission, 0).score()).isEqualTo(scoreLegacy(submission));
+        assertThat(compiled).isLessThanOrEqualTo(legacy);
+    }
+
+    // Parsing is shared by every path and kept out of the measurement
+    private long nanosPerSubmission(ToIntFunction<QuizSubmission> scorer) {
+        QuizSubmission submission = QuizSubmission.fromForm(form);
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += scorer.applyAsInt(submission);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += scorer.applyAsInt(submission);
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isPositive();
+        return elapsed / ITERATIONS;
+    }
+
+    private void setUpQuiz() {
+        long answerId = 1000;
+        for (int q = 0; q < QUESTIONS; q++) {
+            Question question = new Question("Question " + q, TYPES[q % TYPES.length], 2);
+            question.setId((long) q + 1);
+            questions.add(question);
+            List<Answer> correct = new ArrayList<>();
+            StringBuilder submitted = new StringBuilder();
+            int answers = question.getType() == QuestionType.SINGLE_CHOICE ? 1 : ANSWERS_PER_QUESTION;
+            for (int a = 0; a < answers; a++) {
+                Answer answer = new Answer("Answer " + a, true, a);
+                answer.setId(answerId++);
+                correct.add(answer);
+                submitted.append(submitted.length() == 0 ? "" : ",").append(answer.getId());
+            }
+            correctAnswers.put(question.getId(), correct);
+            form.put("answer_" + question.getId(), submitted.toString());
+        }
+    }
+
+    // SubmissionScorer before scoring plans: an answer key per question per submission
+    private int scoreLegacy(QuizSubmission submission) {
+        int totalScore = 0;
+        for (Question question : questions) {
+            SubmittedAnswer answer = submission.answerFor(question.getId());
+            if (answer == null || answer.isBlank()) {
+                continue;
+            }
+            QuestionKey key = QuestionKey.of(question.getType(), correctAnswers.get(question.getId()));
+            if (key.credit(answer, CreditMode.ALL_OR_NOTHING) > 0) {
+                totalScore += question.getPoints();
+            }
+        }
+        return Math.max(0, totalScore);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.entity.ScoringPolicyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ScoringPlan compilation and scoring.
+ */
+class ScoringPlanTest {
+
+    private final Map<Long, List<Answer>> correctAnswers = new HashMap<>();
+
+    @Test
+    @DisplayName("Should score each question with its resolved policy")
+    void score_ShouldMixPoliciesPerQuestion() {
+        QuizDTO quiz = quiz(ScoringPolicyType.PROPORTIONAL, false, null);
+        List<Question> questions = List.of(
+                question(1L, QuestionType.MULTIPLE_CHOICE, 4, null, 11L, 12L),
+                question(2L, QuestionType.MULTIPLE_CHOICE, 4, ScoringPolicyType.ALL_OR_NOTHING, 21L, 22L));
+
+        ScoringPlan plan = ScoringPlan.compile(quiz, questions, correctAnswers::get, ScoringPolicyType.ALL_OR_NOTHING, 0);
+        ScoreResult result = plan.score(submission("11", "21"), 0);
+
+        // Half of question 1 under the quiz's PROPORTIONAL, nothing for question 2
+        assertThat(result).isEqualTo(new ScoreResult(2, 8));
+        assertThat(plan.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should apply the flat penalty only where the policy allows it, never below zero")
+    void score_ShouldApplyFlatPenalty() {
+        QuizDTO quiz = quiz(null, true, null);
+        List<Question> questions = List.of(
+                question(1L, QuestionType.SINGLE_CHOICE, 3, null, 11L),
+                question(2L, QuestionType.SINGLE_CHOICE, 1, null, 21L),
+                question(3L, QuestionType.MULTIPLE_CHOICE, 2, ScoringPolicyType.NEGATIVE_PER_WRONG_CHOICE, 31L, 32L));
+
+        ScoringPlan plan = ScoringPlan.compile(quiz, questions, correctAnswers::get, ScoringPolicyType.ALL_OR_NOTHING, 0);
+
+        // 3 - 1 (flat penalty) + 0 (one right, one wrong choice)
+        assertThat(plan.score(submission("11", "99", "31,99"), 0).score()).isEqualTo(2);
+        assertThat(plan.score(submission("99", "99", "98,99"), 0).score()).isZero();
+        // Blank answers are skipped, not penalised
+        assertThat(plan.score(submission("11", "", null), 0).score()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should decay time-decayed questions against the quiz time limit")
+    void score_ShouldUseElapsedTimeForTimeDecay() {
+        QuizDTO quiz = quiz(ScoringPolicyType.TIME_DECAYED, false, 100);
+        List<Question> questions = List.of(question(1L, QuestionType.SINGLE_CHOICE, 10, null, 11L));
+
+        ScoringPlan plan = ScoringPlan.compile(quiz, questions, correctAnswers::get, ScoringPolicyType.ALL_OR_NOTHING, 0);
+
+        assertThat(plan.score(submission("11"), 0).score()).isEqualTo(10);
+        assertThat(plan.score(submission("11"), 50_000).score()).isEqualTo(8);
+        assertThat(plan.score(submission("11"), 200_000).score()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should not decay points when the quiz is untimed")
+    void score_ShouldIgnoreElapsedTimeWithoutTimeLimit() {
+        QuizDTO quiz = quiz(ScoringPolicyType.TIME_DECAYED, false, null);
+        List<Question> questions = List.of(question(1L, QuestionType.SINGLE_CHOICE, 10, null, 11L));
+
+        ScoringPlan plan = ScoringPlan.compile(quiz, questions, correctAnswers::get, ScoringPolicyType.ALL_OR_NOTHING, 0);
+
+        assertThat(plan.score(submission("11"), 3_600_000).score()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should score and count only the questions drawn for the attempt")
+    void score_ShouldOnlyCountDrawnQuestions() {
+        QuizDTO quiz = quiz(null, true, null);
+        List<Question> questions = List.of(
+                question(1L, QuestionType.SINGLE_CHOICE, 3, null, 11L),
+                question(2L, QuestionType.SINGLE_CHOICE, 2, null, 21L),
+                question(3L, QuestionType.SINGLE_CHOICE, 5, null, 31L));
+
+        ScoringPlan plan = ScoringPlan.compile(quiz, questions, correctAnswers::get, ScoringPolicyType.ALL_OR_NOTHING, 0);
+
+        // Question 2 was not drawn, so its wrong answer costs nothing; id 9 is not in the plan
+        assertThat(plan.score(submission("11", "99", "31"), 0, List.of(1L, 3L, 9L))).isEqualTo(new ScoreResult(8, 8));
+        assertThat(plan.score(submission("11", "99", "31"), 0)).isEqualTo(new ScoreResult(7, 10));
+    }
+
+    // Form values for questions 1..n in order; null leaves the question out
+    private static QuizSubmission submission(String... values) {
+        Map<String, String> form = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                form.put("answer_" + (i + 1), values[i]);
+            }
+        }
+        return QuizSubmission.fromForm(form);
+    }
+
+    private static QuizDTO quiz(ScoringPolicyType policy, boolean negativePoints, Integer timeLimit) {
+        QuizDTO quiz = new QuizDTO();
+        quiz.setId(1L);
+        quiz.setScoringPolicy(policy);
+        quiz.setNegativePoints(negativePoints);
+        quiz.setTimeLimit(timeLimit);
+        return quiz;
+    }
+
+    private Question question(Long id, QuestionType type, int points, ScoringPolicyType policy, Long... correctIds) {
+        Question question = new Question("Question " + id, type, points);
+        question.setId(id);
+        question.setScoringPolicy(policy);
+        Answer[] answers = new Answer[correctIds.length];
+        for (int i = 0; i < correctIds.length; i++) {
+            answers[i] = new Answer("Answer " + correctIds[i], true, i);
+            answers[i].setId(correctIds[i]);
+        }
+        correctAnswers.put(id, List.of(answers));
+        return question;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.entity.ScoringPolicyType;
+import com.example.quizapp.versioning.AnswerSnapshot;
+import com.example.quizapp.versioning.QuestionSnapshot;
+import com.example.quizapp.versioning.QuizVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the per-version scoring plan cache.
+ */
+class ScoringPlansTest {
+
+    private ScoringPlans scoringPlans;
+
+    @BeforeEach
+    void setUp() {
+        scoringPlans = new ScoringPlans(ScoringPolicyType.ALL_OR_NOTHING, 0);
+    }
+
+    @Test
+    @DisplayName("Should compile a plan once per version and reuse it")
+    void planFor_ShouldCachePlan() {
+        QuizVersion version = version(1, 100L);
+
+        ScoringPlan first = scoringPlans.planFor(version);
+        ScoringPlan second = scoringPlans.planFor(version);
+
+        assertThat(second).isSameAs(first);
+        assertThat(scoringPlans.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should score each version against its own answer key")
+    void planFor_ShouldScoreAgainstVersion() {
+        QuizSubmission submission = QuizSubmission.fromFormValues(Map.of(10L, "100"));
+
+        ScoreResult before = scoringPlans.planFor(version(1, 100L)).score(submission, 0);
+        ScoreResult after = scoringPlans.planFor(version(2, 101L)).score(submission, 0);
+
+        assertThat(before.score()).isEqualTo(1);
+        assertThat(after.score()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the two newest versions of a quiz")
+    void planFor_ShouldDropOlderVersions() {
+        scoringPlans.planFor(version(1, 100L));
+        scoringPlans.planFor(version(2, 100L));
+        assertThat(scoringPlans.size()).isEqualTo(2);
+
+        scoringPlans.planFor(version(3, 100L));
+
+        assertThat(scoringPlans.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should compile plans of versions older than the kept ones without caching them")
+    void planFor_ShouldNotCacheOlderVersions() {
+        scoringPlans.planFor(version(3, 100L));
+
+        ScoreResult late = scoringPlans.planFor(version(1, 101L))
+                .score(QuizSubmission.fromFormValues(Map.of(10L, "101")), 0);
+
+        assertThat(late.score()).isEqualTo(1);
+        assertThat(scoringPlans.size()).isEqualTo(1);
+    }
+
+    private static QuizVersion version(int version, long correctAnswerId) {
+        QuestionSnapshot question = new QuestionSnapshot(10L, version, "Question", QuestionType.SINGLE_CHOICE, 1,
+                null, null, null, List.of(
+                        new AnswerSnapshot(100L, "A", correctAnswerId == 100L, 0),
+                        new AnswerSnapshot(101L, "B", correctAnswerId == 101L, 1)));
+        return new QuizVersion(1L, version, "Quiz", null, false, false, false, null, null, null, null,
+                List.of(question));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.entity.ScoringPolicyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the scoring policy strategies.
+ */
+class ScoringPoliciesTest {
+
+    private final QuestionKey multipleChoice = QuestionKey.of(QuestionType.MULTIPLE_CHOICE,
+            List.of(answer(1L, 1), answer(2L, 2), answer(3L, 3), answer(4L, 4)));
+    private final QuestionKey singleChoice = QuestionKey.of(QuestionType.SINGLE_CHOICE, List.of(answer(5L, 1)));
+
+    @Test
+    @DisplayName("Should resolve the question's policy before the quiz's and the default")
+    void resolve_ShouldPreferMostSpecificPolicy() {
+        assertThat(ScoringPolicies.resolve(ScoringPolicyType.TIME_DECAYED, ScoringPolicyType.PROPORTIONAL,
+                ScoringPolicyType.ALL_OR_NOTHING)).isEqualTo(ScoringPolicyType.TIME_DECAYED);
+        assertThat(ScoringPolicies.resolve(null, ScoringPolicyType.PROPORTIONAL,
+                ScoringPolicyType.ALL_OR_NOTHING)).isEqualTo(ScoringPolicyType.PROPORTIONAL);
+        assertThat(ScoringPolicies.resolve(null, null,
+                ScoringPolicyType.ALL_OR_NOTHING)).isEqualTo(ScoringPolicyType.ALL_OR_NOTHING);
+    }
+
+    @Test
+    @DisplayName("Should have a policy for every policy type")
+    void of_ShouldCoverEveryType() {
+        for (ScoringPolicyType type : ScoringPolicyType.values()) {
+            assertThat(ScoringPolicies.of(type)).as(type.name()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should award all or nothing")
+    void allOrNothing_ShouldRequireFullyCorrectAnswer() {
+        ScoringPolicy policy = ScoringPolicies.of(ScoringPolicyType.ALL_OR_NOTHING);
+
+        assertThat(policy.score(multipleChoice, ids(1, 2, 3, 4), 4, 0)).isEqualTo(4.0);
+        assertThat(policy.score(multipleChoice, ids(1, 2), 4, 0)).isZero();
+        assertThat(policy.allowsFlatPenalty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should award the partly correct share of the points")
+    void proportional_ShouldAwardPartialCredit() {
+        ScoringPolicy policy = ScoringPolicies.of(ScoringPolicyType.PROPORTIONAL);
+
+        assertThat(policy.score(multipleChoice, ids(1, 2), 4, 0)).isEqualTo(2.0);
+        assertThat(policy.score(multipleChoice, ids(1, 2, 9), 4, 0)).isEqualTo(1.0);
+        assertThat(policy.score(multipleChoice, ids(1, 8, 9), 4, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should let wrong choices cancel right ones and go below zero")
+    void negativePerWrongChoice_ShouldPenaliseEachWrongChoice() {
+        ScoringPolicy policy = ScoringPolicies.of(ScoringPolicyType.NEGATIVE_PER_WRONG_CHOICE);
+
+        assertThat(policy.score(multipleChoice, ids(1, 2, 3), 4, 0)).isEqualTo(3.0);
+        assertThat(policy.score(multipleChoice, ids(1, 2, 9), 4, 0)).isEqualTo(1.0);
+        assertThat(policy.score(multipleChoice, ids(1, 7, 8, 9), 4, 0)).isEqualTo(-2.0);
+        assertThat(policy.score(singleChoice, ids(5), 2, 0)).isEqualTo(2.0);
+        assertThat(policy.score(singleChoice, ids(6), 2, 0)).isEqualTo(-2.0);
+        assertThat(policy.allowsFlatPenalty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should decay points linearly to half at the time limit")
+    void timeDecayed_ShouldScalePointsByElapsedTime() {
+        ScoringPolicy policy = ScoringPolicies.of(ScoringPolicyType.TIME_DECAYED);
+
+        assertThat(policy.score(singleChoice, ids(5), 10, 0)).isEqualTo(10.0);
+        assertThat(policy.score(singleChoice, ids(5), 10, 0.5)).isEqualTo(7.5);
+        assertThat(policy.score(singleChoice, ids(5), 10, 1.0)).isEqualTo(5.0);
+        assertThat(policy.score(singleChoice, ids(5), 10, 3.0)).isEqualTo(5.0);
+        assertThat(policy.score(singleChoice, ids(6), 10, 0)).isZero();
+    }
+
+    private static SubmittedAnswer ids(long... ids) {
+        return SubmittedAnswer.ofIds(ids);
+    }
+
+    private static Answer answer(Long id, int orderIndex) {
+        Answer answer = new Answer("Answer " + id, true, orderIndex);
+        answer.setId(id);
+        return answer;
+    }
+}
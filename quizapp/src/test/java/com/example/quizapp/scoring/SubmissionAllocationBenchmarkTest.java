@@ -0,0 +1,156 @@
+package com.example.quizapp.scoring;
+
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.QuestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes allocated per scored submission: the old Map/split/stream checks versus
+ * QuizSubmission + QuestionKey. Uses the per-thread allocation counter of HotSpot,
+ * so the numbers are exact for this thread rather than sampled.
+ * Run with: mvn test -Pbenchmark -Dtest=SubmissionAllocationBenchmarkTest
+ */
+@Tag("benchmark")
+class SubmissionAllocationBenchmarkTest {
+
+    private static final int QUESTIONS = 20;
+    private static final int ANSWERS_PER_QUESTION = 4;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final QuestionType[] TYPES = {
+            QuestionType.SINGLE_CHOICE, QuestionType.MULTIPLE_CHOICE, QuestionType.SORTING, QuestionType.MATCHING};
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final long[] questionIds = new long[QUESTIONS];
+    private final QuestionType[] questionTypes = new QuestionType[QUESTIONS];
+    private final List<List<Answer>> correctAnswers = new ArrayList<>();
+    private final Map<String, String> form = new HashMap<>();
+
+    @Test
+    @DisplayName("Benchmark: allocations per submission, legacy parsing vs typed submission")
+    void allocationsPerSubmission() {
+        setUpQuiz();
+
+        long legacy = bytesPerSubmission(this::scoreLegacy);
+        long typed = bytesPerSubmission(this::scoreTyped);
+
+        System.out.printf("%-10s %12s%n", "path", "bytes/op");
+        System.out.printf("%-10s %12d%n", "legacy", legacy);
+        System.out.printf("%-10s %12d%n", "typed", typed);
+        assertThat(scoreLegacy()).isEqualTo(scoreTyped());
+    }
+
+    private long bytesPerSubmission(java.util.function.IntSupplier scorer) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += scorer.getAsInt();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += scorer.getAsInt();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        assertThat(sink).isPositive();
+        return allocated / ITERATIONS;
+    }
+
+    private void setUpQuiz() {
+        long answerId = 1000;
+        for (int q = 0; q < QUESTIONS; q++) {
+            questionIds[q] = q + 1;
+            questionTypes[q] = TYPES[q % TYPES.length];
+            List<Answer> correct = new ArrayList<>();
+            StringBuilder submitted = new StringBuilder();
+            for (int a = 0; a < ANSWERS_PER_QUESTION; a++) {
+                boolean single = questionTypes[q] == QuestionType.SINGLE_CHOICE;
+                if (single && a > 0) {
+                    break;
+                }
+                Answer answer = new Answer("Answer " + a, true, a);
+                answer.setId(answerId++);
+                correct.add(answer);
+                submitted.append(submitted.length() == 0 ? "" : ",").append(answer.getId());
+            }
+            correctAnswers.add(correct);
+            form.put("answer_" + questionIds[q], submitted.toString());
+        }
+        form.put("_csrf", "d2f1c7a0-5b8e-4c1e-9a53-0f6f1b2a7e44");
+    }
+
+    private int scoreTyped() {
+        QuizSubmission submission = QuizSubmission.fromForm(form);
+        int score = 0;
+        for (int q = 0; q < QUESTIONS; q++) {
+            SubmittedAnswer answer = submission.answerFor(questionIds[q]);
+            if (answer != null && !answer.isBlank()
+                    && QuestionKey.of(questionTypes[q], correctAnswers.get(q)).isCorrect(answer)) {
+                score++;
+            }
+        }
+        return score;
+    }
+
+    // The scoring code GameController used before QuizSubmission, minus its debug logging
+    private int scoreLegacy() {
+        int score = 0;
+        for (int q = 0; q < QUESTIONS; q++) {
+            String userAnswer = form.get("answer_" + questionIds[q]);
+            if (userAnswer != null && !userAnswer.isEmpty()
+                    && legacyCheck(questionTypes[q], userAnswer, correctAnswers.get(q))) {
+                score++;
+            }
+        }
+        return score;
+    }
+
+    private boolean legacyCheck(QuestionType type, String userAnswer, List<Answer> correct) {
+        switch (type) {
+            case SINGLE_CHOICE:
+                try {
+                    Long answerId = Long.parseLong(userAnswer);
+                    return correct.stream().anyMatch(a -> a.getId().equals(answerId));
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            case MULTIPLE_CHOICE:
+                Set<Long> selectedSet = Arrays.stream(userAnswer.split(","))
+                        .map(String::trim)
+                        .filter(s -> !s.isEmpty())
+                        .map(Long::parseLong)
+                        .collect(Collectors.toSet());
+                Set<Long> correctSet = correct.stream().map(Answer::getId).collect(Collectors.toSet());
+                return selectedSet.equals(correctSet);
+            default:
+                List<Long> correctOrder = correct.stream()
+                        .sorted(Comparator.comparingInt(a -> a.getOrderIndex() != null ? a.getOrderIndex() : 0))
+                        .map(Answer::getId)
+                        .toList();
+                try {
+                    List<Long> userOrder = Arrays.stream(userAnswer.split(","))
+                            .map(String::trim)
+                            .map(Long::parseLong)
+                            .toList();
+                    return userOrder.equals(correctOrder);
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.quizapp.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TextMatcher.
+ */
+class TextMatcherTest {
+
+    @Test
+    @DisplayName("Should accept normalized variants of the correct answers")
+    void matches_ShouldIgnoreCaseAccentsAndSpacing() {
+        TextMatcher matcher = TextMatcher.of(List.of("Łódź Fabryczna"), 0);
+
+        assertThat(matcher.matches("lodz fabryczna")).isTrue();
+        assertThat(matcher.matches("  ŁÓDŹ   FABRYCZNA ")).isTrue();
+        assertThat(matcher.matches("lodz")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should split alternatives on the separator")
+    void of_ShouldAcceptEveryAlternative() {
+        TextMatcher matcher = TextMatcher.of(Arrays.asList("Warszawa | Warsaw", null, "Stolica||"), 0);
+
+        assertThat(matcher.size()).isEqualTo(3);
+        assertThat(matcher.matches("warsaw")).isTrue();
+        assertThat(matcher.matches("WARSZAWA")).isTrue();
+        assertThat(matcher.matches("stolica")).isTrue();
+        assertThat(matcher.matches("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should tolerate typos within the edit budget only")
+    void matches_ShouldApplyEditDistance() {
+        TextMatcher exact = TextMatcher.of(List.of("Copernicus"), 0);
+        TextMatcher tolerant = TextMatcher.of(List.of("Copernicus"), 1);
+
+        assertThat(exact.matches("Copernicos")).isFalse();
+        assertThat(tolerant.matches("Copernicos")).isTrue();
+        assertThat(tolerant.matches("Copernicu")).isTrue();
+        assertThat(tolerant.matches("Coppernicus")).isTrue();
+        assertThat(tolerant.matches("Kopernikus")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match short answers exactly even with an edit budget")
+    void matches_ShouldNotFuzzShortAnswers() {
+        TextMatcher matcher = TextMatcher.of(List.of("Ag", "1410"), 2);
+
+        assertThat(matcher.matches("au")).isFalse();
+        assertThat(matcher.matches("ag")).isTrue();
+        assertThat(matcher.matches("1411")).isTrue();
+    }
+}
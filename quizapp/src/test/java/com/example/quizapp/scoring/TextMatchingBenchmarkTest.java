@@ -0,0 +1,91 @@
+package com.example.quizapp.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Nanoseconds per checked text answer for a question with 1,000 accepted variants:
+ * the old equalsIgnoreCase scan over every correct answer against the pre-normalized
+ * TextMatcher, exact and with a one-typo budget, for hits and misses.
+ * Run with: mvn test -Pbenchmark -Dtest=TextMatchingBenchmarkTest
+ */
+@Tag("benchmark")
+class TextMatchingBenchmarkTest {
+
+    private static final int VARIANTS = 1_000;
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    @DisplayName("Benchmark: text answer checks against 1,000 accepted variants")
+    void textMatchingThroughput() {
+        List<String> accepted = new ArrayList<>(VARIANTS);
+        for (int i = 0; i < VARIANTS; i++) {
+            accepted.add("Świętokrzyski Park Narodowy " + i);
+        }
+        String[] hits = {"swietokrzyski park narodowy 999", "  ŚWIĘTOKRZYSKI   PARK NARODOWY 500 "};
+        String[] misses = {"Bieszczadzki Park Narodowy", "Tatrzański Park Narodowy 7"};
+        String[] legacyHits = {"ŚWIĘTOKRZYSKI PARK NARODOWY 999", "Świętokrzyski Park Narodowy 500"};
+        String[] typos = {"swietokrzyski pak narodowy 999", "swietokrzyski park narodowi 42"};
+
+        long buildStart = System.nanoTime();
+        TextMatcher exact = TextMatcher.of(accepted, 0);
+        long buildMicros = (System.nanoTime() - buildStart) / 1_000;
+        TextMatcher tolerant = TextMatcher.of(accepted, 1);
+
+        System.out.printf("key build (1,000 variants): %d us%n", buildMicros);
+        System.out.printf("%-24s %10s%n", "path", "ns/op");
+        System.out.printf("%-24s %10d%n", "legacy hit", nanosPerCheck(legacyHits, s -> legacyMatches(accepted, s)));
+        System.out.printf("%-24s %10d%n", "legacy miss", nanosPerCheck(misses, s -> legacyMatches(accepted, s)));
+        System.out.printf("%-24s %10d%n", "matcher hit", nanosPerCheck(hits, exact::matches));
+        System.out.printf("%-24s %10d%n", "matcher miss", nanosPerCheck(misses, exact::matches));
+        System.out.printf("%-24s %10d%n", "1 edit, typo hit", nanosPerCheck(typos, tolerant::matches));
+        System.out.printf("%-24s %10d%n", "1 edit, miss", nanosPerCheck(misses, tolerant::matches));
+
+        for (String hit : hits) {
+            assertThat(exact.matches(hit)).isTrue();
+        }
+        for (String hit : legacyHits) {
+            assertThat(legacyMatches(accepted, hit)).isTrue();
+        }
+        for (String typo : typos) {
+            assertThat(exact.matches(typo)).isFalse();
+            assertThat(tolerant.matches(typo)).isTrue();
+        }
+        for (String miss : misses) {
+            assertThat(tolerant.matches(miss)).isFalse();
+        }
+    }
+
+    private long nanosPerCheck(String[] inputs, Predicate<String> check) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += check.test(inputs[i % inputs.length]) ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += check.test(inputs[i % inputs.length]) ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isNotNegative();
+        return elapsed / ITERATIONS;
+    }
+
+    // QuestionKey's text check before TextMatcher
+    private static boolean legacyMatches(List<String> accepted, String submitted) {
+        String trimmed = submitted.trim();
+        for (String text : accepted) {
+            if (text != null && text.equalsIgnoreCase(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
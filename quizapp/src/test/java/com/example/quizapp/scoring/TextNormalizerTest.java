@@ -0,0 +1,40 @@
+package com.example.quizapp.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TextNormalizer.
+ */
+class TextNormalizerTest {
+
+    @Test
+    @DisplayName("Should lower-case ASCII and collapse whitespace")
+    void normalize_ShouldCollapseWhitespace() {
+        assertThat(TextNormalizer.normalize("  New \t York\n")).isEqualTo("new york");
+        assertThat(TextNormalizer.normalize("PARIS")).isEqualTo("paris");
+        assertThat(TextNormalizer.normalize("   ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fold Polish diacritics including the stroked l")
+    void normalize_ShouldFoldPolishLetters() {
+        assertThat(TextNormalizer.normalize("Zażółć gęślą jaźń")).isEqualTo("zazolc gesla jazn");
+        assertThat(TextNormalizer.normalize("ŁÓDŹ")).isEqualTo("lodz");
+        assertThat(TextNormalizer.normalize("Paryż")).isEqualTo(TextNormalizer.normalize("PARYZ"));
+    }
+
+    @Test
+    @DisplayName("Should treat composed and decomposed forms and non-breaking spaces alike")
+    void normalize_ShouldUnifyUnicodeForms() {
+        String composed = "Kraków";
+        String decomposed = "Krako\u0301w";
+
+        assertThat(TextNormalizer.normalize(composed)).isEqualTo("krakow");
+        assertThat(TextNormalizer.normalize(decomposed)).isEqualTo("krakow");
+        assertThat(TextNormalizer.normalize("Nowy\u00A0Sącz")).isEqualTo("nowy sacz");
+        assertThat(TextNormalizer.normalize("Straße")).isEqualTo("strasse");
+    }
+}
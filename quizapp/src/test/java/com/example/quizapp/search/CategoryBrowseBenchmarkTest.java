@@ -0,0 +1,161 @@
+package com.example.quizapp.search;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Multi-category browse latency at 100k quizzes: category index vs. the equivalent SQL on H2.
+ * Each query returns what the browse page needs: the newest 20 matches, the total and the
+ * number of matches per category. Category sizes are skewed, a few categories hold most
+ * quizzes, and every quiz has 1-4 categories.
+ * Excluded from the default build; run with
+ * mvn test -Pbenchmark -Dtest=CategoryBrowseBenchmarkTest
+ */
+@Tag("benchmark")
+class CategoryBrowseBenchmarkTest {
+
+    private static final int QUIZZES = 100_000;
+    private static final int CATEGORIES = 50;
+    private static final int PAGE_SIZE = 20;
+    private static final long[][] FILTERS = {{1}, {1, 2}, {1, 2, 3}, {2, 7}, {5, 30}, {1, 4, 9, 16}, {40, 45}};
+
+    @Test
+    @DisplayName("Category index vs SQL at 100k quizzes")
+    void browseLatency_IndexVsSql() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:category-benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        seed(jdbcTemplate);
+
+        long buildStart = System.nanoTime();
+        QuizCategoryIndex index = new QuizCategoryIndex(new CategoryLinkLoader(jdbcTemplate), 5000);
+        index.rebuild();
+        System.out.printf("Index build: %d quizzes in %d ms%n", QUIZZES,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStart));
+
+        // Same answers before timing anything
+        for (long[] filter : FILTERS) {
+            for (CategoryMatch match : CategoryMatch.values()) {
+                CategoryHits hits = index.browse(filter, match, 0, PAGE_SIZE);
+                assertThat(hits.quizIds()).isEqualTo(sqlPage(jdbcTemplate, filter, match));
+                assertThat(hits.total()).isEqualTo(sqlTotal(jdbcTemplate, filter, match));
+            }
+        }
+
+        for (CategoryMatch match : CategoryMatch.values()) {
+            long[] indexNanos = measure(200, filter -> index.browse(filter, match, 0, PAGE_SIZE));
+            long[] sqlNanos = measure(5, filter -> {
+                sqlPage(jdbcTemplate, filter, match);
+                sqlTotal(jdbcTemplate, filter, match);
+                sqlCounts(jdbcTemplate, filter, match);
+            });
+            report("category index " + match, indexNanos);
+            report("SQL " + match, sqlNanos);
+            assertThat(percentile(indexNanos, 50)).isLessThan(percentile(sqlNanos, 50));
+        }
+
+        long[] relinkNanos = new long[1_000];
+        Random random = new Random(7);
+        for (int i = 0; i < relinkNanos.length; i++) {
+            long quizId = 1 + random.nextInt(QUIZZES);
+            long start = System.nanoTime();
+            index.relinkQuiz(quizId);
+            relinkNanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(relinkNanos);
+        report("relink one quiz", relinkNanos);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO category (id, name) SELECT x, 'Category ' || x FROM SYSTEM_RANGE(1, ?) AS r(x)",
+                CATEGORIES);
+        jdbcTemplate.update("""
+            INSERT INTO quiz (id, title, shuffle_questions, shuffle_answers, negative_points, created_at, updated_at)
+            SELECT x, 'Quiz ' || x, FALSE, FALSE, FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+            FROM SYSTEM_RANGE(1, ?) AS r(x)
+            """, QUIZZES);
+        Random random = new Random(42);
+        List<Object[]> links = new ArrayList<>();
+        for (long quizId = 1; quizId <= QUIZZES; quizId++) {
+            int linkCount = 1 + random.nextInt(4);
+            // Squaring a uniform draw skews towards low ids: category 1 gets ~14% of draws, category 50 ~1%
+            long[] categoryIds = LongStream.generate(() -> 1 + (long) (CATEGORIES * Math.pow(random.nextDouble(), 2)))
+                    .distinct()
+                    .limit(linkCount)
+                    .toArray();
+            for (long categoryId : categoryIds) {
+                links.add(new Object[] {quizId, categoryId});
+            }
+        }
+        for (int from = 0; from < links.size(); from += 10_000) {
+            jdbcTemplate.batchUpdate("INSERT INTO quiz_categories (quiz_id, category_id) VALUES (?, ?)",
+                    links.subList(from, Math.min(from + 10_000, links.size())));
+        }
+        System.out.printf("Seeded %d quizzes, %d links%n", QUIZZES, links.size());
+    }
+
+    private static String matchedIdsSql(long[] filter, CategoryMatch match) {
+        String in = Arrays.stream(filter).mapToObj(Long::toString).collect(Collectors.joining(", "));
+        String having = match == CategoryMatch.ALL ? " HAVING COUNT(*) = " + filter.length : "";
+        return "SELECT quiz_id FROM quiz_categories WHERE category_id IN (" + in + ") GROUP BY quiz_id" + having;
+    }
+
+    private static List<Long> sqlPage(JdbcTemplate jdbcTemplate, long[] filter, CategoryMatch match) {
+        return jdbcTemplate.queryForList("SELECT q.id FROM quiz q WHERE q.id IN (" + matchedIdsSql(filter, match)
+                + ") ORDER BY q.id DESC LIMIT " + PAGE_SIZE, Long.class);
+    }
+
+    private static long sqlTotal(JdbcTemplate jdbcTemplate, long[] filter, CategoryMatch match) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (" + matchedIdsSql(filter, match) + ") m", Long.class);
+    }
+
+    private static void sqlCounts(JdbcTemplate jdbcTemplate, long[] filter, CategoryMatch match) {
+        jdbcTemplate.queryForList("SELECT category_id, COUNT(*) FROM quiz_categories WHERE quiz_id IN ("
+                + matchedIdsSql(filter, match) + ") GROUP BY category_id");
+    }
+
+    private static long[] measure(int rounds, Consumer<long[]> browse) {
+        // Warm-up
+        for (int i = 0; i < 3; i++) {
+            for (long[] filter : FILTERS) {
+                browse.accept(filter);
+            }
+        }
+        long[] samples = new long[rounds * FILTERS.length];
+        int n = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (long[] filter : FILTERS) {
+                long start = System.nanoTime();
+                browse.accept(filter);
+                samples[n++] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private static void report(String name, long[] sorted) {
+        System.out.printf("%-28s p50=%.3f ms  p99=%.3f ms  max=%.3f ms%n", name,
+                percentile(sorted, 50) / 1e6, percentile(sorted, 99) / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+}
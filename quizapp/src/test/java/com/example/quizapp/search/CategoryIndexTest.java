@@ -0,0 +1,147 @@
+package com.example.quizapp.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the category → quiz index.
+ */
+class CategoryIndexTest {
+
+    private static final long SCIENCE = 1;
+    private static final long HISTORY = 2;
+    private static final long SPORTS = 3;
+
+    private CategoryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        CategoryIndex.Builder builder = CategoryIndex.builder();
+        // Links arrive in any order and may repeat
+        builder.add(4, SCIENCE);
+        builder.add(1, SCIENCE);
+        builder.add(2, SCIENCE);
+        builder.add(2, HISTORY);
+        builder.add(3, HISTORY);
+        builder.add(4, HISTORY);
+        builder.add(4, HISTORY);
+        builder.add(5, SPORTS);
+        index = builder.build();
+    }
+
+    // ==================== MATCH ====================
+
+    @Test
+    @DisplayName("Should intersect categories for ALL")
+    void match_All_ShouldIntersect() {
+        assertThat(index.match(new long[] {SCIENCE, HISTORY}, CategoryMatch.ALL)).containsExactly(2, 4);
+        assertThat(index.match(new long[] {SCIENCE, SPORTS}, CategoryMatch.ALL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should merge categories for ANY without duplicates")
+    void match_Any_ShouldUnion() {
+        assertThat(index.match(new long[] {SCIENCE, HISTORY, SPORTS}, CategoryMatch.ANY))
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @DisplayName("Should treat an unknown category as empty")
+    void match_UnknownCategory() {
+        assertThat(index.match(new long[] {SCIENCE, 99}, CategoryMatch.ALL)).isEmpty();
+        assertThat(index.match(new long[] {SCIENCE, 99}, CategoryMatch.ANY)).containsExactly(1, 2, 4);
+    }
+
+    @Test
+    @DisplayName("Should agree with a naive intersection on large skewed lists")
+    void intersect_ShouldMatchNaive() {
+        // Given
+        Random random = new Random(7);
+        long[] small = LongStream.generate(() -> random.nextInt(100_000)).limit(300).sorted().distinct().toArray();
+        long[] large = LongStream.range(0, 100_000).filter(id -> id % 3 == 0).toArray();
+
+        // When
+        long[] result = CategoryIndex.intersect(small, large);
+
+        // Then
+        assertThat(result).containsExactly(LongStream.of(small).filter(id -> id % 3 == 0).toArray());
+        assertThat(CategoryIndex.intersectionSize(large, small)).isEqualTo(result.length);
+    }
+
+    // ==================== COUNTS ====================
+
+    @Test
+    @DisplayName("Should count every quiz per category without a filter")
+    void counts_WithoutFilter() {
+        assertThat(index.counts(null)).isEqualTo(Map.of(SCIENCE, 3, HISTORY, 3, SPORTS, 1));
+    }
+
+    @Test
+    @DisplayName("Should count only matched quizzes per category")
+    void counts_WithFilter() {
+        // Given
+        long[] matched = index.match(new long[] {SCIENCE}, CategoryMatch.ALL);
+
+        // Then
+        assertThat(index.counts(matched)).isEqualTo(Map.of(SCIENCE, 3, HISTORY, 2));
+    }
+
+    // ==================== RELINK ====================
+
+    @Test
+    @DisplayName("Should move a quiz between categories")
+    void relinkQuiz_ShouldUpdateBothDirections() {
+        // When
+        index.relinkQuiz(1, new long[] {SPORTS, HISTORY});
+
+        // Then
+        assertThat(index.match(new long[] {SCIENCE}, CategoryMatch.ALL)).containsExactly(2, 4);
+        assertThat(index.match(new long[] {SPORTS}, CategoryMatch.ALL)).containsExactly(1, 5);
+        assertThat(index.categoriesOf(1)).containsExactly(HISTORY, SPORTS);
+    }
+
+    @Test
+    @DisplayName("Should unlink a deleted quiz and drop emptied categories")
+    void relinkQuiz_WithNoCategories_ShouldRemove() {
+        // When
+        index.relinkQuiz(5, new long[0]);
+
+        // Then
+        assertThat(index.categoriesOf(5)).isEmpty();
+        assertThat(index.counts(null)).doesNotContainKey(SPORTS);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should replace a category's quizzes")
+    void relinkCategory_ShouldUpdateBothDirections() {
+        // When
+        index.relinkCategory(SCIENCE, new long[] {5, 4});
+
+        // Then
+        assertThat(index.match(new long[] {SCIENCE}, CategoryMatch.ALL)).containsExactly(4, 5);
+        assertThat(index.categoriesOf(1)).isEmpty();
+        assertThat(index.categoriesOf(5)).containsExactly(SCIENCE, SPORTS);
+    }
+
+    @Test
+    @DisplayName("Should leave arrays handed to readers unchanged")
+    void relink_ShouldCopyOnWrite() {
+        // Given
+        long[] before = index.match(new long[] {HISTORY}, CategoryMatch.ALL);
+
+        // When
+        index.relinkQuiz(9, new long[] {HISTORY});
+
+        // Then
+        assertThat(before).containsExactly(2, 3, 4);
+        assertThat(index.match(new long[] {HISTORY}, CategoryMatch.ALL)).containsExactly(2, 3, 4, 9);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.quizapp.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the trigram index.
+ */
+class NGramIndexTest {
+
+    private NGramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NGramIndex();
+        index.add(document(1, "Java Basics", "Variables and loops", List.of("Programming"), List.of("What is a JVM?")));
+        index.add(document(2, "World History", "Kings and wars", List.of("History"), List.of("Who wrote Java?")));
+        index.add(document(3, "Zażółć gęślą jaźń", "Polish diacritics", List.of("Language"), List.of()));
+        index.add(document(4, "Advanced Java Streams", "Collectors", List.of("Programming"), List.of()));
+    }
+
+    // ==================== SEARCH ====================
+
+    @Test
+    @DisplayName("Should rank title matches above question-text matches")
+    void search_ShouldRankTitleMatchesFirst() {
+        // When
+        SearchHits result = index.search("java", 0, 10);
+
+        // Then
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.hits()).extracting(SearchHit::quizId).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should match words inside titles, unlike a prefix-only index")
+    void search_ShouldMatchInnerWords() {
+        // When
+        SearchHits result = index.search("streams", 0, 10);
+
+        // Then
+        assertThat(result.hits()).extracting(SearchHit::quizId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should tolerate a typo")
+    void search_ShouldTolerateTypo() {
+        // When
+        SearchHits result = index.search("histry", 0, 10);
+
+        // Then
+        assertThat(result.hits()).extracting(SearchHit::quizId).contains(2L);
+    }
+
+    @Test
+    @DisplayName("Should ignore case and diacritics")
+    void search_ShouldIgnoreDiacritics() {
+        // When
+        SearchHits result = index.search("ZAZOLC", 0, 10);
+
+        // Then
+        assertThat(result.hits()).extracting(SearchHit::quizId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should match category names")
+    void search_ShouldMatchCategories() {
+        // When
+        SearchHits result = index.search("programming", 0, 10);
+
+        // Then
+        assertThat(result.hits()).extracting(SearchHit::quizId).containsExactlyInAnyOrder(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should page results and report the total")
+    void search_ShouldPage() {
+        // When
+        SearchHits first = index.search("java", 0, 2);
+        SearchHits second = index.search("java", 1, 2);
+
+        // Then
+        assertThat(first.hits()).extracting(SearchHit::quizId).containsExactly(4L, 1L);
+        assertThat(second.hits()).extracting(SearchHit::quizId).containsExactly(2L);
+        assertThat(second.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return an empty page past the end, however far")
+    void search_PastLastPage_ShouldReturnEmpty() {
+        // When
+        SearchHits result = index.search("java", Integer.MAX_VALUE / 2, 100);
+
+        // Then
+        assertThat(result.hits()).isEmpty();
+        assertThat(result.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for unknown or empty queries")
+    void search_WithNoMatch_ShouldReturnEmpty() {
+        assertThat(index.search("quantum", 0, 10).hits()).isEmpty();
+        assertThat(index.search("  !! ", 0, 10)).isEqualTo(SearchHits.EMPTY);
+    }
+
+    // ==================== MAINTENANCE ====================
+
+    @Test
+    @DisplayName("Should replace the previous version of a quiz")
+    void add_ShouldReplaceExistingQuiz() {
+        // When
+        index.add(document(1, "Kotlin Basics", "", List.of(), List.of()));
+
+        // Then
+        assertThat(index.search("java", 0, 10).hits()).extracting(SearchHit::quizId).doesNotContain(1L);
+        assertThat(index.search("kotlin", 0, 10).hits()).extracting(SearchHit::quizId).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should drop removed quizzes from results and suggestions")
+    void remove_ShouldHideQuiz() {
+        // When
+        boolean removed = index.remove(4);
+
+        // Then
+        assertThat(removed).isTrue();
+        assertThat(index.search("java", 0, 10).hits()).extracting(SearchHit::quizId).doesNotContain(4L);
+        assertThat(index.suggest("adv", 10)).isEmpty();
+        assertThat(index.remove(4)).isFalse();
+    }
+
+    // ==================== SUGGEST ====================
+
+    @Test
+    @DisplayName("Should suggest titles by word prefix, ignoring diacritics")
+    void suggest_ShouldMatchWordPrefixes() {
+        assertThat(index.suggest("jav", 10)).containsExactlyInAnyOrder("Java Basics", "Advanced Java Streams");
+        assertThat(index.suggest("Advanced Ja", 10)).containsExactly("Advanced Java Streams");
+        assertThat(index.suggest("jav", 1)).hasSize(1);
+        assertThat(index.suggest("gesla", 10)).containsExactly("Zażółć gęślą jaźń");
+    }
+
+    private static SearchDocument document(long id, String title, String description,
+                                           List<String> categories, List<String> questions) {
+        return new SearchDocument(id, title, description, categories, questions);
+    }
+}
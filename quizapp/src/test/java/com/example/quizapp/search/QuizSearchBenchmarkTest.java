@@ -0,0 +1,118 @@
+package com.example.quizapp.search;
+
+import com.example.quizapp.dao.QuizJdbcDao;
+import com.example.quizapp.dao.QuizRowMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search latency at 1M quizzes: trigram index vs. the LOWER(title) LIKE '%...%' query
+ * in QuizJdbcDao on H2. Excluded from the default build; run with
+ * mvn test -Pbenchmark -Dtest=QuizSearchBenchmarkTest
+ */
+@Tag("benchmark")
+class QuizSearchBenchmarkTest {
+
+    private static final int QUIZZES = 1_000_000;
+    private static final String[] LEVELS = {"Beginner", "Intermediate", "Advanced", "Expert", "Daily", "Weekly"};
+    private static final String[] TOPICS = {"Java", "Spring", "History", "Biology", "Chemistry", "Geography",
+            "Music", "Football", "Astronomy", "Poetry", "Algebra", "Painting", "Cinema", "Economics", "Physics"};
+    private static final String[] KINDS = {"Quiz", "Challenge", "Trivia", "Test", "Marathon", "Sprint"};
+    private static final String[] CATEGORIES = {"Programming", "Science", "Arts", "Sports", "Mathematics"};
+    private static final String[] QUERIES = {"astronomy", "advanced java", "poetry sprint", "chemistry 4711",
+            "football trivia", "econ", "beginner painting quiz", "geography marathon 123"};
+
+    @Test
+    @DisplayName("Trigram index vs LIKE at 1M quizzes")
+    void searchLatency_IndexVsLike() {
+        Random random = new Random(42);
+        List<SearchDocument> documents = new ArrayList<>(QUIZZES);
+        for (int i = 1; i <= QUIZZES; i++) {
+            String topic = TOPICS[random.nextInt(TOPICS.length)];
+            String title = LEVELS[random.nextInt(LEVELS.length)] + " " + topic + " "
+                    + KINDS[random.nextInt(KINDS.length)] + " " + i;
+            documents.add(new SearchDocument(i, title, "A " + topic.toLowerCase() + " quiz for everyone",
+                    List.of(CATEGORIES[random.nextInt(CATEGORIES.length)]), List.of()));
+        }
+
+        long buildStart = System.nanoTime();
+        NGramIndex index = new NGramIndex();
+        documents.forEach(index::add);
+        index.trim();
+        System.out.printf("Index build: %d quizzes in %d ms%n", index.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - buildStart));
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:search-benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        insertQuizzes(jdbcTemplate, documents);
+        documents.clear();
+        QuizJdbcDao dao = new QuizJdbcDao(jdbcTemplate, new QuizRowMapper());
+
+        long[] indexNanos = measure(200, query -> index.search(query, 0, 20));
+        long[] likeNanos = measure(10, dao::findByTitleContaining);
+
+        report("trigram index (top 20)", indexNanos);
+        report("LIKE '%...%' (all matches)", likeNanos);
+        assertThat(percentile(indexNanos, 50)).isLessThan(percentile(likeNanos, 50));
+    }
+
+    private static void insertQuizzes(JdbcTemplate jdbcTemplate, List<SearchDocument> documents) {
+        Timestamp now = Timestamp.from(Instant.now());
+        String sql = """
+            INSERT INTO quiz (id, title, description, shuffle_questions, shuffle_answers, negative_points, created_at, updated_at)
+            VALUES (?, ?, ?, FALSE, FALSE, FALSE, ?, ?)
+            """;
+        for (int from = 0; from < documents.size(); from += 10_000) {
+            List<Object[]> batch = documents.subList(from, Math.min(from + 10_000, documents.size())).stream()
+                    .map(d -> new Object[]{d.quizId(), d.title(), d.description(), now, now})
+                    .toList();
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private static long[] measure(int rounds, Consumer<String> search) {
+        // Warm-up
+        for (int i = 0; i < 3; i++) {
+            for (String query : QUERIES) {
+                search.accept(query);
+            }
+        }
+        long[] samples = new long[rounds * QUERIES.length];
+        int n = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (String query : QUERIES) {
+                long start = System.nanoTime();
+                search.accept(query);
+                samples[n++] = System.nanoTime() - start;
+            }
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private static void report(String name, long[] sorted) {
+        System.out.printf("%-28s p50=%.2f ms  p99=%.2f ms  max=%.2f ms%n", name,
+                percentile(sorted, 50) / 1e6, percentile(sorted, 99) / 1e6, sorted[sorted.length - 1] / 1e6);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.quizapp.search;
+
+import com.example.quizapp.dto.CreateQuizRequest;
+import com.example.quizapp.dto.QuestionDTO;
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.service.QuestionService;
+import com.example.quizapp.service.QuizSearchService;
+import com.example.quizapp.service.QuizService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for keeping the search index in step with quiz edits.
+ */
+@SpringBootTest
+class QuizSearchIndexIntegrationTest {
+
+    @Autowired
+    private QuizService quizService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuizSearchService quizSearchService;
+
+    @Autowired
+    private QuizSearchIndex quizSearchIndex;
+
+    @Test
+    @DisplayName("Should find quizzes created and edited through the service")
+    void createAndUpdate_ShouldBeSearchable() {
+        // Given
+        Long quizId = quizService.createQuiz(new CreateQuizRequest("Photosynthesis Explained", "Plants")).getId();
+
+        // Then
+        assertThat(searchIds("photosynthesis")).contains(quizId);
+
+        // When
+        quizService.updateQuiz(quizId, new CreateQuizRequest("Cellular Respiration", "Plants"));
+
+        // Then
+        assertThat(searchIds("photosynthesis")).doesNotContain(quizId);
+        assertThat(searchIds("respiration")).contains(quizId);
+    }
+
+    @Test
+    @DisplayName("Should index question text added to a quiz")
+    void addQuestion_ShouldBeSearchable() {
+        // Given
+        Long quizId = quizService.createQuiz(new CreateQuizRequest("Astronomy Night", null)).getId();
+        QuestionDTO question = new QuestionDTO();
+        question.setQuizId(quizId);
+        question.setText("Which planet has the Great Red Spot?");
+
+        // When
+        questionService.createQuestion(question);
+
+        // Then
+        assertThat(searchIds("great red spot")).contains(quizId);
+    }
+
+    @Test
+    @DisplayName("Should drop deleted quizzes")
+    void delete_ShouldRemoveFromIndex() {
+        // Given
+        Long quizId = quizService.createQuiz(new CreateQuizRequest("Volcanology Primer", null)).getId();
+
+        // When
+        quizService.deleteQuiz(quizId);
+
+        // Then
+        assertThat(searchIds("volcanology")).doesNotContain(quizId);
+    }
+
+    @Test
+    @DisplayName("Should pick up quizzes written directly to the database on rebuild")
+    void rebuild_ShouldLoadExistingQuizzes() {
+        // When
+        quizSearchIndex.rebuild();
+
+        // Then
+        assertThat(quizSearchService.suggest("all question", 5)).contains("All Question Types Test Quiz");
+    }
+
+    private List<Long> searchIds(String query) {
+        return quizSearchService.search(query, 0, 50).getContent().stream().map(QuizDTO::getId).toList();
+    }
+}
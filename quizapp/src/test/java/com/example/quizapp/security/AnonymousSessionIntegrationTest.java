@@ -0,0 +1,119 @@
+package com.example.quizapp.security;
+
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the anonymous-traffic security profile.
+ * Public pages must never create an HttpSession; logging in still does.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AnonymousSessionIntegrationTest {
+
+    // Ten per public URL; a session created on any request shows up on the first
+    private static final int REQUESTS = 30;
+    private static final String SESSION_COOKIE = "SESSION";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long quizId;
+
+    @BeforeEach
+    void setUp() {
+        quizId = quizRepository.save(new Quiz("Session-free Quiz")).getId();
+    }
+
+    @Test
+    @DisplayName("Should serve anonymous home/ranking requests without creating a session")
+    void anonymousPublicPages_ShouldNotCreateSessions() throws Exception {
+        // Given
+        String[] urls = {"/", "/ranking", "/ranking/" + quizId};
+        int storedBefore = storedSessions();
+        int sessionsCreated = 0;
+
+        // When
+        for (int i = 0; i < REQUESTS; i++) {
+            MvcResult result = mockMvc.perform(get(urls[i % urls.length]))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            if (result.getResponse().getCookie(SESSION_COOKIE) != null) {
+                sessionsCreated++;
+            }
+        }
+
+        // Then
+        assertThat(sessionsCreated).isZero();
+        assertThat(storedSessions()).isEqualTo(storedBefore);
+    }
+
+    @Test
+    @DisplayName("Should keep the play form's CSRF token in a cookie")
+    void playForm_ShouldUseCookieCsrfToken() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/play/{id}", quizId))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        assertThat(result.getResponse().getCookie(SESSION_COOKIE)).isNull();
+        Cookie csrfCookie = result.getResponse().getCookie("XSRF-TOKEN");
+        assertThat(csrfCookie).isNotNull();
+        assertThat(csrfCookie.getValue()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("Should not create a session when redirecting anonymous users to login")
+    void protectedPage_ShouldRedirectWithoutSession() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/quizzes/new"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"))
+                .andReturn();
+
+        // Then
+        assertThat(result.getResponse().getCookie(SESSION_COOKIE)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should create a session on login and honour it on public-chain pages")
+    void login_ShouldCreateSessionUsedByOtherPages() throws Exception {
+        // When
+        MvcResult login = mockMvc.perform(formLogin("/login").user("admin").password("admin123"))
+                .andExpect(status().is3xxRedirection())
+                .andReturn();
+        Cookie session = login.getResponse().getCookie(SESSION_COOKIE);
+
+        // Then
+        assertThat(session).isNotNull();
+        mockMvc.perform(get("/quizzes/new").cookie(session))
+                .andExpect(status().isOk());
+    }
+
+    private int storedSessions() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM spring_session", Integer.class);
+    }
+}
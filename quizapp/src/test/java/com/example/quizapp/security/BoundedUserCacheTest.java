@@ -0,0 +1,120 @@
+package com.example.quizapp.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BoundedUserCache.
+ */
+class BoundedUserCacheTest {
+
+    private MutableClock clock;
+    private BoundedUserCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new BoundedUserCache(2, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    @DisplayName("Should return cached users until the TTL expires")
+    void getUserFromCache_ShouldExpireAfterTtl() {
+        // Given
+        cache.putUserInCache(user("alice"));
+
+        // Then
+        assertThat(cache.getUserFromCache("alice")).isNotNull();
+
+        // When
+        clock.advance(Duration.ofMinutes(6));
+
+        // Then
+        assertThat(cache.getUserFromCache("alice")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used user when full")
+    void putUserInCache_ShouldEvictLeastRecentlyUsed() {
+        // Given
+        cache.putUserInCache(user("alice"));
+        cache.putUserInCache(user("bob"));
+        cache.getUserFromCache("alice");
+
+        // When
+        cache.putUserInCache(user("carol"));
+
+        // Then
+        assertThat(cache.getUserFromCache("bob")).isNull();
+        assertThat(cache.getUserFromCache("alice")).isNotNull();
+        assertThat(cache.getUserFromCache("carol")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the cached password when a returned copy is erased")
+    void getUserFromCache_ShouldReturnCopies() {
+        // Given
+        User original = (User) user("alice");
+        cache.putUserInCache(original);
+        original.eraseCredentials();
+
+        // When
+        User first = (User) cache.getUserFromCache("alice");
+        first.eraseCredentials();
+
+        // Then
+        assertThat(cache.getUserFromCache("alice").getPassword()).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("Should remove a user on request")
+    void removeUserFromCache_ShouldEvict() {
+        // Given
+        cache.putUserInCache(user("alice"));
+
+        // When
+        cache.removeUserFromCache("alice");
+
+        // Then
+        assertThat(cache.getUserFromCache("alice")).isNull();
+    }
+
+    private static UserDetails user(String username) {
+        return User.withUsername(username).password("hash").roles("USER").build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
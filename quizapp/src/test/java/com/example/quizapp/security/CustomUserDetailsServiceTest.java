@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -17,6 +18,7 @@ import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -28,6 +30,9 @@ class CustomUserDetailsServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserCache userCache;
+
     @InjectMocks
     private CustomUserDetailsService userDetailsService;
 
@@ -71,4 +76,25 @@ class CustomUserDetailsServiceTest {
                 .isInstanceOf(UsernameNotFoundException.class)
                 .hasMessageContaining("unknown");
     }
+
+    @Test
+    @DisplayName("Should store the re-hashed password and evict the cached user")
+    void updatePassword_ShouldPersistAndEvict() {
+        // Given
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        UserDetails loaded = org.springframework.security.core.userdetails.User.withUsername("testuser")
+                .password("oldHash")
+                .roles("USER")
+                .build();
+
+        // When
+        UserDetails updated = userDetailsService.updatePassword(loaded, "{bcrypt}newHash");
+
+        // Then
+        assertThat(updated.getPassword()).isEqualTo("{bcrypt}newHash");
+        assertThat(updated.getAuthorities()).hasSize(1);
+        assertThat(testUser.getPassword()).isEqualTo("{bcrypt}newHash");
+        verify(userRepository).save(testUser);
+        verify(userCache).removeUserFromCache("testuser");
+    }
 }
@@ -0,0 +1,108 @@
+package com.example.quizapp.security;
+
+import com.example.quizapp.entity.User;
+import com.example.quizapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
+
+/**
+ * Integration tests for the login fast path: user cache, password upgrades and login metrics.
+ */
+@SpringBootTest(properties = "app.security.password.bcrypt-strength=5")
+@AutoConfigureMockMvc
+class LoginIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoundedUserCache userCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.findByUsername("cached-user").orElseGet(User::new);
+        user.setUsername("cached-user");
+        user.setEmail("cached@quizapp.com");
+        user.setEnabled(true);
+        user.addRole("USER");
+        // Hash from before the delegating encoder: no {bcrypt} prefix and a different cost
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret"));
+        userRepository.save(user);
+        userCache.removeUserFromCache("cached-user");
+    }
+
+    @Test
+    @DisplayName("Should re-hash a legacy password on login")
+    void login_ShouldUpgradeLegacyHash() throws Exception {
+        // When
+        mockMvc.perform(formLogin("/login").user("cached-user").password("secret"))
+                .andExpect(authenticated().withUsername("cached-user"));
+
+        // Then
+        String stored = userRepository.findByUsername("cached-user").orElseThrow().getPassword();
+        assertThat(stored).startsWith("{bcrypt}$2a$05$");
+    }
+
+    @Test
+    @DisplayName("Should serve repeated logins from the user cache")
+    void repeatedLogin_ShouldHitCache() throws Exception {
+        // Given - first login upgrades the hash and evicts, second loads and caches
+        mockMvc.perform(formLogin("/login").user("cached-user").password("secret"))
+                .andExpect(authenticated());
+        mockMvc.perform(formLogin("/login").user("cached-user").password("secret"))
+                .andExpect(authenticated());
+        double hitsBefore = cacheHits();
+
+        // When
+        mockMvc.perform(formLogin("/login").user("cached-user").password("secret"))
+                .andExpect(authenticated());
+
+        // Then
+        assertThat(cacheHits()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should count successful and failed logins")
+    void login_ShouldRecordMetrics() throws Exception {
+        // Given
+        double successes = logins("success");
+        double failures = logins("failure");
+
+        // When
+        mockMvc.perform(formLogin("/login").user("cached-user").password("secret"))
+                .andExpect(authenticated());
+        mockMvc.perform(formLogin("/login").user("cached-user").password("wrong"))
+                .andExpect(unauthenticated());
+
+        // Then
+        assertThat(logins("success")).isEqualTo(successes + 1);
+        assertThat(logins("failure")).isEqualTo(failures + 1);
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("quizapp.security.user.cache").tag("result", "hit").functionCounter().count();
+    }
+
+    private double logins(String outcome) {
+        return meterRegistry.get("quizapp.security.logins").tag("outcome", outcome)
+                .counter().count();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.quizapp.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Login throughput at increasing concurrency, with and without the user cache.
+ * The user lookup simulates the user + user_roles round trips with a fixed delay.
+ * Run with: mvn test -Pbenchmark -Dtest=LoginThroughputBenchmarkTest
+ */
+@Tag("benchmark")
+class LoginThroughputBenchmarkTest {
+
+    private static final int USERS = 1_000;
+    private static final int[] CONCURRENCY = {1, 2, 4, 8, 16, 32, 64};
+    private static final long LOOKUP_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(3);
+
+    @Test
+    @DisplayName("Benchmark: logins per second, cached vs uncached")
+    void loginThroughput() throws Exception {
+        PasswordEncoder encoder = new SecurityConfig().passwordEncoder(10);
+        String hash = encoder.encode("secret");
+        UserDetailsService slowLookup = username -> {
+            LockSupport.parkNanos(LOOKUP_NANOS);
+            if (!username.startsWith("user")) {
+                throw new UsernameNotFoundException(username);
+            }
+            return User.withUsername(username).password(hash).roles("USER").build();
+        };
+
+        System.out.printf("%-12s %15s %15s%n", "threads", "uncached/s", "cached/s");
+        for (int threads : CONCURRENCY) {
+            double uncached = measure(provider(slowLookup, encoder, null), threads);
+            double cached = measure(provider(slowLookup, encoder, new BoundedUserCache(USERS, Duration.ofMinutes(5))), threads);
+            System.out.printf("%-12d %15.1f %15.1f%n", threads, uncached, cached);
+            assertThat(cached).isGreaterThan(0);
+        }
+    }
+
+    private DaoAuthenticationProvider provider(UserDetailsService userDetailsService, PasswordEncoder encoder,
+                                               BoundedUserCache cache) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+        provider.setPasswordEncoder(encoder);
+        if (cache != null) {
+            provider.setUserCache(cache);
+        }
+        return provider;
+    }
+
+    private double measure(DaoAuthenticationProvider provider, int threads) throws Exception {
+        // Warm-up: populates the cache (when present) and the JIT
+        for (int i = 0; i < Math.min(USERS, 200); i++) {
+            provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("user" + i, "secret"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long deadline = System.nanoTime() + MEASUREMENT.toNanos();
+            List<Future<Long>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                workers.add(executor.submit(() -> {
+                    long logins = 0;
+                    while (System.nanoTime() < deadline) {
+                        String username = "user" + ((offset + logins * threads) % 200);
+                        provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(username, "secret"));
+                        logins++;
+                    }
+                    return logins;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> worker : workers) {
+                total += worker.get();
+            }
+            return total / (double) MEASUREMENT.toSeconds();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.quizapp.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the delegating password encoder built by SecurityConfig.
+ */
+class PasswordEncoderConfigTest {
+
+    private final PasswordEncoder encoder = new SecurityConfig().passwordEncoder(5);
+
+    @Test
+    @DisplayName("Should encode with the bcrypt id and configured cost")
+    void encode_ShouldUseConfiguredCost() {
+        // When
+        String hash = encoder.encode("secret");
+
+        // Then
+        assertThat(hash).startsWith("{bcrypt}$2a$05$");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match and upgrade legacy unprefixed hashes")
+    void matches_ShouldAcceptLegacyHashes() {
+        // Given
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+        // Then
+        assertThat(encoder.matches("secret", legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should upgrade hashes whose cost is higher than configured")
+    void upgradeEncoding_ShouldRehashWhenCostLowered() {
+        // Given
+        String stronger = new SecurityConfig().passwordEncoder(6).encode("secret");
+
+        // Then
+        assertThat(encoder.matches("secret", stronger)).isTrue();
+        assertThat(encoder.upgradeEncoding(stronger)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not upgrade non-bcrypt input")
+    void upgradeEncoding_ShouldIgnoreMalformedHashes() {
+        assertThat(new RehashingBCryptPasswordEncoder(10).upgradeEncoding("plain")).isFalse();
+        assertThat(new RehashingBCryptPasswordEncoder(10).upgradeEncoding(null)).isFalse();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dto.CategoryBrowseDTO;
+import com.example.quizapp.dto.CategoryCountDTO;
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.Category;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.CategoryRepository;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.search.CategoryHits;
+import com.example.quizapp.search.CategoryMatch;
+import com.example.quizapp.search.QuizCategoryIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CategoryBrowseService using Mockito.
+ */
+@ExtendWith(MockitoExtension.class)
+class CategoryBrowseServiceTest {
+
+    @Mock
+    private QuizCategoryIndex categoryIndex;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private CategoryBrowseService categoryBrowseService;
+
+    @Test
+    @DisplayName("Should page filtered quizzes in the index's newest-first order")
+    void browse_ShouldKeepIndexOrder() {
+        // Given
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(category(2L, "History"), category(1L, "Science"), category(3L, "Sports")));
+        when(categoryIndex.browse(new long[] {1L, 2L}, CategoryMatch.ALL, 0, 20))
+                .thenReturn(new CategoryHits(List.of(9L, 4L), 2, Map.of(1L, 2, 2L, 2)));
+        when(quizRepository.findAllById(List.of(9L, 4L))).thenReturn(List.of(quiz(4L), quiz(9L)));
+
+        // When
+        CategoryBrowseDTO result = categoryBrowseService.browse(List.of(1L, 2L), CategoryMatch.ALL, 0, 20);
+
+        // Then
+        assertThat(result.getQuizzes().getContent()).extracting(QuizDTO::getId).containsExactly(9L, 4L);
+        assertThat(result.getQuizzes().getTotalElements()).isEqualTo(2);
+        assertThat(result.getCategories()).extracting(CategoryCountDTO::getName).containsExactly("History", "Science");
+        assertThat(result.getCategories()).allMatch(CategoryCountDTO::getSelected);
+    }
+
+    @Test
+    @DisplayName("Should keep a selected category that matches nothing")
+    void browse_ShouldListSelectedCategoryWithoutMatches() {
+        // Given
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(category(2L, "History"), category(1L, "Science"), category(3L, "Sports")));
+        when(categoryIndex.browse(new long[] {1L, 3L}, CategoryMatch.ALL, 0, 20))
+                .thenReturn(new CategoryHits(List.of(), 0, Map.of()));
+
+        // When
+        CategoryBrowseDTO result = categoryBrowseService.browse(List.of(1L, 3L), CategoryMatch.ALL, 0, 20);
+
+        // Then
+        assertThat(result.getQuizzes().getContent()).isEmpty();
+        assertThat(result.getCategories()).extracting(CategoryCountDTO::getQuizCount).containsExactly(0, 0);
+    }
+
+    @Test
+    @DisplayName("Should list every quiz newest first without a filter")
+    void browse_WithoutFilter_ShouldPageAllQuizzes() {
+        // Given
+        when(categoryRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(category(2L, "History"), category(1L, "Science"), category(3L, "Sports")));
+        when(quizRepository.findAll(any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of(quiz(5L)), PageRequest.of(0, 20), 1));
+        when(categoryIndex.counts()).thenReturn(Map.of(1L, 3, 3L, 1));
+
+        // When
+        CategoryBrowseDTO result = categoryBrowseService.browse(null, null, 0, 20);
+
+        // Then
+        assertThat(result.getMatch()).isEqualTo(CategoryMatch.ALL);
+        assertThat(result.getCategories()).extracting(CategoryCountDTO::getName).containsExactly("Science", "Sports");
+        verify(quizRepository).findAll(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Test
+    @DisplayName("Should clamp page size and number of filters")
+    void browse_ShouldClampInput() {
+        // Given
+        List<Long> manyIds = Arrays.asList(new Long[CategoryBrowseService.MAX_FILTERS + 5]);
+        for (int i = 0; i < manyIds.size(); i++) {
+            manyIds.set(i, (long) i);
+        }
+        when(categoryIndex.browse(any(), eq(CategoryMatch.ANY), anyInt(), anyInt()))
+                .thenReturn(new CategoryHits(List.of(), 0, Map.of()));
+
+        // When
+        CategoryBrowseDTO result = categoryBrowseService.browse(manyIds, CategoryMatch.ANY, -1, 10_000);
+
+        // Then
+        assertThat(result.getQuizzes().getSize()).isEqualTo(CategoryBrowseService.MAX_PAGE_SIZE);
+        verify(categoryIndex).browse(
+                manyIds.stream().limit(CategoryBrowseService.MAX_FILTERS).mapToLong(Long::longValue).toArray(),
+                CategoryMatch.ANY, 0, CategoryBrowseService.MAX_PAGE_SIZE);
+    }
+
+    private static Quiz quiz(Long id) {
+        Quiz quiz = new Quiz("Quiz " + id);
+        quiz.setId(id);
+        return quiz;
+    }
+
+    private static Category category(Long id, String name) {
+        Category category = new Category(name);
+        category.setId(id);
+        return category;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.cache.InvalidationEvent;
+import com.example.quizapp.cache.JdbcWriteInvalidator;
+import com.example.quizapp.dao.QuestionJdbcDao;
+import com.example.quizapp.dao.QuizJdbcDao;
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.exception.ResourceNotFoundException;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.results.ResultChangeLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DeletionService using Mockito.
+ */
+@ExtendWith(MockitoExtension.class)
+class DeletionServiceTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private QuizJdbcDao quizJdbcDao;
+
+    @Mock
+    private QuestionJdbcDao questionJdbcDao;
+
+    @Mock
+    private ResultChangeLog resultChangeLog;
+
+    @Mock
+    private JdbcWriteInvalidator invalidator;
+
+    @InjectMocks
+    private DeletionService deletionService;
+
+    // ============ Quiz ============
+
+    @Test
+    @DisplayName("Should record the quiz's results, then delete the quiz set-based and evict its cache")
+    void deleteQuiz_ShouldDeleteSetBased() {
+        // Given
+        when(quizRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        deletionService.deleteQuiz(1L);
+
+        // Then
+        InOrder order = inOrder(resultChangeLog, quizJdbcDao);
+        order.verify(resultChangeLog).recordQuizDeleted(1L);
+        order.verify(quizJdbcDao).deleteWithChildren(1L);
+        verify(quizRepository, never()).deleteById(1L);
+        verify(invalidator).invalidate(InvalidationEvent.quiz(1L), Question.class, Answer.class);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when deleting non-existent quiz")
+    void deleteQuiz_ShouldThrowException_WhenNotFound() {
+        when(quizRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> deletionService.deleteQuiz(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(resultChangeLog, quizJdbcDao, invalidator);
+    }
+
+    // ============ Question ============
+
+    @Test
+    @DisplayName("Should delete a question with its answers and return its quiz")
+    void deleteQuestion_ShouldDeleteWithAnswers() {
+        // Given
+        when(questionJdbcDao.findQuizId(4L)).thenReturn(Optional.of(1L));
+
+        // When
+        Long quizId = deletionService.deleteQuestion(4L);
+
+        // Then
+        assertThat(quizId).isEqualTo(1L);
+        verify(questionJdbcDao).deleteWithAnswers(4L);
+        verify(invalidator).invalidate(InvalidationEvent.question(4L, 1L), Answer.class);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when deleting non-existent question")
+    void deleteQuestion_ShouldThrowException_WhenNotFound() {
+        when(questionJdbcDao.findQuizId(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> deletionService.deleteQuestion(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(questionJdbcDao, never()).deleteWithAnswers(999L);
+        verifyNoInteractions(invalidator);
+    }
+
+    // ============ Answer ============
+
+    @Test
+    @DisplayName("Should delete an answer and return its question")
+    void deleteAnswer_ShouldDeleteAnswer() {
+        // Given
+        when(questionJdbcDao.findQuestionIdOfAnswer(9L)).thenReturn(Optional.of(4L));
+
+        // When
+        Long questionId = deletionService.deleteAnswer(9L);
+
+        // Then
+        assertThat(questionId).isEqualTo(4L);
+        verify(questionJdbcDao).deleteAnswer(9L);
+        verify(invalidator).invalidate(InvalidationEvent.answer(9L, 4L));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.quizapp.service;
 
+import com.example.quizapp.cache.InvalidationBus;
 import com.example.quizapp.dto.QuestionDTO;
 import com.example.quizapp.entity.Question;
 import com.example.quizapp.entity.QuestionType;
@@ -40,6 +41,12 @@ class QuestionServiceTest {
     @Mock
     private QuizRepository quizRepository;
 
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private DeletionService deletionService;
+
     @InjectMocks
     private QuestionService questionService;
 
@@ -176,30 +183,28 @@ class QuestionServiceTest {
     }
 
     @Test
-    @DisplayName("Should delete question")
+    @DisplayName("Should delete question through the deletion service")
     void deleteQuestion_ShouldRemoveQuestion() {
         // Given
-        when(questionRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(questionRepository).deleteById(1L);
+        when(deletionService.deleteQuestion(1L)).thenReturn(1L);
 
         // When
         questionService.deleteQuestion(1L);
 
         // Then
-        verify(questionRepository).existsById(1L);
-        verify(questionRepository).deleteById(1L);
+        verify(deletionService).deleteQuestion(1L);
+        verify(questionRepository, never()).deleteById(any());
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent question")
     void deleteQuestion_ShouldThrowException_WhenNotFound() {
         // Given
-        when(questionRepository.existsById(999L)).thenReturn(false);
+        when(deletionService.deleteQuestion(999L)).thenThrow(new ResourceNotFoundException("Question", 999L));
 
         // When/Then
         assertThatThrownBy(() -> questionService.deleteQuestion(999L))
                 .isInstanceOf(ResourceNotFoundException.class);
-        verify(questionRepository).existsById(999L);
         verify(questionRepository, never()).deleteById(any());
     }
 }
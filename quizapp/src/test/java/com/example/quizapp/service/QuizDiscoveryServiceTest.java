@@ -0,0 +1,102 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.discovery.CatalogEntry;
+import com.example.quizapp.discovery.CatalogFacets;
+import com.example.quizapp.discovery.CatalogPage;
+import com.example.quizapp.discovery.CatalogQuery;
+import com.example.quizapp.discovery.QuizCatalogIndex;
+import com.example.quizapp.discovery.QuizSort;
+import com.example.quizapp.dto.FacetCountDTO;
+import com.example.quizapp.dto.QuizDiscoveryDTO;
+import com.example.quizapp.dto.QuizDiscoveryRequest;
+import com.example.quizapp.dto.QuizSummaryDTO;
+import com.example.quizapp.search.CategoryMatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for QuizDiscoveryService using Mockito.
+ */
+@ExtendWith(MockitoExtension.class)
+class QuizDiscoveryServiceTest {
+
+    private static final CatalogFacets FACETS = new CatalogFacets(
+            Map.of(1L, 4, 2L, 9), Map.of(1L, "Science", 2L, "History"), 3, 10, 2, 11,
+            Map.of(0, 5, 6, 4, 11, 3, 21, 1));
+
+    @Mock
+    private QuizCatalogIndex catalogIndex;
+
+    @InjectMocks
+    private QuizDiscoveryService quizDiscoveryService;
+
+    @Test
+    @DisplayName("Should map catalog entries and facets")
+    void discover_ShouldMapPageAndFacets() {
+        // Given
+        when(catalogIndex.query(any())).thenReturn(new CatalogPage(List.of(
+                new CatalogEntry(7L, "Cells", null, 300, false, 12, List.of("Science"), 40, 62.5)), 13, FACETS));
+        QuizDiscoveryRequest request = new QuizDiscoveryRequest();
+        request.setCategory(List.of(1L));
+        request.setMinQuestions(11);
+        request.setMaxQuestions(20);
+        request.setSize(1);
+
+        // When
+        QuizDiscoveryDTO result = quizDiscoveryService.discover(request);
+
+        // Then
+        assertThat(result.getQuizzes().getContent()).extracting(QuizSummaryDTO::getId).containsExactly(7L);
+        assertThat(result.getQuizzes().getContent().get(0).getAverageScore()).isEqualTo(62.5);
+        assertThat(result.getQuizzes().getTotalElements()).isEqualTo(13);
+        assertThat(result.getFacets()).containsOnlyKeys("category", "timed", "negativePoints", "questionCount");
+        // Largest category first
+        assertThat(result.getFacets().get("category")).extracting(FacetCountDTO::getLabel)
+                .containsExactly("History", "Science");
+        assertThat(result.getFacets().get("category")).extracting(FacetCountDTO::getSelected)
+                .containsExactly(false, true);
+        assertThat(result.getFacets().get("questionCount")).extracting(FacetCountDTO::getValue)
+                .containsExactly("0-5", "6-10", "11-20", "21-");
+        assertThat(result.getFacets().get("questionCount")).extracting(FacetCountDTO::getSelected)
+                .containsExactly(false, false, true, false);
+    }
+
+    @Test
+    @DisplayName("Should default and clamp the query")
+    void discover_ShouldClampQuery() {
+        // Given
+        when(catalogIndex.query(any())).thenReturn(new CatalogPage(List.of(), 0, FACETS));
+        QuizDiscoveryRequest request = new QuizDiscoveryRequest();
+        request.setCategory(LongStream.range(0, 50).boxed().toList());
+        request.setMatch(null);
+        request.setSort(null);
+        request.setPage(-3);
+        request.setSize(10_000);
+
+        // When
+        quizDiscoveryService.discover(request);
+
+        // Then
+        ArgumentCaptor<CatalogQuery> query = ArgumentCaptor.forClass(CatalogQuery.class);
+        verify(catalogIndex).query(query.capture());
+        assertThat(query.getValue().categoryIds()).hasSize(QuizDiscoveryService.MAX_FILTERS);
+        assertThat(query.getValue().match()).isEqualTo(CategoryMatch.ALL);
+        assertThat(query.getValue().sort()).isEqualTo(QuizSort.NEWEST);
+        assertThat(query.getValue().page()).isZero();
+        assertThat(query.getValue().size()).isEqualTo(QuizDiscoveryService.MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dto.QuizResultDTO;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.entity.QuizResult;
+import com.example.quizapp.exception.ResourceNotFoundException;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.repository.QuizResultRepository;
+import com.example.quizapp.results.ResultChangeLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QuizResultService using Mockito.
+ */
+@ExtendWith(MockitoExtension.class)
+class QuizResultServiceTest {
+
+    @Mock
+    private QuizResultRepository quizResultRepository;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private ResultChangeLog resultChangeLog;
+
+    @InjectMocks
+    private QuizResultService quizResultService;
+
+    @Test
+    @DisplayName("Should save the result and record the insert")
+    void submitResult_ShouldRecordInsert() {
+        // Given
+        Quiz quiz = new Quiz("Quiz");
+        quiz.setId(1L);
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(quiz));
+        when(quizResultRepository.save(any(QuizResult.class))).thenAnswer(invocation -> {
+            QuizResult result = invocation.getArgument(0);
+            result.setId(42L);
+            return result;
+        });
+        QuizResultDTO request = new QuizResultDTO();
+        request.setQuizId(1L);
+        request.setNickname("Player");
+        request.setScore(3);
+        request.setMaxScore(5);
+
+        // When
+        QuizResultDTO saved = quizResultService.submitResult(request);
+
+        // Then
+        assertThat(saved.getId()).isEqualTo(42L);
+        assertThat(saved.getNickname()).isEqualTo("Player");
+        verify(resultChangeLog).recordInserts(List.of(42L));
+    }
+
+    @Test
+    @DisplayName("Should record the delete before deleting the result")
+    void deleteResult_ShouldRecordDeleteFirst() {
+        // Given
+        when(quizResultRepository.existsById(7L)).thenReturn(true);
+
+        // When
+        quizResultService.deleteResult(7L);
+
+        // Then
+        InOrder order = inOrder(resultChangeLog, quizResultRepository);
+        order.verify(resultChangeLog).recordDeletes(List.of(7L));
+        order.verify(quizResultRepository).deleteById(7L);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when deleting non-existent result")
+    void deleteResult_ShouldThrowException_WhenNotFound() {
+        when(quizResultRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> quizResultService.deleteResult(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(resultChangeLog);
+    }
+
+    @Test
+    @DisplayName("Should record the bulk delete before deleting a quiz's old results")
+    void deleteResultsBefore_ShouldRecordThenDelete() {
+        // Given
+        LocalDateTime before = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(quizRepository.existsById(1L)).thenReturn(true);
+        when(quizResultRepository.deleteByQuizIdCompletedBefore(1L, before)).thenReturn(12);
+
+        // When
+        int deleted = quizResultService.deleteResultsBefore(1L, before);
+
+        // Then
+        assertThat(deleted).isEqualTo(12);
+        InOrder order = inOrder(resultChangeLog, quizResultRepository);
+        order.verify(resultChangeLog).recordDeletesBefore(1L, before);
+        order.verify(quizResultRepository).deleteByQuizIdCompletedBefore(1L, before);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when bulk deleting results of non-existent quiz")
+    void deleteResultsBefore_ShouldThrowException_WhenQuizNotFound() {
+        when(quizRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> quizResultService.deleteResultsBefore(999L, LocalDateTime.now()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(resultChangeLog);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dto.QuizDTO;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.search.QuizSearchIndex;
+import com.example.quizapp.search.SearchHit;
+import com.example.quizapp.search.SearchHits;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for QuizSearchService using Mockito.
+ */
+@ExtendWith(MockitoExtension.class)
+class QuizSearchServiceTest {
+
+    @Mock
+    private QuizSearchIndex searchIndex;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @InjectMocks
+    private QuizSearchService quizSearchService;
+
+    @Test
+    @DisplayName("Should return quizzes in the index's ranking order")
+    void search_ShouldKeepRankingOrder() {
+        // Given
+        when(searchIndex.search("java", 0, 20)).thenReturn(new SearchHits(List.of(
+                new SearchHit(2L, 3, 15),
+                new SearchHit(1L, 2, 4)), 2));
+        when(quizRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(quiz(1L, "Java"), quiz(2L, "Java Basics")));
+
+        // When
+        Page<QuizDTO> result = quizSearchService.search("java", 0, 20);
+
+        // Then
+        assertThat(result.getContent()).extracting(QuizDTO::getId).containsExactly(2L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should skip quizzes deleted after they were ranked")
+    void search_ShouldSkipMissingQuizzes() {
+        // Given
+        when(searchIndex.search("java", 0, 20)).thenReturn(new SearchHits(List.of(
+                new SearchHit(1L, 3, 15),
+                new SearchHit(9L, 3, 15)), 2));
+        when(quizRepository.findAllById(List.of(1L, 9L))).thenReturn(List.of(quiz(1L, "Java")));
+
+        // When
+        Page<QuizDTO> result = quizSearchService.search("java", 0, 20);
+
+        // Then
+        assertThat(result.getContent()).extracting(QuizDTO::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should clamp page size")
+    void search_ShouldClampPageSize() {
+        // Given
+        when(searchIndex.search("java", 0, QuizSearchService.MAX_PAGE_SIZE)).thenReturn(SearchHits.EMPTY);
+
+        // When
+        Page<QuizDTO> result = quizSearchService.search("java", -1, 10_000);
+
+        // Then
+        assertThat(result.getSize()).isEqualTo(QuizSearchService.MAX_PAGE_SIZE);
+        verify(searchIndex).search("java", 0, QuizSearchService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should return an empty page for a blank query")
+    void search_WithBlankQuery_ShouldReturnEmptyPage() {
+        // When
+        Page<QuizDTO> result = quizSearchService.search("  ", 0, 20);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        verifyNoInteractions(searchIndex, quizRepository);
+    }
+
+    @Test
+    @DisplayName("Should cap the number of suggestions")
+    void suggest_ShouldCapLimit() {
+        // Given
+        when(searchIndex.suggest("ja", QuizSearchService.MAX_SUGGESTIONS)).thenReturn(List.of("Java Basics"));
+
+        // When
+        List<String> result = quizSearchService.suggest("ja", 500);
+
+        // Then
+        assertThat(result).containsExactly("Java Basics");
+    }
+
+    private static Quiz quiz(Long id, String title) {
+        Quiz quiz = new Quiz(title);
+        quiz.setId(id);
+        return quiz;
+    }
+}
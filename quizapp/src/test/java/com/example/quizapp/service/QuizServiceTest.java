@@ -1,5 +1,9 @@
 package com.example.quizapp.service;
 
+import com.example.quizapp.cache.InvalidationBus;
+import com.example.quizapp.cache.InvalidationEvent;
+import com.example.quizapp.cache.JdbcWriteInvalidator;
+import com.example.quizapp.dao.QuizJdbcDao;
 import com.example.quizapp.dto.CreateQuizRequest;
 import com.example.quizapp.dto.QuizDTO;
 import com.example.quizapp.entity.Quiz;
@@ -18,7 +22,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +39,18 @@ class QuizServiceTest {
     @Mock
     private QuizRepository quizRepository;
 
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Mock
+    private DeletionService deletionService;
+
+    @Mock
+    private QuizJdbcDao quizJdbcDao;
+
+    @Mock
+    private JdbcWriteInvalidator jdbcWriteInvalidator;
+
     @InjectMocks
     private QuizService quizService;
 
@@ -101,22 +116,6 @@ class QuizServiceTest {
         verify(quizRepository).findById(999L);
     }
 
-    @Test
-    @DisplayName("Should search quizzes by title")
-    void searchQuizzes_ShouldReturnMatchingQuizzes() {
-        // Given
-        when(quizRepository.findByTitleContainingIgnoreCase("test"))
-                .thenReturn(Arrays.asList(testQuiz));
-
-        // When
-        List<QuizDTO> result = quizService.searchQuizzes("test");
-
-        // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getTitle()).isEqualTo("Test Quiz");
-        verify(quizRepository).findByTitleContainingIgnoreCase("test");
-    }
-
     @Test
     @DisplayName("Should create quiz successfully")
     void createQuiz_ShouldSaveAndReturnQuiz() {
@@ -149,6 +148,7 @@ class QuizServiceTest {
         // Then
         verify(quizRepository).findById(1L);
         verify(quizRepository).save(any(Quiz.class));
+        verify(invalidationBus).publish(InvalidationEvent.quiz(1L));
     }
 
     @Test
@@ -162,33 +162,59 @@ class QuizServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
         verify(quizRepository).findById(999L);
         verify(quizRepository, never()).save(any());
+        verifyNoInteractions(invalidationBus);
     }
 
     @Test
-    @DisplayName("Should delete quiz successfully")
+    @DisplayName("Should delete quiz through the deletion service")
     void deleteQuiz_ShouldRemoveQuiz_WhenExists() {
-        // Given
-        when(quizRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(quizRepository).deleteById(1L);
-
         // When
         quizService.deleteQuiz(1L);
 
         // Then
-        verify(quizRepository).existsById(1L);
-        verify(quizRepository).deleteById(1L);
+        verify(deletionService).deleteQuiz(1L);
+        verify(quizRepository, never()).deleteById(any());
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent quiz")
     void deleteQuiz_ShouldThrowException_WhenNotFound() {
         // Given
-        when(quizRepository.existsById(999L)).thenReturn(false);
+        doThrow(new ResourceNotFoundException("Quiz", 999L)).when(deletionService).deleteQuiz(999L);
 
         // When/Then
         assertThatThrownBy(() -> quizService.deleteQuiz(999L))
                 .isInstanceOf(ResourceNotFoundException.class);
-        verify(quizRepository).existsById(999L);
-        verify(quizRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Should clone a quiz set-based and invalidate the copy")
+    void cloneQuiz_ShouldReturnCopy() {
+        // Given
+        Quiz copy = new Quiz();
+        copy.setId(2L);
+        copy.setTitle("Test Quiz (copy)");
+        when(quizJdbcDao.cloneWithChildren(1L, null)).thenReturn(Optional.of(2L));
+        when(quizRepository.findById(2L)).thenReturn(Optional.of(copy));
+
+        // When
+        QuizDTO result = quizService.cloneQuiz(1L, "  ");
+
+        // Then
+        assertThat(result.getId()).isEqualTo(2L);
+        assertThat(result.getTitle()).isEqualTo("Test Quiz (copy)");
+        verify(jdbcWriteInvalidator).invalidate(InvalidationEvent.quiz(2L));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when cloning non-existent quiz")
+    void cloneQuiz_ShouldThrowException_WhenNotFound() {
+        // Given
+        when(quizJdbcDao.cloneWithChildren(999L, "Copy")).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> quizService.cloneQuiz(999L, " Copy "))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(jdbcWriteInvalidator);
     }
 }
@@ -0,0 +1,90 @@
+package com.example.quizapp.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for CompactSessionSerializer.
+ */
+class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer serializer =
+            new CompactSessionSerializer(getClass().getClassLoader());
+
+    @Test
+    @DisplayName("Should round-trip game attributes")
+    void serialize_ShouldRoundTripScalars() {
+        assertThat(roundTrip("Zażółć gęślą")).isEqualTo("Zażółć gęślą");
+        assertThat(roundTrip(1_700_000_000_000L)).isEqualTo(1_700_000_000_000L);
+        assertThat(roundTrip(42)).isEqualTo(42);
+        assertThat(roundTrip(true)).isEqualTo(true);
+        assertThat(roundTrip(false)).isEqualTo(false);
+        assertThat(roundTrip(-0.75)).isEqualTo(-0.75);
+        assertThat(roundTrip("")).isEqualTo("");
+        assertThat(roundTrip(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should encode scalars far smaller than Java serialization")
+    void serialize_ShouldBeCompact() {
+        // Given
+        Long startTime = System.currentTimeMillis();
+
+        // When
+        byte[] compact = serializer.serialize(startTime);
+        byte[] java = new SerializingConverter().convert(startTime);
+
+        // Then
+        assertThat(compact).hasSize(9);
+        assertThat(java.length).isGreaterThan(compact.length * 5);
+    }
+
+    @Test
+    @DisplayName("Should fall back to Java serialization for other types")
+    void serialize_ShouldFallBackForComplexTypes() {
+        // Given
+        SecurityContextImpl context = new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                "admin", null, AuthorityUtils.createAuthorityList("ROLE_ADMIN")));
+        List<String> list = new ArrayList<>(List.of("a", "b"));
+
+        // Then
+        assertThat(roundTrip(context)).isEqualTo(context);
+        assertThat(roundTrip(list)).isEqualTo(list);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown payloads")
+    void deserialize_ShouldRejectUnknownTag() {
+        assertThatThrownBy(() -> serializer.deserialize(new byte[] {99}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.deserialize(new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject truncated scalars")
+    void deserialize_ShouldRejectTruncatedScalar() {
+        assertThatThrownBy(() -> serializer.deserialize(new byte[] {CompactSessionSerializer.BOOLEAN}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.deserialize(new byte[] {CompactSessionSerializer.LONG, 0, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.deserialize(new byte[] {CompactSessionSerializer.INTEGER, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> serializer.deserialize(new byte[] {CompactSessionSerializer.DOUBLE}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Object roundTrip(Object value) {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.quizapp.session;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.entity.QuizResult;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.repository.QuizResultRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A quiz attempt started on one node is finished after that node is stopped and a
+ * new one is started on the same database - the game state must come from the
+ * shared session store, not the servlet container's memory.
+ */
+class SessionRestartIntegrationTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:session-restart;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final Pattern CSRF_FIELD = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    private ConfigurableApplicationContext node;
+
+    @AfterEach
+    void stopNode() {
+        if (node != null) {
+            node.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep an in-flight attempt across a node restart")
+    void inFlightAttempt_ShouldSurviveRestart() throws Exception {
+        // Same port for both nodes so the client's cookies apply to the restarted node
+        int port = freePort();
+        node = startNode(port);
+        Long quizId = node.getBean(QuizRepository.class).save(new Quiz("Restart Quiz")).getId();
+
+        // Given - nickname and start time are stored in the session on node 1
+        HttpResponse<String> started = post(port, "/play/" + quizId,
+                "nickname=Survivor&_csrf=" + csrfToken(port, quizId));
+        assertThat(started.statusCode()).isEqualTo(200);
+        assertThat(started.headers().allValues("Set-Cookie")).anyMatch(c -> c.startsWith("SESSION="));
+
+        // When - node 1 goes away and node 2 receives the submission
+        node.close();
+        node = startNode(port);
+        HttpResponse<String> submitted = post(port, "/submit/" + quizId, "_csrf=" + csrfToken(port, quizId));
+
+        // Then
+        assertThat(submitted.statusCode()).isEqualTo(302);
+        assertThat(awaitResults(quizId)).extracting(QuizResult::getNickname).containsExactly("Survivor");
+    }
+
+    // Results are stored in the background after submit
+    private List<QuizResult> awaitResults(Long quizId) throws InterruptedException {
+        QuizResultRepository repository = node.getBean(QuizResultRepository.class);
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<QuizResult> results = repository.findByQuizIdOrderByScoreDesc(quizId);
+        while (results.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            results = repository.findByQuizIdOrderByScoreDesc(quizId);
+        }
+        return results;
+    }
+
+    private ConfigurableApplicationContext startNode(int port) {
+        return new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=" + port,
+                        "spring.datasource.url=" + DB_URL,
+                        "app.cache.invalidation.transport=none")
+                .run();
+    }
+
+    private String csrfToken(int port, Long quizId) throws Exception {
+        HttpResponse<String> page = client.send(
+                HttpRequest.newBuilder(uri(port, "/play/" + quizId)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = CSRF_FIELD.matcher(page.body());
+        assertThat(matcher.find()).as("CSRF field on the start page").isTrue();
+        return URLEncoder.encode(matcher.group(1), StandardCharsets.UTF_8);
+    }
+
+    private HttpResponse<String> post(int port, String path, String form) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(port, path))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.quizapp.session;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.QuizRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-request latency added by the JDBC session store compared to Tomcat's
+ * in-memory sessions, for the session-writing step of the game (POST /play).
+ * Run with: mvn test -Pbenchmark -Dtest=SessionStoreLatencyBenchmarkTest
+ */
+@Tag("benchmark")
+class SessionStoreLatencyBenchmarkTest {
+
+    private static final int WARMUP = 500;
+    private static final int SAMPLES = 5_000;
+    private static final Pattern CSRF_FIELD = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    @Test
+    @DisplayName("Benchmark: POST /play latency, JDBC sessions vs in-memory sessions")
+    void sessionStoreLatency() throws Exception {
+        long[] inMemory = measure("jdbc:h2:mem:session-bench-memory;DB_CLOSE_DELAY=-1",
+                "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.session.SessionAutoConfiguration");
+        long[] jdbc = measure("jdbc:h2:mem:session-bench-jdbc;DB_CLOSE_DELAY=-1");
+
+        System.out.printf("%-12s %10s %10s %10s%n", "store", "p50 us", "p99 us", "mean us");
+        print("in-memory", inMemory);
+        print("jdbc", jdbc);
+        System.out.printf("added p50: %d us%n", percentile(jdbc, 50) - percentile(inMemory, 50));
+        assertThat(jdbc).hasSize(SAMPLES);
+    }
+
+    private long[] measure(String dbUrl, String... extraProperties) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuizappApplication.class)
+                .properties("server.port=0", "spring.datasource.url=" + dbUrl,
+                        "app.cache.invalidation.transport=none", "logging.level.org.hibernate.SQL=WARN")
+                .properties(extraProperties)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Long quizId = context.getBean(QuizRepository.class).save(new Quiz("Benchmark Quiz")).getId();
+            HttpClient client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+            URI playUri = URI.create("http://localhost:" + port + "/play/" + quizId);
+
+            String csrf = csrfToken(client, playUri);
+            long[] latencies = new long[SAMPLES];
+            for (int i = 0; i < WARMUP + SAMPLES; i++) {
+                HttpRequest request = HttpRequest.newBuilder(playUri)
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("nickname=player" + i + "&_csrf=" + csrf))
+                        .build();
+                long start = System.nanoTime();
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                long elapsed = System.nanoTime() - start;
+                assertThat(response.statusCode()).isEqualTo(200);
+                if (i >= WARMUP) {
+                    latencies[i - WARMUP] = TimeUnit.NANOSECONDS.toMicros(elapsed);
+                }
+            }
+            return latencies;
+        }
+    }
+
+    private String csrfToken(HttpClient client, URI playUri) throws Exception {
+        HttpResponse<String> page = client.send(HttpRequest.newBuilder(playUri).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = CSRF_FIELD.matcher(page.body());
+        assertThat(matcher.find()).isTrue();
+        return URLEncoder.encode(matcher.group(1), StandardCharsets.UTF_8);
+    }
+
+    private void print(String store, long[] latencies) {
+        System.out.printf("%-12s %10d %10d %10d%n", store, percentile(latencies, 50), percentile(latencies, 99),
+                (long) Arrays.stream(latencies).average().orElse(0));
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.quizapp.versioning;
+
+import com.example.quizapp.entity.QuestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for publishing the next version of a quiz from its live state.
+ */
+class QuizVersionTest {
+
+    @Test
+    @DisplayName("Should start at version 1 with every question at revision 1")
+    void next_ShouldCreateFirstVersion() {
+        QuizVersion first = QuizVersion.next(null, live("Quiz", question(1L, "One", true), question(2L, "Two", true)));
+
+        assertThat(first.version()).isEqualTo(1);
+        assertThat(first.questions()).extracting(QuestionSnapshot::revision).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("Should share unchanged questions and revise changed ones")
+    void next_ShouldShareUnchangedQuestions() {
+        QuizVersion first = QuizVersion.next(null, live("Quiz", question(1L, "One", true), question(2L, "Two", true)));
+
+        // The answer key of question 2 changed and question 3 was added
+        QuizVersion second = QuizVersion.next(first,
+                live("Quiz", question(1L, "One", true), question(2L, "Two", false), question(3L, "Three", true)));
+
+        assertThat(second.version()).isEqualTo(2);
+        assertThat(second.question(1L)).isSameAs(first.question(1L));
+        assertThat(second.question(2L).revision()).isEqualTo(2);
+        assertThat(second.question(3L).revision()).isEqualTo(1);
+        assertThat(first.question(2L).correctAnswers()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the previous version when nothing changed")
+    void next_ShouldReturnPreviousWhenUnchanged() {
+        QuizVersion first = QuizVersion.next(null, live("Quiz", question(1L, "One", true)));
+
+        assertThat(QuizVersion.next(first, live("Quiz", question(1L, "One", true)))).isSameAs(first);
+        assertThat(QuizVersion.next(first, live("Renamed", question(1L, "One", true))).version()).isEqualTo(2);
+    }
+
+    private static QuizVersion live(String title, QuestionSnapshot... questions) {
+        return new QuizVersion(1L, 0, title, null, false, false, false, null, null, null, null, List.of(questions));
+    }
+
+    private static QuestionSnapshot question(long id, String text, boolean firstCorrect) {
+        return new QuestionSnapshot(id, 0, text, QuestionType.SINGLE_CHOICE, 1, null, null, null, List.of(
+                new AnswerSnapshot(id * 10, "A", firstCorrect, 0),
+                new AnswerSnapshot(id * 10 + 1, "B", !firstCorrect, 1)));
+    }
+}
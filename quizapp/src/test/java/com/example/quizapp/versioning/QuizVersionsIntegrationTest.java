@@ -0,0 +1,198 @@
+package com.example.quizapp.versioning;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.cache.InvalidationBus;
+import com.example.quizapp.cache.InvalidationEvent;
+import com.example.quizapp.dto.QuestionDTO;
+import com.example.quizapp.entity.Answer;
+import com.example.quizapp.entity.Question;
+import com.example.quizapp.entity.QuestionType;
+import com.example.quizapp.entity.Quiz;
+import com.example.quizapp.repository.AnswerRepository;
+import com.example.quizapp.repository.QuizRepository;
+import com.example.quizapp.scoring.QuizSubmission;
+import com.example.quizapp.scoring.ScoreResult;
+import com.example.quizapp.scoring.SubmissionScorer;
+import com.example.quizapp.service.QuestionService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Quiz versioning against the real schema: edits publish new versions that share the
+ * unchanged questions, and players keep the version they started on while a quiz is
+ * edited under them.
+ */
+class QuizVersionsIntegrationTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:quiz-versions;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+    private static final int PLAYERS = 1_000;
+    private static final int QUESTIONS = 5;
+
+    private static ConfigurableApplicationContext node;
+    private static QuizVersions quizVersions;
+    private static QuestionService questionService;
+    private static AnswerRepository answerRepository;
+
+    @BeforeAll
+    static void startNode() {
+        node = new SpringApplicationBuilder(QuizappApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + DB_URL,
+                        "app.cache.invalidation.transport=none")
+                .run();
+        quizVersions = node.getBean(QuizVersions.class);
+        questionService = node.getBean(QuestionService.class);
+        answerRepository = node.getBean(AnswerRepository.class);
+    }
+
+    @AfterAll
+    static void stopNode() {
+        if (node != null) {
+            node.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should publish an edit as a new version that shares the unchanged questions")
+    void current_ShouldPublishEditAsNewVersion() {
+        // Given
+        Quiz quiz = createQuiz("Edited", 2);
+        QuizVersion first = quizVersions.current(quiz.getId());
+        long keptId = quiz.getQuestions().get(0).getId();
+        long editedId = quiz.getQuestions().get(1).getId();
+
+        // When
+        setPoints(editedId, 5);
+        QuizVersion second = quizVersions.current(quiz.getId());
+
+        // Then
+        assertThat(first.version()).isEqualTo(1);
+        assertThat(quizVersions.current(quiz.getId())).isSameAs(second);
+        assertThat(second.version()).isEqualTo(2);
+        assertThat(second.question(keptId)).isSameAs(first.question(keptId));
+        assertThat(second.question(editedId).points()).isEqualTo(5);
+        assertThat(second.question(editedId).revision()).isEqualTo(2);
+        assertThat(quizVersions.get(quiz.getId(), 1)).isSameAs(first);
+        // Two questions at revision 1 and one at revision 2
+        assertThat(node.getBean(JdbcTemplate.class).queryForObject(
+                "SELECT COUNT(*) FROM question_revision WHERE quiz_id = ?", Integer.class, quiz.getId())).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should score 1,000 players against the version they started on while the quiz is edited")
+    void players_ShouldKeepTheirVersionDuringEdits() throws Exception {
+        // Given
+        Quiz quiz = createQuiz("Played", QUESTIONS);
+        long quizId = quiz.getId();
+        SubmissionScorer scorer = node.getBean(SubmissionScorer.class);
+        AtomicBoolean playing = new AtomicBoolean(true);
+        AtomicInteger edits = new AtomicInteger();
+        AtomicInteger overtaken = new AtomicInteger();
+        ExecutorService players = Executors.newFixedThreadPool(16);
+        ExecutorService editor = Executors.newSingleThreadExecutor();
+
+        // When
+        Future<?> editing = editor.submit(() -> {
+            while (playing.get()) {
+                Question question = quiz.getQuestions().get(ThreadLocalRandom.current().nextInt(QUESTIONS));
+                if (edits.incrementAndGet() % 2 == 0) {
+                    moveCorrectAnswer(question.getId());
+                } else {
+                    setPoints(question.getId(), ThreadLocalRandom.current().nextInt(1, 10));
+                }
+            }
+        });
+        List<Future<String>> attempts = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++) {
+            attempts.add(players.submit(() -> {
+                QuizVersion started = quizVersions.current(quizId);
+                Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+
+                // The player answers what the page of their version showed
+                ScoreResult score = scorer.score(quizVersions.get(quizId, started.version()),
+                        correctSubmission(started), 0);
+                if (quizVersions.current(quizId).version() != started.version()) {
+                    overtaken.incrementAndGet();
+                }
+                int maxScore = started.questions().stream().mapToInt(QuestionSnapshot::points).sum();
+                return score.score() == maxScore && score.maxScore() == maxScore
+                        ? null
+                        : "version " + started.version() + " scored " + score;
+            }));
+        }
+        List<String> failures = new ArrayList<>();
+        for (Future<String> attempt : attempts) {
+            String failure = attempt.get(60, TimeUnit.SECONDS);
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+        playing.set(false);
+        editing.get(10, TimeUnit.SECONDS);
+        players.shutdown();
+        editor.shutdown();
+
+        // Then
+        assertThat(failures).isEmpty();
+        assertThat(edits.get()).isPositive();
+        assertThat(overtaken.get()).isPositive();
+        assertThat(quizVersions.current(quizId).version()).isGreaterThan(1);
+    }
+
+    private static Quiz createQuiz(String title, int questions) {
+        Quiz quiz = new Quiz(title);
+        for (int i = 0; i < questions; i++) {
+            Question question = new Question("Question " + i, QuestionType.SINGLE_CHOICE, 1);
+            question.addAnswer(new Answer("Right", true, 0));
+            question.addAnswer(new Answer("Wrong", false, 1));
+            quiz.addQuestion(question);
+        }
+        return node.getBean(QuizRepository.class).save(quiz);
+    }
+
+    private static void setPoints(long questionId, int points) {
+        QuestionDTO question = questionService.getQuestionById(questionId);
+        question.setPoints(points);
+        questionService.updateQuestion(questionId, question);
+    }
+
+    // Swaps the correct and the wrong answer, as an admin editing both answers would
+    private static void moveCorrectAnswer(long questionId) {
+        new TransactionTemplate(node.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            List<Answer> answers = answerRepository.findByQuestionIdOrderByOrderIndexAsc(questionId);
+            answers.forEach(answer -> answer.setIsCorrect(!answer.getIsCorrect()));
+            answerRepository.saveAll(answers);
+            node.getBean(InvalidationBus.class).publish(InvalidationEvent.answer(answers.get(0).getId(), questionId));
+        });
+    }
+
+    private static QuizSubmission correctSubmission(QuizVersion version) {
+        Map<Long, String> answers = new HashMap<>();
+        for (QuestionSnapshot question : version.questions()) {
+            answers.put(question.id(), String.valueOf(question.correctAnswers().get(0).getId()));
+        }
+        return QuizSubmission.fromFormValues(answers);
+    }
+}